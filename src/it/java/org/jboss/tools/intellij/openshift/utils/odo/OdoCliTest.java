@@ -46,8 +46,6 @@ public abstract class OdoCliTest extends BasePlatformTestCase {
 
   protected Odo odo;
 
-  private final OdoProcessHelper processHelper = new OdoProcessHelper();
-
   protected Random random = new Random();
 
   protected static final String PROJECT_PREFIX = "prj";
@@ -90,7 +88,7 @@ public abstract class OdoCliTest extends BasePlatformTestCase {
   private CompletableFuture<Odo> getOdo() {
     return ToolFactory.getInstance()
       .createOdo(getProject())
-      .thenApply(tool -> new ApplicationRootNodeOdo(tool.get(), false, mock(ApplicationsRootNode.class), processHelper));
+      .thenApply(tool -> new ApplicationRootNodeOdo(tool.get(), false, mock(ApplicationsRootNode.class), OdoProcessRegistry.getInstance(getProject())));
   }
 
   protected void createProject(String project) throws IOException, ExecutionException, InterruptedException {
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui.helm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up the icons of all the charts that the charts dialog lists, as it does when rendering them.
+ * There's no IDE running, the icons are therefore not loaded and only the matching of the charts is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChartIconsBenchmark {
+
+  @Param({"20000"})
+  private int entries;
+
+  @Param({"10"})
+  private int versionsPerChart;
+
+  private List<ChartVersions> charts;
+
+  @Setup
+  public void setup() throws IOException {
+    this.charts = ChartVersions.toChartVersions(HelmSearchFixture.charts(entries, versionsPerChart));
+  }
+
+  @Benchmark
+  public void getIcon(Blackhole blackhole) {
+    for (ChartVersions chart : charts) {
+      blackhole.consume(ChartIcons.getIcon(chart));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui.helm;
+
+import org.jboss.tools.intellij.openshift.utils.helm.Chart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups the charts that {@code helm search repo -l} lists into {@link ChartVersions}.
+ * The versions are sorted when they're first requested, {@link #toChartVersionsAndSortVersions(Blackhole)} measures both.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChartVersionsBenchmark {
+
+  @Param({"20000"})
+  private int entries;
+
+  @Param({"10"})
+  private int versionsPerChart;
+
+  private List<Chart> charts;
+
+  @Setup
+  public void setup() throws IOException {
+    this.charts = HelmSearchFixture.charts(entries, versionsPerChart);
+  }
+
+  @Benchmark
+  public List<ChartVersions> toChartVersions() {
+    return ChartVersions.toChartVersions(charts);
+  }
+
+  @Benchmark
+  public void toChartVersionsAndSortVersions(Blackhole blackhole) {
+    for (ChartVersions chart : ChartVersions.toChartVersions(charts)) {
+      blackhole.consume(chart.getVersions());
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui.helm;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.jboss.tools.intellij.openshift.Fixtures;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.jboss.tools.intellij.openshift.utils.helm.Chart;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The charts that {@code helm search repo -l} lists, one per version.
+ * The charts are built out of the recorded charts in {@code helm-search-repo.json}:
+ * each recorded chart is repeated under a new name until there are as many charts as requested,
+ * and each of those charts is listed with the given number of versions.
+ */
+class HelmSearchFixture {
+
+  private HelmSearchFixture() {
+  }
+
+  static List<Chart> charts(int entries, int versionsPerChart) throws IOException {
+    List<Chart> recorded = Serialization.json().readValue(Fixtures.read("/helm-search-repo.json"), new TypeReference<>() {});
+    List<Chart> charts = new ArrayList<>(entries);
+    for (int i = 0; charts.size() < entries; i++) {
+      Chart chart = recorded.get(i % recorded.size());
+      String name = i < recorded.size() ? chart.getName() : chart.getName() + '-' + i / recorded.size();
+      for (int version = 0; version < versionsPerChart && charts.size() < entries; version++) {
+        charts.add(new Chart(name, toVersion(version), chart.getDescription()));
+      }
+    }
+    return charts;
+  }
+
+  private static String toVersion(int version) {
+    return version / 100 + "." + version / 10 % 10 + "." + version % 10;
+  }
+}
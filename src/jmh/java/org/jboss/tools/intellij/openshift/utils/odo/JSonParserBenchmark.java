@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.jboss.tools.intellij.openshift.Fixtures;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the output of {@code odo describe component -o json} the way {@link OdoCli} does:
+ * the output is read into a tree that {@link JSonParser} then walks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JSonParserBenchmark {
+
+  @Param({"/describe-component-dev.json", "/describe-component-deploy-openshift.json", "/describe-component-local.json"})
+  private String fixture;
+
+  private String output;
+  private JsonNode tree;
+
+  @Setup
+  public void setup() throws IOException {
+    this.output = Fixtures.read(fixture);
+    this.tree = Serialization.json().readTree(output);
+  }
+
+  @Benchmark
+  public JsonNode readTree() throws IOException {
+    return Serialization.json().readTree(output);
+  }
+
+  @Benchmark
+  public ComponentInfo parseDescribeComponentInfo() throws IOException {
+    return new JSonParser(Serialization.json().readTree(output)).parseDescribeComponentInfo(ComponentKind.DEVFILE, true);
+  }
+
+  @Benchmark
+  public List<URL> parseURLS() throws IOException {
+    return new JSonParser(Serialization.json().readTree(output)).parseURLS();
+  }
+
+  @Benchmark
+  public List<URL> parseURLSFromTree() {
+    return new JSonParser(tree).parseURLS();
+  }
+}
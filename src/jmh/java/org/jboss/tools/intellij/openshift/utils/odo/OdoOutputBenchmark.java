@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jboss.tools.intellij.openshift.Fixtures;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+/**
+ * Reads the output of {@code odo registry list -o json} with a notification appended, as odo prints it
+ * when a new version is available. The way {@link OdoCli} reads the output is compared with the way it did
+ * before: removing the notification by reducing the lines with string concatenation and walking a tree of the whole output.
+ * The output is built out of the stack in the recorded {@code devfile-registry.json} repeated for the given number of stacks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OdoOutputBenchmark {
+
+  private static final String NOTIFICATION = "---\n"
+    + "A new version of odo is available: v3.16.1 (you are running v3.15.0)\n"
+    + "To update, see https://odo.dev/docs/overview/installation\n";
+
+  private static final ObjectMapper COMPONENT_TYPES_MAPPER = Serialization.configure(new ComponentTypesDeserializer());
+
+  @Param({"100", "500"})
+  private int stacks;
+
+  private String output;
+  private String json;
+
+  @Setup
+  public void setup() throws IOException {
+    JsonNode stack = Serialization.json().readTree(Fixtures.read("/devfile-registry.json")).get(0);
+    ArrayNode registry = Serialization.json().createArrayNode();
+    for (int i = 0; i < stacks; i++) {
+      ObjectNode copy = stack.deepCopy();
+      copy.put("name", stack.get("name").asText() + '-' + i);
+      registry.add(copy);
+    }
+    this.json = Serialization.json().writerWithDefaultPrettyPrinter().writeValueAsString(registry) + '\n';
+    this.output = json + NOTIFICATION;
+  }
+
+  @Benchmark
+  public String removeNotification() {
+    return OdoCli.removeNotification(output);
+  }
+
+  @Benchmark
+  public String removeNotificationByReducingLines() throws IOException {
+    return reduceLines(output);
+  }
+
+  @Benchmark
+  public List<ComponentType> readComponentTypes() throws IOException {
+    return COMPONENT_TYPES_MAPPER.readValue(OdoCli.removeNotification(output), new TypeReference<>() {});
+  }
+
+  @Benchmark
+  public List<ComponentType> readComponentTypesFromTree() throws IOException {
+    return parseTree(Serialization.json().readTree(reduceLines(output)));
+  }
+
+  @Benchmark
+  public List<ComponentType> readComponentTypesWithoutNotification() throws IOException {
+    return COMPONENT_TYPES_MAPPER.readValue(json, new TypeReference<>() {});
+  }
+
+  /**
+   * The line by line reduce that {@link OdoCli} removed the notification with before.
+   */
+  private static String reduceLines(String output) throws IOException {
+    try (BufferedReader reader = new BufferedReader(new StringReader(output))) {
+      BinaryOperator<String> reducer = new BinaryOperator<>() {
+        private boolean notificationFound = false;
+
+        @Override
+        public String apply(String s, String s2) {
+          if (s2.startsWith("---")) {
+            notificationFound = true;
+          }
+          return notificationFound ? s : s + s2 + "\n";
+        }
+      };
+      return reader.lines().reduce("", reducer);
+    }
+  }
+
+  /**
+   * The tree walk that {@link ComponentTypesDeserializer} read the stacks with before.
+   */
+  private static List<ComponentType> parseTree(JsonNode items) {
+    List<ComponentType> result = new ArrayList<>();
+    for (JsonNode item : items) {
+      result.add(new DevfileComponentType(
+        get(item, "name"),
+        get(item, "displayName"),
+        get(item, "description"),
+        DevfileRegistriesDeserializer.getRegistry(item.get("registry"))));
+    }
+    return result;
+  }
+
+  private static String get(JsonNode node, String fieldName) {
+    return node.has(fieldName) ? node.get(fieldName).asText() : "";
+  }
+}
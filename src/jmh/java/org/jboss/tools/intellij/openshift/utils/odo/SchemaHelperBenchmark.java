@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionList;
+import org.apache.commons.io.FileUtils;
+import org.jboss.tools.intellij.openshift.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotates the schema of the strimzi {@code Kafka} custom resource with the spec descriptors of its operator.
+ * The schema is resolved out of the recorded openapi v3 documents, the descriptors are read from the
+ * recorded cluster service version in {@code service-template-test.json}.
+ * {@link SchemaHelper#getAnnotatedSchema(ObjectNode, List)} modifies the given schema, each invocation therefore
+ * annotates a copy. {@link #copySchema()} measures the copy alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaHelperBenchmark {
+
+  private static final String CLUSTER = "https://api.crc.testing:6443";
+  private static final String KAFKAS = "kafka.strimzi.io/v1beta2/namespaces/{namespace}/kafkas";
+  private static final Map<String, String> DOCUMENTS = Map.of(
+    CrdSchemaProvider.V3_PATH, "/openapi/v3.json",
+    "/openapi/v3/apis/kafka.strimzi.io/v1beta2?hash=9F3E21", "/openapi/v3-kafka.json");
+
+  private Path folder;
+  private ObjectNode schema;
+  private List<OperatorCRDSpecDescriptor> descriptors;
+
+  @Setup
+  public void setup() throws IOException {
+    this.folder = Files.createTempDirectory("crd-schemas");
+    CrdSchemaProvider provider = new CrdSchemaProvider(CLUSTER, folder, path -> {
+      String fixture = DOCUMENTS.get(path);
+      return fixture == null ? null : new ByteArrayInputStream(Fixtures.read(fixture).getBytes(StandardCharsets.UTF_8));
+    });
+    this.schema = provider.getSchema(KAFKAS);
+    this.descriptors = getDescriptors("Kafka");
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(folder.toFile());
+  }
+
+  @Benchmark
+  public ObjectNode getAnnotatedSchema() {
+    return SchemaHelper.getAnnotatedSchema(schema.deepCopy(), descriptors);
+  }
+
+  @Benchmark
+  public ObjectNode copySchema() {
+    return schema.deepCopy();
+  }
+
+  private static List<OperatorCRDSpecDescriptor> getDescriptors(String kind) throws IOException {
+    GenericKubernetesResource bindable = new GenericKubernetesResource();
+    bindable.setApiVersion("kafka.strimzi.io/v1beta2");
+    bindable.setKind(kind);
+    ClusterServiceVersionList list = Serialization.unmarshal(Fixtures.read("/service-template-test.json"), ClusterServiceVersionList.class);
+    return new ServiceTemplatesDeserializer(crd -> null, Collections.singletonList(bindable))
+      .fromList(list).stream()
+      .flatMap(template -> template.getCRDs().stream())
+      .filter(crd -> kind.equals(crd.getKind()))
+      .findFirst()
+      .map(OperatorCRD::getSpecDescriptors)
+      .orElseThrow(() -> new IOException("No custom resource definition of kind " + kind + " in fixture."));
+  }
+}
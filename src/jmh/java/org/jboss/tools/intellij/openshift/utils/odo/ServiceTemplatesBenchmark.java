@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.CRDDescription;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionList;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionListBuilder;
+import org.jboss.tools.intellij.openshift.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns a list of cluster service versions into service templates.
+ * The list is built out of the recorded cluster service versions in {@code service-template-test.json} and
+ * {@code service-template-required-test.json}, repeated for the given number of cluster service versions.
+ * All kinds of all the operators are bindable, so that each custom resource definition is turned into a template.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceTemplatesBenchmark {
+
+  @Param({"50", "500"})
+  private int csvs;
+
+  private ClusterServiceVersionList list;
+  private ServiceTemplatesDeserializer deserializer;
+
+  @Setup
+  public void setup() throws IOException {
+    List<ClusterServiceVersion> recorded = new ArrayList<>();
+    recorded.addAll(read("/service-template-test.json"));
+    recorded.addAll(read("/service-template-required-test.json"));
+    List<ClusterServiceVersion> items = new ArrayList<>(csvs);
+    for (int i = 0; i < csvs; i++) {
+      ClusterServiceVersion csv = recorded.get(i % recorded.size());
+      items.add(new ClusterServiceVersionBuilder(csv)
+        .editMetadata()
+        .withName(csv.getMetadata().getName() + '-' + i)
+        .endMetadata()
+        .build());
+    }
+    this.list = new ClusterServiceVersionListBuilder().withItems(items).build();
+    this.deserializer = new ServiceTemplatesDeserializer(crd -> null, getBindableKinds(recorded));
+  }
+
+  @Benchmark
+  public List<ServiceTemplate> fromList() {
+    return deserializer.fromList(list);
+  }
+
+  private static List<ClusterServiceVersion> read(String fixture) throws IOException {
+    return Serialization.unmarshal(Fixtures.read(fixture), ClusterServiceVersionList.class).getItems();
+  }
+
+  private static List<GenericKubernetesResource> getBindableKinds(List<ClusterServiceVersion> csvs) {
+    Map<String, GenericKubernetesResource> kinds = new LinkedHashMap<>();
+    for (ClusterServiceVersion csv : csvs) {
+      if (csv.getSpec().getCustomresourcedefinitions() == null
+        || csv.getSpec().getCustomresourcedefinitions().getOwned() == null) {
+        continue;
+      }
+      for (CRDDescription crd : csv.getSpec().getCustomresourcedefinitions().getOwned()) {
+        GenericKubernetesResource kind = new GenericKubernetesResource();
+        kind.setApiVersion(crd.getName().substring(crd.getName().indexOf('.') + 1) + '/' + crd.getVersion());
+        kind.setKind(crd.getKind());
+        kinds.putIfAbsent(kind.getApiVersion() + '/' + kind.getKind(), kind);
+      }
+    }
+    return new ArrayList<>(kinds.values());
+  }
+}
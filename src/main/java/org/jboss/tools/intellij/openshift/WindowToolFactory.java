@@ -28,6 +28,7 @@ import com.redhat.devtools.intellij.common.compat.PopupHandlerAdapter;
 import com.redhat.devtools.intellij.common.tree.MutableModelSynchronizer;
 import com.redhat.devtools.intellij.common.tree.TreeHelper;
 import com.redhat.devtools.intellij.common.utils.IDEAContentFactory;
+import org.jboss.tools.intellij.openshift.telemetry.CallStatisticsReporter;
 import org.jboss.tools.intellij.openshift.tree.application.ApplicationsTreeStructure;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -62,8 +63,11 @@ public class WindowToolFactory implements ToolWindowFactory {
             toolWindow.getContentManager().addContent(content);
             ArrayList<AnAction> actions = new ArrayList<>();
             actions.add(ActionManager.getInstance().getAction("org.jboss.tools.intellij.openshift.actions.toolwindow.FeedBackAction"));
+            actions.add(ActionManager.getInstance().getAction("org.jboss.tools.intellij.openshift.actions.toolwindow.ShowCallStatisticsAction"));
+            actions.add(ActionManager.getInstance().getAction("org.jboss.tools.intellij.openshift.actions.toolwindow.ShowOdoSessionsAction"));
             toolWindow.setTitleActions(actions);
             TreeHelper.addLinkSupport(tree);
+            CallStatisticsReporter.getInstance().start();
         } catch (IllegalAccessException | InvocationTargetException e) {
             LOGGER.error(e.getMessage(), e);
         }
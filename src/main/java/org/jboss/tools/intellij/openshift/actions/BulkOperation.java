@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.actions;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.intellij.common.utils.UIHelper;
+import org.jboss.tools.intellij.openshift.tree.application.ProcessingNode;
+import org.jboss.tools.intellij.openshift.tree.application.StructureAwareNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An operation that is run on several items (ex. the nodes that are selected in the tree) in one background task.
+ * The items are processed with a bounded parallelism, the progress shows how many items are done and the results
+ * are reported for each item. Items that were not started yet when the task is cancelled are skipped.
+ *
+ * @param <T> the type of the items
+ */
+public class BulkOperation<T> {
+
+  public static final int DEFAULT_PARALLELISM = 4;
+
+  private static final Object SUCCEEDED = new Object();
+  private static final Object SKIPPED = new Object();
+
+  @FunctionalInterface
+  public interface Operation<T> {
+    void run(T item) throws Exception;
+  }
+
+  private final String title;
+  private final Function<T, String> nameOf;
+  private final Operation<T> operation;
+  private final int parallelism;
+  private final Executor executor;
+
+  /**
+   * @param title the title of the operation (ex. "Delete Components")
+   * @param nameOf the function that returns the name of an item
+   * @param operation the operation that is run for each item
+   */
+  public BulkOperation(String title, Function<T, String> nameOf, Operation<T> operation) {
+    this(title, nameOf, operation, DEFAULT_PARALLELISM);
+  }
+
+  /**
+   * @param title the title of the operation (ex. "Delete Components")
+   * @param nameOf the function that returns the name of an item
+   * @param operation the operation that is run for each item
+   * @param parallelism the maximum number of items that are processed at the same time
+   */
+  public BulkOperation(String title, Function<T, String> nameOf, Operation<T> operation, int parallelism) {
+    this(title, nameOf, operation, parallelism, AppExecutorUtil.getAppExecutorService());
+  }
+
+  BulkOperation(String title, Function<T, String> nameOf, Operation<T> operation, int parallelism, Executor executor) {
+    this.title = title;
+    this.nameOf = nameOf;
+    this.operation = operation;
+    this.parallelism = Math.max(1, parallelism);
+    this.executor = executor;
+  }
+
+  /**
+   * Runs the operation on the given nodes in a background task. The nodes are displayed as processing with the given
+   * message while the task runs. Once all nodes are processed, the given parent node is refreshed once and the
+   * failures are shown in a single error dialog.
+   *
+   * @param items the items to run the operation on
+   * @param message the message that the items that are processed display
+   * @param parent the node that is refreshed once all items are processed
+   * @param project the project to run the task in
+   * @param onFinished the consumer that is notified of the result (ex. to send telemetry)
+   */
+  public void runInBackground(List<T> items, String message, StructureAwareNode parent, Project project, Consumer<Result<T>> onFinished) {
+    List<ProcessingNode> nodes = items.stream()
+      .filter(ProcessingNode.class::isInstance)
+      .map(ProcessingNode.class::cast)
+      .collect(Collectors.toList());
+    nodes.forEach(node -> NodeUtils.setProcessing(message, node));
+    ActionUtils.runWithProgress((ProgressIndicator progress) -> {
+        Result<T> result = run(items, progress);
+        NodeUtils.clearProcessing(parent, nodes.toArray(new ProcessingNode[0]));
+        if (!result.isSuccess()) {
+          UIHelper.executeInUI(() -> Messages.showErrorDialog(result.getErrorMessage(), title));
+        }
+        onFinished.accept(result);
+      },
+      title + "...",
+      project);
+  }
+
+  /**
+   * Runs the operation on the given items and waits for all of them to be processed.
+   *
+   * @param items the items to run the operation on
+   * @param progress the progress to report to and to check for cancellation
+   * @return the result for each item
+   */
+  public Result<T> run(List<T> items, ProgressIndicator progress) {
+    int total = items.size();
+    Object[] outcomes = new Object[total];
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger done = new AtomicInteger();
+    progress.setIndeterminate(false);
+    progress.setText(title + " (0/" + total + ")");
+    CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, total)];
+    for (int i = 0; i < workers.length; i++) {
+      workers[i] = CompletableFuture.runAsync(() -> {
+        int index;
+        while ((index = next.getAndIncrement()) < total) {
+          outcomes[index] = process(items.get(index), progress);
+          int finished = done.incrementAndGet();
+          progress.setFraction((double) finished / total);
+          progress.setText(title + " (" + finished + "/" + total + ")");
+        }
+      }, executor);
+    }
+    CompletableFuture.allOf(workers).join();
+    return new Result<>(items, outcomes, nameOf);
+  }
+
+  private Object process(T item, ProgressIndicator progress) {
+    if (progress.isCanceled()) {
+      return SKIPPED;
+    }
+    progress.setText2(nameOf.apply(item));
+    try {
+      operation.run(item);
+      return SUCCEEDED;
+    } catch (Exception e) {
+      return e;
+    }
+  }
+
+  /**
+   * The result of a bulk operation: which items succeeded, failed or were skipped.
+   *
+   * @param <T> the type of the items
+   */
+  public static class Result<T> {
+
+    private final Function<T, String> nameOf;
+    private final List<T> succeeded = new ArrayList<>();
+    private final List<T> skipped = new ArrayList<>();
+    private final Map<T, Exception> failed = new LinkedHashMap<>();
+
+    private Result(List<T> items, Object[] outcomes, Function<T, String> nameOf) {
+      this.nameOf = nameOf;
+      for (int i = 0; i < items.size(); i++) {
+        Object outcome = outcomes[i];
+        if (outcome == SUCCEEDED) {
+          succeeded.add(items.get(i));
+        } else if (outcome instanceof Exception) {
+          failed.put(items.get(i), (Exception) outcome);
+        } else {
+          skipped.add(items.get(i));
+        }
+      }
+    }
+
+    public List<T> getSucceeded() {
+      return Collections.unmodifiableList(succeeded);
+    }
+
+    /**
+     * Returns the items that failed and the exception that they failed with, in the order of the items.
+     */
+    public Map<T, Exception> getFailed() {
+      return Collections.unmodifiableMap(failed);
+    }
+
+    /**
+     * Returns the items that were not processed because the operation was cancelled.
+     */
+    public List<T> getSkipped() {
+      return Collections.unmodifiableList(skipped);
+    }
+
+    /**
+     * Returns {@code true} if no item failed.
+     */
+    public boolean isSuccess() {
+      return failed.isEmpty();
+    }
+
+    /**
+     * Returns a message that lists the items that failed and why.
+     */
+    public String getErrorMessage() {
+      return failed.entrySet().stream()
+        .map(entry -> nameOf.apply(entry.getKey()) + ": " + entry.getValue().getLocalizedMessage())
+        .collect(Collectors.joining("\n", "Error:\n", ""));
+    }
+  }
+}
@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.swing.tree.TreePath;
+import java.util.Arrays;
 
 import static org.jboss.tools.intellij.openshift.telemetry.TelemetryService.PREFIX_ACTION;
 
@@ -45,6 +46,19 @@ public abstract class OdoAction extends StructureTreeAction implements Telemetry
         this.actionPerformedOnSelectedObject(anActionEvent, getElement(selected), odo);
     }
 
+    @Override
+    public void actionPerformed(AnActionEvent anActionEvent, TreePath[] path, Object[] selected) {
+        this.telemetrySender = new TelemetrySender(PREFIX_ACTION + getTelemetryActionName());
+        Odo odo = getOdo(anActionEvent);
+        if (odo == null) {
+          return;
+        }
+        Object[] elements = Arrays.stream(selected)
+          .map(StructureTreeAction::getElement)
+          .toArray();
+        this.actionPerformedOnSelectedObjects(anActionEvent, elements, odo);
+    }
+
     protected Odo getOdo(AnActionEvent anActionEvent) {
         try {
           return ActionUtils.getApplicationRootNode(anActionEvent).getOdo().getNow(null);
@@ -54,8 +68,31 @@ public abstract class OdoAction extends StructureTreeAction implements Telemetry
         }
     }
 
+    /**
+     * Returns the kind of namespaces in the cluster ("Project" or "Namespace") without querying the cluster,
+     * {@code null} if it's not known yet.
+     */
+    protected String getNamespaceKind(AnActionEvent anActionEvent) {
+        try {
+          return ActionUtils.getApplicationRootNode(anActionEvent).getNamespaceKind();
+        } catch(Exception e) {
+          LOGGER.warn("Could not get namespace kind: " + e.getMessage(), e);
+          return null;
+        }
+    }
+
     public abstract void actionPerformedOnSelectedObject(AnActionEvent anActionEvent, Object selected, @NotNull Odo odo);
 
+    /**
+     * Runs the action on the selected objects. Runs it on the single selected object by default,
+     * actions that support selecting several objects override this.
+     */
+    public void actionPerformedOnSelectedObjects(AnActionEvent anActionEvent, Object[] selected, @NotNull Odo odo) {
+        if (selected.length == 1) {
+          actionPerformedOnSelectedObject(anActionEvent, selected[0], odo);
+        }
+    }
+
     @Override
     public void setTelemetrySender(TelemetrySender telemetrySender) {
       this.telemetrySender = telemetrySender;
@@ -22,7 +22,7 @@ public abstract class ContextAwareComponentAction extends OdoAction {
     public boolean isVisible(Object selected) {
         boolean visible = super.isVisible(selected);
         if (visible && selected instanceof ComponentNode) {
-            visible = ((ComponentNode)selected).getComponent().hasContext();
+            visible = ((ComponentNode)selected).getActionState().hasContext();
         }
         return visible;
     }
@@ -58,15 +58,12 @@ public abstract class DebugComponentAction extends ContextAwareComponentAction {
         if (visible) {
             ComponentNode componentNode = (ComponentNode) selected;
             Component component = componentNode.getComponent();
-            return (isDebugRunning(component) && isDebuggable(component.getInfo()));
+            return componentNode.getActionState().isDebug()
+                && isDebuggable(component.getInfo());
         }
         return false;
     }
 
-    private boolean isDebugRunning(Component component) {
-        return component.getLiveFeatures().isDebug();
-    }
-
     @Override
     public String getTelemetryActionName() {
         return "debug component";
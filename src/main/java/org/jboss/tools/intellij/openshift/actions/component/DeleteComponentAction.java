@@ -11,21 +11,18 @@
 package org.jboss.tools.intellij.openshift.actions.component;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.ui.Messages;
-import com.redhat.devtools.intellij.common.utils.UIHelper;
+import org.jboss.tools.intellij.openshift.actions.BulkOperation;
 import org.jboss.tools.intellij.openshift.actions.OdoAction;
 import org.jboss.tools.intellij.openshift.tree.application.ComponentNode;
-import org.jboss.tools.intellij.openshift.tree.application.NamespaceNode;
 import org.jboss.tools.intellij.openshift.utils.odo.Component;
 import org.jboss.tools.intellij.openshift.utils.odo.Odo;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
-import static org.jboss.tools.intellij.openshift.actions.ActionUtils.runWithProgress;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.clearProcessing;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.setProcessing;
 import static org.jboss.tools.intellij.openshift.telemetry.TelemetryService.TelemetryResult;
 
 public class DeleteComponentAction extends OdoAction {
@@ -36,38 +33,55 @@ public class DeleteComponentAction extends OdoAction {
   @Override
   public String getTelemetryActionName() { return "delete component"; }
 
+  @Override
+  public void actionPerformedOnSelectedObjects(AnActionEvent anActionEvent, Object[] selected, @NotNull Odo odo) {
+    List<ComponentNode> componentNodes = Arrays.stream(selected)
+      .filter(ComponentNode.class::isInstance)
+      .map(ComponentNode.class::cast)
+      .collect(Collectors.toList());
+    deleteComponents(anActionEvent, componentNodes, odo);
+  }
+
   @Override
   public void actionPerformedOnSelectedObject(AnActionEvent anActionEvent, Object selected, @NotNull Odo odo) {
-    ComponentNode componentNode = (ComponentNode) selected;
-    Component component = componentNode.getComponent();
-    NamespaceNode namespaceNode = componentNode.getParent();
+    deleteComponents(anActionEvent, List.of((ComponentNode) selected), odo);
+  }
 
-    if (Messages.NO == Messages.showYesNoDialog("Delete Component '" + component.getName() + "'.\nAre you sure?", "Delete Component",
+  private void deleteComponents(AnActionEvent anActionEvent, List<ComponentNode> componentNodes, Odo odo) {
+    if (componentNodes.isEmpty()) {
+      return;
+    }
+    String names = componentNodes.stream().map(ComponentNode::getName).collect(Collectors.joining(", "));
+    String title = componentNodes.size() == 1 ? "Delete Component" : "Delete Components";
+    if (Messages.NO == Messages.showYesNoDialog(title + " '" + names + "'.\nAre you sure?", title,
       Messages.getQuestionIcon())) {
       sendTelemetryResults(TelemetryResult.ABORTED);
       return;
     }
 
-    runWithProgress((ProgressIndicator progress) -> {
-          setProcessing("Deleted", componentNode);
-          try {
-            odo.deleteComponent(
-                namespaceNode.getName(),
-                component.getPath(),
-                component.getName(),
-                component.getInfo().getComponentKind());
-            componentNode.stopProcessing();
-            componentNode.getRoot().getStructure().fireRemoved(componentNode);
-            clearProcessing(componentNode);
-            sendTelemetryResults(TelemetryResult.SUCCESS);
-          } catch (IOException e) {
-            clearProcessing(componentNode);
-            sendTelemetryError(e);
-            UIHelper.executeInUI(() ->
-                Messages.showErrorDialog("Error: " + e.getLocalizedMessage(), "Delete Component"));
-          }
-        },
-        "Delete Component...",
-        getEventProject(anActionEvent));
+    new BulkOperation<ComponentNode>(
+      title,
+      ComponentNode::getName,
+      componentNode -> {
+        Component component = componentNode.getComponent();
+        odo.deleteComponent(
+          componentNode.getParent().getName(),
+          component.getPath(),
+          component.getName(),
+          component.getInfo().getComponentKind());
+      })
+      .runInBackground(componentNodes, "Deleted", componentNodes.get(0).getParent(), getEventProject(anActionEvent), result -> {
+        if (result.isSuccess()) {
+          sendTelemetryResults(TelemetryResult.SUCCESS);
+        } else {
+          sendTelemetryError(result.getErrorMessage());
+        }
+      });
+  }
+
+  @Override
+  public boolean isVisible(Object[] selected) {
+    return selected.length > 0
+      && Arrays.stream(selected).allMatch(item -> getElement(item) instanceof ComponentNode);
   }
 }
@@ -10,7 +10,7 @@
  ******************************************************************************/
 package org.jboss.tools.intellij.openshift.actions.component;
 
-import org.jboss.tools.intellij.openshift.utils.odo.Component;
+import org.jboss.tools.intellij.openshift.tree.application.ComponentActionState;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeature;
 
 public class DeployComponentAction extends FeatureComponentAction {
@@ -19,7 +19,7 @@ public class DeployComponentAction extends FeatureComponentAction {
   }
 
   @Override
-  protected String getCustomizedPresentation(Component component) {
+  protected String getCustomizedPresentation(ComponentActionState state) {
     return "";
   }
 
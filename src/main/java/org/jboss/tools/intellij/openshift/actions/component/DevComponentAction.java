@@ -10,7 +10,7 @@
  ******************************************************************************/
 package org.jboss.tools.intellij.openshift.actions.component;
 
-import org.jboss.tools.intellij.openshift.utils.odo.Component;
+import org.jboss.tools.intellij.openshift.tree.application.ComponentActionState;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeature;
 
 public class DevComponentAction extends FeatureComponentAction {
@@ -24,8 +24,8 @@ public class DevComponentAction extends FeatureComponentAction {
   }
 
   @Override
-  protected String getCustomizedPresentation(Component component) {
-    if (component.getLiveFeatures().is(ComponentFeature.DEV)) {
+  protected String getCustomizedPresentation(ComponentActionState state) {
+    if (state.is(ComponentFeature.DEV)) {
       return "Stop " + getActionName();
     } else {
       return "Start " + getActionName();
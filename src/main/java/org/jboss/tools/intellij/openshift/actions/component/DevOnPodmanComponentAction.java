@@ -11,8 +11,8 @@
 package org.jboss.tools.intellij.openshift.actions.component;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
+import org.jboss.tools.intellij.openshift.tree.application.ComponentActionState;
 import org.jboss.tools.intellij.openshift.tree.application.ComponentNode;
-import org.jboss.tools.intellij.openshift.utils.odo.Component;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeature;
 
 public class DevOnPodmanComponentAction extends FeatureComponentAction {
@@ -27,8 +27,8 @@ public class DevOnPodmanComponentAction extends FeatureComponentAction {
     }
 
     @Override
-    protected String getCustomizedPresentation(Component component) {
-        if (component.getLiveFeatures().is(ComponentFeature.DEV_ON_PODMAN)) {
+    protected String getCustomizedPresentation(ComponentActionState state) {
+        if (state.is(ComponentFeature.DEV_ON_PODMAN)) {
             return "Stop " + getActionName();
         } else {
             return "Start " + getActionName();
@@ -44,7 +44,7 @@ public class DevOnPodmanComponentAction extends FeatureComponentAction {
               return;
             }
           ComponentNode componentNode = (ComponentNode) node;
-          e.getPresentation().setEnabled(componentNode.getComponent().getInfo().isLocalPodmanPresent());
+          e.getPresentation().setEnabled(componentNode.getActionState().isLocalPodmanPresent());
         }
     }
 }
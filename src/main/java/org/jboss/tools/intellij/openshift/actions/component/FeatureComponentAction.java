@@ -15,6 +15,7 @@ import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.ui.Messages;
 import com.redhat.devtools.intellij.common.utils.UIHelper;
 import org.jboss.tools.intellij.openshift.actions.ActionUtils;
+import org.jboss.tools.intellij.openshift.tree.application.ComponentActionState;
 import org.jboss.tools.intellij.openshift.tree.application.ComponentNode;
 import org.jboss.tools.intellij.openshift.utils.odo.Component;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeature;
@@ -43,8 +44,7 @@ public abstract class FeatureComponentAction extends ContextAwareComponentAction
     public boolean isVisible(Object selected) {
         boolean visible = super.isVisible(selected);
         if (visible && selected instanceof ComponentNode) {
-            Component component = ((ComponentNode) selected).getComponent();
-            visible = component.getInfo().getSupportedFeatures().contains(feature.getMode());
+            visible = ((ComponentNode) selected).getActionState().isSupported(feature.getMode());
         }
         return visible;
     }
@@ -58,12 +58,11 @@ public abstract class FeatureComponentAction extends ContextAwareComponentAction
                 return;
             }
             ComponentNode componentNode = (ComponentNode) node;
-            Component component = componentNode.getComponent();
-            e.getPresentation().setText(getCustomizedPresentation(component));
+            e.getPresentation().setText(getCustomizedPresentation(componentNode.getActionState()));
         }
     }
 
-    protected abstract String getCustomizedPresentation(Component component);
+    protected abstract String getCustomizedPresentation(ComponentActionState state);
 
     protected boolean needCustomizedPresentation() {
         return false;
@@ -13,6 +13,7 @@ package org.jboss.tools.intellij.openshift.actions.component;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.ui.Messages;
 import com.redhat.devtools.intellij.common.utils.UIHelper;
+import org.jboss.tools.intellij.openshift.tree.application.ComponentActionState;
 import org.jboss.tools.intellij.openshift.tree.application.ComponentNode;
 import org.jboss.tools.intellij.openshift.utils.odo.Component;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeature;
@@ -41,12 +42,9 @@ public class ShowLogComponentAction extends ContextAwareComponentAction {
         }
         boolean visible = super.isVisible(selected);
             if (visible) {
-                ComponentNode componentNode = (ComponentNode) selected;
-                Odo odo = componentNode.getRoot().getOdo().getNow(null);
-                if (odo == null) {
-                  return false;
-                }
-                visible = isDevOrDebugAndLogNotRunning(componentNode, odo) || isDeployAndLogNotRunning(componentNode, odo);
+                ComponentActionState state = ((ComponentNode) selected).getActionState();
+                visible = ((state.isDev() || state.isDebug()) && !state.isLogRunning(false))
+                  || (state.isDeploy() && !state.isLogRunning(true));
             }
 
         return visible;
@@ -11,27 +11,20 @@
 package org.jboss.tools.intellij.openshift.actions.helm;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.redhat.devtools.intellij.common.actions.StructureTreeAction;
-import com.redhat.devtools.intellij.common.utils.UIHelper;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.swing.tree.TreePath;
+import org.jboss.tools.intellij.openshift.actions.BulkOperation;
 import org.jboss.tools.intellij.openshift.actions.HelmAction;
 import org.jboss.tools.intellij.openshift.telemetry.TelemetryService;
-import org.jboss.tools.intellij.openshift.tree.application.ApplicationsRootNode;
 import org.jboss.tools.intellij.openshift.tree.application.HelmRepositoryNode;
-import org.jboss.tools.intellij.openshift.tree.application.ProcessingNode;
 import org.jboss.tools.intellij.openshift.utils.helm.Helm;
 import org.jetbrains.annotations.Nullable;
 
-import static org.jboss.tools.intellij.openshift.actions.ActionUtils.runWithProgress;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.clearProcessing;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.setProcessing;
-
 public class RemoveRepositoriesAction extends HelmAction {
 
   @Override
@@ -52,29 +45,19 @@ public class RemoveRepositoriesAction extends HelmAction {
       return;
     }
 
-    runWithProgress((ProgressIndicator progress) -> {
-        removeRepositories(repositories, helm);
-      },
-      "Remove Helm Repositories...",
-      project);
+    removeRepositories(repositories, helm, project);
   }
 
-  private void removeRepositories(List<HelmRepositoryNode> repositories, Helm helm) {
-    ProcessingNode[] processingNodes = repositories.toArray(new ProcessingNode[0]);
-    ApplicationsRootNode rootNode = repositories.get(0).getRoot();
-    try {
-      setProcessing("removing...", rootNode, processingNodes);
-      helm.removeRepos(
-        repositories.stream()
-        .map(HelmRepositoryNode::getName)
-        .toArray(String[]::new));
-      clearProcessing(rootNode, processingNodes);
-      sendTelemetryResults(TelemetryService.TelemetryResult.SUCCESS);
-    } catch (Exception e) {
-      clearProcessing(rootNode, processingNodes);
-      UIHelper.executeInUI(() -> Messages.showErrorDialog("Error: " + e.getLocalizedMessage(), "Remove Helm Repositories"));
-      sendTelemetryResults(TelemetryService.TelemetryResult.ERROR);
-    }
+  private void removeRepositories(List<HelmRepositoryNode> repositories, Helm helm, Project project) {
+    // helm rewrites its repositories file without locking it, repositories are thus removed one after the other
+    new BulkOperation<HelmRepositoryNode>(
+      "Remove Helm Repositories",
+      HelmRepositoryNode::getName,
+      repository -> helm.removeRepos(repository.getName()),
+      1)
+      .runInBackground(repositories, "removing...", repositories.get(0).getParent(), project, result ->
+        sendTelemetryResults(result.isSuccess() ?
+          TelemetryService.TelemetryResult.SUCCESS : TelemetryService.TelemetryResult.ERROR));
   }
 
   @Nullable
@@ -11,16 +11,13 @@
 package org.jboss.tools.intellij.openshift.actions.helm;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.redhat.devtools.intellij.common.actions.StructureTreeAction;
-import com.redhat.devtools.intellij.common.utils.UIHelper;
+import org.jboss.tools.intellij.openshift.actions.BulkOperation;
 import org.jboss.tools.intellij.openshift.actions.HelmAction;
 import org.jboss.tools.intellij.openshift.telemetry.TelemetryService;
-import org.jboss.tools.intellij.openshift.tree.application.ApplicationsRootNode;
 import org.jboss.tools.intellij.openshift.tree.application.ChartReleaseNode;
-import org.jboss.tools.intellij.openshift.tree.application.ProcessingNode;
 import org.jboss.tools.intellij.openshift.utils.helm.Helm;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,10 +26,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static org.jboss.tools.intellij.openshift.actions.ActionUtils.runWithProgress;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.clearProcessing;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.setProcessing;
-
 public class UninstallReleaseAction extends HelmAction {
 
 
@@ -54,22 +47,13 @@ public class UninstallReleaseAction extends HelmAction {
       return;
     }
 
-    runWithProgress((ProgressIndicator progress) -> {
-        ProcessingNode[] processingNodes = releases.toArray(new ProcessingNode[0]);
-        ApplicationsRootNode rootNode = releases.get(0).getRoot();
-        try {
-          setProcessing("uninstalling...", rootNode, processingNodes);
-          helm.uninstall(releases.stream().map(ChartReleaseNode::getName).toArray(String[]::new));
-          clearProcessing(rootNode, processingNodes);
-          sendTelemetryResults(TelemetryService.TelemetryResult.SUCCESS);
-        } catch (Exception e) {
-          clearProcessing(rootNode, processingNodes);
-          UIHelper.executeInUI(() -> Messages.showErrorDialog("Error: " + e.getLocalizedMessage(), "Uninstall Helm Release"));
-          sendTelemetryResults(TelemetryService.TelemetryResult.ERROR);
-        }
-      },
-      "Uninstall Helm Release...",
-      project);
+    new BulkOperation<ChartReleaseNode>(
+      "Uninstall Helm Releases",
+      ChartReleaseNode::getName,
+      release -> helm.uninstall(release.getName()))
+      .runInBackground(releases, "uninstalling...", releases.get(0).getParent(), project, result ->
+        sendTelemetryResults(result.isSuccess() ?
+          TelemetryService.TelemetryResult.SUCCESS : TelemetryService.TelemetryResult.ERROR));
   }
 
   @Nullable
@@ -12,8 +12,10 @@ package org.jboss.tools.intellij.openshift.actions.project;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
 import org.jboss.tools.intellij.openshift.actions.ActionUtils;
 import org.jboss.tools.intellij.openshift.actions.NotificationUtils;
 import org.jboss.tools.intellij.openshift.actions.OdoAction;
@@ -29,8 +31,9 @@ import org.jetbrains.annotations.NotNull;
 import java.awt.MouseInfo;
 import java.awt.Point;
 import java.io.IOException;
-import java.util.List;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.jboss.tools.intellij.openshift.actions.ActionUtils.getApplicationRootNode;
 import static org.jboss.tools.intellij.openshift.actions.ActionUtils.runWithProgress;
@@ -60,12 +63,12 @@ public class ChangeActiveProjectAction extends OdoAction {
   public void update(AnActionEvent e) {
     super.update(e);
     if (e.getPresentation().isVisible()) {
-      Odo odo = getOdo(e);
-      if (odo == null) {
+      String kind = getNamespaceKind(e);
+      if (kind == null) {
         return;
       }
       // overrides label given in plugin.xml
-      e.getPresentation().setText("Change " + odo.getNamespaceKind());
+      e.getPresentation().setText("Change " + kind);
     }
   }
 
@@ -80,23 +83,19 @@ public class ChangeActiveProjectAction extends OdoAction {
   private void doActionPerformed(final ApplicationsRootNode rootNode, final Point location, final @NotNull Odo odo, Project project) {
     runWithProgress((ProgressIndicator progress) ->
         CompletableFuture
-          .supplyAsync(() -> {
-            try {
-              return new ClusterProjects(odo.getCurrentNamespace(), odo.getNamespaces());
-            } catch (IOException e) {
-              NotificationUtils.notifyError(
-                "Change Active " + odo.getNamespaceKind(),
-                "Could not get " + odo.getNamespaceKind().toLowerCase() + ": " + e.getMessage());
-              sendTelemetryError(e.getMessage());
-              throw new RuntimeException(e);
-            }
-          }, SwingUtils.EXECUTOR_BACKGROUND)
-          .handleAsync((clusterProjects, error) -> {
+          .supplyAsync(odo::getCurrentNamespace, SwingUtils.EXECUTOR_BACKGROUND)
+          .handleAsync((currentProject, error) -> {
               if (error != null) {
                 return null;
               }
-              ChangeActiveProjectDialog dialog = openActiveProjectDialog(clusterProjects.current, clusterProjects.all, location, odo, project);
-              if (dialog.isOK()) {
+              ChangeActiveProjectDialog dialog = new ChangeActiveProjectDialog(project, odo.getNamespaceKind(), currentProject, Collections.emptyList(), location);
+              AtomicBoolean loadFailed = new AtomicBoolean();
+              // the dialog is shown right away, the projects are added as they are listed
+              loadProjects(dialog, loadFailed, odo);
+              dialog.show();
+              if (loadFailed.get()) {
+                return null;
+              } else if (dialog.isOK()) {
                 return new ChangeActiveProjectOperation(dialog.getActiveProject(), odo);
               } else if (dialog.isCreateNewProject()) {
                 // create new project link clicked
@@ -118,10 +117,21 @@ public class ChangeActiveProjectAction extends OdoAction {
       project);
   }
 
-  private ChangeActiveProjectDialog openActiveProjectDialog(String currentProject, List<String> allProjects, Point location, Odo odo, Project project) {
-    ChangeActiveProjectDialog dialog = new ChangeActiveProjectDialog(project, odo.getNamespaceKind(), currentProject, allProjects, location);
-    dialog.show();
-    return dialog;
+  private void loadProjects(ChangeActiveProjectDialog dialog, AtomicBoolean failed, Odo odo) {
+    CompletableFuture.runAsync(() -> {
+      try {
+        odo.getNamespaces(page ->
+          // the dialog is modal
+          ApplicationManager.getApplication().invokeLater(() -> dialog.addProjects(page), ModalityState.any()));
+      } catch (IOException e) {
+        failed.set(true);
+        ApplicationManager.getApplication().invokeLater(() -> dialog.close(DialogWrapper.CANCEL_EXIT_CODE), ModalityState.any());
+        NotificationUtils.notifyError(
+          "Change Active " + odo.getNamespaceKind(),
+          "Could not get " + odo.getNamespaceKind().toLowerCase() + ": " + e.getMessage());
+        sendTelemetryError(e.getMessage());
+      }
+    }, SwingUtils.EXECUTOR_BACKGROUND);
   }
 
   @Override
@@ -135,17 +145,6 @@ public class ChangeActiveProjectAction extends OdoAction {
       || (selected instanceof ApplicationsRootNode && ((ApplicationsRootNode) selected).isLogged());
   }
 
-  private static final class ClusterProjects {
-
-    private final String current;
-    private final List<String> all;
-
-    public ClusterProjects(String current, List<String> all) {
-      this.current = current;
-      this.all = all;
-    }
-  }
-
   private final class ChangeActiveProjectOperation implements Runnable {
 
     private final Odo odo;
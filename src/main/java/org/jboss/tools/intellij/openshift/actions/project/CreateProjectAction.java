@@ -52,12 +52,12 @@ public class CreateProjectAction extends LoggedInClusterAction {
   public void update(AnActionEvent e) {
     super.update(e);
     if (e.getPresentation().isVisible()) {
-      Odo odo = getOdo(e);
-      if (odo == null) {
+      String kind = getNamespaceKind(e);
+      if (kind == null) {
         return;
       }
       // overrides label given in plugin.xml
-      e.getPresentation().setText("New " + odo.getNamespaceKind());
+      e.getPresentation().setText("New " + kind);
     }
   }
 
@@ -37,12 +37,12 @@ public class DeleteProjectAction extends OdoAction {
   public void update(AnActionEvent e) {
     super.update(e);
     if (e.getPresentation().isVisible()) {
-      Odo odo = getOdo(e);
-      if (odo == null) {
+      String kind = getNamespaceKind(e);
+      if (kind == null) {
         return;
       }
       // overrides label given in plugin.xml
-      e.getPresentation().setText("Delete " + odo.getNamespaceKind());
+      e.getPresentation().setText("Delete " + kind);
     }
   }
 
@@ -11,20 +11,17 @@
 package org.jboss.tools.intellij.openshift.actions.service;
 
 import com.intellij.openapi.actionSystem.AnActionEvent;
-import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.ui.Messages;
-import com.redhat.devtools.intellij.common.utils.UIHelper;
+import org.jboss.tools.intellij.openshift.actions.BulkOperation;
 import org.jboss.tools.intellij.openshift.actions.OdoAction;
-import org.jboss.tools.intellij.openshift.tree.application.NamespaceNode;
 import org.jboss.tools.intellij.openshift.tree.application.ServiceNode;
 import org.jboss.tools.intellij.openshift.utils.odo.Odo;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
-import static org.jboss.tools.intellij.openshift.actions.ActionUtils.runWithProgress;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.clearProcessing;
-import static org.jboss.tools.intellij.openshift.actions.NodeUtils.setProcessing;
 import static org.jboss.tools.intellij.openshift.telemetry.TelemetryService.TelemetryResult;
 
 public class DeleteServiceAction extends OdoAction {
@@ -35,29 +32,48 @@ public class DeleteServiceAction extends OdoAction {
   @Override
   public String getTelemetryActionName() { return "delete service"; }
 
+  @Override
+  public void actionPerformedOnSelectedObjects(AnActionEvent anActionEvent, Object[] selected, @NotNull Odo odo) {
+    List<ServiceNode> serviceNodes = Arrays.stream(selected)
+      .filter(ServiceNode.class::isInstance)
+      .map(ServiceNode.class::cast)
+      .collect(Collectors.toList());
+    deleteServices(anActionEvent, serviceNodes, odo);
+  }
+
   @Override
   public void actionPerformedOnSelectedObject(AnActionEvent anActionEvent, Object selected, @NotNull Odo odo) {
-    ServiceNode serviceNode = (ServiceNode) selected;
-    NamespaceNode namespaceNode = serviceNode.getParent();
+    deleteServices(anActionEvent, List.of((ServiceNode) selected), odo);
+  }
+
+  private void deleteServices(AnActionEvent anActionEvent, List<ServiceNode> serviceNodes, Odo odo) {
+    if (serviceNodes.isEmpty()) {
+      return;
+    }
+    String names = serviceNodes.stream().map(ServiceNode::getName).collect(Collectors.joining(", "));
+    String title = serviceNodes.size() == 1 ? "Delete Service" : "Delete Services";
     if (Messages.NO == Messages.showYesNoDialog(
-        "Delete Service '" + serviceNode.getName() + "'.\nAre you sure?", "Delete Service",
+        title + " '" + names + "'.\nAre you sure?", title,
         Messages.getQuestionIcon())) {
       sendTelemetryResults(TelemetryResult.ABORTED);
       return;
     }
-    runWithProgress((ProgressIndicator progress) -> {
-      setProcessing("Deleted", serviceNode);
-      try {
-        odo.deleteService(namespaceNode.getName(), serviceNode.getService());
-        clearProcessing(serviceNode.getParent());
-        sendTelemetryResults(TelemetryResult.SUCCESS);
-      } catch (IOException e) {
-        clearProcessing(serviceNode);
-        sendTelemetryError(e);
-        UIHelper.executeInUI(() -> Messages.showErrorDialog("Error: " + e.getLocalizedMessage(), "Delete Service"));
-      }
-    },
-    "Delete Service " + serviceNode.getName() + "...",
-    getEventProject(anActionEvent));
+    new BulkOperation<ServiceNode>(
+      title,
+      ServiceNode::getName,
+      serviceNode -> odo.deleteService(serviceNode.getParent().getName(), serviceNode.getService()))
+      .runInBackground(serviceNodes, "Deleted", serviceNodes.get(0).getParent(), getEventProject(anActionEvent), result -> {
+        if (result.isSuccess()) {
+          sendTelemetryResults(TelemetryResult.SUCCESS);
+        } else {
+          sendTelemetryError(result.getErrorMessage());
+        }
+      });
+  }
+
+  @Override
+  public boolean isVisible(Object[] selected) {
+    return selected.length > 0
+      && Arrays.stream(selected).allMatch(item -> getElement(item) instanceof ServiceNode);
   }
 }
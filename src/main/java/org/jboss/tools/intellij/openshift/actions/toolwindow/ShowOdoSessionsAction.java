@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.actions.toolwindow;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import org.jboss.tools.intellij.openshift.ui.OdoSessionsPanel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shows the running odo sessions and their cpu, memory and output in a tab of the OpenShift tool window.
+ */
+public class ShowOdoSessionsAction extends AnAction {
+
+  private static final String TAB_NAME = "Odo Sessions";
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    if (project == null) {
+      return;
+    }
+    ToolWindowTabs.show(project, TAB_NAME, OdoSessionsPanel::new);
+  }
+}
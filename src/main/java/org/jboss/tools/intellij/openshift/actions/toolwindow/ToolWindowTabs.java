@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.actions.toolwindow;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentManager;
+import com.redhat.devtools.intellij.common.utils.IDEAContentFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.JComponent;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
+
+/**
+ * Shows closeable tabs in the OpenShift tool window.
+ */
+class ToolWindowTabs {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ToolWindowTabs.class);
+
+  private static final String TOOL_WINDOW_ID = "OpenShift";
+
+  private ToolWindowTabs() {
+    // static helper
+  }
+
+  /**
+   * Selects the tab with the given name in the OpenShift tool window. The tab is created with the panel that the
+   * given factory returns if it doesn't exist yet. The panel is disposed when the tab is closed.
+   *
+   * @param project the project whose tool window the tab is shown in
+   * @param name the name of the tab
+   * @param factory the factory that creates the panel of the tab
+   */
+  static <T extends JComponent & Disposable> void show(Project project, String name, Function<Project, T> factory) {
+    ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow(TOOL_WINDOW_ID);
+    if (toolWindow == null) {
+      return;
+    }
+    ContentManager contentManager = toolWindow.getContentManager();
+    Content content = contentManager.findContent(name);
+    if (content == null) {
+      T panel = factory.apply(project);
+      try {
+        content = IDEAContentFactory.getInstance().createContent(panel, name, false);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        LOGGER.error(e.getMessage(), e);
+        Disposer.dispose(panel);
+        return;
+      }
+      content.setCloseable(true);
+      content.setDisposer(panel);
+      contentManager.addContent(content);
+    }
+    contentManager.setSelectedContent(content);
+  }
+}
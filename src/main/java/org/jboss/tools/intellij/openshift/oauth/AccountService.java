@@ -22,7 +22,6 @@ import org.keycloak.adapters.ServerRequest;
 import org.keycloak.representations.AccessTokenResponse;
 
 import java.util.List;
-import java.util.Optional;
 
 public class AccountService {
 
@@ -30,6 +29,8 @@ public class AccountService {
 
   private final LoginProvider provider = LoginProvider.get();
 
+  private final TokenManager tokens = new TokenManager(this::refresh);
+
   private IAccountModel model;
 
   private AccountService() {
@@ -39,9 +40,10 @@ public class AccountService {
     return INSTANCE;
   }
 
-  private IAccountModel getModel() {
+  private synchronized IAccountModel getModel() {
     if (null == model) {
       model = new AccountModel();
+      model.getAuthorizationServers().forEach(server -> server.getAccounts().forEach(tokens::schedule));
     }
     return model;
   }
@@ -75,8 +77,7 @@ public class AccountService {
   }
 
   private IAuthorizationServer findAuthorizationServer(String serverId) {
-    Optional<IAuthorizationServer> server = getModel().getAuthorizationServers().stream().filter(cl -> serverId.equals(cl.getId())).findFirst();
-    return server.orElse(null);
+    return getModel().getAuthorizationServer(serverId);
   }
 
   public String getToken(String serverId, int tokenType, Object context) {
@@ -131,8 +132,8 @@ public class AccountService {
   IAccount createAccount(IAuthorizationServer server, LoginResponse response) {
     String id = OAuthUtils.decodeEmailFromToken(server, response.getIDToken());
     IAccount newAccount = server.createAccount(id);
-    updateAccount(response, newAccount);
     server.addAccount(newAccount);
+    updateAccount(response, newAccount);
     return newAccount;
   }
 
@@ -143,9 +144,38 @@ public class AccountService {
     account.setLastRefreshedTime(System.currentTimeMillis());
     account.setAccessTokenExpiryTime(info.getAccessTokenExpiryTime());
     account.setRefreshTokenExpiryTime(info.getRefreshTokenExpiryTime());
+    accountChanged(account);
+  }
+
+  private void accountChanged(IAccount account) {
+    tokens.schedule(account);
+    getModel().accountChanged(account);
+  }
+
+  private void refresh(IAccount account) {
+    synchronized (account) {
+      if (getStatus(account) == AccountStatus.VALID) {
+        tokens.schedule(account);
+      } else {
+        performRefresh(account);
+      }
+    }
   }
 
+  /**
+   * Refreshes the tokens of the given account unless they were refreshed concurrently (ex. by the
+   * {@link TokenManager}).
+   */
   private String performRefresh(IAccount account, int tokenType) {
+    synchronized (account) {
+      if (getStatus(account) != AccountStatus.VALID) {
+        performRefresh(account);
+      }
+      return account.getToken(tokenType);
+    }
+  }
+
+  private void performRefresh(IAccount account) {
     try {
       KeycloakDeployment deployment = OAuthUtils.getDeployment(account.getAuthorizationServer());
       AccessTokenResponse response = ServerRequest.invokeRefresh(deployment, account.getRefreshToken());
@@ -155,9 +185,9 @@ public class AccountService {
       account.setAccessTokenExpiryTime(System.currentTimeMillis() + response.getExpiresIn() * 1000);
       account.setRefreshTokenExpiryTime(System.currentTimeMillis() + response.getRefreshExpiresIn() * 1000);
       account.setLastRefreshedTime(System.currentTimeMillis());
-      return account.getToken(tokenType);
     } catch (Exception e) {
       throw new OAuthRefreshException(account, e);
     }
+    accountChanged(account);
   }
 }
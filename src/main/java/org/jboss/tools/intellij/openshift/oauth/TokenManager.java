@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.oauth;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jboss.tools.intellij.openshift.oauth.model.IAccount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Refreshes the tokens of the accounts in the background as soon as {@link AccountService#getStatus(IAccount)} would
+ * require a refresh, so that requesting a token doesn't have to wait for the authorization server.
+ * Accounts that need a login are not refreshed, a login requires the user.
+ */
+public class TokenManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TokenManager.class);
+
+  static final long NEVER = -1;
+
+  private final ScheduledExecutorService scheduler;
+  private final Consumer<IAccount> refresher;
+  private final LongSupplier clock;
+  private final Map<IAccount, ScheduledFuture<?>> refreshes = new ConcurrentHashMap<>();
+
+  /**
+   * @param refresher the function that refreshes the tokens of an account
+   */
+  public TokenManager(Consumer<IAccount> refresher) {
+    this(AppExecutorUtil.getAppScheduledExecutorService(), refresher, System::currentTimeMillis);
+  }
+
+  TokenManager(ScheduledExecutorService scheduler, Consumer<IAccount> refresher, LongSupplier clock) {
+    this.scheduler = scheduler;
+    this.refresher = refresher;
+    this.clock = clock;
+  }
+
+  /**
+   * Schedules the refresh of the given account for when its tokens need to be refreshed. Replaces the refresh that
+   * was scheduled before for this account. Accounts whose refresh token expired are not scheduled. Should be called
+   * whenever the tokens of the account change.
+   *
+   * @param account the account to refresh
+   */
+  public void schedule(IAccount account) {
+    long refreshTime = getRefreshTime(account);
+    long now = clock.getAsLong();
+    ScheduledFuture<?> previous;
+    if (refreshTime == NEVER
+      || now > account.getRefreshTokenExpiryTime()) {
+      previous = refreshes.remove(account);
+    } else {
+      long delay = Math.max(0, refreshTime - now);
+      previous = refreshes.put(account, scheduler.schedule(() -> refresh(account), delay, TimeUnit.MILLISECONDS));
+    }
+    if (previous != null) {
+      previous.cancel(false);
+    }
+  }
+
+  private void refresh(IAccount account) {
+    try {
+      refresher.accept(account);
+    } catch (RuntimeException e) {
+      // the refresh is done again when the token is requested
+      LOGGER.warn("Could not refresh the tokens of " + account.getId(), e);
+    }
+  }
+
+  /**
+   * Returns the time at which the tokens of the given account need to be refreshed, following the rules of
+   * {@link AccountService#getStatus(IAccount)}: after 24 hours or after half of the validity of the access token,
+   * whichever is first. Returns {@link #NEVER} if the account has no token or if its refresh token expires before
+   * that time.
+   *
+   * @param account the account
+   * @return the time to refresh at, in milliseconds
+   */
+  static long getRefreshTime(IAccount account) {
+    if (account.getAccessToken() == null
+      || account.getRefreshToken() == null) {
+      return NEVER;
+    }
+    long lastRefreshed = account.getLastRefreshedTime();
+    long halfValidity = lastRefreshed + (account.getAccessTokenExpiryTime() - lastRefreshed) / 2;
+    // the status is NEEDS_REFRESH strictly after these times
+    long refreshTime = Math.min(lastRefreshed + OAuthCoreConstants.DURATION_24_HOURS, halfValidity) + 1;
+    if (refreshTime > account.getRefreshTokenExpiryTime()) {
+      return NEVER;
+    }
+    return refreshTime;
+  }
+}
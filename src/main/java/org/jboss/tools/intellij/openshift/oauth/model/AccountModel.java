@@ -12,13 +12,23 @@ package org.jboss.tools.intellij.openshift.oauth.model;
 
 import com.intellij.openapi.application.ApplicationManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class AccountModel implements IAccountModel {
 
     private final ServersRepository repository = ApplicationManager.getApplication().getService(ServersRepository.class);
 
+	private volatile Map<String, IAuthorizationServer> servers;
+
+	public AccountModel() {
+		ServerExtensionPoint.EP_NAME.addChangeListener(() -> servers = null, null);
+	}
+
 	@Override
 	public IAuthorizationServer createAuthorizationServer(String id) {
         return new AuthorizationServer(id);
@@ -32,15 +42,49 @@ public class AccountModel implements IAccountModel {
 		return server;
 	}
 
+	/**
+	 * Returns the registered servers merged with the servers in the repository. The servers are merged once and
+	 * again whenever the registered servers change.
+	 */
 	@Override
 	public List<IAuthorizationServer> getAuthorizationServers() {
+		return new ArrayList<>(getServers().values());
+	}
+
+	@Override
+	public IAuthorizationServer getAuthorizationServer(String id) {
+		return getServers().get(id);
+	}
+
+	@Override
+	public void accountChanged(IAccount account) {
+		repository.persist(account);
+	}
+
+	private Map<String, IAuthorizationServer> getServers() {
+		Map<String, IAuthorizationServer> merged = servers;
+		if (merged == null) {
+			synchronized (this) {
+				merged = servers;
+				if (merged == null) {
+					merged = mergeServers();
+					servers = merged;
+				}
+			}
+		}
+		return merged;
+	}
+
+	private Map<String, IAuthorizationServer> mergeServers() {
 		List<IAuthorizationServer> servers = repository.getServers();
 		List<ServerExtensionPoint> registeredServers = ServerExtensionPoint.EP_NAME.getExtensionList();
 		List<IAuthorizationServer> nservers = registeredServers
 				.stream().map(rs -> merge(rs, (AuthorizationServer) servers.stream().filter(s -> s.getId().equals(rs.getId())).findFirst().orElseGet(() -> createAuthorizationServer(rs.getId()))))
 				.collect(Collectors.toList());
 		repository.setServers(nservers);
-		return nservers;
+		Map<String, IAuthorizationServer> merged = new LinkedHashMap<>();
+		nservers.forEach(server -> merged.putIfAbsent(server.getId(), server));
+		return Collections.unmodifiableMap(merged);
 	}
 
 }
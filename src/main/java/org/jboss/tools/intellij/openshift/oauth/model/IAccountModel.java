@@ -16,6 +16,19 @@ public interface IAccountModel {
 
 	List<IAuthorizationServer> getAuthorizationServers();
 
+	/**
+	 * @param id the id of the server
+	 * @return the server with the given id, {@code null} if there's none
+	 */
+	IAuthorizationServer getAuthorizationServer(String id);
+
 	IAuthorizationServer createAuthorizationServer(String id);
 
+	/**
+	 * Persists the tokens of the given account if they changed.
+	 *
+	 * @param account the account whose tokens changed
+	 */
+	void accountChanged(IAccount account);
+
 }
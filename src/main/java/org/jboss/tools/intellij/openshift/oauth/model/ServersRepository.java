@@ -17,13 +17,18 @@ import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.Service;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.jboss.tools.intellij.openshift.Constants;
 import org.jdom.Element;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 
 @State(name = "OAuthAccounts", storages =
         @Storage("oauthaccounts.xml")
@@ -41,6 +46,11 @@ public final class ServersRepository implements PersistentStateComponent<Element
     private static final String LAST_REFRESHED_TIME_ATTRIBUTE = "lastRefreshedTime";
     private static final String SERVERS_TAG = "servers";
     private List<IAuthorizationServer> servers = new ArrayList<>();
+    /**
+     * The tokens that are in the password safe, by service name.
+     */
+    private final Map<String, String> persisted = new HashMap<>();
+    private final Executor writer = AppExecutorUtil.createBoundedApplicationPoolExecutor("OpenShift OAuth Credentials", 1);
 
     private CredentialAttributes getAttributes(IAccount account, String attribute) {
         return new CredentialAttributes(Constants.PLUGIN_ID + '.' + account.getAuthorizationServer().getId() + '.' + account.getId() +
@@ -50,9 +60,7 @@ public final class ServersRepository implements PersistentStateComponent<Element
     private Element account2Node(IAccount account) {
         Element node = new Element(ACCOUNT_TAG);
         node.setAttribute(ID_ATTRIBUTE, account.getId());
-        PasswordSafe.getInstance().set(getAttributes(account, ID_TOKEN_ATTRIBUTE), new Credentials(null, account.getIDToken()));
-        PasswordSafe.getInstance().set(getAttributes(account, ACCESS_TOKEN_ATTRIBUTE), new Credentials(null, account.getAccessToken()));
-        PasswordSafe.getInstance().set(getAttributes(account, REFRESH_TOKEN_ATTRIBUTE), new Credentials(null, account.getRefreshToken()));
+        persist(account);
         node.setAttribute(ACCESS_TOKEN_EXPIRES_IN_ATTRIBUTE, String.valueOf(account.getAccessTokenExpiryTime()));
         node.setAttribute(REFRESH_TOKEN_EXPIRES_IN_ATTRIBUTE, String.valueOf(account.getRefreshTokenExpiryTime()));
         node.setAttribute(LAST_REFRESHED_TIME_ATTRIBUTE, String.valueOf(account.getLastRefreshedTime()));
@@ -83,9 +91,9 @@ public final class ServersRepository implements PersistentStateComponent<Element
             IAuthorizationServer server = new AuthorizationServer(serverNode.getAttributeValue(ID_ATTRIBUTE));
             for(Element accountNode : serverNode.getChildren(ACCOUNT_TAG)) {
                 IAccount account = new Account(accountNode.getAttributeValue(ID_ATTRIBUTE), server);
-                account.setIDToken(PasswordSafe.getInstance().getPassword(getAttributes(account, ID_TOKEN_ATTRIBUTE)));
-                account.setAccessToken(PasswordSafe.getInstance().getPassword(getAttributes(account, ACCESS_TOKEN_ATTRIBUTE)));
-                account.setRefreshToken(PasswordSafe.getInstance().getPassword(getAttributes(account, REFRESH_TOKEN_ATTRIBUTE)));
+                account.setIDToken(load(account, ID_TOKEN_ATTRIBUTE));
+                account.setAccessToken(load(account, ACCESS_TOKEN_ATTRIBUTE));
+                account.setRefreshToken(load(account, REFRESH_TOKEN_ATTRIBUTE));
                 account.setAccessTokenExpiryTime(Long.parseLong(accountNode.getAttributeValue(ACCESS_TOKEN_EXPIRES_IN_ATTRIBUTE)));
                 account.setRefreshTokenExpiryTime(Long.parseLong(accountNode.getAttributeValue(REFRESH_TOKEN_EXPIRES_IN_ATTRIBUTE)));
                 account.setLastRefreshedTime(Long.parseLong(accountNode.getAttributeValue(LAST_REFRESHED_TIME_ATTRIBUTE)));
@@ -95,6 +103,40 @@ public final class ServersRepository implements PersistentStateComponent<Element
         }
     }
 
+    private String load(IAccount account, String attribute) {
+        CredentialAttributes attributes = getAttributes(account, attribute);
+        String token = PasswordSafe.getInstance().getPassword(attributes);
+        synchronized (persisted) {
+            persisted.put(attributes.getServiceName(), token);
+        }
+        return token;
+    }
+
+    /**
+     * Stores the tokens of the given account in the password safe if they changed since they were last stored.
+     * The tokens are written in the background, in the order that they changed.
+     *
+     * @param account the account whose tokens to store
+     */
+    public void persist(IAccount account) {
+        persist(account, ID_TOKEN_ATTRIBUTE, account.getIDToken());
+        persist(account, ACCESS_TOKEN_ATTRIBUTE, account.getAccessToken());
+        persist(account, REFRESH_TOKEN_ATTRIBUTE, account.getRefreshToken());
+    }
+
+    private void persist(IAccount account, String attribute, String token) {
+        CredentialAttributes attributes = getAttributes(account, attribute);
+        synchronized (persisted) {
+            String key = attributes.getServiceName();
+            if (persisted.containsKey(key)
+                    && Objects.equals(persisted.get(key), token)) {
+                return;
+            }
+            persisted.put(key, token);
+            writer.execute(() -> PasswordSafe.getInstance().set(attributes, new Credentials(null, token)));
+        }
+    }
+
     public List<IAuthorizationServer> getServers() {
         return servers;
     }
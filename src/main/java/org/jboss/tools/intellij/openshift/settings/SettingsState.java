@@ -26,6 +26,41 @@ public class SettingsState implements PersistentStateComponent<SettingsState> {
 
     public String courseVersion = "0.0";
 
+    /**
+     * Minutes after which the devfile registry index is updated in the background.
+     */
+    public long devfileRegistryIndexTTL = 60;
+
+    /**
+     * Whether the aggregated statistics of the calls to odo, helm and the cluster are sent to telemetry.
+     */
+    public boolean reportCallStatistics = false;
+
+    /**
+     * Milliseconds that the result of a call to odo is reused for identical calls. 0 only joins identical calls that are in flight.
+     */
+    public long odoCallResultWindow = 2000;
+
+    /**
+     * Megabytes of resident memory above which an odo session is reported as runaway. 0 disables the check.
+     */
+    public long odoSessionMaxMemory = 2048;
+
+    /**
+     * Cpu, in percent of a core, above which an odo session is reported as runaway. 0 disables the check.
+     */
+    public long odoSessionMaxCpu = 200;
+
+    /**
+     * Characters per second above which the output of an odo session is reported as runaway. 0 disables the check.
+     */
+    public long odoSessionMaxOutputRate = 50000;
+
+    /**
+     * Whether odo sessions that are reported as runaway are stopped.
+     */
+    public boolean stopRunawayOdoSessions = false;
+
     public static SettingsState getInstance() {
         return ApplicationManager.getApplication().getService(SettingsState.class);
     }
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.telemetry;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.intellij.telemetry.core.service.TelemetryMessageBuilder.ActionMessage;
+import org.jboss.tools.intellij.openshift.settings.SettingsState;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.jboss.tools.intellij.openshift.telemetry.TelemetryService.NAME_PREFIX_MISC;
+import static org.jboss.tools.intellij.openshift.telemetry.TelemetryService.asyncSend;
+import static org.jboss.tools.intellij.openshift.telemetry.TelemetryService.instance;
+
+/**
+ * Periodically sends the aggregated {@link CallStatistics} to telemetry if enabled in the settings
+ * ({@link SettingsState#reportCallStatistics}). Only the aggregates per command are sent
+ * (count, failures, p50, p90, max latency), never the arguments of the calls.
+ */
+public class CallStatisticsReporter {
+
+    private static final long INTERVAL_MINUTES = 60;
+
+    private static final CallStatisticsReporter INSTANCE = new CallStatisticsReporter();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    public static CallStatisticsReporter getInstance() {
+        return INSTANCE;
+    }
+
+    private CallStatisticsReporter() {
+        // prevent instantiation
+    }
+
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        AppExecutorUtil.getAppScheduledExecutorService().scheduleWithFixedDelay(
+            this::report, INTERVAL_MINUTES, INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    private void report() {
+        if (!SettingsState.getInstance().reportCallStatistics) {
+            return;
+        }
+        List<CallStatistics.Entry> entries = CallStatistics.getInstance().getEntries();
+        if (entries.isEmpty()) {
+            return;
+        }
+        ActionMessage message = instance().getBuilder().action(NAME_PREFIX_MISC + "call-statistics");
+        for (CallStatistics.Entry entry : entries) {
+            message.property(entry.getName().replace(' ', '_'),
+                entry.getCount()
+                    + "/" + entry.getFailures()
+                    + "/" + entry.getPercentileMillis(50)
+                    + "/" + entry.getPercentileMillis(90)
+                    + "/" + entry.getMaxMillis());
+        }
+        asyncSend(message);
+    }
+}
@@ -19,8 +19,10 @@ import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.apache.commons.io.FileUtils;
 import org.jboss.tools.intellij.openshift.Constants;
+import org.jboss.tools.intellij.openshift.utils.helm.ChartRelease;
 import org.jboss.tools.intellij.openshift.utils.odo.Binding;
 import org.jboss.tools.intellij.openshift.utils.odo.Component;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentDescriptor;
@@ -33,38 +35,52 @@ import org.jboss.tools.intellij.openshift.utils.odo.ComponentTypeInfo;
 import org.jboss.tools.intellij.openshift.utils.odo.DevfileComponentType;
 import org.jboss.tools.intellij.openshift.utils.odo.DevfileRegistry;
 import org.jboss.tools.intellij.openshift.utils.odo.Odo;
-import org.jboss.tools.intellij.openshift.utils.odo.OdoProcessHelper;
+import org.jboss.tools.intellij.openshift.utils.odo.OdoCapabilities;
+import org.jboss.tools.intellij.openshift.utils.odo.OdoProcessRegistry;
 import org.jboss.tools.intellij.openshift.utils.odo.OperatorCRD;
 import org.jboss.tools.intellij.openshift.utils.odo.Service;
 import org.jboss.tools.intellij.openshift.utils.odo.ServiceTemplate;
 import org.jboss.tools.intellij.openshift.utils.odo.URL;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class ApplicationRootNodeOdo implements Odo {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationRootNodeOdo.class);
+
+    private static final long DESCRIBE_TIMEOUT = 30;
+    private static final ExecutorService DESCRIBE_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+        "OpenShift Component Describe", Runtime.getRuntime().availableProcessors());
+
     private final Odo delegate;
     private final boolean isDownloaded;
-    private final OdoProcessHelper processHelper;
+    private final OdoProcessRegistry processes;
     private final ApplicationsRootNode root;
     private final FileOperations fileOperations;
 
-    public ApplicationRootNodeOdo(Odo delegate, boolean isDownloaded, ApplicationsRootNode root, OdoProcessHelper processHelper) {
-        this(delegate, isDownloaded, processHelper, root, new FileOperations());
+    public ApplicationRootNodeOdo(Odo delegate, boolean isDownloaded, ApplicationsRootNode root, OdoProcessRegistry processes) {
+        this(delegate, isDownloaded, processes, root, new FileOperations());
     }
 
-    ApplicationRootNodeOdo(Odo delegate, boolean isDownloaded, OdoProcessHelper processHelper, ApplicationsRootNode root, FileOperations fileOperations) {
+    ApplicationRootNodeOdo(Odo delegate, boolean isDownloaded, OdoProcessRegistry processes, ApplicationsRootNode root, FileOperations fileOperations) {
         this.delegate = delegate;
         this.isDownloaded = isDownloaded;
-        this.processHelper = processHelper;
+        this.processes = processes;
         this.root = root;
         this.fileOperations = fileOperations;
     }
@@ -74,11 +90,21 @@ public class ApplicationRootNodeOdo implements Odo {
         return delegate.getNamespaces();
     }
 
+    @Override
+    public List<String> getNamespaces(Consumer<List<String>> pages) throws IOException {
+        return delegate.getNamespaces(pages);
+    }
+
     @Override
     public String getCurrentNamespace() {
         return delegate.getCurrentNamespace();
     }
 
+    @Override
+    public void setCurrentNamespace(String namespace) {
+        delegate.setCurrentNamespace(namespace);
+    }
+
     @Override
     public boolean namespaceExists(String name) {
         return delegate.namespaceExists(name);
@@ -92,13 +118,12 @@ public class ApplicationRootNodeOdo implements Odo {
     @Override
     public void start(String context, String component, ComponentFeature feature,
                       Consumer<Boolean> callback, Consumer<Boolean> processTerminatedCallback) throws IOException {
-        Map<ComponentFeature, ProcessHandler> componentMap = getComponentFeature(component);
         ProcessAdapter processAdapter = new ProcessAdapter() {
             private boolean callBackCalled = false;
 
             @Override
             public void startNotified(@NotNull ProcessEvent event) {
-                componentMap.put(feature, event.getProcessHandler());
+                processes.register(component, feature, event.getProcessHandler());
             }
 
             @Override
@@ -111,11 +136,11 @@ public class ApplicationRootNodeOdo implements Odo {
 
             @Override
             public void processTerminated(@NotNull ProcessEvent event) {
-                componentMap.remove(feature);
+                processes.unregister(component, feature, event.getProcessHandler());
                 processTerminatedCallback.accept(true);
             }
         };
-        delegate.start(context, feature, componentMap.get(feature), processAdapter);
+        delegate.start(context, feature, processes.getProcess(component, feature), processAdapter);
     }
 
     @Override
@@ -125,7 +150,7 @@ public class ApplicationRootNodeOdo implements Odo {
 
     @Override
     public void stop(String context, String component, ComponentFeature feature) throws IOException {
-        delegate.stop(context, feature, getComponentFeature(component).remove(feature));
+        delegate.stop(context, feature, processes.unregister(component, feature));
     }
 
     @Override
@@ -135,7 +160,7 @@ public class ApplicationRootNodeOdo implements Odo {
 
     @Override
     public boolean isStarted(String component, ComponentFeature feature) {
-        return getComponentFeature(component).containsKey(feature);
+        return processes.isRunning(component, feature);
     }
 
     @Override
@@ -186,6 +211,11 @@ public class ApplicationRootNodeOdo implements Odo {
         return delegate.listURLs(context);
     }
 
+    @Override
+    public OdoCapabilities getCapabilities() {
+        return delegate.getCapabilities();
+    }
+
     @Override
     public ComponentInfo getComponentInfo(String project, String component, String path, ComponentKind kind) throws IOException {
         return delegate.getComponentInfo(project, component, path, kind);
@@ -202,29 +232,27 @@ public class ApplicationRootNodeOdo implements Odo {
 
     @Override
     public void follow(String context, String component, boolean deploy, String platform) throws IOException {
-        List<ProcessHandler> handlers = processHelper.getComponentLogProcesses().computeIfAbsent(component, name -> Arrays.asList(new ProcessHandler[2]));
-        delegate.follow(context, deploy, platform, handlers);
+        delegate.follow(context, component, deploy, platform, processes.getLogProcesses(component));
     }
 
     @Override
-    public void follow(String context, boolean deploy, String platform, List<ProcessHandler> handlers) {
+    public void follow(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) {
         throw new UnsupportedOperationException();
     }
 
     @Override
     public void log(String context, String component, boolean deploy, String platform) throws IOException {
-        List<ProcessHandler> handlers = processHelper.getComponentLogProcesses().computeIfAbsent(component, name -> Arrays.asList(new ProcessHandler[2]));
-        delegate.log(context, deploy, platform, handlers);
+        delegate.log(context, component, deploy, platform, processes.getLogProcesses(component));
     }
 
     @Override
-    public void log(String context, boolean deploy, String platform, List<ProcessHandler> handlers) {
+    public void log(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) {
         throw new UnsupportedOperationException();
     }
 
     @Override
     public boolean isLogRunning(String component, boolean deploy) {
-        return processHelper.getComponentLogProcesses().computeIfAbsent(component, name -> Arrays.asList(new ProcessHandler[2])).get(deploy ? 1 : 0) != null;
+        return processes.isLogRunning(component, deploy);
     }
 
     @Override
@@ -255,40 +283,86 @@ public class ApplicationRootNodeOdo implements Odo {
     @Override
     public List<Component> getComponents(String project) throws IOException {
         List<Component> components = delegate.getComponents(project);
-        for (Map.Entry<String, ComponentDescriptor> entry : root.getComponents().entrySet()) {
+        Map<String, Component> componentsByName = new HashMap<>();
+        components.forEach(component -> componentsByName.putIfAbsent(component.getName(), component));
+        Map<String, ComponentDescriptor> descriptors = root.getComponents();
+        Map<String, Future<ComponentInfo>> infos = new HashMap<>();
+        descriptors.forEach((path, descriptor) ->
+            infos.put(path, describeComponent(project, descriptor.getName(), path)));
+        for (Map.Entry<String, ComponentDescriptor> entry : descriptors.entrySet()) {
             String path = entry.getKey();
             ComponentDescriptor componentDescriptor = entry.getValue();
-            Optional<Component> found = components.stream()
-                .filter(comp1 -> comp1.getName().equals(componentDescriptor.getName()))
-                .findFirst();
-            if (found.isPresent()) {
-                updateComponent(project, path, componentDescriptor, found.get());
+            Component found = componentsByName.get(componentDescriptor.getName());
+            ComponentInfo info = getComponentInfo(componentDescriptor.getName(), infos.get(path));
+            if (found != null) {
+                updateComponent(path, info, found);
             } else {
-                components.add(createComponent(project, componentDescriptor, path));
+                components.add(createComponent(componentDescriptor, path, info));
             }
         }
         return components;
     }
 
+    /**
+     * Describes the component in the given path on the shared, bounded describe executor.
+     * The describe calls for all the components in the project thus run concurrently.
+     * The timeout starts once the call runs, not while it waits for the executor. A call that times out is
+     * interrupted, which destroys the odo process that it waits for and frees the executor.
+     */
+    private Future<ComponentInfo> describeComponent(String project, String component, String path) {
+        FutureTask<ComponentInfo> describe = new FutureTask<>(() ->
+            getComponentInfo(project, component, path, ComponentKind.DEVFILE));
+        DESCRIBE_EXECUTOR.execute(() -> {
+            ScheduledFuture<?> timeout = AppExecutorUtil.getAppScheduledExecutorService().schedule(
+                () -> describe.cancel(true), DESCRIBE_TIMEOUT, TimeUnit.SECONDS);
+            try {
+                describe.run();
+            } finally {
+                timeout.cancel(false);
+            }
+        });
+        return describe;
+    }
+
+    /**
+     * Returns the info that the given describe call resulted in or {@code null} if it failed or timed out.
+     * A slow or broken devfile should not prevent the other components from being listed.
+     */
+    private ComponentInfo getComponentInfo(String component, Future<ComponentInfo> describe) {
+        try {
+            return describe.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            describe.cancel(true);
+            return null;
+        } catch (CancellationException e) {
+            LOGGER.warn("Describing component {} timed out after {} seconds.", component, DESCRIBE_TIMEOUT);
+            return null;
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not describe component {}.", component, e.getCause());
+            return null;
+        }
+    }
+
     @NotNull
-    private Component createComponent(String project, ComponentDescriptor componentDescriptor, String path) throws IOException {
-        ComponentInfo info = getComponentInfo(project, componentDescriptor.getName(), path, ComponentKind.DEVFILE);
+    private Component createComponent(ComponentDescriptor componentDescriptor, String path, ComponentInfo info) {
         return Component.of(
             componentDescriptor.getName(),
             componentDescriptor.getManagedBy(),
             new ComponentFeatures(),
             path,
-            info);
+            info != null ? info : new ComponentInfo.Builder()
+                .withComponentKind(ComponentKind.DEVFILE)
+                .build());
     }
 
-    private void updateComponent(String project, String path, ComponentDescriptor componentDescriptor, Component component) throws IOException {
+    private void updateComponent(String path, ComponentInfo info, Component component) {
         component.setPath(path);
-        ComponentInfo info = getComponentInfo(project, componentDescriptor.getName(), path, ComponentKind.DEVFILE);
-        component.setInfo(info);
-        Map<ComponentFeature, ProcessHandler> componentMap = getComponentFeature(component.getName());
-        if (!componentMap.isEmpty()) {
-            componentMap.keySet().forEach(componentFeature -> component.getLiveFeatures().addFeature(componentFeature));
+        if (info != null) {
+            component.setInfo(info);
         }
+        processes.getFeatures(component.getName())
+            .forEach(componentFeature -> component.getLiveFeatures().addFeature(componentFeature));
     }
 
     @Override
@@ -296,6 +370,11 @@ public class ApplicationRootNodeOdo implements Odo {
         return delegate.getServices(project);
     }
 
+    @Override
+    public List<ChartRelease> getHelmReleases(String project) throws IOException {
+        return delegate.getHelmReleases(project);
+    }
+
     @Override
     public void about() throws IOException {
         delegate.about();
@@ -376,6 +455,11 @@ public class ApplicationRootNodeOdo implements Odo {
         delegate.migrateComponent(name);
     }
 
+    @Override
+    public void dispose() {
+        delegate.dispose();
+    }
+
     public boolean isDownloaded() {
         return isDownloaded;
     }
@@ -406,17 +490,6 @@ public class ApplicationRootNodeOdo implements Odo {
      * @param component the component name
      */
     private void cleanupComponent(String component) {
-        Map<ComponentFeature, ProcessHandler> featureHandlers = processHelper.getComponentFeatureProcesses().remove(component);
-        if (featureHandlers != null) {
-            featureHandlers.forEach((feat, handler) -> handler.destroyProcess());
-        }
-        List<ProcessHandler> logHandlers = processHelper.getComponentLogProcesses().remove(component);
-        if (logHandlers != null) {
-            logHandlers.stream().filter(Objects::nonNull).forEach(ProcessHandler::destroyProcess);
-        }
-    }
-
-    private Map<ComponentFeature, ProcessHandler> getComponentFeature(String component) {
-        return processHelper.getComponentFeatureProcesses().computeIfAbsent(component, name -> new HashMap<>());
+        processes.removeComponent(component).forEach(ProcessHandler::destroyProcess);
     }
 }
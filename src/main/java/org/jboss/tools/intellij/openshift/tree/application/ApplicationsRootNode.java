@@ -11,6 +11,10 @@
 package org.jboss.tools.intellij.openshift.tree.application;
 
 import com.intellij.ProjectTopics;
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationAction;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
@@ -18,54 +22,79 @@ import com.intellij.openapi.project.ModuleListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.PathUtil;
 import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.intellij.common.utils.ConfigHelper;
 import com.redhat.devtools.intellij.common.utils.ConfigWatcher;
 import com.redhat.devtools.intellij.common.utils.ExecHelper;
 import io.fabric8.kubernetes.api.model.Config;
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Paths;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.jboss.tools.intellij.openshift.Constants;
 import org.jboss.tools.intellij.openshift.actions.NotificationUtils;
+import org.jboss.tools.intellij.openshift.utils.DebouncedConfigListener;
+import org.jboss.tools.intellij.openshift.utils.KubeConfigDiff;
 import org.jboss.tools.intellij.openshift.utils.ProjectUtils;
 import org.jboss.tools.intellij.openshift.utils.ToolFactory;
 import org.jboss.tools.intellij.openshift.utils.ToolFactory.Tool;
 import org.jboss.tools.intellij.openshift.utils.helm.Helm;
+import org.jboss.tools.intellij.openshift.utils.odo.CoalescingOdo;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentDescriptor;
+import org.jboss.tools.intellij.openshift.utils.odo.DescribeComponentCache;
 import org.jboss.tools.intellij.openshift.utils.odo.Odo;
-import org.jboss.tools.intellij.openshift.utils.odo.OdoProcessHelper;
+import org.jboss.tools.intellij.openshift.utils.odo.OdoProcessRegistry;
 import org.jetbrains.annotations.NotNull;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class ApplicationsRootNode
     implements ModuleListener, ConfigWatcher.Listener, ProcessingNode, StructureAwareNode, ParentableNode<ApplicationsRootNode>, Disposable {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationsRootNode.class);
     private final Project project;
     private final ApplicationsTreeStructure structure;
     private final ProcessingNodeImpl processingNode = new ProcessingNodeImpl();
-    private final Map<String, ComponentDescriptor> components = new HashMap<>();
+    private final ComponentDiscovery discovery;
+    private final ComponentDiscovery.Listener discoveryListener = this::componentsChanged;
     private CompletableFuture<ApplicationRootNodeOdo> odoFuture;
     private CompletableFuture<Tool<Helm>> helmFuture;
     private boolean logged;
+    private volatile String namespaceKind;
     private Config config;
-    private final OdoProcessHelper processHelper;
+    private final OdoProcessRegistry processes;
+    private final OdoProcessRegistry.Listener processesListener = new OdoProcessRegistry.Listener() {
+        @Override
+        public void sessionsChanged(String component) {
+            structure.fireComponentModified(component);
+        }
+
+        @Override
+        public void sessionExceeded(OdoProcessRegistry.Session session, String reason) {
+            notifyRunawaySession(session, reason);
+        }
+    };
 
     public ApplicationsRootNode(Project project, ApplicationsTreeStructure structure) {
         this.project = project;
         this.structure = structure;
+        this.discovery = ComponentDiscovery.getInstance(project);
+        discovery.addListener(discoveryListener);
         initConfigWatcher();
         this.config = loadConfig();
         registerProjectListener(project);
-        this.processHelper = new OdoProcessHelper();
+        this.processes = OdoProcessRegistry.getInstance(project);
+        processes.addListener(processesListener);
     }
 
-    private static boolean shouldLogMessage(String message) {
+    static boolean shouldLogMessage(String message) {
         return !(message.contains("Unauthorized") ||
             message.contains("unable to access the cluster: servicebindings.binding.operators.coreos.com") ||
             message.contains("the server has asked for the client to provide credentials") ||
@@ -80,12 +109,24 @@ public class ApplicationsRootNode
         this.logged = logged;
     }
 
+    /**
+     * Returns the kind of namespaces in the current cluster ("Project" or "Namespace") as it was when the cluster
+     * was last loaded, {@code null} if it was not loaded yet. Never queries the cluster.
+     */
+    public String getNamespaceKind() {
+        return namespaceKind;
+    }
+
+    public void setNamespaceKind(String namespaceKind) {
+        this.namespaceKind = namespaceKind;
+    }
+
     private CompletableFuture<ApplicationRootNodeOdo> doGetOdo() {
         if (odoFuture == null) {
             this.odoFuture = ToolFactory.getInstance()
               .createOdo(project)
               .thenApply(tool -> {
-                  ApplicationRootNodeOdo odo = new ApplicationRootNodeOdo(tool.get(), tool.isDownloaded(), this, processHelper);
+                  ApplicationRootNodeOdo odo = new ApplicationRootNodeOdo(new CoalescingOdo(tool.get(), processes), tool.isDownloaded(), this, processes);
                   loadProjectModel(odo, project);
                   return odo;
               });
@@ -103,6 +144,13 @@ public class ApplicationsRootNode
     }
 
     public void resetOdo() {
+        if (odoFuture != null) {
+            odoFuture.thenAccept(odo -> {
+                if (odo != null) {
+                    odo.dispose();
+                }
+            });
+        }
         this.odoFuture = null;
     }
 
@@ -132,7 +180,7 @@ public class ApplicationsRootNode
     }
 
     protected void initConfigWatcher() {
-        ExecHelper.submit(new ConfigWatcher(Paths.get(ConfigHelper.getKubeConfigPath()), this));
+        ExecHelper.submit(new ConfigWatcher(Paths.get(ConfigHelper.getKubeConfigPath()), new DebouncedConfigListener(this, structure)));
     }
 
     protected Config loadConfig() {
@@ -140,21 +188,27 @@ public class ApplicationsRootNode
     }
 
     public Map<String, ComponentDescriptor> getComponents() {
-        return components;
+        return discovery.getComponents();
     }
 
     protected void loadProjectModel(Odo odo, Project project) {
         if (odo == null) {
             return;
         }
-        for (Module module : ModuleManager.getInstance(project).getModules()) {
-            addContext(odo, ProjectUtils.getModuleRoot(module));
-        }
+        List<VirtualFile> roots = getModuleRoots(project);
+        discovery.retain(roots);
+        discover(odo, roots);
+    }
+
+    private static List<VirtualFile> getModuleRoots(Project project) {
+        return Arrays.stream(ModuleManager.getInstance(project).getModules())
+            .map(ProjectUtils::getModuleRoot)
+            .collect(Collectors.toList());
     }
 
     @Override
     public void moduleAdded(@NotNull Project project, @NotNull Module module) {
-        addContext(getOdo().getNow(null), ProjectUtils.getModuleRoot(module));
+        discover(getOdo().getNow(null), Collections.singletonList(ProjectUtils.getModuleRoot(module)));
     }
 
     @Override
@@ -162,13 +216,11 @@ public class ApplicationsRootNode
         removeContext(ProjectUtils.getModuleRoot(module));
     }
 
-    private void addContextToSettings(String path, ComponentDescriptor descriptor) {
-        if (!components.containsKey(path)) {
-            if (descriptor.isPreOdo3()) {
-                migrateOdo(descriptor);
-            }
-            components.put(path, descriptor);
-        }
+    private CompletableFuture<Void> discover(Odo odo, Collection<VirtualFile> roots) {
+        return discovery.discover(odo, roots)
+            .thenAccept(descriptors -> descriptors.stream()
+                .filter(ComponentDescriptor::isPreOdo3)
+                .forEach(this::migrateOdo));
     }
 
     private void migrateOdo(ComponentDescriptor descriptor) {
@@ -183,61 +235,93 @@ public class ApplicationsRootNode
                     "The component " + descriptor.getName() + " has been migrated to odo 3.x"));
     }
 
-    private void addContext(Odo odo, VirtualFile modulePathFile) {
-        if (odo == null) {
-            return;
-        }
-        if (modulePathFile != null && modulePathFile.isValid()) {
-            try {
-                List<ComponentDescriptor> descriptors = odo.discover(modulePathFile.toNioPath().toString());
-                descriptors.forEach(descriptor ->
-                    addContextToSettings(descriptor.getPath(), descriptor)
-                );
-            } catch (IOException ex) {
-                //filter out some common exception when no logged or no authorizations
-                if (shouldLogMessage(ex.getMessage())) {
-                    LOGGER.warn(ex.getLocalizedMessage(), ex);
-                }
-            }
-        }
-    }
-
     public void addContext(String modulePath) {
-        addContext(
+        discover(
             getOdo().getNow(null),
-            LocalFileSystem.getInstance().refreshAndFindFileByPath(modulePath));
-    }
-
-    private void removeContextFromSettings(String modulePath) {
-        if (components.containsKey(modulePath)) {
-            components.remove(modulePath);
-            structure.fireModified(this);
-        }
+            Collections.singletonList(LocalFileSystem.getInstance().refreshAndFindFileByPath(modulePath)))
+            .join();
     }
 
     public void removeContext(File file) {
         if (file.exists()) {
-            removeContextFromSettings(file.getPath());
+            discovery.remove(file.getPath());
         }
     }
 
     private void removeContext(VirtualFile modulePathFile) {
-        removeContextFromSettings(modulePathFile.getPath());
+        if (modulePathFile != null) {
+            discovery.remove(ComponentDiscovery.toPath(modulePathFile));
+        }
+    }
+
+    /**
+     * Discovers the module roots again whose devfile was created, changed or deleted.
+     */
+    private void onFilesChanged(List<? extends VFileEvent> events) {
+        Set<String> directories = events.stream()
+            .map(VFileEvent::getPath)
+            .filter(path -> DescribeComponentCache.isDevfile(PathUtil.getFileName(path)))
+            .map(PathUtil::getParentPath)
+            .collect(Collectors.toSet());
+        if (directories.isEmpty()) {
+            return;
+        }
+        ExecHelper.submit(() -> {
+            List<VirtualFile> roots = getModuleRoots(project).stream()
+                .filter(root -> root != null && directories.contains(root.getPath()))
+                .collect(Collectors.toList());
+            if (!roots.isEmpty()) {
+                discover(getOdo().getNow(null), roots);
+            }
+        });
+    }
+
+    private void componentsChanged() {
+        structure.fireModified(this);
     }
 
     protected void registerProjectListener(Project project) {
         MessageBusConnection connection = project.getMessageBus().connect(this);
         connection.subscribe(ProjectTopics.MODULES, this);
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                onFilesChanged(events);
+            }
+        });
     }
 
+    /**
+     * Applies the changes to the current context of the kubeconfig.
+     * A change of namespace is applied to the existing odo, any other change (cluster, credentials, etc.) requires a new odo.
+     * Bursts of changes are coalesced by the {@link DebouncedConfigListener} that is notifying this node.
+     */
     @Override
-    public void onUpdate(ConfigWatcher source, Config config) {
-        if (!ConfigHelper.areEqual(config, this.config)) {
-            this.config = config;
+    public synchronized void onUpdate(ConfigWatcher source, Config config) {
+        Set<KubeConfigDiff.Change> changes = KubeConfigDiff.between(this.config, config);
+        if (changes.isEmpty()) {
+            return;
+        }
+        this.config = config;
+        if (KubeConfigDiff.isNamespaceOnly(changes)) {
+            changeNamespace(KubeConfigDiff.getCurrentNamespace(config));
+        } else {
             refresh();
         }
     }
 
+    protected void changeNamespace(String namespace) {
+        if (odoFuture == null) {
+            return;
+        }
+        odoFuture.thenAccept(odo -> {
+            if (odo != null) {
+                odo.setCurrentNamespace(namespace);
+                structure.fireModified(this);
+            }
+        });
+    }
+
     public synchronized void refresh() {
         resetOdo();
         doGetOdo().whenComplete((odo, err) ->
@@ -285,8 +369,20 @@ public class ApplicationsRootNode
         return this;
     }
 
+    private void notifyRunawaySession(OdoProcessRegistry.Session session, String reason) {
+        Notification notification = new Notification(
+          Constants.GROUP_DISPLAY_ID,
+          "Odo session " + session.getName() + " of " + session.getComponent(),
+          "The session " + reason + ".",
+          NotificationType.WARNING);
+        notification.addAction(NotificationAction.createSimpleExpiring("Stop", () -> processes.stop(session)));
+        Notifications.Bus.notify(notification, project);
+    }
+
     @Override
     public void dispose() {
+      processes.removeListener(processesListener);
+      discovery.removeListener(discoveryListener);
       resetOdo();
     }
 }
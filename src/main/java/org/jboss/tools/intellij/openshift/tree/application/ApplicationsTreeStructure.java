@@ -14,8 +14,11 @@ import com.intellij.ide.projectView.PresentationData;
 import com.intellij.ide.util.treeView.AbstractTreeStructure;
 import com.intellij.ide.util.treeView.NodeDescriptor;
 import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.ui.tree.LeafState;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.redhat.devtools.intellij.common.tree.LabelAndIconDescriptor;
 import com.redhat.devtools.intellij.common.tree.MutableModel;
 import com.redhat.devtools.intellij.common.tree.MutableModelSupport;
@@ -24,6 +27,7 @@ import org.jboss.tools.intellij.openshift.Constants;
 import org.jboss.tools.intellij.openshift.utils.ExceptionUtils;
 import org.jboss.tools.intellij.openshift.utils.KubernetesClientExceptionUtils;
 import org.jboss.tools.intellij.openshift.utils.helm.Helm;
+import org.jboss.tools.intellij.openshift.utils.odo.NamespaceResourcesListener;
 import org.jboss.tools.intellij.openshift.utils.odo.Odo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -34,6 +38,7 @@ import javax.swing.Icon;
 import java.io.IOException;
 import java.net.NoRouteToHostException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -46,15 +51,54 @@ public class ApplicationsTreeStructure extends AbstractTreeStructure implements
     private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationsTreeStructure.class);
     private static final String LOGIN = "Please log in to the cluster";
     private static final String CLUSTER_UNREACHABLE = "Error: Cluster not reachable";
+    private static final int NAMESPACE_CHANGE_DELAY = 300;
     private final Project project;
     private final ApplicationsRootNode root;
     private final MutableModel<Object> mutableModelSupport = new MutableModelSupport<>();
     private final DevfileRegistriesNode registries;
+    private final Alarm namespaceChangeAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+    private final NamespaceChildrenLoader namespaceChildren =
+        new NamespaceChildrenLoader(AppExecutorUtil.getAppExecutorService(), mutableModelSupport::fireModified);
+    private volatile NamespaceNode namespaceNode;
 
     public ApplicationsTreeStructure(Project project) {
         this.project = project;
         this.root = new ApplicationsRootNode(project, this);
         this.registries = new DevfileRegistriesNode(root);
+        ApplicationManager.getApplication().getMessageBus().connect(this)
+            .subscribe(NamespaceResourcesListener.TOPIC, this::fireNamespaceModified);
+    }
+
+    /**
+     * Refreshes the namespace node if it's displaying the given namespace.
+     * Bursts of changes (ex. a deployment with several resources) are coalesced into a single refresh.
+     *
+     * @param namespace the namespace whose resources changed
+     */
+    public void fireNamespaceModified(String namespace) {
+        NamespaceNode node = this.namespaceNode;
+        if (node == null
+            || !node.getName().equals(namespace)) {
+            return;
+        }
+        namespaceChangeAlarm.cancelAllRequests();
+        namespaceChangeAlarm.addRequest(() -> fireModified(node), NAMESPACE_CHANGE_DELAY);
+    }
+
+    /**
+     * Refreshes the node of the given component if it's displayed in the current namespace.
+     *
+     * @param component the name of the component that changed
+     */
+    public void fireComponentModified(String component) {
+        NamespaceNode node = this.namespaceNode;
+        if (node == null) {
+            return;
+        }
+        namespaceChildren.getLoadedChildren(node).stream()
+            .filter(child -> child instanceof ComponentNode
+                && ((ComponentNode) child).getName().equals(component))
+            .forEach(this::fireModified);
     }
 
     @Override
@@ -132,11 +176,10 @@ public class ApplicationsTreeStructure extends AbstractTreeStructure implements
             return new MessageNode[]{new ChangeActiveProjectLinkNode(root, namespaceNode)};
         }
 
-        List<Object> nodes = new ArrayList<>();
-        nodes.addAll(getComponents(namespaceNode, odo));
-        nodes.addAll(getServices(namespaceNode, odo));
-        nodes.addAll(getHelmReleases(namespaceNode));
-        return nodes.toArray();
+        return namespaceChildren.getChildren(namespaceNode, Arrays.asList(
+            new NamespaceChildrenLoader.Source("components", () -> getComponents(namespaceNode, odo), "Could not get components"),
+            new NamespaceChildrenLoader.Source("services", () -> getServices(namespaceNode, odo), "Could not get application services"),
+            new NamespaceChildrenLoader.Source("chart releases", () -> getHelmReleases(namespaceNode, odo), "Could not get chart releases")));
     }
 
     @NotNull
@@ -149,12 +192,16 @@ public class ApplicationsTreeStructure extends AbstractTreeStructure implements
             }
             boolean isAuthorized = odo.isAuthorized();
             element.setLogged(isAuthorized);
+            if (isAuthorized) {
+                element.setNamespaceKind(odo.getNamespaceKind());
+            }
             if (!isAuthorized) {
                 node = new MessageNode<>(root, root, LOGIN);
             } else {
                 String namespace = odo.getCurrentNamespace();
                 if (namespace != null) {
-                    node = new NamespaceNode(element, namespace);
+                    this.namespaceNode = new NamespaceNode(element, namespace);
+                    node = namespaceNode;
                 } else {
                     node = new CreateNamespaceLinkNode(element);
                 }
@@ -207,7 +254,7 @@ public class ApplicationsTreeStructure extends AbstractTreeStructure implements
         List<BaseNode<?>> components = new ArrayList<>(load(
             () -> odo.getComponents(namespaceNode.getName()).stream()
                 .filter(component -> !component.isManagedByHelm()) // dont display helm components
-                .map(component -> new ComponentNode(namespaceNode, component))
+                .map(component -> new ComponentNode(namespaceNode, component, odo))
                 .collect(Collectors.toList()),
             namespaceNode,
             "Could not get components"));
@@ -225,12 +272,8 @@ public class ApplicationsTreeStructure extends AbstractTreeStructure implements
             "Could not get application services");
     }
 
-    private List<BaseNode<?>> getHelmReleases(NamespaceNode namespaceNode) {
-        Helm helm = namespaceNode.getRoot().getHelm(true);
-        if (helm == null) {
-            return List.of(new MessageNode<>(root, namespaceNode, "Could not get chart releases"));
-        }
-        return load(() -> helm.list().stream()
+    private List<BaseNode<?>> getHelmReleases(NamespaceNode namespaceNode, Odo odo) {
+        return load(() -> odo.getHelmReleases(namespaceNode.getName()).stream()
                 .map(release -> new ChartReleaseNode(namespaceNode, release))
                 .collect(Collectors.toList()),
             namespaceNode,
@@ -355,6 +398,17 @@ public class ApplicationsTreeStructure extends AbstractTreeStructure implements
 
     @Override
     public void fireModified(Object element) {
+        if (element instanceof NamespaceNode) {
+            namespaceChildren.invalidate((NamespaceNode) element);
+        } else if (element instanceof ComponentNode) {
+            // update the state of the actions before the node is displayed again
+            ComponentNode componentNode = (ComponentNode) element;
+            AppExecutorUtil.getAppExecutorService().execute(() -> {
+                componentNode.updateActionState(root.getOdo().getNow(null));
+                mutableModelSupport.fireModified(element);
+            });
+            return;
+        }
         mutableModelSupport.fireModified(element);
     }
 
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.tree.application;
+
+import org.jboss.tools.intellij.openshift.utils.odo.Component;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeature;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeatures;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentInfo;
+import org.jboss.tools.intellij.openshift.utils.odo.Odo;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The state of a component that the actions in the context menu depend on, at the time the component node changed.
+ * It is created in a background thread so that actions can update their presentation without querying odo or
+ * the cluster in the UI thread.
+ */
+public class ComponentActionState {
+
+    private final boolean context;
+    private final Set<ComponentFeature.Mode> supportedFeatures;
+    private final boolean dev;
+    private final boolean devOnPodman;
+    private final boolean debug;
+    private final boolean deploy;
+    private final boolean devLogRunning;
+    private final boolean deployLogRunning;
+    private final boolean localPodmanPresent;
+
+    /**
+     * Creates the state of the given component.
+     *
+     * @param component the component
+     * @param odo the odo that knows about the running logs, {@code null} if it's not available yet
+     * @return the state
+     */
+    public static ComponentActionState of(Component component, Odo odo) {
+        ComponentInfo info = component.getInfo();
+        ComponentFeatures live = component.getLiveFeatures();
+        return new ComponentActionState(
+            component.hasContext(),
+            info == null ? Collections.emptySet() : toSet(info),
+            live.is(ComponentFeature.DEV),
+            live.is(ComponentFeature.DEV_ON_PODMAN),
+            live.isDebug(),
+            live.isDeploy(),
+            odo != null && odo.isLogRunning(component.getName(), false),
+            odo != null && odo.isLogRunning(component.getName(), true),
+            info != null && info.isLocalPodmanPresent());
+    }
+
+    private static Set<ComponentFeature.Mode> toSet(ComponentInfo info) {
+        if (info.getSupportedFeatures() == null
+            || info.getSupportedFeatures().isEmpty()) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(EnumSet.copyOf(info.getSupportedFeatures()));
+    }
+
+    ComponentActionState(boolean context, Set<ComponentFeature.Mode> supportedFeatures, boolean dev, boolean devOnPodman,
+                         boolean debug, boolean deploy, boolean devLogRunning, boolean deployLogRunning, boolean localPodmanPresent) {
+        this.context = context;
+        this.supportedFeatures = supportedFeatures;
+        this.dev = dev;
+        this.devOnPodman = devOnPodman;
+        this.debug = debug;
+        this.deploy = deploy;
+        this.devLogRunning = devLogRunning;
+        this.deployLogRunning = deployLogRunning;
+        this.localPodmanPresent = localPodmanPresent;
+    }
+
+    public boolean hasContext() {
+        return context;
+    }
+
+    public boolean isSupported(ComponentFeature.Mode mode) {
+        return supportedFeatures.contains(mode);
+    }
+
+    /**
+     * Returns {@code true} if the component is running the given feature.
+     * Only the features that the actions start and stop are known (dev on cluster, dev on podman, debug, deploy).
+     */
+    public boolean is(ComponentFeature feature) {
+        if (ComponentFeature.DEV.equals(feature)) {
+            return dev;
+        } else if (ComponentFeature.DEV_ON_PODMAN.equals(feature)) {
+            return devOnPodman;
+        } else if (ComponentFeature.DEPLOY.equals(feature)) {
+            return deploy;
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if the component is running in dev mode, on the cluster or on podman.
+     */
+    public boolean isDev() {
+        return dev || devOnPodman;
+    }
+
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public boolean isDeploy() {
+        return deploy;
+    }
+
+    /**
+     * Returns {@code true} if the log of the given mode is shown already.
+     *
+     * @param deploy {@code true} for the log of deploy mode, {@code false} for the log of dev and debug mode
+     */
+    public boolean isLogRunning(boolean deploy) {
+        return deploy ? deployLogRunning : devLogRunning;
+    }
+
+    /**
+     * Returns the platform that the component runs on in dev mode, {@code null} for the cluster.
+     */
+    public String getPlatform() {
+        return devOnPodman ? ComponentFeature.Constants.PODMAN : null;
+    }
+
+    public boolean isLocalPodmanPresent() {
+        return localPodmanPresent;
+    }
+}
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.tree.application;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.components.StoragePathMacros;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentDescriptor;
+import org.jboss.tools.intellij.openshift.utils.odo.DescribeComponentCache;
+import org.jboss.tools.intellij.openshift.utils.odo.Odo;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * The odo components that exist in the modules of a project.
+ * Odo is only run for the module roots that contain a devfile and only if the devfile changed since the root was
+ * last discovered. The roots are discovered in parallel with a bounded parallelism. The discovered components are
+ * persisted in the workspace so that they're known as soon as the project is opened again.
+ */
+@Service(Service.Level.PROJECT)
+@State(name = "OpenShiftComponentDiscovery", storages = @Storage(StoragePathMacros.WORKSPACE_FILE))
+public final class ComponentDiscovery implements PersistentStateComponent<ComponentDiscovery.DiscoveryState> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComponentDiscovery.class);
+
+    static final int PARALLELISM = 4;
+
+    public interface Listener {
+        /**
+         * Called when components were discovered or removed.
+         */
+        void componentsChanged();
+    }
+
+    /**
+     * The roots that were discovered, by path. A root where odo didn't find any component is stored without a name
+     * so that odo is not run for it again until its devfile changes.
+     */
+    private final Map<String, DiscoveredRoot> roots = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+
+    public ComponentDiscovery() {
+        this(AppExecutorUtil.createBoundedApplicationPoolExecutor("OpenShift Component Discovery", PARALLELISM));
+    }
+
+    ComponentDiscovery(Executor executor) {
+        this.executor = executor;
+    }
+
+    public static ComponentDiscovery getInstance(Project project) {
+        return project.getService(ComponentDiscovery.class);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the components that were discovered, by path.
+     */
+    public Map<String, ComponentDescriptor> getComponents() {
+        Map<String, ComponentDescriptor> components = new HashMap<>();
+        roots.forEach((path, root) -> {
+            if (root.name != null) {
+                components.put(path, root.toDescriptor(path));
+            }
+        });
+        return components;
+    }
+
+    /**
+     * Discovers the components in the given roots. Roots without a devfile are not passed to odo and the components
+     * that were discovered in them before are removed. Roots whose devfile did not change since they were discovered
+     * keep their components.
+     *
+     * @param odo the odo to discover with, roots are only removed if {@code null}
+     * @param candidates the roots to discover
+     * @return the components that were discovered
+     */
+    public CompletableFuture<List<ComponentDescriptor>> discover(Odo odo, Collection<VirtualFile> candidates) {
+        boolean removed = false;
+        List<CompletableFuture<List<ComponentDescriptor>>> discoveries = new ArrayList<>();
+        for (VirtualFile candidate : candidates) {
+            if (candidate == null || !candidate.isValid()) {
+                continue;
+            }
+            String path = toPath(candidate);
+            VirtualFile devfile = getDevfile(candidate);
+            if (devfile == null) {
+                removed |= roots.remove(path) != null;
+            } else if (odo != null && !isUpToDate(path, devfile)) {
+                long timeStamp = devfile.getTimeStamp();
+                discoveries.add(CompletableFuture.supplyAsync(() -> discover(odo, path, timeStamp), executor));
+            }
+        }
+        if (removed) {
+            fireChanged();
+        }
+        return CompletableFuture.allOf(discoveries.toArray(new CompletableFuture[0]))
+            .thenApply(v -> {
+                List<ComponentDescriptor> discovered = discoveries.stream()
+                    .flatMap(discovery -> discovery.join().stream())
+                    .collect(Collectors.toList());
+                if (!discovered.isEmpty()) {
+                    fireChanged();
+                }
+                return discovered;
+            });
+    }
+
+    private List<ComponentDescriptor> discover(Odo odo, String path, long timeStamp) {
+        try {
+            List<ComponentDescriptor> descriptors = odo.discover(path);
+            if (descriptors.isEmpty()) {
+                roots.put(path, new DiscoveredRoot(timeStamp));
+            }
+            descriptors.forEach(descriptor -> roots.put(descriptor.getPath(), new DiscoveredRoot(descriptor, timeStamp)));
+            return descriptors;
+        } catch (IOException e) {
+            //filter out some common exception when no logged or no authorizations
+            if (ApplicationsRootNode.shouldLogMessage(e.getMessage())) {
+                LOGGER.warn(e.getLocalizedMessage(), e);
+            }
+            return Collections.emptyList();
+        }
+    }
+
+    private boolean isUpToDate(String path, VirtualFile devfile) {
+        DiscoveredRoot root = roots.get(path);
+        return root != null
+            && root.devfileTimeStamp == devfile.getTimeStamp();
+    }
+
+    /**
+     * Removes the components that were discovered in the given root.
+     *
+     * @return {@code true} if there were components in the given root
+     */
+    public boolean remove(String path) {
+        boolean removed = roots.remove(path) != null;
+        if (removed) {
+            fireChanged();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the components that are not in one of the given roots (ex. modules that were removed while the project
+     * was closed).
+     */
+    public void retain(Collection<VirtualFile> candidates) {
+        Set<String> paths = candidates.stream()
+            .filter(candidate -> candidate != null && candidate.isValid())
+            .map(ComponentDiscovery::toPath)
+            .collect(Collectors.toCollection(HashSet::new));
+        if (roots.keySet().retainAll(paths)) {
+            fireChanged();
+        }
+    }
+
+    private void fireChanged() {
+        listeners.forEach(Listener::componentsChanged);
+    }
+
+    /**
+     * Returns the devfile that is in the given directory, {@code null} if there's none.
+     */
+    static VirtualFile getDevfile(VirtualFile directory) {
+        for (String name : DescribeComponentCache.DEVFILE_NAMES) {
+            VirtualFile devfile = directory.findChild(name);
+            if (devfile != null && !devfile.isDirectory()) {
+                return devfile;
+            }
+        }
+        return null;
+    }
+
+    static String toPath(VirtualFile root) {
+        return root.toNioPath().toString();
+    }
+
+    @Override
+    public DiscoveryState getState() {
+        DiscoveryState state = new DiscoveryState();
+        state.roots.putAll(roots);
+        return state;
+    }
+
+    @Override
+    public void loadState(@NotNull DiscoveryState state) {
+        roots.clear();
+        roots.putAll(state.roots);
+    }
+
+    public static class DiscoveryState {
+        public Map<String, DiscoveredRoot> roots = new TreeMap<>();
+    }
+
+    public static class DiscoveredRoot {
+        public String name;
+        public String managedBy;
+        public String managedByVersion;
+        /**
+         * The time stamp of the devfile when the root was discovered.
+         */
+        public long devfileTimeStamp;
+
+        public DiscoveredRoot() {
+            // for serialization
+        }
+
+        DiscoveredRoot(long devfileTimeStamp) {
+            this.devfileTimeStamp = devfileTimeStamp;
+        }
+
+        DiscoveredRoot(ComponentDescriptor descriptor, long devfileTimeStamp) {
+            this.name = descriptor.getName();
+            this.managedBy = descriptor.getManagedBy();
+            this.managedByVersion = descriptor.getManagedByVersion();
+            this.devfileTimeStamp = devfileTimeStamp;
+        }
+
+        ComponentDescriptor toDescriptor(String path) {
+            return new ComponentDescriptor(name, path, managedBy, managedByVersion);
+        }
+    }
+}
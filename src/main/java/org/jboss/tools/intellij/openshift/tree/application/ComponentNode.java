@@ -11,16 +11,38 @@
 package org.jboss.tools.intellij.openshift.tree.application;
 
 import org.jboss.tools.intellij.openshift.utils.odo.Component;
+import org.jboss.tools.intellij.openshift.utils.odo.Odo;
 
 public class ComponentNode extends BaseNode<NamespaceNode> {
   private final Component component;
+  private volatile ComponentActionState actionState;
 
   public ComponentNode(NamespaceNode parent, Component component) {
+    this(parent, component, null);
+  }
+
+  public ComponentNode(NamespaceNode parent, Component component, Odo odo) {
     super(parent.getRoot(), parent, component.getName());
     this.component = component;
+    this.actionState = ComponentActionState.of(component, odo);
   }
 
   public Component getComponent() {
     return component;
   }
+
+  /**
+   * Returns the state that actions depend on, as it was when this node was last updated.
+   * Never queries odo, it is safe to call in the UI thread.
+   */
+  public ComponentActionState getActionState() {
+    return actionState;
+  }
+
+  /**
+   * Updates the state that actions depend on. Should not be called in the UI thread.
+   */
+  public void updateActionState(Odo odo) {
+    this.actionState = ComponentActionState.of(component, odo);
+  }
 }
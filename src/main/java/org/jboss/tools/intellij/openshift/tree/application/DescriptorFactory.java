@@ -13,6 +13,7 @@ package org.jboss.tools.intellij.openshift.tree.application;
 import com.intellij.ide.util.treeView.NodeDescriptor;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.IconLoader;
+import com.intellij.ui.AnimatedIcon;
 import com.redhat.devtools.intellij.common.tree.LabelAndIconDescriptor;
 import org.jboss.tools.intellij.openshift.ui.SwingUtils;
 import org.jboss.tools.intellij.openshift.ui.helm.ChartIcons;
@@ -113,6 +114,13 @@ public class DescriptorFactory {
         binding::getName,
         () -> "Bound to " + binding.getService().getName(),
         () -> null, parentDescriptor);
+    } else if (element instanceof LoadingNode) {
+      return new LabelAndIconDescriptor<>(
+        project,
+        (LoadingNode) element,
+        ((LoadingNode) element).getName(),
+        AnimatedIcon.Default.INSTANCE,
+        parentDescriptor);
     } else if (element instanceof MessageNode) {
       return new LabelAndIconDescriptor<>(
         project,
@@ -0,0 +1,20 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.tree.application;
+
+/**
+ * A placeholder for children that are still being loaded.
+ */
+public class LoadingNode extends MessageNode<NamespaceNode> {
+    protected LoadingNode(ApplicationsRootNode root, NamespaceNode parent, String name) {
+        super(root, parent, name);
+    }
+}
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.tree.application;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Loads the children of a namespace from several sources (ex. components, services, helm releases) in parallel.
+ * The children of a source are shown as soon as the source completed, a {@link LoadingNode} is shown in their place
+ * while it's still loading. A source that takes longer than the timeout once it started is cancelled and shown as an
+ * error. Cancelling interrupts the loader, which stops the cli process that it may be waiting for.
+ * <p>
+ * The tree is notified of each completed source and then queries the children again, which returns the children
+ * that were loaded so far. The children are kept until they're {@link #invalidate(NamespaceNode) invalidated},
+ * the next query then loads them again.
+ */
+public class NamespaceChildrenLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NamespaceChildrenLoader.class);
+
+    /**
+     * time to wait for the sources before placeholders are returned, so that fast sources don't flicker
+     */
+    static final long INITIAL_WAIT = 300;
+    static final long SOURCE_TIMEOUT = 30_000;
+
+    /**
+     * A source of children of a namespace.
+     */
+    public static class Source {
+
+        private final String label;
+        private final Callable<List<?>> loader;
+        private final String errorMessage;
+
+        /**
+         * @param label the label of the children (ex. "components"), shown while they're loading
+         * @param loader the loader of the children
+         * @param errorMessage the message that's shown if the children could not be loaded
+         */
+        public Source(String label, Callable<List<?>> loader, String errorMessage) {
+            this.label = label;
+            this.loader = loader;
+            this.errorMessage = errorMessage;
+        }
+    }
+
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<NamespaceNode> onLoaded;
+    private final long initialWait;
+    private final long timeout;
+    private final Map<NamespaceNode, Load> loads = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public NamespaceChildrenLoader(Executor executor, Consumer<NamespaceNode> onLoaded) {
+        this(executor, AppExecutorUtil.getAppScheduledExecutorService(), onLoaded, INITIAL_WAIT, SOURCE_TIMEOUT);
+    }
+
+    NamespaceChildrenLoader(Executor executor, ScheduledExecutorService scheduler, Consumer<NamespaceNode> onLoaded,
+                            long initialWait, long timeout) {
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.onLoaded = onLoaded;
+        this.initialWait = initialWait;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the children of the given namespace that were loaded so far, with placeholders for the sources
+     * that are still loading. Starts loading if the children were not loaded yet.
+     *
+     * @param namespace the namespace to return the children of
+     * @param sources the sources to load the children from if a new load is started
+     * @return the children
+     */
+    public Object[] getChildren(NamespaceNode namespace, List<Source> sources) {
+        Load load;
+        boolean started = false;
+        synchronized (loads) {
+            load = loads.get(namespace);
+            if (load == null) {
+                load = new Load(namespace, sources);
+                loads.put(namespace, load);
+                started = true;
+            }
+        }
+        if (started) {
+            load.start();
+            load.await(initialWait);
+        }
+        return load.getChildren();
+    }
+
+    /**
+     * Returns the children of the given namespace that were loaded already, without the placeholders.
+     * Doesn't start loading.
+     *
+     * @param namespace the namespace to return the children of
+     * @return the children
+     */
+    public List<Object> getLoadedChildren(NamespaceNode namespace) {
+        Load load = loads.get(namespace);
+        if (load == null) {
+            return Collections.emptyList();
+        }
+        return load.getLoaded();
+    }
+
+    /**
+     * Discards the children that are loaded for the given namespace. The next query loads them again.
+     *
+     * @param namespace the namespace whose children are outdated
+     */
+    public void invalidate(NamespaceNode namespace) {
+        loads.remove(namespace);
+    }
+
+    private boolean isCurrent(Load load) {
+        return loads.get(load.namespace) == load;
+    }
+
+    private class Load {
+
+        private final NamespaceNode namespace;
+        private final List<Source> sources;
+        private final List<LoadingNode> placeholders = new ArrayList<>();
+        private final AtomicReferenceArray<List<?>> children;
+        private final CountDownLatch remaining;
+
+        private Load(NamespaceNode namespace, List<Source> sources) {
+            this.namespace = namespace;
+            this.sources = sources;
+            this.children = new AtomicReferenceArray<>(sources.size());
+            this.remaining = new CountDownLatch(sources.size());
+            sources.forEach(source -> placeholders.add(
+                new LoadingNode(namespace.getRoot(), namespace, "Loading " + source.label + "...")));
+        }
+
+        private void start() {
+            for (int i = 0; i < sources.size(); i++) {
+                int index = i;
+                Source source = sources.get(i);
+                FutureTask<List<?>> load = new FutureTask<>(source.loader) {
+                    @Override
+                    protected void done() {
+                        completed(index, getResult(source, this));
+                    }
+                };
+                executor.execute(() -> {
+                    ScheduledFuture<?> timer = scheduler.schedule(() -> load.cancel(true), timeout, TimeUnit.MILLISECONDS);
+                    try {
+                        load.run();
+                    } finally {
+                        timer.cancel(false);
+                    }
+                });
+            }
+        }
+
+        private List<?> getResult(Source source, FutureTask<List<?>> load) {
+            try {
+                return load.get();
+            } catch (CancellationException e) {
+                LOGGER.warn("Loading {} of namespace {} timed out.", source.label, namespace.getName());
+                return onError(source, source.errorMessage + ": timed out");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return onError(source, source.errorMessage);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                LOGGER.warn(cause.getLocalizedMessage(), cause);
+                return onError(source, source.errorMessage);
+            }
+        }
+
+        private List<?> onError(Source source, String message) {
+            return Collections.singletonList(new MessageNode<>(namespace.getRoot(), namespace, message));
+        }
+
+        private void completed(int index, List<?> loaded) {
+            if (!children.compareAndSet(index, null, loaded)) {
+                return;
+            }
+            remaining.countDown();
+            if (isCurrent(this)) {
+                onLoaded.accept(namespace);
+            }
+        }
+
+        private void await(long millis) {
+            try {
+                remaining.await(millis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private List<Object> getLoaded() {
+            List<Object> nodes = new ArrayList<>();
+            for (int i = 0; i < sources.size(); i++) {
+                List<?> loaded = children.get(i);
+                if (loaded != null) {
+                    nodes.addAll(loaded);
+                }
+            }
+            return nodes;
+        }
+
+        private Object[] getChildren() {
+            List<Object> nodes = new ArrayList<>();
+            for (int i = 0; i < sources.size(); i++) {
+                List<?> loaded = children.get(i);
+                if (loaded == null) {
+                    nodes.add(placeholders.get(i));
+                } else {
+                    nodes.addAll(loaded);
+                }
+            }
+            return nodes.toArray();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.components.JBPanel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.Alarm;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.table.AbstractTableModel;
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Shows the {@link CallStatistics} of the calls to odo, helm and the cluster. The statistics are updated while the panel is showing.
+ */
+public class CallStatisticsPanel extends JBPanel<CallStatisticsPanel> implements Disposable {
+
+  private static final int REFRESH_DELAY = 2000;
+  private static final String EXPORT_FILE_NAME = "openshift-call-statistics.json";
+
+  private final Project project;
+  private final CallStatisticsModel model = new CallStatisticsModel();
+  private final Alarm refreshAlarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, this);
+
+  public CallStatisticsPanel(Project project) {
+    super(new BorderLayout());
+    this.project = project;
+    initComponents();
+    scheduleRefresh();
+  }
+
+  private void initComponents() {
+    JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT));
+    JButton refresh = new JButton("Refresh");
+    refresh.addActionListener(e -> refresh());
+    buttons.add(refresh);
+    JButton reset = new JButton("Reset");
+    reset.addActionListener(e -> {
+      CallStatistics.getInstance().reset();
+      refresh();
+    });
+    buttons.add(reset);
+    JButton export = new JButton("Export JSON...");
+    export.addActionListener(e -> export());
+    buttons.add(export);
+    add(buttons, BorderLayout.NORTH);
+
+    JBTable table = new JBTable(model);
+    table.setAutoCreateRowSorter(true);
+    add(new JBScrollPane(table), BorderLayout.CENTER);
+    refresh();
+  }
+
+  private void scheduleRefresh() {
+    refreshAlarm.addRequest(() -> {
+      if (isShowing()) {
+        refresh();
+      }
+      scheduleRefresh();
+    }, REFRESH_DELAY);
+  }
+
+  private void refresh() {
+    model.setEntries(CallStatistics.getInstance().getEntries());
+  }
+
+  private void export() {
+    FileSaverDescriptor descriptor = new FileSaverDescriptor("Export Call Statistics", "Export the call statistics as JSON", "json");
+    VirtualFileWrapper wrapper = FileChooserFactory.getInstance()
+      .createSaveFileDialog(descriptor, project)
+      .save(EXPORT_FILE_NAME);
+    if (wrapper == null) {
+      return;
+    }
+    try {
+      Files.writeString(wrapper.getFile().toPath(), CallStatistics.getInstance().toJson(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      Messages.showErrorDialog(project, "Could not export call statistics: " + e.getLocalizedMessage(), "Export Call Statistics");
+    }
+  }
+
+  @Override
+  public void dispose() {
+    // alarm is disposed with this panel
+  }
+
+  private static class CallStatisticsModel extends AbstractTableModel {
+
+    private static final String[] COLUMNS = {
+      "Call", "Count", "Failures", "UI Thread", "p50 (ms)", "p90 (ms)", "p99 (ms)", "Max (ms)", "Total (ms)", "Output (bytes)",
+      "Reused", "Coalesced", "Results"};
+
+    private List<CallStatistics.Entry> entries = Collections.emptyList();
+
+    private void setEntries(List<CallStatistics.Entry> entries) {
+      this.entries = entries;
+      fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+      return entries.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+      return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+      return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+      return column == 0 || column == COLUMNS.length - 1 ? String.class : Long.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+      CallStatistics.Entry entry = entries.get(row);
+      switch (column) {
+        case 0:
+          return entry.getName();
+        case 1:
+          return entry.getCount();
+        case 2:
+          return entry.getFailures();
+        case 3:
+          return entry.getDispatchThreadCount();
+        case 4:
+          return entry.getPercentileMillis(50);
+        case 5:
+          return entry.getPercentileMillis(90);
+        case 6:
+          return entry.getPercentileMillis(99);
+        case 7:
+          return entry.getMaxMillis();
+        case 8:
+          return entry.getTotalMillis();
+        case 9:
+          return entry.getOutputSize();
+        case 10:
+          return entry.getReused();
+        case 11:
+          return entry.getCoalesced();
+        default:
+          return entry.getResults().entrySet().stream()
+            .map(result -> result.getKey() + ": " + result.getValue())
+            .collect(Collectors.joining(", "));
+      }
+    }
+  }
+}
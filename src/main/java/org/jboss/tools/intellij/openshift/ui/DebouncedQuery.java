@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.ui.DocumentAdapter;
+import com.intellij.util.Alarm;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Runs a query for the text that the user types once the typing settled.
+ * The query runs in a pooled thread, the result is published in the UI thread.
+ * A query that is superseded by a newer one is told to stop and its result is dropped.
+ *
+ * @param <R> the type of the query result
+ */
+public class DebouncedQuery<R> {
+
+  public static final int DEFAULT_DELAY = 150;
+
+  @FunctionalInterface
+  public interface Query<R> {
+    /**
+     * Runs the query for the given text.
+     *
+     * @param text the text to query for
+     * @param cancelled returns {@code true} once the query is superseded and should stop
+     * @return the result of the query
+     */
+    R run(String text, BooleanSupplier cancelled);
+  }
+
+  /**
+   * Runs the queries once their delay passed and publishes their results.
+   */
+  interface Scheduler {
+    /**
+     * Runs the given query after the given delay. Queries that are pending are not run.
+     */
+    void schedule(Runnable query, int delay);
+
+    /**
+     * Drops the queries that are pending.
+     */
+    void cancel();
+
+    /**
+     * Returns the executor that publishes the results of the queries that are requested now.
+     */
+    Executor getPublisher();
+  }
+
+  private final Query<R> query;
+  private final Consumer<R> publisher;
+  private final int delay;
+  private final Scheduler scheduler;
+  private final AtomicLong generation = new AtomicLong();
+
+  public DebouncedQuery(Query<R> query, Consumer<R> publisher, Disposable parent) {
+    this(query, publisher, DEFAULT_DELAY, parent);
+  }
+
+  public DebouncedQuery(Query<R> query, Consumer<R> publisher, int delay, Disposable parent) {
+    this(query, publisher, delay, new AlarmScheduler(parent));
+  }
+
+  DebouncedQuery(Query<R> query, Consumer<R> publisher, int delay, Scheduler scheduler) {
+    this.query = query;
+    this.publisher = publisher;
+    this.delay = delay;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Runs the query whenever the given document changes. Runs it right away for the current text.
+   *
+   * @param document the document that holds the text to query for
+   */
+  public void usingInput(Document document) {
+    document.addDocumentListener(new DocumentAdapter() {
+      @Override
+      protected void textChanged(@NotNull DocumentEvent e) {
+        request(getText(document));
+      }
+    });
+    request(getText(document), 0);
+  }
+
+  public void request(String text) {
+    request(text, delay);
+  }
+
+  /**
+   * Drops the query that is pending or running.
+   */
+  public void cancel() {
+    generation.incrementAndGet();
+    scheduler.cancel();
+  }
+
+  private void request(String text, int delay) {
+    long current = generation.incrementAndGet();
+    Executor resultPublisher = scheduler.getPublisher();
+    scheduler.cancel();
+    scheduler.schedule(() -> run(text, current, resultPublisher), delay);
+  }
+
+  private void run(String text, long current, Executor resultPublisher) {
+    BooleanSupplier cancelled = () -> generation.get() != current;
+    R result = query.run(text, cancelled);
+    if (cancelled.getAsBoolean()) {
+      return;
+    }
+    resultPublisher.execute(() -> {
+      if (!cancelled.getAsBoolean()) {
+        publisher.accept(result);
+      }
+    });
+  }
+
+  private static String getText(Document document) {
+    try {
+      return document.getText(0, document.getLength());
+    } catch (BadLocationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Runs the queries in a pooled thread and publishes the results in the UI thread, in the modality that the query
+   * was requested in.
+   */
+  private static class AlarmScheduler implements Scheduler {
+
+    private final Alarm alarm;
+
+    private AlarmScheduler(Disposable parent) {
+      this.alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, parent);
+    }
+
+    @Override
+    public void schedule(Runnable query, int delay) {
+      alarm.addRequest(query, delay);
+    }
+
+    @Override
+    public void cancel() {
+      alarm.cancelAllRequests();
+    }
+
+    @Override
+    public Executor getPublisher() {
+      ModalityState modality = ModalityState.defaultModalityState();
+      return runnable -> ApplicationManager.getApplication().invokeLater(runnable, modality);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.components.JBPanel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.Alarm;
+import org.jboss.tools.intellij.openshift.utils.odo.OdoProcessRegistry;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.table.AbstractTableModel;
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shows the odo sessions of a project ({@link OdoProcessRegistry}) and what they cost.
+ * The sessions are updated while the panel is showing.
+ */
+public class OdoSessionsPanel extends JBPanel<OdoSessionsPanel> implements Disposable {
+
+  private static final int REFRESH_DELAY = 2000;
+
+  private final OdoProcessRegistry processes;
+  private final OdoSessionsModel model = new OdoSessionsModel();
+  private final Alarm refreshAlarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, this);
+  private JBTable table;
+
+  public OdoSessionsPanel(Project project) {
+    super(new BorderLayout());
+    this.processes = OdoProcessRegistry.getInstance(project);
+    initComponents();
+    scheduleRefresh();
+  }
+
+  private void initComponents() {
+    JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT));
+    JButton refresh = new JButton("Refresh");
+    refresh.addActionListener(e -> refresh());
+    buttons.add(refresh);
+    JButton stop = new JButton("Stop");
+    stop.addActionListener(e -> stopSelected());
+    buttons.add(stop);
+    add(buttons, BorderLayout.NORTH);
+
+    this.table = new JBTable(model);
+    table.setAutoCreateRowSorter(true);
+    add(new JBScrollPane(table), BorderLayout.CENTER);
+    refresh();
+  }
+
+  private void scheduleRefresh() {
+    refreshAlarm.addRequest(() -> {
+      if (isShowing()) {
+        refresh();
+      }
+      scheduleRefresh();
+    }, REFRESH_DELAY);
+  }
+
+  private void refresh() {
+    model.setSessions(processes.getSessions());
+  }
+
+  private void stopSelected() {
+    for (int row : table.getSelectedRows()) {
+      processes.stop(model.sessions.get(table.convertRowIndexToModel(row)));
+    }
+    refresh();
+  }
+
+  @Override
+  public void dispose() {
+    // alarm is disposed with this panel
+  }
+
+  private static class OdoSessionsModel extends AbstractTableModel {
+
+    private static final String[] COLUMNS = {
+      "Component", "Session", "PID", "Uptime (s)", "CPU Time (ms)", "CPU (%)", "Memory (MB)", "Output (chars)", "Output (chars/s)"};
+
+    private List<OdoProcessRegistry.Session> sessions = Collections.emptyList();
+
+    private void setSessions(List<OdoProcessRegistry.Session> sessions) {
+      this.sessions = sessions;
+      fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+      return sessions.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+      return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+      return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+      return column <= 1 ? String.class : Long.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+      OdoProcessRegistry.Session session = sessions.get(row);
+      switch (column) {
+        case 0:
+          return session.getComponent();
+        case 1:
+          return session.getName();
+        case 2:
+          return known(session.getPid());
+        case 3:
+          return session.getUptimeMillis() / 1000;
+        case 4:
+          return known(session.getCpuTimeMillis());
+        case 5:
+          return known(session.getCpuLoad());
+        case 6:
+          return session.getMemory() == OdoProcessRegistry.UNKNOWN ? null : session.getMemory() / (1024 * 1024);
+        case 7:
+          return session.getOutput();
+        default:
+          return known(session.getOutputRate());
+      }
+    }
+
+    /**
+     * Returns {@code null} for values that could not be sampled so that the cell is empty.
+     */
+    private static Long known(long value) {
+      return value == OdoProcessRegistry.UNKNOWN ? null : value;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui.helm;
+
+import com.intellij.openapi.extensions.ExtensionPointName;
+import com.intellij.openapi.extensions.PluginAware;
+import com.intellij.openapi.extensions.PluginDescriptor;
+import com.intellij.openapi.util.IconLoader;
+import com.intellij.util.xmlb.annotations.Attribute;
+
+import javax.swing.Icon;
+
+/**
+ * An icon for the helm charts whose name or description contain the given key (ignoring case).
+ * The icon is loaded from the plugin that contributes the extension.
+ */
+public class ChartIconExtensionPoint implements PluginAware {
+  public static final ExtensionPointName<ChartIconExtensionPoint> EP_NAME = ExtensionPointName.create("org.jboss.tools.intellij.openshift.chartIcon");
+
+  @Attribute
+  private String key;
+
+  @Attribute
+  private String icon;
+
+  private PluginDescriptor plugin;
+
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public String getIcon() {
+    return icon;
+  }
+
+  public void setIcon(String icon) {
+    this.icon = icon;
+  }
+
+  public Icon loadIcon() {
+    ClassLoader classLoader = plugin != null && plugin.getPluginClassLoader() != null ?
+      plugin.getPluginClassLoader() : ChartIconExtensionPoint.class.getClassLoader();
+    return IconLoader.getIcon(icon, classLoader);
+  }
+
+  @Override
+  public void setPluginDescriptor(PluginDescriptor pluginDescriptor) {
+    this.plugin = pluginDescriptor;
+  }
+}
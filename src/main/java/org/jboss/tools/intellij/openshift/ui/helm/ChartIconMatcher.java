@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui.helm;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds the keys that occur in a text, ignoring case. The keys are compiled once into an
+ * Aho-Corasick automaton so that a text is matched against all keys in a single pass,
+ * without lowercasing or copying it.
+ */
+class ChartIconMatcher {
+
+  static final int NO_MATCH = -1;
+
+  private final Node root = new Node();
+
+  /**
+   * Creates a matcher for the given keys. The index of a key is its priority, the lower the index the higher the priority.
+   *
+   * @param keys the keys to match
+   */
+  ChartIconMatcher(List<String> keys) {
+    for (int i = 0; i < keys.size(); i++) {
+      add(keys.get(i).toLowerCase(Locale.ROOT), i);
+    }
+    link();
+  }
+
+  private void add(String key, int index) {
+    if (key.isEmpty()) {
+      return;
+    }
+    Node node = root;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+    }
+    node.match = Math.min(node.match, index);
+  }
+
+  /**
+   * Links each node to the node of its longest proper suffix and propagates the matches of the suffixes.
+   */
+  private void link() {
+    Queue<Node> queue = new ArrayDeque<>();
+    for (Node child : root.children.values()) {
+      child.fail = root;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      Node node = queue.remove();
+      for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+        Node child = entry.getValue();
+        Node fail = node.fail;
+        while (fail != root
+          && !fail.children.containsKey(entry.getKey())) {
+          fail = fail.fail;
+        }
+        child.fail = fail.children.getOrDefault(entry.getKey(), root);
+        child.match = Math.min(child.match, child.fail.match);
+        queue.add(child);
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the key with the highest priority that occurs in the given texts.
+   * The texts are matched as if they were concatenated, {@code null} texts are skipped.
+   *
+   * @param texts the texts to match
+   * @return the index of the matching key or {@link #NO_MATCH}
+   */
+  int match(CharSequence... texts) {
+    int match = Integer.MAX_VALUE;
+    Node node = root;
+    for (CharSequence text : texts) {
+      if (text == null) {
+        continue;
+      }
+      for (int i = 0; i < text.length() && match > 0; i++) {
+        char c = Character.toLowerCase(text.charAt(i));
+        Node next;
+        while ((next = node.children.get(c)) == null
+          && node != root) {
+          node = node.fail;
+        }
+        node = next == null ? root : next;
+        match = Math.min(match, node.match);
+      }
+    }
+    return match == Integer.MAX_VALUE ? NO_MATCH : match;
+  }
+
+  private static class Node {
+    private final Map<Character, Node> children = new HashMap<>();
+    private Node fail;
+    private int match = Integer.MAX_VALUE;
+  }
+}
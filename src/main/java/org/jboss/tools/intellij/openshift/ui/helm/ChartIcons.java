@@ -10,39 +10,124 @@
  ******************************************************************************/
 package org.jboss.tools.intellij.openshift.ui.helm;
 
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.util.Pair;
 import com.intellij.ui.IconManager;
 import org.jboss.tools.intellij.openshift.utils.helm.ChartRelease;
 
 import javax.swing.Icon;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * The icons of helm charts. A chart gets the icon of the first {@link IconExpression} (or {@link ChartIconExtensionPoint}
+ * contributed by a plugin) whose key is contained in its name or description.
+ * The charts are matched against all keys in a single pass and the icon of a chart is cached, given that
+ * icons are requested each time a chart is rendered.
+ */
 public class ChartIcons {
 
   private static final Path BASE_PATH = Paths.get("images", "helm");
   private static final String HELM_ICON = "helm.png";
+  private static final int CACHE_SIZE = 4096;
+
+  private static final Map<Pair<String, String>, Icon> ICONS = Collections.synchronizedMap(
+    new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Pair<String, String>, Icon> eldest) {
+        return size() > CACHE_SIZE;
+      }
+    });
+
+  private static volatile Matcher matcher;
+  private static boolean listening;
 
   public static Icon getHelmIcon() {
     return IconManager.getInstance().getIcon(BASE_PATH.resolve(HELM_ICON).toString(), ChartIcons.class);
   }
 
   public static Icon getIcon(ChartVersions chart) {
-    return getIcon(chart.getName() + chart.getDescription());
+    return getIcon(chart.getName(), chart.getDescription());
   }
 
   public static Icon getIcon(ChartRelease chart) {
-    return getIcon(chart.getChart());
+    return getIcon(chart.getChart(), null);
+  }
+
+  private static Icon getIcon(String name, String description) {
+    return ICONS.computeIfAbsent(Pair.create(name, description),
+      key -> getMatcher().getIcon(name, description));
   }
 
-  private static Icon getIcon(String name) {
-    Optional<IconExpression> found = Stream.of(IconExpression.values())
-      .filter((IconExpression available) -> available.isMatching(name))
-      .findFirst();
-    return found
-      .map(iconExpression -> IconManager.getInstance().getIcon(iconExpression.filename, ChartIcons.class))
-      .orElseGet(ChartIcons::getHelmIcon);
+  private static Matcher getMatcher() {
+    Matcher current = matcher;
+    if (current == null) {
+      synchronized (ChartIcons.class) {
+        current = matcher;
+        if (current == null) {
+          current = new Matcher(getExtensions());
+          matcher = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private static List<ChartIconExtensionPoint> getExtensions() {
+    if (ApplicationManager.getApplication() == null) {
+      return Collections.emptyList();
+    }
+    if (!listening) {
+      ChartIconExtensionPoint.EP_NAME.addChangeListener(ChartIcons::reset, null);
+      listening = true;
+    }
+    return ChartIconExtensionPoint.EP_NAME.getExtensionList();
+  }
+
+  /**
+   * Drops the matcher and the cached icons so that they're rebuilt including the extensions that were (un)loaded.
+   */
+  private static void reset() {
+    synchronized (ChartIcons.class) {
+      matcher = null;
+      ICONS.clear();
+    }
+  }
+
+  private static class Matcher {
+
+    private final ChartIconMatcher keys;
+    private final List<Supplier<Icon>> icons = new ArrayList<>();
+
+    private Matcher(List<ChartIconExtensionPoint> extensions) {
+      List<String> keys = new ArrayList<>();
+      for (IconExpression expression : IconExpression.values()) {
+        keys.add(expression.substring);
+        icons.add(() -> IconManager.getInstance().getIcon(expression.filename, ChartIcons.class));
+      }
+      for (ChartIconExtensionPoint extension : extensions) {
+        if (extension.getKey() != null
+          && extension.getIcon() != null) {
+          keys.add(extension.getKey());
+          icons.add(extension::loadIcon);
+        }
+      }
+      this.keys = new ChartIconMatcher(keys);
+    }
+
+    private Icon getIcon(String name, String description) {
+      int match = keys.match(name, description);
+      if (match == ChartIconMatcher.NO_MATCH) {
+        return getHelmIcon();
+      }
+      return icons.get(match).get();
+    }
   }
 
   private enum IconExpression {
@@ -77,10 +162,5 @@ public class ChartIcons {
       this.filename = BASE_PATH.resolve(filename).toString();
       this.substring = substring;
     }
-
-    public boolean isMatching(String chartText) {
-      /* using regex was too slow, using simple substring matching */
-      return chartText.toLowerCase().contains(substring.toLowerCase());
-    }
   }
 }
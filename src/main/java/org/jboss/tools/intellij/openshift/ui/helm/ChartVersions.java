@@ -13,10 +13,13 @@ package org.jboss.tools.intellij.openshift.ui.helm;
 import com.intellij.openapi.util.Pair;
 import com.intellij.webcore.packaging.PackageVersionComparator;
 import org.jboss.tools.intellij.openshift.utils.helm.Chart;
+import org.jboss.tools.intellij.openshift.utils.helm.ChartCatalog;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class ChartVersions {
@@ -37,14 +40,28 @@ public class ChartVersions {
       .collect(Collectors.toList());
   }
 
+  public static List<ChartVersions> toChartVersions(final Collection<ChartCatalog.Entry> entries) {
+    return entries.stream()
+      .map(entry -> new ChartVersions(entry.getName(), entry.getDescription(), entry::getVersions))
+      .collect(Collectors.toList());
+  }
+
   private final String name;
   private final String description;
-  private final List<String> versions;
+  private final Supplier<List<String>> versionsSupplier;
+  private List<String> versions;
 
   public ChartVersions(final String name, final String description, final List<String> versions) {
+    this(name, description, () -> versions);
+  }
+
+  /**
+   * Creates chart versions whose versions are retrieved and sorted when they're first requested.
+   */
+  public ChartVersions(final String name, final String description, final Supplier<List<String>> versions) {
     this.name = name;
     this.description = description;
-    this.versions = sortVersions(versions);
+    this.versionsSupplier = versions;
   }
 
   public String getName() {
@@ -55,7 +72,10 @@ public class ChartVersions {
     return description;
   }
 
-  public List<String> getVersions() {
+  public synchronized List<String> getVersions() {
+    if (versions == null) {
+      this.versions = sortVersions(versionsSupplier.get());
+    }
     return versions;
   }
 
@@ -14,6 +14,7 @@ import com.intellij.find.SearchTextArea;
 import com.intellij.icons.AllIcons;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.OnePixelDivider;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.wm.IdeFocusManager;
 import com.intellij.ui.OnePixelSplitter;
 import com.intellij.ui.components.JBLabel;
@@ -27,11 +28,12 @@ import com.redhat.devtools.intellij.common.ui.UndecoratedDialog;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
 import javax.swing.ImageIcon;
 import javax.swing.JComponent;
 import javax.swing.JTable;
@@ -41,11 +43,12 @@ import javax.swing.event.ListSelectionListener;
 import javax.swing.table.DefaultTableModel;
 import net.miginfocom.swing.MigLayout;
 import org.jboss.tools.intellij.openshift.tree.application.ApplicationsRootNode;
+import org.jboss.tools.intellij.openshift.ui.DebouncedQuery;
 import org.jboss.tools.intellij.openshift.ui.StatusIcon;
 import org.jboss.tools.intellij.openshift.ui.SwingUtils;
-import org.jboss.tools.intellij.openshift.ui.TableRowFilterFactory;
-import org.jboss.tools.intellij.openshift.utils.helm.Chart;
+import org.jboss.tools.intellij.openshift.utils.helm.ChartCatalog;
 import org.jboss.tools.intellij.openshift.utils.helm.Helm;
+import org.jboss.tools.intellij.openshift.utils.helm.HelmCli;
 import org.jboss.tools.intellij.openshift.utils.odo.Odo;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -68,6 +71,7 @@ public class ChartsDialog extends UndecoratedDialog {
   private final Odo odo;
 
   private JBLabel title;
+  private JTextArea filterTextArea;
   private ChartsTableModel chartsTableModel;
   private JBTable chartsTable;
   private StatusIcon statusIcon;
@@ -111,7 +115,7 @@ public class ChartsDialog extends UndecoratedDialog {
     closeIcon.addMouseListener(onClose());
     panel.add(closeIcon, "aligny top, wrap");
 
-    JTextArea filterTextArea = new JBTextArea(1, 60);
+    this.filterTextArea = new JBTextArea(1, 60);
     SearchTextArea searchTextArea = new SearchTextArea(filterTextArea, true);
     searchTextArea.setBorder(createSearchTextBorders());
     panel.add(searchTextArea, "spanx, pushx, growx, wrap");
@@ -130,9 +134,6 @@ public class ChartsDialog extends UndecoratedDialog {
     chartsTable.setBorder(JBUI.Borders.empty(2, 2, 2, 0));
     JBScrollPane tableScrolledPane = SwingUtils.createScrollPane(chartsTable);
     tableScrolledPane.setBorder(JBUI.Borders.empty());
-    TableRowFilterFactory
-      .createOn(chartsTable)
-      .usingInput(filterTextArea.getDocument());
     splitter.setFirstComponent(tableScrolledPane);
 
     ChartPanels chartPanels = new ChartPanels(rootNode, getDisposable(), helm, odo);
@@ -200,22 +201,48 @@ public class ChartsDialog extends UndecoratedDialog {
     final StatusIcon statusIcon,
     final Helm helm) {
       return CompletableFuture
-        .supplyAsync((Supplier<List<Chart>>) () -> {
-          try {
-            return helm.search();
-          } catch (IOException e) {
-            LOGGER.warn("Could not load all helm charts.", e);
-            return Collections.emptyList();
-          }
-        }, EXECUTOR_BACKGROUND)
-        .thenAcceptAsync((charts) -> {
-          List<ChartVersions> chartVersions = toChartVersions(charts);
-          tableModel.setCharts(chartVersions);
-          table.setRowSelectionInterval(0, 0);
+        .supplyAsync(() -> loadCatalog(helm), EXECUTOR_BACKGROUND)
+        .thenAcceptAsync((catalog) -> {
+          new DebouncedQuery<>(
+            (String query, BooleanSupplier cancelled) -> toChartVersions(catalog.search(query)),
+            (List<ChartVersions> charts) -> setCharts(charts, table, tableModel),
+            getDisposable())
+            .usingInput(filterTextArea.getDocument());
           statusIcon.setEmpty();
         }, EXECUTOR_UI);
   }
 
+  /**
+   * Reads the charts from the repository indexes in the helm repository cache.
+   * Falls back to {@code helm search repo} if the cache cannot be read.
+   */
+  private ChartCatalog loadCatalog(Helm helm) {
+    try {
+      String repositoryCache = helm.env().get(HelmCli.HelmEnv.HELM_REPOSITORY_CACHE);
+      if (!StringUtil.isEmptyOrSpaces(repositoryCache)) {
+        ChartCatalog catalog = ChartCatalog.load(Paths.get(repositoryCache));
+        if (!catalog.isEmpty()) {
+          return catalog;
+        }
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Could not read helm repository cache, searching all charts instead.", e);
+    }
+    try {
+      return ChartCatalog.of(helm.search());
+    } catch (IOException e) {
+      LOGGER.warn("Could not load all helm charts.", e);
+      return ChartCatalog.of(Collections.emptyList());
+    }
+  }
+
+  private void setCharts(List<ChartVersions> charts, JTable table, ChartsTableModel tableModel) {
+    tableModel.setCharts(charts);
+    if (table.getRowCount() > 0) {
+      table.setRowSelectionInterval(0, 0);
+    }
+  }
+
   private static Border createSearchTextBorders() {
     return JBUI.Borders.compound(
       JBUI.Borders.customLine(JBUI.CurrentTheme.BigPopup.searchFieldBorderColor(), 1, 0, 1, 0),
@@ -234,6 +261,7 @@ public class ChartsDialog extends UndecoratedDialog {
       List<ChartVersions> charts = getCharts();
       charts.clear();
       charts.addAll(newCharts);
+      fireTableDataChanged();
     }
 
     @Override
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui.log;
+
+import com.intellij.execution.executors.DefaultRunExecutor;
+import com.intellij.execution.filters.TextConsoleBuilderFactory;
+import com.intellij.execution.ui.ConsoleView;
+import com.intellij.execution.ui.ConsoleViewContentType;
+import com.intellij.execution.ui.RunContentDescriptor;
+import com.intellij.execution.ui.RunContentManager;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.ui.SearchTextField;
+import com.intellij.ui.components.JBPanel;
+import com.intellij.util.Alarm;
+import org.jboss.tools.intellij.openshift.ui.DebouncedQuery;
+import org.jboss.tools.intellij.openshift.utils.odo.LogBuffer;
+import org.jboss.tools.intellij.openshift.utils.odo.PodLogProcessHandler;
+
+import java.awt.BorderLayout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Shows the lines of a {@link LogBuffer} in a console. New lines are printed in batches.
+ * The lines can be filtered by the text that they contain, the buffered lines are then filtered in a pooled thread.
+ */
+public class PodLogPanel extends JBPanel<PodLogPanel> implements Disposable, LogBuffer.Listener {
+
+  private static final int FLUSH_DELAY = 100;
+
+  private final LogBuffer buffer;
+  private final ConsoleView console;
+  private final Alarm flushAlarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, this);
+  private Predicate<String> filter = LogBuffer.containing(null);
+  private long printed;
+
+  /**
+   * Shows the logs that the given handler streams in the run tool window.
+   * Closing the tab stops the streaming.
+   *
+   * @param project the project to show the logs in
+   * @param title the title of the tab
+   * @param handler the handler that streams the logs
+   */
+  public static void show(Project project, String title, PodLogProcessHandler handler) {
+    PodLogPanel panel = new PodLogPanel(project, handler.getBuffer());
+    RunContentDescriptor descriptor = new RunContentDescriptor(panel.console, handler, panel, title);
+    Disposer.register(descriptor, panel);
+    RunContentManager.getInstance(project).showRunContent(DefaultRunExecutor.getRunExecutorInstance(), descriptor);
+  }
+
+  public PodLogPanel(Project project, LogBuffer buffer) {
+    super(new BorderLayout());
+    this.buffer = buffer;
+    this.console = TextConsoleBuilderFactory.getInstance().createBuilder(project).getConsole();
+    Disposer.register(this, console);
+    SearchTextField filterField = new SearchTextField(false);
+    filterField.getTextEditor().getEmptyText().setText("Filter lines");
+    add(filterField, BorderLayout.NORTH);
+    add(console.getComponent(), BorderLayout.CENTER);
+    new DebouncedQuery<>(this::filter, this::show, this)
+      .usingInput(filterField.getTextEditor().getDocument());
+    buffer.addListener(this);
+  }
+
+  @Override
+  public void linesAdded(LogBuffer buffer) {
+    if (!flushAlarm.isDisposed()
+      && flushAlarm.getActiveRequestCount() == 0) {
+      flushAlarm.addRequest(this::flush, FLUSH_DELAY);
+    }
+  }
+
+  private Filtered filter(String text, BooleanSupplier cancelled) {
+    Predicate<String> predicate = LogBuffer.containing(text);
+    // filters a copy so that the buffer is not locked while filtering
+    List<String> buffered = new ArrayList<>();
+    long next = buffer.getLines(buffer.getFirst(), line -> true, buffered);
+    List<String> lines = new ArrayList<>();
+    for (String line : buffered) {
+      if (cancelled.getAsBoolean()) {
+        // result of a superseded query is dropped
+        return null;
+      }
+      if (predicate.test(line)) {
+        lines.add(line);
+      }
+    }
+    return new Filtered(predicate, lines, next);
+  }
+
+  private void show(Filtered filtered) {
+    this.filter = filtered.filter;
+    console.clear();
+    print(filtered.lines);
+    this.printed = filtered.next;
+  }
+
+  private void flush() {
+    List<String> lines = new ArrayList<>();
+    this.printed = buffer.getLines(printed, filter, lines);
+    print(lines);
+  }
+
+  private void print(List<String> lines) {
+    if (lines.isEmpty()) {
+      return;
+    }
+    StringBuilder text = new StringBuilder();
+    for (String line : lines) {
+      text.append(line).append('\n');
+    }
+    console.print(text.toString(), ConsoleViewContentType.NORMAL_OUTPUT);
+  }
+
+  @Override
+  public void dispose() {
+    buffer.removeListener(this);
+  }
+
+  private static class Filtered {
+    private final Predicate<String> filter;
+    private final List<String> lines;
+    private final long next;
+
+    private Filtered(Predicate<String> filter, List<String> lines, long next) {
+      this.filter = filter;
+      this.lines = lines;
+      this.next = next;
+    }
+  }
+}
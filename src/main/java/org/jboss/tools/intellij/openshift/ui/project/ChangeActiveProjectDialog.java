@@ -34,6 +34,8 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
 public class ChangeActiveProjectDialog extends BaseDialog {
@@ -42,8 +44,9 @@ public class ChangeActiveProjectDialog extends BaseDialog {
     private final Project project;
     private final String kind;
     private final String currentProject;
-    private final Collection<String> allProjects;
+    private final Set<String> allProjects;
     private TextFieldWithCompletion activeProjectTextField;
+    private TextFieldWithAutoCompletionListProvider<String> projectsProvider;
 
     private String activeProject;
 
@@ -59,7 +62,7 @@ public class ChangeActiveProjectDialog extends BaseDialog {
         this.project = project;
         this.kind = kind;
         this.currentProject = currentProject;
-        this.allProjects = allProjects;
+        this.allProjects = new TreeSet<>(allProjects);
         init();
     }
 
@@ -83,8 +86,9 @@ public class ChangeActiveProjectDialog extends BaseDialog {
         JLabel newActiveProjectLabel = new JBLabel("To " + kind + ":", SwingConstants.LEFT);
         newActiveProjectLabel.setBorder(JBUI.Borders.empty(10, 0));
         panel.add(newActiveProjectLabel, "left, bottom");
+        this.projectsProvider = onLookup(allProjects);
         this.activeProjectTextField = new TextFieldWithAutoCompletion<>(
-          project, onLookup(allProjects), false, true, null);
+          project, projectsProvider, false, true, null);
         activeProjectTextField.selectAll();
         panel.add(activeProjectTextField, "pushx, growx, wrap");
         ComponentValidator activeProjectValidator = new ComponentValidator(myDisposable)
@@ -118,6 +122,19 @@ public class ChangeActiveProjectDialog extends BaseDialog {
         };
     }
 
+    /**
+     * Adds the given projects to the ones that are offered for completion. Allows to show the dialog before all
+     * projects are listed. Must be called in the UI thread.
+     *
+     * @param projects the projects to add
+     */
+    public void addProjects(Collection<String> projects) {
+        allProjects.addAll(projects);
+        if (projectsProvider != null) {
+            projectsProvider.setItems(allProjects);
+        }
+    }
+
     @Override
     protected void doOKAction() {
         super.doOKAction();
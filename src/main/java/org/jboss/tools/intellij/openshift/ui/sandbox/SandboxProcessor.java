@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
+import org.jboss.tools.intellij.openshift.utils.HttpClients;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.converter.jackson.JacksonConverterFactory;
@@ -74,7 +75,7 @@ public class SandboxProcessor {
    */
   public SandboxProcessor(String token, String url) {
     this.token = "Bearer " + token;
-    OkHttpClient client = new OkHttpClient.Builder()
+    OkHttpClient client = HttpClients.getInstance().getClient(HttpClients.Trust.DEFAULT).newBuilder()
             .callTimeout(1, TimeUnit.MINUTES)
             .readTimeout(30, TimeUnit.SECONDS)
             .build();
@@ -0,0 +1,420 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redhat.devtools.intellij.common.utils.ExecHelper;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.apache.commons.exec.ExecuteException;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Statistics of the calls to the odo and helm binaries and to the cluster.
+ * The calls are grouped by tool and command (ex. {@code odo describe component}, {@code kubernetes namespaces.list})
+ * and for each group the count, the latency histogram, the exit codes, the size of the output in bytes and the thread
+ * (UI or pooled) that the calls were made in are recorded.
+ */
+public class CallStatistics {
+
+  public static final String ODO = "odo";
+  public static final String HELM = "helm";
+  public static final String KUBERNETES = "kubernetes";
+  public static final String COALESCING = "coalescing";
+
+  /**
+   * How a call to a coalescing layer was served.
+   */
+  public enum Reuse {
+    /**
+     * the call was made
+     */
+    NONE,
+    /**
+     * the result of an earlier identical call was reused
+     */
+    RESULT,
+    /**
+     * the call waited for an identical call that was in flight
+     */
+    CALL
+  }
+
+  /**
+   * the upper bounds (in milliseconds) of the latency histogram buckets. The last bucket is unbounded.
+   */
+  static final long[] BUCKETS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+  /**
+   * result code of a call that failed without an exit or status code
+   */
+  public static final int FAILED = -1;
+
+  /**
+   * sub-commands that are part of the command name. All other arguments (ex. names of releases) are omitted.
+   */
+  private static final Set<String> SUB_COMMANDS = Set.of(
+    "add", "binding", "component", "list", "namespace", "project", "registry", "remove", "repo", "service", "update", "url");
+
+  private static final CallStatistics INSTANCE = new CallStatistics();
+
+  @FunctionalInterface
+  public interface Call<T> {
+    T call() throws IOException;
+  }
+
+  private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+  public static CallStatistics getInstance() {
+    return INSTANCE;
+  }
+
+  CallStatistics() {
+    // use getInstance()
+  }
+
+  /**
+   * Runs the given process call and records it under the command that the given arguments name.
+   * A process that exits with a non-zero code fails the call, the exit code is recorded.
+   *
+   * @param tool the binary that is called (ex. {@link #ODO})
+   * @param args the arguments that the binary is called with
+   * @param call the call that runs the process
+   * @return the result of the process
+   * @throws IOException if the process failed
+   */
+  public ExecHelper.ExecResult measureProcess(String tool, String[] args, Call<ExecHelper.ExecResult> call) throws IOException {
+    String name = tool + ' ' + getCommand(args);
+    boolean dispatchThread = SwingUtilities.isEventDispatchThread();
+    long start = System.nanoTime();
+    try {
+      ExecHelper.ExecResult result = call.call();
+      record(name, System.nanoTime() - start, result.getExitCode(), size(result.getStdOut()), dispatchThread);
+      return result;
+    } catch (IOException e) {
+      record(name, System.nanoTime() - start, getExitCode(e), 0, dispatchThread);
+      throw e;
+    } catch (RuntimeException e) {
+      record(name, System.nanoTime() - start, FAILED, 0, dispatchThread);
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the exit code of the process that the given exception reports, {@link #FAILED} if it reports none
+   * (ex. the binary could not be started).
+   */
+  static int getExitCode(IOException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ExecuteException) {
+        return ((ExecuteException) cause).getExitValue();
+      }
+    }
+    return FAILED;
+  }
+
+  /**
+   * Runs the given call to the cluster and records it under the given operation.
+   * A failing call is recorded with the http status code that the cluster responded with.
+   *
+   * @param operation the operation (ex. {@code namespaces.list})
+   * @param call the call to the cluster
+   * @return the result of the call
+   */
+  public <T> T measure(String operation, Supplier<T> call) {
+    String name = KUBERNETES + ' ' + operation;
+    boolean dispatchThread = SwingUtilities.isEventDispatchThread();
+    long start = System.nanoTime();
+    try {
+      T result = call.get();
+      record(name, System.nanoTime() - start, 0, 0, dispatchThread);
+      return result;
+    } catch (KubernetesClientException e) {
+      record(name, System.nanoTime() - start, e.getCode() == 0 ? FAILED : e.getCode(), 0, dispatchThread);
+      throw e;
+    } catch (RuntimeException e) {
+      record(name, System.nanoTime() - start, FAILED, 0, dispatchThread);
+      throw e;
+    }
+  }
+
+  /**
+   * Runs the given call to a layer that coalesces identical calls and records it under the given method.
+   * How the call is served is recorded before it runs, so that calls that wait for a call in flight are counted
+   * while they wait.
+   *
+   * @param method the method that is called (ex. {@code getComponents})
+   * @param reuse how the call is served
+   * @param call the call
+   * @return the result of the call
+   * @throws IOException if the call failed
+   */
+  public <T> T measureCoalesced(String method, Reuse reuse, Call<T> call) throws IOException {
+    String name = COALESCING + ' ' + method;
+    statistics.computeIfAbsent(name, Statistics::new).recordReuse(reuse);
+    boolean dispatchThread = SwingUtilities.isEventDispatchThread();
+    long start = System.nanoTime();
+    try {
+      T result = call.call();
+      record(name, System.nanoTime() - start, 0, 0, dispatchThread);
+      return result;
+    } catch (IOException | RuntimeException e) {
+      record(name, System.nanoTime() - start, FAILED, 0, dispatchThread);
+      throw e;
+    }
+  }
+
+  void record(String name, long nanos, int result, long outputSize, boolean dispatchThread) {
+    statistics.computeIfAbsent(name, Statistics::new)
+      .record(nanos, result, outputSize, dispatchThread);
+  }
+
+  /**
+   * Returns a snapshot of the statistics, sorted by name.
+   */
+  public List<Entry> getEntries() {
+    List<Entry> entries = new ArrayList<>();
+    statistics.values().forEach(value -> entries.add(value.snapshot()));
+    entries.sort(Comparator.comparing(Entry::getName));
+    return entries;
+  }
+
+  public void reset() {
+    statistics.clear();
+  }
+
+  public String toJson() throws JsonProcessingException {
+    ArrayNode calls = Serialization.json().createArrayNode();
+    for (Entry entry : getEntries()) {
+      ObjectNode call = calls.addObject()
+        .put("name", entry.getName())
+        .put("count", entry.getCount())
+        .put("failures", entry.getFailures())
+        .put("dispatchThread", entry.getDispatchThreadCount())
+        .put("totalMillis", entry.getTotalMillis())
+        .put("maxMillis", entry.getMaxMillis())
+        .put("p50Millis", entry.getPercentileMillis(50))
+        .put("p90Millis", entry.getPercentileMillis(90))
+        .put("p99Millis", entry.getPercentileMillis(99))
+        .put("outputSize", entry.getOutputSize())
+        .put("reused", entry.getReused())
+        .put("coalesced", entry.getCoalesced());
+      ObjectNode histogram = call.putObject("histogram");
+      for (int i = 0; i < entry.buckets.length; i++) {
+        histogram.put(i < BUCKETS.length ? "le" + BUCKETS[i] : "inf", entry.buckets[i]);
+      }
+      ObjectNode results = call.putObject("results");
+      entry.getResults().forEach((code, count) -> results.put(String.valueOf(code), count));
+    }
+    return Serialization.json().writerWithDefaultPrettyPrinter().writeValueAsString(
+      Serialization.json().createObjectNode().set("calls", calls));
+  }
+
+  /**
+   * Returns the command that the given arguments name: the first argument and the sub-command that may follow.
+   * Flags and values like names of resources are omitted.
+   */
+  static String getCommand(String[] args) {
+    if (args == null
+      || args.length == 0) {
+      return "";
+    }
+    if (args.length > 1
+      && SUB_COMMANDS.contains(args[1])) {
+      return args[0] + ' ' + args[1];
+    }
+    return args[0];
+  }
+
+  private static long size(String output) {
+    return output == null ? 0 : output.getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  private static class Statistics {
+
+    private final String name;
+    private final long[] buckets = new long[BUCKETS.length + 1];
+    private final Map<Integer, Long> results = new TreeMap<>();
+    private long count;
+    private long failures;
+    private long dispatchThreadCount;
+    private long totalNanos;
+    private long maxNanos;
+    private long outputSize;
+    private long reused;
+    private long coalesced;
+
+    private Statistics(String name) {
+      this.name = name;
+    }
+
+    private synchronized void recordReuse(Reuse reuse) {
+      if (reuse == Reuse.RESULT) {
+        reused++;
+      } else if (reuse == Reuse.CALL) {
+        coalesced++;
+      }
+    }
+
+    private synchronized void record(long nanos, int result, long outputSize, boolean dispatchThread) {
+      count++;
+      if (result != 0) {
+        failures++;
+      }
+      if (dispatchThread) {
+        dispatchThreadCount++;
+      }
+      totalNanos += nanos;
+      maxNanos = Math.max(maxNanos, nanos);
+      this.outputSize += outputSize;
+      results.merge(result, 1L, Long::sum);
+      buckets[getBucket(TimeUnit.NANOSECONDS.toMillis(nanos))]++;
+    }
+
+    private static int getBucket(long millis) {
+      for (int i = 0; i < BUCKETS.length; i++) {
+        if (millis <= BUCKETS[i]) {
+          return i;
+        }
+      }
+      return BUCKETS.length;
+    }
+
+    private synchronized Entry snapshot() {
+      return new Entry(name, count, failures, dispatchThreadCount, totalNanos, maxNanos, outputSize, reused, coalesced,
+        buckets.clone(), new TreeMap<>(results));
+    }
+  }
+
+  /**
+   * The statistics of a command at a given time.
+   */
+  public static class Entry {
+
+    private final String name;
+    private final long count;
+    private final long failures;
+    private final long dispatchThreadCount;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long outputSize;
+    private final long reused;
+    private final long coalesced;
+    private final long[] buckets;
+    private final Map<Integer, Long> results;
+
+    private Entry(String name, long count, long failures, long dispatchThreadCount, long totalNanos, long maxNanos,
+                  long outputSize, long reused, long coalesced, long[] buckets, Map<Integer, Long> results) {
+      this.name = name;
+      this.count = count;
+      this.failures = failures;
+      this.dispatchThreadCount = dispatchThreadCount;
+      this.totalNanos = totalNanos;
+      this.maxNanos = maxNanos;
+      this.outputSize = outputSize;
+      this.reused = reused;
+      this.coalesced = coalesced;
+      this.buckets = buckets;
+      this.results = Collections.unmodifiableMap(results);
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getFailures() {
+      return failures;
+    }
+
+    /**
+     * Returns the number of calls that were made in the UI thread.
+     */
+    public long getDispatchThreadCount() {
+      return dispatchThreadCount;
+    }
+
+    public long getTotalMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    public long getMaxMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(maxNanos);
+    }
+
+    /**
+     * Returns the number of bytes that the calls printed to stdout.
+     */
+    public long getOutputSize() {
+      return outputSize;
+    }
+
+    /**
+     * Returns the number of calls that reused the result of an earlier identical call.
+     */
+    public long getReused() {
+      return reused;
+    }
+
+    /**
+     * Returns the number of calls that waited for an identical call that was in flight.
+     */
+    public long getCoalesced() {
+      return coalesced;
+    }
+
+    /**
+     * Returns the result codes (exit codes of processes, http status codes of failed calls to the cluster) and how often they occurred.
+     */
+    public Map<Integer, Long> getResults() {
+      return results;
+    }
+
+    /**
+     * Returns the upper bound of the histogram bucket that the given percentile falls in.
+     * The maximum latency is returned if the percentile falls in the unbounded bucket.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the estimated latency in milliseconds
+     */
+    public long getPercentileMillis(int percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(count * percentile / 100d);
+      long seen = 0;
+      for (int i = 0; i < BUCKETS.length; i++) {
+        seen += buckets[i];
+        if (seen >= rank) {
+          return Math.min(BUCKETS[i], getMaxMillis());
+        }
+      }
+      return getMaxMillis();
+    }
+  }
+}
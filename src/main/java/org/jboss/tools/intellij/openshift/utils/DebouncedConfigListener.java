@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.util.Alarm;
+import com.redhat.devtools.intellij.common.utils.ConfigWatcher;
+import io.fabric8.kubernetes.api.model.Config;
+
+/**
+ * A {@link ConfigWatcher.Listener} that coalesces bursts of kubeconfig changes.
+ * Tools like {@code oc login} write the kubeconfig several times in a row.
+ * The delegate is notified of the last kubeconfig once no change happened for the given delay.
+ */
+public class DebouncedConfigListener implements ConfigWatcher.Listener {
+
+  public static final int DEFAULT_DELAY = 500;
+
+  private final ConfigWatcher.Listener delegate;
+  private final int delay;
+  private final Alarm alarm;
+
+  public DebouncedConfigListener(ConfigWatcher.Listener delegate, Disposable parent) {
+    this(delegate, DEFAULT_DELAY, parent);
+  }
+
+  public DebouncedConfigListener(ConfigWatcher.Listener delegate, int delay, Disposable parent) {
+    this.delegate = delegate;
+    this.delay = delay;
+    this.alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, parent);
+  }
+
+  @Override
+  public void onUpdate(ConfigWatcher source, Config config) {
+    alarm.cancelAllRequests();
+    alarm.addRequest(() -> delegate.onUpdate(source, config), delay);
+  }
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils;
+
+import okhttp3.ConnectionPool;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The http clients that the plugin uses to talk to clusters and services that are not accessed through the
+ * kubernetes client (ex. the OAuth server of a cluster, the sandbox registration service).
+ * There's one client per trust profile, each with its own connection pool, so that the connections (and their TLS
+ * handshakes) are reused across calls. HTTP/2 is used where the server supports it.
+ * Discovery documents that rarely change (ex. {@code .well-known/oauth-authorization-server}) can be cached for a
+ * short time.
+ */
+public class HttpClients {
+
+  /**
+   * The certificates that a client trusts.
+   */
+  public enum Trust {
+    /**
+     * The certificates that the JVM trusts.
+     */
+    DEFAULT,
+    /**
+     * All certificates. Only for clusters that are known to use self-signed certificates (ex. the OAuth server of a
+     * cluster that the user is logging into).
+     */
+    INSECURE
+  }
+
+  /**
+   * milliseconds that a discovery document is reused for
+   */
+  static final long DOCUMENT_TTL = TimeUnit.MINUTES.toMillis(5);
+
+  private static final int MAX_IDLE_CONNECTIONS = 5;
+  private static final long KEEP_ALIVE = TimeUnit.MINUTES.toMillis(5);
+
+  private static final X509TrustManager ACCEPT_ALL_CERTIFICATES = new X509TrustManager() {
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return new X509Certificate[0];
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) {
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) {
+    }
+  };
+
+  private static final HttpClients INSTANCE = new HttpClients(System::currentTimeMillis);
+
+  private final OkHttpClient base = new OkHttpClient.Builder()
+    .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+    .build();
+  private final Map<Trust, OkHttpClient> clients = new ConcurrentHashMap<>();
+  private final Map<String, Document> documents = new ConcurrentHashMap<>();
+  private final LongSupplier clock;
+
+  public static HttpClients getInstance() {
+    return INSTANCE;
+  }
+
+  HttpClients(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the shared client for the given trust profile. Clients with other timeouts, interceptors, etc. should
+   * be derived with {@link OkHttpClient#newBuilder()} so that they share the connection pool of this client.
+   *
+   * @param trust the certificates that the client trusts
+   * @return the client
+   */
+  public OkHttpClient getClient(Trust trust) {
+    return clients.computeIfAbsent(trust, this::createClient);
+  }
+
+  private OkHttpClient createClient(Trust trust) {
+    OkHttpClient.Builder builder = base.newBuilder()
+      .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE, TimeUnit.MILLISECONDS));
+    if (trust == Trust.INSECURE) {
+      try {
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[]{ACCEPT_ALL_CERTIFICATES}, null);
+        builder.sslSocketFactory(sslContext.getSocketFactory(), ACCEPT_ALL_CERTIFICATES);
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("Could not create insecure ssl context", e);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the body of the document at the given url. Successful responses are reused for {@link #DOCUMENT_TTL}
+   * milliseconds, failures are not.
+   *
+   * @param url the url of the document
+   * @param trust the certificates that the client trusts
+   * @return the body of the document
+   * @throws IOException if the document could not be retrieved
+   */
+  public String getDocument(String url, Trust trust) throws IOException {
+    String key = trust + " " + url;
+    long now = clock.getAsLong();
+    Document document = documents.get(key);
+    if (document != null
+      && now - document.timestamp < DOCUMENT_TTL) {
+      return document.body;
+    }
+    HttpUrl httpUrl = HttpUrl.parse(url);
+    if (httpUrl == null) {
+      throw new IOException("Invalid url " + url);
+    }
+    Request request = new Request.Builder().url(httpUrl).build();
+    try (Response response = getClient(trust).newCall(request).execute()) {
+      ResponseBody body = response.body();
+      if (!response.isSuccessful()
+        || body == null) {
+        throw new IOException("Could not get " + url + ", status code: " + response.code());
+      }
+      String content = body.string();
+      documents.put(key, new Document(content, now));
+      return content;
+    }
+  }
+
+  private static class Document {
+    private final String body;
+    private final long timestamp;
+
+    private Document(String body, long timestamp) {
+      this.body = body;
+      this.timestamp = timestamp;
+    }
+  }
+}
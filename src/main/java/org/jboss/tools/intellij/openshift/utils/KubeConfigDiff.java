@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils;
+
+import io.fabric8.kubernetes.api.model.AuthInfo;
+import io.fabric8.kubernetes.api.model.Cluster;
+import io.fabric8.kubernetes.api.model.Config;
+import io.fabric8.kubernetes.api.model.Context;
+import io.fabric8.kubernetes.api.model.NamedAuthInfo;
+import io.fabric8.kubernetes.api.model.NamedCluster;
+import io.fabric8.kubernetes.api.model.NamedContext;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The differences between two kubeconfigs that matter to the current context.
+ * Changes to contexts, clusters or users that the current context is not using are ignored.
+ */
+public class KubeConfigDiff {
+
+  public enum Change {
+    /** another context is the current context */
+    CONTEXT,
+    /** the current context is using another cluster or the cluster (ex. server, certificate) changed */
+    CLUSTER,
+    /** the current context is using another user or the credentials of the user changed */
+    CREDENTIALS,
+    /** the current context is using another namespace */
+    NAMESPACE
+  }
+
+  private KubeConfigDiff() {}
+
+  /**
+   * Returns the changes to the current context from the old to the new kubeconfig.
+   *
+   * @param oldConfig the kubeconfig before the change
+   * @param newConfig the kubeconfig after the change
+   * @return the changes, empty if nothing changed that matters to the current context
+   */
+  public static Set<Change> between(Config oldConfig, Config newConfig) {
+    CurrentContext oldContext = new CurrentContext(oldConfig);
+    CurrentContext newContext = new CurrentContext(newConfig);
+    Set<Change> changes = EnumSet.noneOf(Change.class);
+    if (!Objects.equals(oldContext.name, newContext.name)) {
+      changes.add(Change.CONTEXT);
+    }
+    if (!Objects.equals(oldContext.clusterName, newContext.clusterName)
+      || !Objects.equals(oldContext.cluster, newContext.cluster)) {
+      changes.add(Change.CLUSTER);
+    }
+    if (!Objects.equals(oldContext.userName, newContext.userName)
+      || !Objects.equals(oldContext.user, newContext.user)) {
+      changes.add(Change.CREDENTIALS);
+    }
+    if (!Objects.equals(oldContext.namespace, newContext.namespace)) {
+      changes.add(Change.NAMESPACE);
+    }
+    return changes;
+  }
+
+  /**
+   * Returns {@code true} if the given changes can be applied without connecting to the cluster anew.
+   * This is the case if only the namespace of the current context changed.
+   */
+  public static boolean isNamespaceOnly(Set<Change> changes) {
+    return changes.size() == 1
+      && changes.contains(Change.NAMESPACE);
+  }
+
+  /**
+   * Returns the namespace of the current context in the given kubeconfig or {@code null} if it has none.
+   */
+  public static String getCurrentNamespace(Config config) {
+    return new CurrentContext(config).namespace;
+  }
+
+  /**
+   * The current context and the cluster and user that it is using. Each property is read once.
+   */
+  private static class CurrentContext {
+
+    private String name;
+    private String clusterName;
+    private String userName;
+    private String namespace;
+    private Cluster cluster;
+    private AuthInfo user;
+
+    private CurrentContext(Config config) {
+      if (config == null) {
+        return;
+      }
+      this.name = config.getCurrentContext();
+      Context context = getContext(name, config.getContexts());
+      if (context == null) {
+        return;
+      }
+      this.clusterName = context.getCluster();
+      this.userName = context.getUser();
+      this.namespace = context.getNamespace();
+      this.cluster = getCluster(clusterName, config.getClusters());
+      this.user = getUser(userName, config.getUsers());
+    }
+
+    private static Context getContext(String name, List<NamedContext> contexts) {
+      if (name == null
+        || contexts == null) {
+        return null;
+      }
+      return contexts.stream()
+        .filter(context -> name.equals(context.getName()))
+        .map(NamedContext::getContext)
+        .findFirst()
+        .orElse(null);
+    }
+
+    private static Cluster getCluster(String name, List<NamedCluster> clusters) {
+      if (name == null
+        || clusters == null) {
+        return null;
+      }
+      return clusters.stream()
+        .filter(cluster -> name.equals(cluster.getName()))
+        .map(NamedCluster::getCluster)
+        .findFirst()
+        .orElse(null);
+    }
+
+    private static AuthInfo getUser(String name, List<NamedAuthInfo> users) {
+      if (name == null
+        || users == null) {
+        return null;
+      }
+      return users.stream()
+        .filter(user -> name.equals(user.getName()))
+        .map(NamedAuthInfo::getUser)
+        .findFirst()
+        .orElse(null);
+    }
+  }
+}
@@ -11,19 +11,8 @@
 package org.jboss.tools.intellij.openshift.utils;
 
 import io.fabric8.kubernetes.client.utils.Serialization;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSocketFactory;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 import java.io.IOException;
-import java.net.URL;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.X509Certificate;
 import java.util.Map;
 
 /**
@@ -47,22 +36,6 @@ public class KubernetesClusterHelper {
    */
   private static final String WELL_KNOWN_OAUTH_AUTHORIZATION_SERVER = ".well-known/oauth-authorization-server";
 
-  private static final X509TrustManager ACCEPT_ALL_CERTIFICATES = new X509TrustManager() {
-
-    @Override
-    public X509Certificate[] getAcceptedIssuers() {
-      return new X509Certificate[0];
-    }
-
-    @Override
-    public void checkServerTrusted(X509Certificate[] chain, String authType) {
-    }
-
-    @Override
-    public void checkClientTrusted(X509Certificate[] chain, String authType) {
-    }
-  };
-  
   private static String append(String baseURL, String suffix) {
     if (baseURL.charAt(baseURL.length() - 1) == '/') {
       return baseURL + suffix;
@@ -71,22 +44,15 @@ public class KubernetesClusterHelper {
     }
   }
 
+  /**
+   * Returns the OAuth server metadata of the given cluster. The metadata is reused for a few minutes so that
+   * repeated logins to the same cluster don't query it again.
+   */
   public static Map<String, String> getOAuthAuthorizationServerInfo(String clusterURL) throws IOException {
-    try {
-      SSLContext sslContext = SSLContext.getInstance("TLS");
-      sslContext.init(null, new TrustManager[] { ACCEPT_ALL_CERTIFICATES }, null);
-      SSLSocketFactory sslSocketFactory = sslContext.getSocketFactory();
-
-      OkHttpClient newClient = new OkHttpClient.Builder().sslSocketFactory(sslSocketFactory, ACCEPT_ALL_CERTIFICATES).build();
-      Request request = new Request.Builder().url(new URL(append(clusterURL, WELL_KNOWN_OAUTH_AUTHORIZATION_SERVER)))
-          .build();
-      try (Response response = newClient.newCall(request).execute()) {
-        String responseBody = response.body().string();
-        return Serialization.unmarshal(responseBody, Map.class);
-      }
-    } catch (KeyManagementException | NoSuchAlgorithmException e) {
-      throw new IOException();
-    }
+    String body = HttpClients.getInstance().getDocument(
+      append(clusterURL, WELL_KNOWN_OAUTH_AUTHORIZATION_SERVER),
+      HttpClients.Trust.INSECURE);
+    return Serialization.unmarshal(body, Map.class);
   }
 
   public static String getTokenEndpoint(String clusterURL) throws IOException {
@@ -11,8 +11,8 @@
 package org.jboss.tools.intellij.openshift.utils;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.deser.std.StdNodeBasedDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import java.util.List;
@@ -27,7 +27,7 @@ public class Serialization {
 
   private Serialization() {}
 
-  public static ObjectMapper configure(final StdNodeBasedDeserializer<? extends List<?>> deserializer) {
+  public static ObjectMapper configure(final JsonDeserializer<? extends List<?>> deserializer) {
     final SimpleModule module = new SimpleModule();
     module.addDeserializer(List.class, deserializer);
     return new ObjectMapper(new JsonFactory()).registerModule(module);
@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.helm;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A catalog of all the charts in the helm repositories that were added.
+ * The catalog is read from the repository indexes ({@code <repository>-index.yaml}) in the helm repository cache
+ * ({@link HelmCli.HelmEnv#HELM_REPOSITORY_CACHE}) and indexes name, description and keywords of each chart for searching.
+ * Only the versions of a chart are kept, the other version specific metadata is skipped while reading the index.
+ * Prerelease versions (ex. {@code 1.0.0-rc.1}) are skipped, as {@code helm search repo} does unless {@code --devel} is given.
+ */
+public class ChartCatalog {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChartCatalog.class);
+
+  private static final String INDEX_SUFFIX = "-index.yaml";
+  private static final String ENTRIES_FIELD = "entries";
+  private static final String VERSION_FIELD = "version";
+  private static final String DESCRIPTION_FIELD = "description";
+  private static final String KEYWORDS_FIELD = "keywords";
+
+  private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+  private static final Pattern TERM_SEPARATOR = Pattern.compile("\\s+");
+  private static final int TRIGRAM = 3;
+
+  private static final int SCORE_EXACT_NAME = 8;
+  private static final int SCORE_NAME_PREFIX = 4;
+  private static final int SCORE_TOKEN_PREFIX = 2;
+  private static final int SCORE_SUBSTRING = 1;
+
+  /**
+   * Reads the catalog from the repository indexes in the given helm repository cache.
+   *
+   * @param repositoryCache the helm repository cache
+   * @return the catalog of all charts in all repositories
+   * @throws IOException if the cache could not be listed
+   */
+  public static ChartCatalog load(Path repositoryCache) throws IOException {
+    List<Entry> entries = new ArrayList<>();
+    try (DirectoryStream<Path> indexes = Files.newDirectoryStream(repositoryCache, "*" + INDEX_SUFFIX)) {
+      for (Path index : indexes) {
+        String fileName = index.getFileName().toString();
+        String repository = fileName.substring(0, fileName.length() - INDEX_SUFFIX.length());
+        try (InputStream in = Files.newInputStream(index)) {
+          entries.addAll(read(repository, in));
+        } catch (IOException e) {
+          LOGGER.warn("Could not read helm repository index {}.", index, e);
+        }
+      }
+    }
+    return new ChartCatalog(entries);
+  }
+
+  /**
+   * Creates a catalog out of charts as listed by {@code helm search repo -l}.
+   *
+   * @param charts the charts, one per version
+   * @return the catalog of the given charts
+   */
+  public static ChartCatalog of(List<Chart> charts) {
+    Map<String, Entry> entries = new LinkedHashMap<>();
+    for (Chart chart : charts) {
+      entries.computeIfAbsent(chart.getName(),
+          name -> new Entry(name, chart.getDescription(), Collections.emptyList()))
+        .versions.add(chart.getVersion());
+    }
+    return new ChartCatalog(new ArrayList<>(entries.values()));
+  }
+
+  /**
+   * Reads the charts in the given repository index. Helm sorts the versions of a chart, the latest being first.
+   * The description and keywords of the latest version that is not a prerelease are used for the chart.
+   * Charts that only have prerelease versions are skipped.
+   */
+  static List<Entry> read(String repository, InputStream index) throws IOException {
+    List<Entry> entries = new ArrayList<>();
+    try (JsonParser parser = new YAMLFactory().createParser(index)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return entries;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        if (parser.nextToken() == JsonToken.START_OBJECT
+          && ENTRIES_FIELD.equals(field)) {
+          readEntries(repository, parser, entries);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return entries;
+  }
+
+  private static void readEntries(String repository, JsonParser parser, List<Entry> entries) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = repository + '/' + parser.currentName();
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        parser.skipChildren();
+        continue;
+      }
+      Entry entry = null;
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        entry = readVersion(name, parser, entry);
+      }
+      if (entry != null) {
+        entries.add(entry);
+      }
+    }
+  }
+
+  private static Entry readVersion(String name, JsonParser parser, Entry entry) throws IOException {
+    String version = null;
+    String description = null;
+    List<String> keywords = Collections.emptyList();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (VERSION_FIELD.equals(field)
+        && value.isScalarValue()) {
+        version = parser.getText();
+      } else if (entry == null
+        && DESCRIPTION_FIELD.equals(field)
+        && value.isScalarValue()) {
+        description = parser.getText();
+      } else if (entry == null
+        && KEYWORDS_FIELD.equals(field)
+        && value == JsonToken.START_ARRAY) {
+        keywords = readStrings(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (version != null
+      && isPrerelease(version)) {
+      return entry;
+    }
+    if (entry == null) {
+      entry = new Entry(name, description, keywords);
+    }
+    if (version != null) {
+      entry.versions.add(version);
+    }
+    return entry;
+  }
+
+  /**
+   * Returns {@code true} if the given semantic version has a prerelease part, a hyphen before the optional build metadata.
+   */
+  static boolean isPrerelease(String version) {
+    int buildMetadata = version.indexOf('+');
+    String release = buildMetadata < 0 ? version : version.substring(0, buildMetadata);
+    return release.indexOf('-') >= 0;
+  }
+
+  private static List<String> readStrings(JsonParser parser) throws IOException {
+    List<String> strings = new ArrayList<>();
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY
+      && token != null) {
+      if (token.isScalarValue()) {
+        strings.add(parser.getText());
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return strings;
+  }
+
+  private final List<Entry> entries;
+  private final TreeMap<String, BitSet> tokens = new TreeMap<>();
+  private final Map<String, BitSet> trigrams = new HashMap<>();
+
+  private ChartCatalog(List<Entry> entries) {
+    entries.sort(Comparator.comparing(Entry::getName));
+    this.entries = Collections.unmodifiableList(entries);
+    for (int i = 0; i < entries.size(); i++) {
+      index(i, entries.get(i));
+    }
+  }
+
+  private void index(int i, Entry entry) {
+    for (String token : TOKEN_SEPARATOR.split(entry.searchText)) {
+      if (!token.isEmpty()) {
+        tokens.computeIfAbsent(token, key -> new BitSet()).set(i);
+      }
+    }
+    for (int start = 0; start + TRIGRAM <= entry.searchText.length(); start++) {
+      trigrams.computeIfAbsent(entry.searchText.substring(start, start + TRIGRAM), key -> new BitSet()).set(i);
+    }
+  }
+
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /**
+   * Returns the charts whose name, description or keywords contain all the (whitespace separated) terms in the given query.
+   * The charts are ranked: charts that are named after a term come first,
+   * then charts whose name starts with a term, then charts with a word starting with a term.
+   * The query is matched literally, ignoring case.
+   *
+   * @param query the terms to search for
+   * @return the matching charts, best match first
+   */
+  public List<Entry> search(String query) {
+    if (query == null
+      || query.isBlank()) {
+      return entries;
+    }
+    String[] terms = TERM_SEPARATOR.split(query.trim().toLowerCase(Locale.ROOT));
+    BitSet matches = new BitSet();
+    matches.set(0, entries.size());
+    for (String term : terms) {
+      matches.and(getCandidates(term));
+    }
+    Map<Entry, Integer> scores = new HashMap<>();
+    for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+      Entry entry = entries.get(i);
+      int score = getScore(i, entry, terms);
+      if (score > 0) {
+        scores.put(entry, score);
+      }
+    }
+    return scores.entrySet().stream()
+      .sorted(Map.Entry.<Entry, Integer>comparingByValue().reversed()
+        .thenComparing(scored -> scored.getKey().getName()))
+      .map(Map.Entry::getKey)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the charts that may contain the given term. Terms of 3 or more characters are looked up in the trigram index.
+   */
+  private BitSet getCandidates(String term) {
+    BitSet candidates = new BitSet();
+    candidates.set(0, entries.size());
+    for (int start = 0; start + TRIGRAM <= term.length(); start++) {
+      BitSet trigram = trigrams.get(term.substring(start, start + TRIGRAM));
+      if (trigram == null) {
+        return new BitSet();
+      }
+      candidates.and(trigram);
+    }
+    return candidates;
+  }
+
+  private int getScore(int i, Entry entry, String[] terms) {
+    int score = 0;
+    for (String term : terms) {
+      if (!entry.searchText.contains(term)) {
+        return 0;
+      }
+      if (entry.chartName.equals(term)) {
+        score += SCORE_EXACT_NAME;
+      } else if (entry.chartName.startsWith(term)) {
+        score += SCORE_NAME_PREFIX;
+      } else if (isTokenPrefix(i, term)) {
+        score += SCORE_TOKEN_PREFIX;
+      } else {
+        score += SCORE_SUBSTRING;
+      }
+    }
+    return score;
+  }
+
+  private boolean isTokenPrefix(int i, String term) {
+    SortedMap<String, BitSet> prefixed = tokens.subMap(term, term + Character.MAX_VALUE);
+    for (BitSet tokenEntries : prefixed.values()) {
+      if (tokenEntries.get(i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public static class Entry {
+
+    private final String name;
+    private final String description;
+    private final List<String> keywords;
+    private final List<String> versions = new ArrayList<>();
+    private final String chartName;
+    private final String searchText;
+
+    private Entry(String name, String description, Collection<String> keywords) {
+      this.name = name;
+      this.description = description == null ? "" : description;
+      this.keywords = List.copyOf(keywords);
+      int repositorySeparator = name.indexOf('/');
+      this.chartName = name.substring(repositorySeparator + 1).toLowerCase(Locale.ROOT);
+      this.searchText = (name + ' ' + this.description + ' ' + String.join(" ", keywords)).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the name of the chart, prefixed with the repository (ex. {@code openshift/redhat-developer-hub}).
+     */
+    public String getName() {
+      return name;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public List<String> getKeywords() {
+      return keywords;
+    }
+
+    /**
+     * Returns the versions of the chart, unsorted. The list can't be modified.
+     */
+    public List<String> getVersions() {
+      return Collections.unmodifiableList(versions);
+    }
+  }
+}
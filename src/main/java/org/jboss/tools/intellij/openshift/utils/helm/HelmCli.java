@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.jboss.tools.intellij.openshift.telemetry.TelemetryService;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
 import org.jboss.tools.intellij.openshift.utils.Serialization;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -197,7 +198,8 @@ public class HelmCli implements Helm {
 
     private static String execute(String command, Map<String, String> envs, String... args) throws IOException {
         File workingDirectory = new File(HOME_FOLDER);
-        ExecHelper.ExecResult output = ExecHelper.executeWithResult(command, true, workingDirectory, envs, args);
+        ExecHelper.ExecResult output = CallStatistics.getInstance().measureProcess(CallStatistics.HELM, args, () ->
+            ExecHelper.executeWithResult(command, true, workingDirectory, envs, args));
         return output.getStdOut();
     }
 
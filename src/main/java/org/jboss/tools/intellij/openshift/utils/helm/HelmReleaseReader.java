@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.helm;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Lists the helm releases in a namespace without running {@code helm list}.
+ * The release secrets that helm stores in the namespace are listed in a single request with the given client
+ * and decoded by {@link HelmReleaseSecrets}.
+ */
+public class HelmReleaseReader {
+
+  private final KubernetesClient client;
+
+  public HelmReleaseReader(KubernetesClient client) {
+    this.client = client;
+  }
+
+  /**
+   * Returns the releases in the given namespace, as {@code helm list -n <namespace>} would.
+   *
+   * @param namespace the namespace to list the releases of
+   * @return the releases in the given namespace
+   * @throws IOException if the release secrets could not be listed
+   */
+  public List<ChartRelease> list(String namespace) throws IOException {
+    try {
+      return HelmReleaseSecrets.toReleases(CallStatistics.getInstance().measure("secrets.list", () -> client.secrets()
+        .inNamespace(namespace)
+        .withLabel(HelmReleaseSecrets.OWNER_LABEL, HelmReleaseSecrets.OWNER_HELM)
+        .withLabelIn(HelmReleaseSecrets.STATUS_LABEL, HelmReleaseSecrets.STATUS_DEPLOYED, HelmReleaseSecrets.STATUS_FAILED)
+        .list()
+        .getItems()));
+    } catch (KubernetesClientException e) {
+      throw new IOException(e.getLocalizedMessage(), e);
+    }
+  }
+}
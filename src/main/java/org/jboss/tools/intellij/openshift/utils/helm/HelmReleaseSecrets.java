@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.helm;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.fabric8.kubernetes.api.model.Secret;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Turns the secrets that helm stores for each release revision (type {@code helm.sh/release.v1}) into {@link ChartRelease}s.
+ * Mimics {@code helm list}: only the latest revision of each release is returned and only if it's deployed or failed.
+ * Only the latest revision of each release is decoded and only the fields that are listed are read from it.
+ */
+public class HelmReleaseSecrets {
+
+  public static final String OWNER_LABEL = "owner";
+  public static final String OWNER_HELM = "helm";
+  public static final String STATUS_LABEL = "status";
+  public static final String STATUS_DEPLOYED = "deployed";
+  public static final String STATUS_FAILED = "failed";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HelmReleaseSecrets.class);
+
+  private static final String RELEASE_KEY = "release";
+  private static final String NAME_LABEL = "name";
+  private static final String VERSION_LABEL = "version";
+
+  private static final String NAME_FIELD = "name";
+  private static final String NAMESPACE_FIELD = "namespace";
+  private static final String VERSION_FIELD = "version";
+  private static final String INFO_FIELD = "info";
+  private static final String STATUS_FIELD = "status";
+  private static final String LAST_DEPLOYED_FIELD = "last_deployed";
+  private static final String CHART_FIELD = "chart";
+  private static final String METADATA_FIELD = "metadata";
+  private static final String APP_VERSION_FIELD = "appVersion";
+
+  private static final byte[] GZIP_MAGIC = new byte[]{(byte) 0x1f, (byte) 0x8b};
+
+  private HelmReleaseSecrets() {
+  }
+
+  public static List<ChartRelease> toReleases(Collection<Secret> secrets) {
+    Map<String, Secret> latest = new HashMap<>();
+    for (Secret secret : secrets) {
+      latest.merge(getLabel(secret, NAME_LABEL), secret,
+        (existing, candidate) -> getRevision(candidate) > getRevision(existing) ? candidate : existing);
+    }
+    return latest.values().stream()
+      .map(HelmReleaseSecrets::toRelease)
+      .filter(Objects::nonNull)
+      .filter(release -> isListed(release.getStatus()))
+      .sorted(Comparator.comparing(ChartRelease::getName))
+      .collect(Collectors.toList());
+  }
+
+  private static ChartRelease toRelease(Secret secret) {
+    if (secret.getData() == null
+      || !secret.getData().containsKey(RELEASE_KEY)) {
+      return null;
+    }
+    String status = getLabel(secret, STATUS_LABEL);
+    if (!status.isEmpty()
+      && !isListed(status)) {
+      // helm labels each revision with its status, no need to decode a release that won't be listed
+      return null;
+    }
+    try (InputStream in = decode(secret.getData().get(RELEASE_KEY));
+         JsonParser parser = Serialization.json().getFactory().createParser(in)) {
+      ChartRelease release = readRelease(parser);
+      if (release.getName() == null) {
+        release.setName(getLabel(secret, NAME_LABEL));
+      }
+      if (release.getNamespace() == null) {
+        release.setNamespace(secret.getMetadata().getNamespace());
+      }
+      return release;
+    } catch (IOException | IllegalArgumentException e) {
+      LOGGER.warn("Could not decode helm release secret {}.", secret.getMetadata().getName(), e);
+      return null;
+    }
+  }
+
+  private static boolean isListed(String status) {
+    return STATUS_DEPLOYED.equals(status)
+      || STATUS_FAILED.equals(status);
+  }
+
+  /**
+   * Reads the fields of the release that are listed. All other fields (ex. manifest, chart templates, values) are skipped
+   * without being kept in memory.
+   */
+  private static ChartRelease readRelease(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("Invalid helm release, not a json object.");
+    }
+    ChartRelease release = new ChartRelease();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (NAME_FIELD.equals(field)) {
+        release.setName(parser.getValueAsString());
+      } else if (NAMESPACE_FIELD.equals(field)) {
+        release.setNamespace(parser.getValueAsString());
+      } else if (VERSION_FIELD.equals(field)) {
+        release.setRevision(parser.getValueAsString());
+      } else if (INFO_FIELD.equals(field)
+        && value == JsonToken.START_OBJECT) {
+        Map<String, String> info = readScalars(parser, STATUS_FIELD, LAST_DEPLOYED_FIELD);
+        release.setStatus(info.getOrDefault(STATUS_FIELD, ""));
+        release.setUpdated(info.getOrDefault(LAST_DEPLOYED_FIELD, ""));
+      } else if (CHART_FIELD.equals(field)
+        && value == JsonToken.START_OBJECT) {
+        readChart(parser, release);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return release;
+  }
+
+  private static void readChart(JsonParser parser, ChartRelease release) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (METADATA_FIELD.equals(field)
+        && value == JsonToken.START_OBJECT) {
+        Map<String, String> metadata = readScalars(parser, NAME_FIELD, VERSION_FIELD, APP_VERSION_FIELD);
+        release.setChart(metadata.getOrDefault(NAME_FIELD, "") + '-' + metadata.getOrDefault(VERSION_FIELD, ""));
+        release.setApp_version(metadata.getOrDefault(APP_VERSION_FIELD, ""));
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  /**
+   * Reads the given scalar fields of the current object, skips all other fields.
+   */
+  private static Map<String, String> readScalars(JsonParser parser, String... fields) throws IOException {
+    Map<String, String> scalars = new HashMap<>();
+    List<String> wanted = List.of(fields);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (value.isScalarValue()
+        && wanted.contains(field)) {
+        scalars.put(field, parser.getValueAsString());
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return scalars;
+  }
+
+  /**
+   * Secret data is base64 encoded by kubernetes, the value that helm stores is base64 encoded gzipped json.
+   * The release is decoded and unzipped while it is read.
+   */
+  private static InputStream decode(String data) throws IOException {
+    Base64.Decoder decoder = Base64.getDecoder();
+    InputStream release = new BufferedInputStream(
+      decoder.wrap(decoder.wrap(new ByteArrayInputStream(data.getBytes(StandardCharsets.ISO_8859_1)))));
+    if (isGzipped(release)) {
+      return new GZIPInputStream(release);
+    }
+    return release;
+  }
+
+  private static boolean isGzipped(InputStream in) throws IOException {
+    in.mark(GZIP_MAGIC.length);
+    byte[] magic = in.readNBytes(GZIP_MAGIC.length);
+    in.reset();
+    return Arrays.equals(GZIP_MAGIC, magic);
+  }
+
+  private static int getRevision(Secret secret) {
+    try {
+      return Integer.parseInt(getLabel(secret, VERSION_LABEL));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static String getLabel(Secret secret, String key) {
+    Map<String, String> labels = secret.getMetadata().getLabels();
+    if (labels == null) {
+      return "";
+    }
+    return labels.getOrDefault(key, "");
+  }
+}
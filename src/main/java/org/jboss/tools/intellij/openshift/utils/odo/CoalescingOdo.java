@@ -0,0 +1,536 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.intellij.execution.process.ProcessAdapter;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.util.messages.MessageBusConnection;
+import org.jboss.tools.intellij.openshift.Constants;
+import org.jboss.tools.intellij.openshift.settings.SettingsState;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
+import org.jboss.tools.intellij.openshift.utils.helm.ChartRelease;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link Odo} that coalesces identical calls that read from odo or the cluster.
+ * A call that is made while an identical call is in flight waits for the result of the call in flight instead of
+ * running odo once more. The result is then reused for identical calls during a short window
+ * ({@link SettingsState#odoCallResultWindow}). Calls are identical if they're made to the same method
+ * with the same arguments in the same namespace or context path.
+ * <p>
+ * Any call that changes something (ex. creating a component, switching the namespace) discards all results.
+ * Calls that were in flight at that time are not joined nor reused any more. Failures are never reused.
+ * The results for a namespace are discarded when its watched resources change
+ * ({@link NamespaceResourcesListener#TOPIC}), all results are discarded when an odo session starts or stops.
+ * How the calls are served is recorded in {@link CallStatistics}.
+ */
+public class CoalescingOdo implements Odo {
+
+  private static final String GLOBAL = "";
+
+  @FunctionalInterface
+  interface Loader<T> {
+    T load() throws IOException;
+  }
+
+  private final Odo delegate;
+  private final LongSupplier windowMillis;
+  private final LongSupplier clock;
+  private final Map<Key, Call<?>> calls = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final OdoProcessRegistry.Listener processesListener = component -> invalidate();
+  private MessageBusConnection connection;
+  private OdoProcessRegistry processes;
+
+  public CoalescingOdo(Odo delegate, OdoProcessRegistry processes) {
+    this(delegate, () -> SettingsState.getInstance().odoCallResultWindow, System::nanoTime);
+    this.connection = ApplicationManager.getApplication().getMessageBus().connect();
+    connection.subscribe(NamespaceResourcesListener.TOPIC, namespace -> invalidate(namespace));
+    this.processes = processes;
+    processes.addListener(processesListener);
+  }
+
+  CoalescingOdo(Odo delegate, LongSupplier windowMillis, LongSupplier clock) {
+    this.delegate = delegate;
+    this.windowMillis = windowMillis;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the result of the call that is in flight or that completed within the window, or calls the given loader.
+   *
+   * @param method the name of the method that is called
+   * @param scope the namespace or context path that the call applies to
+   * @param loader the loader that makes the call
+   * @param args the arguments of the call
+   * @return the result of the call
+   * @throws IOException if the call failed
+   */
+  <T> T get(String method, String scope, Loader<T> loader, Object... args) throws IOException {
+    Key key = new Key(method, scope, Arrays.asList(args));
+    long now = clock.getAsLong();
+    long window = TimeUnit.MILLISECONDS.toNanos(windowMillis.getAsLong());
+    long currentGeneration = generation.get();
+    @SuppressWarnings("unchecked")
+    Call<T> call = (Call<T>) calls.compute(key, (k, existing) ->
+      existing != null && existing.isReusable(currentGeneration, now, window) ?
+        existing : new Call<>(currentGeneration));
+    CallStatistics statistics = CallStatistics.getInstance();
+    if (call.claim()) {
+      return statistics.measureCoalesced(method, CallStatistics.Reuse.NONE, () -> load(key, call, loader, window));
+    }
+    CallStatistics.Reuse reuse = call.future.isDone() ? CallStatistics.Reuse.RESULT : CallStatistics.Reuse.CALL;
+    return statistics.measureCoalesced(method, reuse, () -> await(call));
+  }
+
+  private <T> T load(Key key, Call<T> call, Loader<T> loader, long window) throws IOException {
+    try {
+      T result = loader.load();
+      call.completedAt = clock.getAsLong();
+      call.future.complete(result);
+      if (window <= 0) {
+        calls.remove(key, call);
+      }
+      return result;
+    } catch (IOException | RuntimeException | Error e) {
+      calls.remove(key, call);
+      call.future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private static <T> T await(Call<T> call) throws IOException {
+    try {
+      return call.future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(e.getMessage());
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause.getMessage(), cause);
+    }
+  }
+
+  /**
+   * Discards all results and stops calls from joining the calls that are in flight.
+   */
+  public void invalidate() {
+    generation.incrementAndGet();
+    calls.clear();
+  }
+
+  /**
+   * Discards the results for the given namespace and stops calls from joining the calls for it that are in flight.
+   *
+   * @param namespace the namespace whose resources changed
+   */
+  public void invalidate(String namespace) {
+    String scope = namespace(namespace);
+    calls.keySet().removeIf(key -> key.scope.equals(scope));
+  }
+
+  private <T> List<T> getList(String method, String scope, Loader<List<T>> loader, Object... args) throws IOException {
+    List<T> list = get(method, scope, loader, args);
+    // callers may modify the list they get
+    return list == null ? null : new ArrayList<>(list);
+  }
+
+  private static String namespace(String namespace) {
+    return "namespace:" + namespace;
+  }
+
+  private static String context(String path) {
+    if (path == null) {
+      return GLOBAL;
+    }
+    return "context:" + Paths.get(path).toAbsolutePath().normalize();
+  }
+
+  @Override
+  public List<String> getNamespaces() throws IOException {
+    return getList("getNamespaces", GLOBAL, delegate::getNamespaces);
+  }
+
+  @Override
+  public List<String> getNamespaces(Consumer<List<String>> pages) throws IOException {
+    // the pages are for the given consumer only
+    return delegate.getNamespaces(pages);
+  }
+
+  @Override
+  public String getCurrentNamespace() {
+    return delegate.getCurrentNamespace();
+  }
+
+  @Override
+  public void setCurrentNamespace(String namespace) {
+    invalidate();
+    delegate.setCurrentNamespace(namespace);
+  }
+
+  @Override
+  public boolean namespaceExists(String name) {
+    return delegate.namespaceExists(name);
+  }
+
+  @Override
+  public String getNamespaceKind() {
+    return delegate.getNamespaceKind();
+  }
+
+  @Override
+  public void start(String context, ComponentFeature feature, ProcessHandler handler, ProcessAdapter processAdapter) throws IOException {
+    invalidate();
+    delegate.start(context, feature, handler, processAdapter);
+  }
+
+  @Override
+  public void start(String context, String component, ComponentFeature feature,
+                    Consumer<Boolean> callback, Consumer<Boolean> processTerminatedCallback) throws IOException {
+    invalidate();
+    delegate.start(context, component, feature, callback, processTerminatedCallback);
+  }
+
+  @Override
+  public void stop(String context, String component, ComponentFeature feature) throws IOException {
+    invalidate();
+    delegate.stop(context, component, feature);
+  }
+
+  @Override
+  public void stop(String context, ComponentFeature feature, ProcessHandler handler) throws IOException {
+    invalidate();
+    delegate.stop(context, feature, handler);
+  }
+
+  @Override
+  public void describeComponent(String context) throws IOException {
+    delegate.describeComponent(context);
+  }
+
+  @Override
+  public boolean isStarted(String component, ComponentFeature feature) {
+    return delegate.isStarted(component, feature);
+  }
+
+  @Override
+  public List<ComponentMetadata> analyze(String path) throws IOException {
+    return getList("analyze", context(path), () -> delegate.analyze(path));
+  }
+
+  @Override
+  public void createComponent(String componentType, String registryName, String component, String source, String devfile, String starter) throws IOException {
+    invalidate();
+    delegate.createComponent(componentType, registryName, component, source, devfile, starter);
+  }
+
+  @Override
+  public void createService(String project, ServiceTemplate serviceTemplate, OperatorCRD serviceCRD,
+                            String service, ObjectNode spec, boolean wait) throws IOException {
+    invalidate();
+    delegate.createService(project, serviceTemplate, serviceCRD, service, spec, wait);
+  }
+
+  @Override
+  public void deleteService(String project, Service service) throws IOException {
+    invalidate();
+    delegate.deleteService(project, service);
+  }
+
+  @Override
+  public List<DevfileComponentType> getComponentTypes() throws IOException {
+    return getList("getComponentTypes", GLOBAL, delegate::getComponentTypes);
+  }
+
+  @Override
+  public List<ServiceTemplate> getServiceTemplates() throws IOException {
+    return getList("getServiceTemplates", namespace(delegate.getCurrentNamespace()), delegate::getServiceTemplates);
+  }
+
+  @Override
+  public List<URL> listURLs(String context) throws IOException {
+    return getList("listURLs", context(context), () -> delegate.listURLs(context));
+  }
+
+  @Override
+  public OdoCapabilities getCapabilities() {
+    return delegate.getCapabilities();
+  }
+
+  @Override
+  public ComponentInfo getComponentInfo(String project, String component, String path, ComponentKind kind) throws IOException {
+    return get("getComponentInfo", namespace(project), () -> delegate.getComponentInfo(project, component, path, kind),
+      component, context(path), kind);
+  }
+
+  @Override
+  public void deleteComponent(String project, String context, String component, ComponentKind kind) throws IOException {
+    invalidate();
+    delegate.deleteComponent(project, context, component, kind);
+  }
+
+  @Override
+  public boolean isLogRunning(String component, boolean deploy) {
+    return delegate.isLogRunning(component, deploy);
+  }
+
+  @Override
+  public void follow(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
+    delegate.follow(context, component, deploy, platform, handlers);
+  }
+
+  @Override
+  public void log(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
+    delegate.log(context, component, deploy, platform, handlers);
+  }
+
+  @Override
+  public void follow(String context, String component, boolean deploy, String platform) throws IOException {
+    delegate.follow(context, component, deploy, platform);
+  }
+
+  @Override
+  public void log(String context, String component, boolean deploy, String platform) throws IOException {
+    delegate.log(context, component, deploy, platform);
+  }
+
+  @Override
+  public void createProject(String project) throws IOException {
+    invalidate();
+    delegate.createProject(project);
+  }
+
+  @Override
+  public void deleteProject(String project) throws IOException {
+    invalidate();
+    delegate.deleteProject(project);
+  }
+
+  @Override
+  public void setProject(String project) throws IOException {
+    invalidate();
+    delegate.setProject(project);
+  }
+
+  @Override
+  public void login(String url, String userName, char[] password, char[] token) throws IOException {
+    invalidate();
+    delegate.login(url, userName, password, token);
+  }
+
+  @Override
+  public boolean isAuthorized() {
+    return delegate.isAuthorized();
+  }
+
+  @Override
+  public List<Component> getComponents(String project) throws IOException {
+    List<Component> components = get("getComponents", namespace(project), () -> delegate.getComponents(project));
+    if (components == null) {
+      return null;
+    }
+    // callers modify the components they get (ex. set their path and info)
+    return components.stream()
+      .map(Component::copyOf)
+      .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<Service> getServices(String project) throws IOException {
+    return getList("getServices", namespace(project), () -> delegate.getServices(project));
+  }
+
+  @Override
+  public List<ChartRelease> getHelmReleases(String project) throws IOException {
+    return getList("getHelmReleases", namespace(project), () -> delegate.getHelmReleases(project));
+  }
+
+  @Override
+  public void about() throws IOException {
+    delegate.about();
+  }
+
+  @Override
+  public Binding link(String context, String target) throws IOException {
+    invalidate();
+    return delegate.link(context, target);
+  }
+
+  @Override
+  public List<Binding> listBindings(String context) throws IOException {
+    return getList("listBindings", context(context), () -> delegate.listBindings(context));
+  }
+
+  @Override
+  public void deleteBinding(String context, String binding) throws IOException {
+    invalidate();
+    delegate.deleteBinding(context, binding);
+  }
+
+  @Override
+  public String consoleURL() throws IOException {
+    return delegate.consoleURL();
+  }
+
+  @Override
+  public void debug(String context, Integer port) throws IOException {
+    delegate.debug(context, port);
+  }
+
+  @Override
+  public Constants.DebugStatus debugStatus(String context) throws IOException {
+    return delegate.debugStatus(context);
+  }
+
+  @Override
+  public java.net.URL getMasterUrl() {
+    return delegate.getMasterUrl();
+  }
+
+  @Override
+  public List<ComponentDescriptor> discover(String path) throws IOException {
+    // the result depends on the devfile, which may change at any time
+    return delegate.discover(path);
+  }
+
+  @Override
+  public ComponentTypeInfo getComponentTypeInfo(String componentType, String registryName) throws IOException {
+    return get("getComponentTypeInfo", GLOBAL, () -> delegate.getComponentTypeInfo(componentType, registryName),
+      componentType, registryName);
+  }
+
+  @Override
+  public List<DevfileRegistry> listDevfileRegistries() throws IOException {
+    return getList("listDevfileRegistries", GLOBAL, delegate::listDevfileRegistries);
+  }
+
+  @Override
+  public void createDevfileRegistry(String name, String url, String token) throws IOException {
+    invalidate();
+    delegate.createDevfileRegistry(name, url, token);
+  }
+
+  @Override
+  public void deleteDevfileRegistry(String name) throws IOException {
+    invalidate();
+    delegate.deleteDevfileRegistry(name);
+  }
+
+  @Override
+  public List<DevfileComponentType> getComponentTypes(String name) throws IOException {
+    return getList("getComponentTypes", GLOBAL, () -> delegate.getComponentTypes(name), name);
+  }
+
+  @Override
+  public boolean isOpenShift() {
+    return delegate.isOpenShift();
+  }
+
+  @Override
+  public void migrateComponent(String name) {
+    invalidate();
+    delegate.migrateComponent(name);
+  }
+
+  @Override
+  public void dispose() {
+    if (connection != null) {
+      connection.disconnect();
+    }
+    if (processes != null) {
+      processes.removeListener(processesListener);
+    }
+    invalidate();
+    delegate.dispose();
+  }
+
+  private static class Key {
+
+    private final String method;
+    private final String scope;
+    private final List<Object> args;
+
+    private Key(String method, String scope, List<Object> args) {
+      this.method = method;
+      this.scope = scope;
+      this.args = args;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return method.equals(other.method)
+        && scope.equals(other.scope)
+        && args.equals(other.args);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(method, scope, args);
+    }
+  }
+
+  private static class Call<T> {
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final long generation;
+    private volatile long completedAt;
+
+    private Call(long generation) {
+      this.generation = generation;
+    }
+
+    /**
+     * Returns {@code true} if the caller is the first one and has to make the call.
+     */
+    private boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+
+    private boolean isReusable(long currentGeneration, long now, long window) {
+      if (generation != currentGeneration
+        || future.isCompletedExceptionally()) {
+        return false;
+      }
+      return !future.isDone()
+        || now - completedAt <= window;
+    }
+  }
+}
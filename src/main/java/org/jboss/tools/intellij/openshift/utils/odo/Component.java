@@ -109,4 +109,12 @@ public interface Component {
     static Component of(String name, String managedBy, ComponentFeatures state, String path, ComponentInfo info) {
         return new ComponentImpl(name, managedBy, state, path, info);
     }
+
+    /**
+     * Returns a copy of the given component that can be modified without affecting the given one.
+     */
+    static Component copyOf(Component component) {
+        return of(component.getName(), component.getManagedBy(), new ComponentFeatures(component.getLiveFeatures()),
+            component.getPath(), component.getInfo());
+    }
 }
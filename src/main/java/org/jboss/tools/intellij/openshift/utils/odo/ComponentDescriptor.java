@@ -30,6 +30,9 @@ public class ComponentDescriptor {
     public String getManagedBy() {
         return managedBy;
     }
+    public String getManagedByVersion() {
+        return managedByVersion;
+    }
     public String getPath() {
         return path;
     }
@@ -10,16 +10,23 @@
  ******************************************************************************/
 package org.jboss.tools.intellij.openshift.utils.odo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.deser.std.StdNodeBasedDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
-public class ComponentTypesDeserializer extends StdNodeBasedDeserializer<List<ComponentType>> {
+/**
+ * Reads the output of {@code odo registry list -o json}.
+ * Registries may hold hundreds of stacks, the output is therefore read token by token
+ * without building a tree of the whole document and the fields that are not needed are skipped.
+ */
+public class ComponentTypesDeserializer extends StdDeserializer<List<ComponentType>> {
 
     private static final String DEVFILE_REGISTRY = "registry";
     private static final String DEVFILE_DISPLAY_NAME_FIELD = "displayName";
@@ -31,24 +38,63 @@ public class ComponentTypesDeserializer extends StdNodeBasedDeserializer<List<Co
     }
 
     @Override
-    public List<ComponentType> convert(JsonNode root, DeserializationContext ctxt){
-        return new ArrayList<>(parseDevfileItems(root));
+    public List<ComponentType> deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        List<ComponentType> result = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return result;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY
+            && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                result.add(parseDevfileItem(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
     }
-    private static String get(JsonNode node, String fieldName) {
-        return node.has(fieldName)?node.get(fieldName).asText():"";
+
+    @Override
+    public List<ComponentType> getNullValue(DeserializationContext ctxt) {
+        return new ArrayList<>();
     }
 
-    private Collection<? extends ComponentType> parseDevfileItems(JsonNode items) {
-        List<ComponentType> result = new ArrayList<>();
-        if (items != null) {
-            for (JsonNode item : items) {
-                String name = get(item, DEVFILE_NAME_FIELD);
-                String displayName = get(item, DEVFILE_DISPLAY_NAME_FIELD);
-                String description = get(item, DEVFILE_DESCRIPTION_FIELD);
-                DevfileRegistry registry = DevfileRegistriesDeserializer.getRegistry(item.get(DEVFILE_REGISTRY));
-                result.add(new DevfileComponentType(name, displayName, description, registry));
+    private ComponentType parseDevfileItem(JsonParser parser) throws IOException {
+        String name = "";
+        String displayName = "";
+        String description = "";
+        DevfileRegistry registry = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case DEVFILE_NAME_FIELD:
+                    name = getText(parser);
+                    break;
+                case DEVFILE_DISPLAY_NAME_FIELD:
+                    displayName = getText(parser);
+                    break;
+                case DEVFILE_DESCRIPTION_FIELD:
+                    description = getText(parser);
+                    break;
+                case DEVFILE_REGISTRY:
+                    JsonNode node = parser.readValueAsTree();
+                    registry = DevfileRegistriesDeserializer.getRegistry(node);
+                    break;
+                default:
+                    parser.skipChildren();
             }
         }
-        return result;
+        return new DevfileComponentType(name, displayName, description, registry);
+    }
+
+    private static String getText(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getValueAsString("");
+        }
+        parser.skipChildren();
+        return "";
     }
 }
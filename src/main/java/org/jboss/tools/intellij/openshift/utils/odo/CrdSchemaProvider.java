@@ -0,0 +1,461 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Provides the schemas of custom resources without downloading the complete OpenAPI v2 document of the cluster.
+ * <ul>
+ *   <li>The OpenAPI v3 document of the group version of the custom resource
+ *   ({@code /openapi/v3/apis/<group>/<version>}) is fetched when a schema is requested.</li>
+ *   <li>The resolved schemas are kept in a bounded cache that the garbage collector may clear.</li>
+ *   <li>The resolved schemas are persisted to disk per cluster and custom resource,
+ *   along with the hash that the cluster publishes for the group version.
+ *   A persisted schema is served for as long as this hash does not change.</li>
+ *   <li>If the cluster does not serve OpenAPI v3, the OpenAPI v2 document is read once and reduced to the body
+ *   schemas of the custom resources and the definitions that they refer to. The reduced document is kept in the
+ *   same cache as the v3 documents.</li>
+ * </ul>
+ */
+public class CrdSchemaProvider {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CrdSchemaProvider.class);
+
+  static final String V2_PATH = "/openapi/v2";
+  static final String V3_PATH = "/openapi/v3";
+
+  private static final int SCHEMAS_CAPACITY = 64;
+  private static final int DOCUMENTS_CAPACITY = 4;
+
+  private static final String APIS_PREFIX = "apis/";
+  private static final String PATHS_FIELD = "paths";
+  private static final String SERVER_RELATIVE_URL_FIELD = "serverRelativeURL";
+  private static final String HASH_PARAMETER = "hash=";
+  private static final String DEFINITIONS_FIELD = "definitions";
+  private static final String POST_FIELD = "post";
+  private static final String PARAMETERS_FIELD = "parameters";
+  private static final String REQUEST_BODY_FIELD = "requestBody";
+  private static final String CONTENT_FIELD = "content";
+  private static final String JSON_CONTENT = "application/json";
+  private static final String NAME_FIELD = "name";
+  private static final String BODY_VALUE = "body";
+  private static final String SCHEMA_FIELD = "schema";
+  private static final String REF_FIELD = "$ref";
+  private static final String DEFINITIONS_REF_PREFIX = "#/" + DEFINITIONS_FIELD + "/";
+  private static final String ALL_OF_FIELD = "allOf";
+  private static final String VERSION_FIELD = "version";
+
+  @FunctionalInterface
+  public interface Fetcher {
+    /**
+     * Returns the content at the given path (relative to the cluster url) or {@code null} if there's none.
+     */
+    InputStream fetch(String path) throws IOException;
+  }
+
+  private final String cluster;
+  private final Path folder;
+  private final Fetcher fetcher;
+  private final SoftCache<String, ObjectNode> schemas = new SoftCache<>(SCHEMAS_CAPACITY);
+  private final SoftCache<String, JsonNode> documents = new SoftCache<>(DOCUMENTS_CAPACITY);
+  private Map<String, String> groupVersions;
+  private boolean discovered = false;
+
+  /**
+   * @param cluster the url of the cluster
+   * @param folder the folder to persist the schemas to
+   * @param fetcher the fetcher that reads from the cluster
+   */
+  public CrdSchemaProvider(String cluster, Path folder, Fetcher fetcher) {
+    this.cluster = cluster;
+    this.folder = folder;
+    this.fetcher = fetcher;
+  }
+
+  /**
+   * Returns the schema for the given custom resource path (ex. {@code kafka.strimzi.io/v1beta2/namespaces/{namespace}/kafkas}).
+   * The returned schema is a copy that the caller may modify.
+   *
+   * @param crd the path of the custom resource, relative to {@code /apis/}
+   * @return the schema or {@code null} if the cluster has no schema for the given path
+   * @throws IOException if the schema could not be fetched
+   */
+  public synchronized ObjectNode getSchema(String crd) throws IOException {
+    ObjectNode schema = schemas.get(crd);
+    if (schema == null) {
+      schema = load(crd);
+      if (schema == null) {
+        return null;
+      }
+      schemas.put(crd, schema);
+    }
+    return schema.deepCopy();
+  }
+
+  private ObjectNode load(String crd) throws IOException {
+    Map<String, String> groupVersions = getGroupVersions();
+    if (groupVersions == null) {
+      return loadFromV2(crd);
+    }
+    String url = groupVersions.get(APIS_PREFIX + getGroupVersion(crd));
+    if (url == null) {
+      return null;
+    }
+    String hash = getHash(url);
+    if (hash == null) {
+      return loadFromV3(url, crd);
+    }
+    Path file = folder.resolve(sha256(cluster + '\n' + crd) + ".json");
+    ObjectNode schema = read(file, hash);
+    if (schema == null) {
+      schema = loadFromV3(url, crd);
+      if (schema != null) {
+        write(file, hash, schema);
+      }
+    }
+    return schema;
+  }
+
+  /**
+   * Returns the urls of the OpenAPI v3 documents per group version (ex. {@code apis/kafka.strimzi.io/v1beta2}).
+   * Returns {@code null} if the cluster does not serve OpenAPI v3.
+   */
+  private Map<String, String> getGroupVersions() throws IOException {
+    if (!discovered) {
+      try (InputStream discovery = fetcher.fetch(V3_PATH)) {
+        if (discovery != null) {
+          this.groupVersions = new HashMap<>();
+          Iterator<Map.Entry<String, JsonNode>> paths = Serialization.json().readTree(discovery).path(PATHS_FIELD).fields();
+          while (paths.hasNext()) {
+            Map.Entry<String, JsonNode> path = paths.next();
+            String url = path.getValue().path(SERVER_RELATIVE_URL_FIELD).asText(null);
+            if (url != null) {
+              groupVersions.put(path.getKey(), url);
+            }
+          }
+        }
+      }
+      this.discovered = true;
+    }
+    return groupVersions;
+  }
+
+  private static String getGroupVersion(String crd) {
+    String[] segments = crd.split("/", 3);
+    return segments.length < 2 ? crd : segments[0] + '/' + segments[1];
+  }
+
+  private static String getHash(String url) {
+    int hash = url.indexOf(HASH_PARAMETER);
+    if (hash == -1) {
+      return null;
+    }
+    int end = url.indexOf('&', hash);
+    return url.substring(hash + HASH_PARAMETER.length(), end == -1 ? url.length() : end);
+  }
+
+  private ObjectNode loadFromV3(String url, String crd) throws IOException {
+    JsonNode document = documents.get(url);
+    if (document == null) {
+      try (InputStream in = fetcher.fetch(url)) {
+        if (in == null) {
+          return null;
+        }
+        document = Serialization.json().readTree(in);
+      }
+      documents.put(url, document);
+    }
+    JsonNode schema = document.path(PATHS_FIELD).path("/" + APIS_PREFIX + crd)
+      .path(POST_FIELD).path(REQUEST_BODY_FIELD).path(CONTENT_FIELD).path(JSON_CONTENT).path(SCHEMA_FIELD);
+    return schema.isObject() ? (ObjectNode) resolve(document, schema, new ArrayDeque<>()) : null;
+  }
+
+  private ObjectNode loadFromV2(String crd) throws IOException {
+    JsonNode document = documents.get(V2_PATH);
+    if (document == null) {
+      document = readV2();
+      if (document == null) {
+        return null;
+      }
+      documents.put(V2_PATH, document);
+    }
+    JsonNode schema = document.path(PATHS_FIELD).path("/" + APIS_PREFIX + crd);
+    return schema.isObject() ? (ObjectNode) resolve(document, schema, new ArrayDeque<>()) : null;
+  }
+
+  /**
+   * Reads the OpenAPI v2 document into a document that has the body schemas of the custom resources by path
+   * ({@code paths: {<path>: <schema>}}) and the definitions that these schemas refer to. All other paths,
+   * operations and definitions are skipped.
+   */
+  private JsonNode readV2() throws IOException {
+    try (InputStream in = fetcher.fetch(V2_PATH)) {
+      if (in == null) {
+        return null;
+      }
+      ObjectNode paths = Serialization.json().createObjectNode();
+      JsonNode definitions = Serialization.json().createObjectNode();
+      try (JsonParser parser = Serialization.json().getFactory().createParser(in)) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+          return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.currentName();
+          JsonToken value = parser.nextToken();
+          if (PATHS_FIELD.equals(field)
+            && value == JsonToken.START_OBJECT) {
+            readBodySchemas(parser, paths);
+          } else if (DEFINITIONS_FIELD.equals(field)
+            && value == JsonToken.START_OBJECT) {
+            definitions = Serialization.json().readTree(parser);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      }
+      ObjectNode document = Serialization.json().createObjectNode();
+      document.set(PATHS_FIELD, paths);
+      document.set(DEFINITIONS_FIELD, getReferencedDefinitions(definitions, paths));
+      return document;
+    }
+  }
+
+  /**
+   * Reads the body schemas of the POST operations of the custom resource paths into the given node.
+   */
+  private static void readBodySchemas(JsonParser parser, ObjectNode paths) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if (name.startsWith("/" + APIS_PREFIX)) {
+        JsonNode schema = readBodySchema(parser);
+        if (schema != null) {
+          paths.set(name, schema);
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static JsonNode readBodySchema(JsonParser parser) throws IOException {
+    JsonNode schema = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String operation = parser.currentName();
+      parser.nextToken();
+      if (POST_FIELD.equals(operation)) {
+        for (JsonNode parameter : Serialization.json().readTree(parser).path(PARAMETERS_FIELD)) {
+          if (BODY_VALUE.equals(parameter.path(NAME_FIELD).asText())
+            && parameter.path(SCHEMA_FIELD).isObject()) {
+            schema = parameter.get(SCHEMA_FIELD);
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return schema;
+  }
+
+  /**
+   * Returns the definitions that the given schemas refer to, directly or through other definitions.
+   */
+  private static ObjectNode getReferencedDefinitions(JsonNode definitions, JsonNode schemas) {
+    ObjectNode referenced = Serialization.json().createObjectNode();
+    Deque<JsonNode> pending = new ArrayDeque<>();
+    schemas.forEach(pending::add);
+    Set<String> seen = new HashSet<>();
+    while (!pending.isEmpty()) {
+      JsonNode node = pending.pop();
+      if (node.isObject()
+        && node.path(REF_FIELD).isTextual()) {
+        String ref = node.get(REF_FIELD).asText();
+        if (ref.startsWith(DEFINITIONS_REF_PREFIX)
+          && seen.add(ref)) {
+          String name = ref.substring(DEFINITIONS_REF_PREFIX.length());
+          JsonNode definition = definitions.get(name);
+          if (definition != null) {
+            referenced.set(name, definition);
+            pending.push(definition);
+          }
+        }
+      }
+      if (node.isContainerNode()) {
+        node.forEach(pending::push);
+      }
+    }
+    return referenced;
+  }
+
+  /**
+   * Returns a copy of the given node where references are replaced by what they refer to.
+   * A schema that is composed of a single reference ({@code allOf: [{$ref: ...}]}) is flattened.
+   * References that lead back to a schema that is being resolved are kept as is.
+   */
+  private static JsonNode resolve(JsonNode document, JsonNode node, Deque<String> resolving) throws IOException {
+    if (node.isArray()) {
+      ArrayNode resolved = Serialization.json().createArrayNode();
+      for (JsonNode element : node) {
+        resolved.add(resolve(document, element, resolving));
+      }
+      return resolved;
+    } else if (!node.isObject()) {
+      return node;
+    }
+    if (node.has(REF_FIELD)) {
+      String ref = node.get(REF_FIELD).asText();
+      if (resolving.contains(ref)) {
+        return node;
+      }
+      resolving.push(ref);
+      JsonNode resolved = resolve(document, getReferenced(document, ref), resolving);
+      resolving.pop();
+      return resolved;
+    }
+    ObjectNode resolved = Serialization.json().createObjectNode();
+    boolean flattened = false;
+    JsonNode allOf = node.get(ALL_OF_FIELD);
+    if (allOf != null
+      && allOf.size() == 1
+      && allOf.get(0).has(REF_FIELD)) {
+      JsonNode referenced = resolve(document, allOf.get(0), resolving);
+      if (referenced.isObject()) {
+        resolved.setAll((ObjectNode) referenced);
+        flattened = true;
+      }
+    }
+    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (!flattened
+        || !ALL_OF_FIELD.equals(field.getKey())) {
+        resolved.set(field.getKey(), resolve(document, field.getValue(), resolving));
+      }
+    }
+    return resolved;
+  }
+
+  private static JsonNode getReferenced(JsonNode document, String ref) throws IOException {
+    JsonNode node = document;
+    for (String id : ref.split("/")) {
+      if (!"#".equals(id)) {
+        node = node.get(id);
+        if (node == null) {
+          throw new IOException("Can't resolve reference '" + ref + "' element " + id + " not found");
+        }
+      }
+    }
+    return node;
+  }
+
+  private ObjectNode read(Path file, String hash) {
+    try {
+      JsonNode persisted = Serialization.json().readTree(file.toFile());
+      if (hash.equals(persisted.path(VERSION_FIELD).asText())
+        && persisted.path(SCHEMA_FIELD).isObject()) {
+        return (ObjectNode) persisted.get(SCHEMA_FIELD);
+      }
+    } catch (NoSuchFileException e) {
+      // not persisted yet
+    } catch (IOException e) {
+      LOGGER.warn("Could not read schema from {}.", file, e);
+    }
+    return null;
+  }
+
+  private void write(Path file, String hash, ObjectNode schema) {
+    try {
+      Files.createDirectories(folder);
+      Path temp = Files.createTempFile(folder, file.getFileName().toString(), ".tmp");
+      try {
+        ObjectNode persisted = Serialization.json().createObjectNode()
+          .put(VERSION_FIELD, hash);
+        persisted.set(SCHEMA_FIELD, schema);
+        Files.writeString(temp, persisted.toString(), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Could not persist schema to {}.", file, e);
+    }
+  }
+
+  private static String sha256(String value) {
+    try {
+      return HexFormat.of().formatHex(
+        MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * A least recently used cache whose values the garbage collector may clear.
+   */
+  private static class SoftCache<K, V> {
+
+    private final Map<K, SoftReference<V>> entries;
+
+    private SoftCache(int capacity) {
+      this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, SoftReference<V>> eldest) {
+          return size() > capacity;
+        }
+      };
+    }
+
+    private V get(K key) {
+      SoftReference<V> reference = entries.get(key);
+      if (reference == null) {
+        return null;
+      }
+      V value = reference.get();
+      if (value == null) {
+        entries.remove(key);
+      }
+      return value;
+    }
+
+    private void put(K key, V value) {
+      entries.put(key, new SoftReference<>(value));
+    }
+  }
+}
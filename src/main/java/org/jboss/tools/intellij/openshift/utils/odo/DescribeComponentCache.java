@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the output of {@code odo describe component -o json} for local component contexts.
+ * The output only changes if the devfile or the running odo sessions (dev, debug, deploy) change.
+ * An entry is therefore keyed by the content hash of the devfile and the live features of the component
+ * and is reloaded as soon as any of them differs.
+ */
+public class DescribeComponentCache {
+
+  /**
+   * The devfile names that odo looks up in a context, in the order of precedence.
+   */
+  public static final List<String> DEVFILE_NAMES = List.of("devfile.yaml", ".devfile.yaml", "devfile.yml", ".devfile.yml");
+
+  private static final String NO_DEVFILE = "none";
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  @FunctionalInterface
+  public interface Loader {
+    JsonNode load() throws IOException;
+  }
+
+  public JsonNode get(String context, Collection<ComponentFeature> liveFeatures, Loader loader) throws IOException {
+    String path = toPath(context);
+    String key = getDevfileHash(path) + '/' + toString(liveFeatures);
+    Entry entry = entries.get(path);
+    if (entry != null
+      && entry.key.equals(key)) {
+      return entry.node;
+    }
+    JsonNode node = loader.load();
+    entries.put(path, new Entry(key, node));
+    return node;
+  }
+
+  public void invalidate(String context) {
+    entries.remove(toPath(context));
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public static boolean isDevfile(String fileName) {
+    return DEVFILE_NAMES.contains(fileName);
+  }
+
+  private static String toPath(String context) {
+    return new File(context).toPath().toAbsolutePath().normalize().toString();
+  }
+
+  private static String getDevfileHash(String context) throws IOException {
+    for (String name : DEVFILE_NAMES) {
+      Path devfile = Path.of(context, name);
+      if (Files.isRegularFile(devfile)) {
+        return hash(Files.readAllBytes(devfile));
+      }
+    }
+    return NO_DEVFILE;
+  }
+
+  private static String hash(byte[] content) throws IOException {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static String toString(Collection<ComponentFeature> liveFeatures) {
+    return liveFeatures.stream()
+      .map(ComponentFeature::getLabel)
+      .sorted()
+      .collect(Collectors.joining(","));
+  }
+
+  private static class Entry {
+    private final String key;
+    private final JsonNode node;
+
+    private Entry(String key, JsonNode node) {
+      this.key = key;
+      this.node = node;
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An index of the stacks (and their starters) that the devfile registries provide, persisted to disk.
+ * The index is stored as json lines: a header with the time of the last update followed by a line per stack.
+ * <ul>
+ *   <li>The index is read from disk when it's accessed for the first time.</li>
+ *   <li>If it's older than the given ttl it is served as is and updated in the background.</li>
+ *   <li>If there's no index yet or it was invalidated, it's updated right away.
+ *   Should this fail (ex. offline) the previous index is served if there's any.</li>
+ * </ul>
+ */
+public class DevfileRegistryIndex {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DevfileRegistryIndex.class);
+
+  private static final ObjectMapper COMPONENT_TYPES_MAPPER = Serialization.configure(new ComponentTypesDeserializer());
+
+  private static final String TIMESTAMP_FIELD = "timestamp";
+  private static final String NAME_FIELD = "name";
+  private static final String REGISTRY_FIELD = "registry";
+  private static final List<String> STACK_FIELDS = List.of(NAME_FIELD, "displayName", "description", REGISTRY_FIELD, "starterProjects");
+
+  @FunctionalInterface
+  public interface Loader {
+    /**
+     * Returns the stacks as listed by {@code odo registry list -o json}.
+     */
+    JsonNode load() throws IOException;
+  }
+
+  private final Path file;
+  private final long ttl;
+  private final Loader loader;
+  private final Executor executor;
+  private final AtomicBoolean revalidating = new AtomicBoolean();
+  private Snapshot snapshot;
+  private boolean diskRead = false;
+  private boolean invalidated = false;
+
+  /**
+   * @param file the file to persist the index to
+   * @param ttl the time in milliseconds after which the index is updated
+   * @param loader the loader that lists the stacks
+   * @param executor the executor that updates the index in the background
+   */
+  public DevfileRegistryIndex(Path file, long ttl, Loader loader, Executor executor) {
+    this.file = file;
+    this.ttl = ttl;
+    this.loader = loader;
+    this.executor = executor;
+  }
+
+  public List<DevfileComponentType> getComponentTypes() throws IOException {
+    return COMPONENT_TYPES_MAPPER.readerFor(new TypeReference<List<DevfileComponentType>>() {})
+      .readValue(getSnapshot().stacks);
+  }
+
+  /**
+   * Returns the info for the given stack or {@code null} if the stack is not in the index.
+   */
+  public ComponentTypeInfo getComponentTypeInfo(String componentType, String registryName) throws IOException {
+    for (JsonNode stack : getSnapshot().stacks) {
+      if (componentType.equals(stack.path(NAME_FIELD).asText())
+        && registryName.equals(stack.path(REGISTRY_FIELD).path(NAME_FIELD).asText())) {
+        return new JSonParser(Serialization.json().createArrayNode().add(stack)).parseComponentTypeInfo();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Forces the index to be updated on next access. To be called whenever registries are added or removed.
+   */
+  public synchronized void invalidate() {
+    this.invalidated = true;
+  }
+
+  private synchronized Snapshot getSnapshot() throws IOException {
+    if (!diskRead) {
+      this.diskRead = true;
+      this.snapshot = read();
+    }
+    if (snapshot == null
+      || invalidated) {
+      try {
+        update(fetch());
+        this.invalidated = false;
+      } catch (IOException e) {
+        if (snapshot == null) {
+          throw e;
+        }
+        LOGGER.warn("Could not update devfile registry index, using index from {}.", snapshot.timestamp, e);
+      }
+    } else if (System.currentTimeMillis() - snapshot.timestamp > ttl) {
+      revalidate();
+    }
+    return snapshot;
+  }
+
+  private void revalidate() {
+    if (!revalidating.compareAndSet(false, true)) {
+      return;
+    }
+    executor.execute(() -> {
+      try {
+        Snapshot fetched = fetch();
+        synchronized (this) {
+          update(fetched);
+        }
+      } catch (IOException e) {
+        LOGGER.warn("Could not update devfile registry index.", e);
+      } finally {
+        revalidating.set(false);
+      }
+    });
+  }
+
+  private Snapshot fetch() throws IOException {
+    ArrayNode stacks = Serialization.json().createArrayNode();
+    for (JsonNode stack : loader.load()) {
+      if (stack instanceof ObjectNode) {
+        stacks.add(((ObjectNode) stack.deepCopy()).retain(STACK_FIELDS));
+      }
+    }
+    return new Snapshot(System.currentTimeMillis(), stacks);
+  }
+
+  private void update(Snapshot snapshot) {
+    this.snapshot = snapshot;
+    try {
+      write(snapshot);
+    } catch (IOException e) {
+      LOGGER.warn("Could not persist devfile registry index to {}.", file, e);
+    }
+  }
+
+  private Snapshot read() {
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String header = reader.readLine();
+      if (header == null) {
+        return null;
+      }
+      long timestamp = Serialization.json().readTree(header).path(TIMESTAMP_FIELD).asLong();
+      ArrayNode stacks = Serialization.json().createArrayNode();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isBlank()) {
+          stacks.add(Serialization.json().readTree(line));
+        }
+      }
+      return new Snapshot(timestamp, stacks);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      LOGGER.warn("Could not read devfile registry index from {}.", file, e);
+      return null;
+    }
+  }
+
+  private void write(Snapshot snapshot) throws IOException {
+    Files.createDirectories(file.getParent());
+    Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        writer.write(Serialization.json().createObjectNode().put(TIMESTAMP_FIELD, snapshot.timestamp).toString());
+        writer.newLine();
+        for (JsonNode stack : snapshot.stacks) {
+          writer.write(stack.toString());
+          writer.newLine();
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static class Snapshot {
+    private final long timestamp;
+    private final ArrayNode stacks;
+
+    private Snapshot(long timestamp, ArrayNode stacks) {
+      this.timestamp = timestamp;
+      this.stacks = stacks;
+    }
+  }
+}
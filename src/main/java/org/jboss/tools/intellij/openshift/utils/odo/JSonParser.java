@@ -11,14 +11,11 @@
 package org.jboss.tools.intellij.openshift.utils.odo;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.StringUtils;
 import org.jboss.tools.intellij.openshift.Constants;
 import org.jboss.tools.intellij.openshift.Constants.DebugStatus;
 
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class JSonParser {
@@ -35,11 +32,6 @@ public class JSonParser {
     private static final String STARTER_PROJECTS_FIELD = "starterProjects";
 
     private static final String PATHS_FIELD = "paths";
-    private static final String POST_FIELD = "post";
-    private static final String PARAMETERS_FIELD = "parameters";
-    private static final String BODY_VALUE = "body";
-    private static final String SCHEMA_FIELD = "schema";
-    private static final String DOLLAR_REF_FIELD = "$ref";
     private static final String SUPPORTED_ODO_FEATURES_FIELD = "supportedOdoFeatures";
     private static final String LOCAL_ADDRESS_FIELD = "localAddress";
     private static final String LOCAL_PORT_FIELD = "localPort";
@@ -53,6 +45,12 @@ public class JSonParser {
     private static final String ROUTES_FIELD = "routes";
     private static final String HOST_FIELD = "host";
     private static final String RULES_FIELD = "rules";
+    private static final String VERSION_FIELD = "version";
+    private static final String CLUSTER_FIELD = "cluster";
+    private static final String KUBERNETES_VERSION_FIELD = "kubernetesVersion";
+    private static final String OPENSHIFT_VERSION_FIELD = "openshiftVersion";
+    private static final String PODMAN_FIELD = "podman";
+    private static final String CLIENT_FIELD = "client";
 
     private final JsonNode root;
 
@@ -183,58 +181,24 @@ public class JSonParser {
         return builder.build();
     }
 
-    public Starter parseStarter(JsonNode node) {
-        String name = node.asText();
-        Starter.Builder builder = new Starter.Builder().withName(name);
-        return builder.build();
-    }
-
-    private JsonNode resolveRefs(JsonNode root, JsonNode node) throws IOException {
-        for (Iterator<String> it = node.fieldNames(); it.hasNext(); ) {
-            String name = it.next();
-            JsonNode child = node.get(name);
-            if (child.has(DOLLAR_REF_FIELD)) {
-                JsonNode replaced = resolve(root, child.get(DOLLAR_REF_FIELD).asText());
-                ((ObjectNode) node).set(name, replaced);
-            } else {
-                resolveRefs(root, child);
-            }
+    public OdoCapabilities parseCapabilities() {
+        OdoCapabilities.Builder builder = new OdoCapabilities.Builder()
+            .withOdoVersion(getAsText(root, VERSION_FIELD));
+        if (root.has(CLUSTER_FIELD)) {
+            JsonNode cluster = root.get(CLUSTER_FIELD);
+            builder.withKubernetesVersion(getAsText(cluster, KUBERNETES_VERSION_FIELD))
+                .withOpenShiftVersion(getAsText(cluster, OPENSHIFT_VERSION_FIELD));
         }
-        return node;
-    }
-
-    private JsonNode resolve(JsonNode root, String ref) throws IOException {
-        JsonNode node = root;
-        String[] ids = ref.split("/");
-        for (String id : ids) {
-            if (!"#".equals(id)) {
-                if (node.has(id)) {
-                    node = node.get(id);
-                } else {
-                    throw new IOException("Can't resolved reference '" + ref + "' element " + id + " not found");
-                }
-            }
+        if (root.has(PODMAN_FIELD) && root.get(PODMAN_FIELD).has(CLIENT_FIELD)) {
+            builder.withPodmanVersion(getAsText(root.get(PODMAN_FIELD).get(CLIENT_FIELD), VERSION_FIELD));
         }
-        return node;
+        return builder.build();
     }
 
-    public ObjectNode findSchema(String crd) throws IOException {
-        if (root.has(PATHS_FIELD)) {
-            JsonNode node = root.get(PATHS_FIELD).get(crd);
-            if (node != null && node.has(POST_FIELD) && node.get(POST_FIELD).has(PARAMETERS_FIELD)) {
-                for (JsonNode parameter : node.get(POST_FIELD).get(PARAMETERS_FIELD)) {
-                    if (parameter.has(NAME_FIELD) && parameter.get(NAME_FIELD).asText().equals(BODY_VALUE) && parameter.has(SCHEMA_FIELD)) {
-                        JsonNode schema = parameter.get(SCHEMA_FIELD);
-                        if (schema.has(DOLLAR_REF_FIELD)) {
-                            return (ObjectNode) resolveRefs(root, resolve(root, schema.get(DOLLAR_REF_FIELD).asText()));
-                        } else {
-                            return (ObjectNode) resolveRefs(root, schema);
-                        }
-                    }
-                }
-            }
-        }
-        throw new IOException("Invalid data, no 'paths' field");
+    public Starter parseStarter(JsonNode node) {
+        String name = node.asText();
+        Starter.Builder builder = new Starter.Builder().withName(name);
+        return builder.build();
     }
 
     public ComponentFeatures parseComponentState() {
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.intellij.execution.process.ProcessAdapter;
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.openapi.util.Key;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Tracks the live features of a component context for the {@link DescribeComponentCache}.
+ * A feature only counts as live once odo printed that it's ready (ex. ports are forwarded),
+ * {@code odo describe component} reports the state that the session reached only then.
+ * A describe that was made while the session was starting is thus not reused once it is ready.
+ * All events are passed on to the given adapter.
+ */
+class LiveFeatureAdapter extends ProcessAdapter {
+
+  private final Set<ComponentFeature> liveFeatures;
+  private final ComponentFeature feature;
+  private final Runnable invalidate;
+  private final ProcessAdapter delegate;
+  private volatile boolean ready = false;
+
+  /**
+   * @param liveFeatures the live features of the context
+   * @param feature the feature that the process runs
+   * @param invalidate discards the cached describe output of the context
+   * @param delegate the adapter that the events are passed on to
+   */
+  LiveFeatureAdapter(Set<ComponentFeature> liveFeatures, ComponentFeature feature, Runnable invalidate, ProcessAdapter delegate) {
+    this.liveFeatures = liveFeatures;
+    this.feature = feature;
+    this.invalidate = invalidate;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void startNotified(@NotNull ProcessEvent event) {
+    if (feature.getOutput() == null) {
+      setReady();
+    } else {
+      // the component state changes while the session starts
+      invalidate.run();
+    }
+    delegate.startNotified(event);
+  }
+
+  @Override
+  public void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+    if (!ready
+      && event.getText() != null
+      && event.getText().contains(feature.getOutput())) {
+      setReady();
+    }
+    delegate.onTextAvailable(event, outputType);
+  }
+
+  private void setReady() {
+    this.ready = true;
+    liveFeatures.add(feature);
+  }
+
+  @Override
+  public void processWillTerminate(@NotNull ProcessEvent event, boolean willBeDestroyed) {
+    delegate.processWillTerminate(event, willBeDestroyed);
+  }
+
+  @Override
+  public void processTerminated(@NotNull ProcessEvent event) {
+    liveFeatures.remove(feature);
+    delegate.processTerminated(event);
+  }
+}
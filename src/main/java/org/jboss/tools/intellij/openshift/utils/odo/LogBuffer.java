@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * A bounded buffer of log lines. The lines are kept in chunks of {@link #CHUNK_SIZE} lines and the oldest chunk
+ * is dropped once the buffered lines exceed the given number of characters. Dropped chunks are reused for new lines.
+ * Each line is identified by its sequence number, which allows readers to fetch the lines they have not seen yet.
+ */
+public class LogBuffer {
+
+  public static final int DEFAULT_MAX_CHARS = 4 * 1024 * 1024;
+  static final int CHUNK_SIZE = 512;
+  static final int MAX_LINE_LENGTH = 16 * 1024;
+
+  /**
+   * Notified when lines were added, in the thread that added them.
+   */
+  public interface Listener {
+    void linesAdded(LogBuffer buffer);
+  }
+
+  private final long maxChars;
+  private final Deque<Chunk> chunks = new ArrayDeque<>();
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+  private Chunk spare;
+  private long first;
+  private long next;
+  private long chars;
+
+  public LogBuffer() {
+    this(DEFAULT_MAX_CHARS);
+  }
+
+  public LogBuffer(long maxChars) {
+    this.maxChars = maxChars;
+  }
+
+  public void addListener(Listener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(Listener listener) {
+    listeners.remove(listener);
+  }
+
+  public void append(String line) {
+    synchronized (this) {
+      if (line.length() > MAX_LINE_LENGTH) {
+        line = line.substring(0, MAX_LINE_LENGTH);
+      }
+      Chunk chunk = chunks.peekLast();
+      if (chunk == null
+        || chunk.isFull()) {
+        chunk = newChunk();
+        chunks.addLast(chunk);
+      }
+      chunk.add(line);
+      chars += line.length();
+      next++;
+      while (chars > maxChars
+        && chunks.size() > 1) {
+        drop(chunks.removeFirst());
+      }
+    }
+    listeners.forEach(listener -> listener.linesAdded(this));
+  }
+
+  private Chunk newChunk() {
+    Chunk chunk = spare;
+    if (chunk == null) {
+      return new Chunk();
+    }
+    this.spare = null;
+    return chunk;
+  }
+
+  private void drop(Chunk chunk) {
+    first += chunk.size;
+    chars -= chunk.chars;
+    chunk.clear();
+    this.spare = chunk;
+  }
+
+  /**
+   * Returns the sequence number of the oldest line that is still buffered.
+   */
+  public synchronized long getFirst() {
+    return first;
+  }
+
+  /**
+   * Returns the sequence number that the next line will get.
+   */
+  public synchronized long getNext() {
+    return next;
+  }
+
+  /**
+   * Returns the buffered lines starting at the given sequence number.
+   * Lines that were dropped already are skipped.
+   *
+   * @param from the sequence number of the first line to return
+   * @return the lines
+   */
+  public List<String> getLines(long from) {
+    List<String> lines = new ArrayList<>();
+    getLines(from, line -> true, lines);
+    return lines;
+  }
+
+  /**
+   * Adds the buffered lines starting at the given sequence number that match the given filter to the given list.
+   * Lines that were dropped already are skipped.
+   *
+   * @param from the sequence number of the first line to return
+   * @param filter the filter that the lines have to match
+   * @param lines the list to add the matching lines to
+   * @return the sequence number of the line that follows the last line that was read
+   */
+  public synchronized long getLines(long from, Predicate<String> filter, List<String> lines) {
+    long sequence = first;
+    for (Chunk chunk : chunks) {
+      if (sequence + chunk.size > from) {
+        for (int i = (int) Math.max(0, from - sequence); i < chunk.size; i++) {
+          if (filter.test(chunk.lines[i])) {
+            lines.add(chunk.lines[i]);
+          }
+        }
+      }
+      sequence += chunk.size;
+    }
+    return next;
+  }
+
+  /**
+   * Returns a filter that matches the lines that contain the given text, ignoring case.
+   */
+  public static Predicate<String> containing(String text) {
+    if (text == null
+      || text.isEmpty()) {
+      return line -> true;
+    }
+    return line -> containsIgnoreCase(line, text);
+  }
+
+  private static boolean containsIgnoreCase(String line, String text) {
+    for (int i = 0; i <= line.length() - text.length(); i++) {
+      if (line.regionMatches(true, i, text, 0, text.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class Chunk {
+    private final String[] lines = new String[CHUNK_SIZE];
+    private int size;
+    private long chars;
+
+    private boolean isFull() {
+      return size == lines.length;
+    }
+
+    private void add(String line) {
+      lines[size++] = line;
+      chars += line.length();
+    }
+
+    private void clear() {
+      Arrays.fill(lines, 0, size, null);
+      size = 0;
+      chars = 0;
+    }
+  }
+}
@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The names of the namespaces (projects on OpenShift) of a cluster.
+ * The names are listed page by page and with their metadata only, so that clusters with thousands of namespaces
+ * don't send every namespace in full. Once listed, the names are kept up to date by a watch and are served from
+ * memory, which also answers whether a namespace exists without a round trip to the cluster.
+ */
+public class NamespaceCatalog implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NamespaceCatalog.class);
+
+  static final int PAGE_SIZE = 500;
+
+  /**
+   * A page of names and the token to get the next page with, {@code null} if it is the last page.
+   */
+  static class Page {
+    private final List<String> names;
+    private final String continueToken;
+    private final String resourceVersion;
+
+    Page(List<String> names, String continueToken, String resourceVersion) {
+      this.names = names;
+      this.continueToken = continueToken;
+      this.resourceVersion = resourceVersion;
+    }
+  }
+
+  interface NamesListener {
+    void added(String name);
+
+    void deleted(String name);
+
+    void closed(Exception e);
+  }
+
+  /**
+   * Where the names come from.
+   */
+  interface Source {
+    Page list(String continueToken, int limit) throws IOException;
+
+    AutoCloseable watch(String resourceVersion, NamesListener listener) throws IOException;
+  }
+
+  private final Source source;
+  private final Executor executor;
+  private final Set<String> names = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean loadRequested = new AtomicBoolean();
+  private final AtomicInteger generation = new AtomicInteger();
+  private volatile boolean watching = false;
+  private AutoCloseable watch;
+
+  public NamespaceCatalog(KubernetesClient client, OpenShiftClient openshiftClient) {
+    this(new ClusterSource(client, openshiftClient), AppExecutorUtil.getAppExecutorService());
+  }
+
+  NamespaceCatalog(Source source, Executor executor) {
+    this.source = source;
+    this.executor = executor;
+  }
+
+  /**
+   * Returns the names of all namespaces, sorted. The given consumer is passed the names page by page, as they are
+   * listed. If the names are watched already, they're passed in a single page without querying the cluster.
+   *
+   * @param pages the consumer of the pages of names
+   * @return the names of all namespaces
+   * @throws IOException if the names could not be listed
+   */
+  public synchronized List<String> list(Consumer<List<String>> pages) throws IOException {
+    if (watching) {
+      List<String> all = sorted(names);
+      pages.accept(all);
+      return all;
+    }
+    Set<String> listed = new TreeSet<>();
+    String continueToken = null;
+    String resourceVersion = null;
+    do {
+      Page page = source.list(continueToken, PAGE_SIZE);
+      if (resourceVersion == null) {
+        // all pages are from the snapshot of the first one
+        resourceVersion = page.resourceVersion;
+      }
+      listed.addAll(page.names);
+      pages.accept(Collections.unmodifiableList(page.names));
+      continueToken = page.continueToken;
+    } while (continueToken != null
+      && !continueToken.isEmpty());
+    names.retainAll(listed);
+    names.addAll(listed);
+    startWatch(resourceVersion);
+    return new ArrayList<>(listed);
+  }
+
+  /**
+   * Lists the namespaces in the background unless this was requested before, so that {@link #contains(String)} can
+   * be answered from memory.
+   */
+  public void load() {
+    if (watching
+      || !loadRequested.compareAndSet(false, true)) {
+      return;
+    }
+    executor.execute(() -> {
+      try {
+        list(page -> {});
+      } catch (IOException | KubernetesClientException e) {
+        LOGGER.debug("Could not list namespaces.", e);
+      }
+    });
+  }
+
+  /**
+   * Returns {@code true} if the names are listed and kept up to date by a watch.
+   */
+  public boolean isWatching() {
+    return watching;
+  }
+
+  /**
+   * Returns {@code true} if a namespace with the given name is known. The answer is only up to date if
+   * {@link #isWatching()}.
+   */
+  public boolean contains(String name) {
+    return names.contains(name);
+  }
+
+  private void startWatch(String resourceVersion) {
+    closeWatch();
+    int current = generation.incrementAndGet();
+    try {
+      this.watch = source.watch(resourceVersion, new NamesListener() {
+        @Override
+        public void added(String name) {
+          names.add(name);
+        }
+
+        @Override
+        public void deleted(String name) {
+          names.remove(name);
+        }
+
+        @Override
+        public void closed(Exception e) {
+          if (generation.get() != current) {
+            // a watch that was replaced
+            return;
+          }
+          // names are listed again when they're requested next
+          watching = false;
+          loadRequested.set(false);
+        }
+      });
+      this.watching = true;
+    } catch (IOException | KubernetesClientException e) {
+      LOGGER.debug("Could not watch namespaces.", e);
+    }
+  }
+
+  private void closeWatch() {
+    this.watching = false;
+    if (watch != null) {
+      try {
+        watch.close();
+      } catch (Exception e) {
+        LOGGER.debug("Could not close namespaces watch.", e);
+      }
+      this.watch = null;
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    closeWatch();
+    names.clear();
+  }
+
+  private static List<String> sorted(Collection<String> names) {
+    return new ArrayList<>(new TreeSet<>(names));
+  }
+
+  /**
+   * Lists the namespaces (or projects) with a request that asks for {@code PartialObjectMetadataList} so that only
+   * their metadata is sent. Servers that don't support it send the full list, which has the same structure.
+   */
+  static class ClusterSource implements Source {
+
+    private static final String ACCEPT_METADATA_ONLY =
+      "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+    private static final String NAMESPACES_PATH = "api/v1/namespaces";
+    private static final String PROJECTS_PATH = "apis/project.openshift.io/v1/projects";
+
+    private final KubernetesClient client;
+    private final OpenShiftClient openshiftClient;
+
+    ClusterSource(KubernetesClient client, OpenShiftClient openshiftClient) {
+      this.client = client;
+      this.openshiftClient = openshiftClient;
+    }
+
+    @Override
+    public Page list(String continueToken, int limit) throws IOException {
+      String path = (openshiftClient != null ? PROJECTS_PATH : NAMESPACES_PATH) + "?limit=" + limit;
+      if (continueToken != null) {
+        path += "&continue=" + URLEncoder.encode(continueToken, StandardCharsets.UTF_8);
+      }
+      String operation = openshiftClient != null ? "projects.list" : "namespaces.list";
+      String query = path;
+      JsonNode list;
+      try {
+        list = CallStatistics.getInstance().measure(operation, () -> get(query));
+      } catch (KubernetesClientException e) {
+        throw new IOException(e);
+      }
+      List<String> names = new ArrayList<>();
+      for (JsonNode item : list.path("items")) {
+        names.add(item.path("metadata").path("name").asText());
+      }
+      JsonNode metadata = list.path("metadata");
+      return new Page(names, metadata.path("continue").asText(null), metadata.path("resourceVersion").asText(null));
+    }
+
+    private JsonNode get(String path) {
+      try {
+        HttpClient httpClient = client.getHttpClient();
+        HttpRequest request = httpClient.newHttpRequestBuilder()
+          .url(new URL(client.getMasterUrl(), path))
+          .header("Accept", ACCEPT_METADATA_ONLY)
+          .build();
+        HttpResponse<String> response = httpClient.sendAsync(request, String.class).get();
+        if (!response.isSuccessful()) {
+          throw new KubernetesClientException("Could not list namespaces, status code: " + response.code(), response.code(), null);
+        }
+        return Serialization.json().readTree(response.body());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new KubernetesClientException("Interrupted while listing namespaces", e);
+      } catch (ExecutionException e) {
+        throw new KubernetesClientException("Could not list namespaces", e.getCause());
+      } catch (IOException e) {
+        throw new KubernetesClientException("Could not list namespaces", e);
+      }
+    }
+
+    @Override
+    public AutoCloseable watch(String resourceVersion, NamesListener listener) {
+      ListOptions options = new ListOptionsBuilder()
+        .withResourceVersion(resourceVersion)
+        .build();
+      if (openshiftClient != null) {
+        return CallStatistics.getInstance().measure("projects.watch", () ->
+          watch(openshiftClient.projects(), options, listener));
+      } else {
+        return CallStatistics.getInstance().measure("namespaces.watch", () ->
+          watch(client.namespaces(), options, listener));
+      }
+    }
+
+    private <T extends HasMetadata> AutoCloseable watch(Watchable<T> watchable, ListOptions options, NamesListener listener) {
+      return watchable.watch(options, new Watcher<>() {
+        @Override
+        public void eventReceived(Action action, T resource) {
+          String name = resource.getMetadata().getName();
+          if (action == Action.DELETED) {
+            listener.deleted(name);
+          } else if (action == Action.ADDED
+            || action == Action.MODIFIED) {
+            listener.added(name);
+          }
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+          listener.closed(cause);
+        }
+
+        @Override
+        public void onClose() {
+          listener.closed(null);
+        }
+      });
+    }
+  }
+}
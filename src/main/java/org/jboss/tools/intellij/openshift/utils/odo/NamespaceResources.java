@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.jboss.tools.intellij.openshift.KubernetesLabels;
+import org.jboss.tools.intellij.openshift.utils.helm.ChartRelease;
+import org.jboss.tools.intellij.openshift.utils.helm.HelmReleaseSecrets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * An in-memory index of the components, bindable services and helm releases in a namespace.
+ * The index is fed by watches on the cluster:
+ * <ul>
+ *   <li>components: deployments that carry the {@link KubernetesLabels#COMPONENT_NAME_LABEL} label</li>
+ *   <li>services: instances of the kinds that the service binding operator reports as bindable</li>
+ *   <li>helm releases: secrets that are owned by helm and hold a deployed or failed revision. Superseded revisions,
+ *   which make up most of the release history, are never listed by {@code helm list} and thus not watched.</li>
+ * </ul>
+ * Listing the resources is then served from memory instead of running {@code odo list} or {@code helm list}.
+ * Any add, modification or removal that is relevant to the tree is reported to the given listener.
+ * <p>
+ * The watches are created when the instance is created but only {@link #start() started} on request, so that
+ * an instance can be created and discarded cheaply. If the watches fail, the failure is kept for
+ * {@link #RETRY_DELAY} so that requests don't hit the cluster again and again in the meantime.
+ */
+public class NamespaceResources implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NamespaceResources.class);
+
+  private static final long SYNC_TIMEOUT = 5;
+  static final long RETRY_DELAY = TimeUnit.MINUTES.toMillis(1);
+  private static final String UNKNOWN = "Unknown";
+
+  private final String namespace;
+  private final Consumer<String> onChange;
+  private final SharedIndexInformer<Deployment> deployments;
+  private final SharedIndexInformer<Secret> releases;
+  private final List<SharedIndexInformer<GenericKubernetesResource>> services = new ArrayList<>();
+  private final KubernetesClient client;
+  private final Supplier<List<GenericKubernetesResource>> bindableKinds;
+  private final AtomicBoolean awaitSync = new AtomicBoolean(true);
+  private volatile boolean servicesWatched;
+  private volatile CompletableFuture<Void> synced;
+  private volatile long failed = 0;
+  private boolean closed = false;
+  private volatile boolean watching = false;
+
+  public NamespaceResources(String namespace, KubernetesClient client, Supplier<List<GenericKubernetesResource>> bindableKinds, Consumer<String> onChange) {
+    this.namespace = namespace;
+    this.client = client;
+    this.bindableKinds = bindableKinds;
+    this.onChange = onChange;
+    this.deployments = client.apps().deployments()
+      .inNamespace(namespace)
+      .withLabel(KubernetesLabels.COMPONENT_NAME_LABEL)
+      .runnableInformer(0);
+    deployments.addEventHandler(new ChangeHandler<>(
+      (oldDeployment, newDeployment) -> !Objects.equals(getLabels(oldDeployment), getLabels(newDeployment))));
+    this.releases = client.secrets()
+      .inNamespace(namespace)
+      .withLabel(HelmReleaseSecrets.OWNER_LABEL, HelmReleaseSecrets.OWNER_HELM)
+      .withLabelIn(HelmReleaseSecrets.STATUS_LABEL, HelmReleaseSecrets.STATUS_DEPLOYED, HelmReleaseSecrets.STATUS_FAILED)
+      .runnableInformer(0);
+    releases.addEventHandler(new ChangeHandler<>(
+      (oldSecret, newSecret) -> !Objects.equals(getLabels(oldSecret), getLabels(newSecret))));
+  }
+
+  /**
+   * Starts watching the resources. Queries the bindable kinds and thus should not be called while holding a lock.
+   */
+  public synchronized void start() {
+    if (synced != null
+      || closed) {
+      return;
+    }
+    this.servicesWatched = createServiceInformers(client, bindableKinds);
+    List<CompletableFuture<Void>> started = new ArrayList<>();
+    started.add(deployments.start().toCompletableFuture());
+    started.add(releases.start().toCompletableFuture());
+    services.forEach(informer -> started.add(informer.start().toCompletableFuture()));
+    this.synced = CompletableFuture.allOf(started.toArray(new CompletableFuture[0]))
+      .whenComplete((Void result, Throwable e) -> {
+        if (e != null) {
+          this.failed = System.currentTimeMillis();
+          LOGGER.warn("Could not watch resources in namespace {}.", namespace, e);
+        } else {
+          this.watching = true;
+        }
+      });
+  }
+
+  private boolean createServiceInformers(KubernetesClient client, Supplier<List<GenericKubernetesResource>> bindableKinds) {
+    try {
+      for (GenericKubernetesResource kind : bindableKinds.get()) {
+        SharedIndexInformer<GenericKubernetesResource> informer = client
+          .genericKubernetesResources(kind.getApiVersion(), kind.getKind())
+          .inNamespace(namespace)
+          .runnableInformer(0);
+        informer.addEventHandler(new ChangeHandler<>((oldService, newService) -> false));
+        services.add(informer);
+      }
+      return true;
+    } catch (KubernetesClientException e) {
+      // service binding operator not installed or not accessible, services are listed via odo
+      services.clear();
+      return false;
+    }
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * Returns {@code true} if the watches are in sync with the cluster.
+   * The first caller waits for the initial listing to complete.
+   *
+   * @return true if the resources are served from memory
+   */
+  public boolean isSynced() {
+    if (watching
+      || synced == null
+      || !awaitSync.compareAndSet(true, false)) {
+      return watching;
+    }
+    try {
+      synced.get(SYNC_TIMEOUT, TimeUnit.SECONDS);
+      return watching;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      return false;
+    }
+  }
+
+  public boolean isFailed() {
+    return failed != 0;
+  }
+
+  /**
+   * Returns {@code true} if the watches failed longer than {@link #RETRY_DELAY} ago and should be created again,
+   * ex. because permissions may have been granted since.
+   */
+  public boolean isRetryDue() {
+    return isFailed()
+      && System.currentTimeMillis() - failed > RETRY_DELAY;
+  }
+
+  public boolean isServicesWatched() {
+    return servicesWatched;
+  }
+
+  public List<Component> getComponents() {
+    Map<String, Component> components = new TreeMap<>();
+    for (Deployment deployment : deployments.getStore().list()) {
+      Map<String, String> labels = getLabels(deployment);
+      Component component = components.computeIfAbsent(
+        labels.get(KubernetesLabels.COMPONENT_NAME_LABEL),
+        name -> Component.of(
+          name,
+          labels.getOrDefault(KubernetesLabels.MANAGED_BY_LABEL, UNKNOWN),
+          new ComponentFeatures(),
+          getComponentInfo(deployment)));
+      addLiveFeature(labels.get(KubernetesLabels.ODO_MODE_LABEL), component.getLiveFeatures());
+    }
+    return new ArrayList<>(components.values());
+  }
+
+  private ComponentInfo getComponentInfo(Deployment deployment) {
+    Map<String, String> annotations = deployment.getMetadata().getAnnotations();
+    String projectType = annotations != null ?
+      annotations.getOrDefault(KubernetesLabels.ODO_PROJECT_TYPE_ANNOTATION, UNKNOWN)
+      : UNKNOWN;
+    return new ComponentInfo.Builder()
+      .withComponentKind(ComponentKind.DEVFILE)
+      .withComponentTypeName(projectType)
+      .build();
+  }
+
+  private void addLiveFeature(String mode, ComponentFeatures features) {
+    if (ComponentFeature.Mode.DEV_MODE.getLabel().equalsIgnoreCase(mode)) {
+      features.addFeature(ComponentFeature.DEV);
+    } else if (ComponentFeature.Mode.DEPLOY_MODE.getLabel().equalsIgnoreCase(mode)) {
+      features.addFeature(ComponentFeature.DEPLOY);
+    }
+  }
+
+  public List<Service> getServices() {
+    return services.stream()
+      .flatMap(informer -> informer.getStore().list().stream())
+      .map(resource -> Service.of(resource.getMetadata().getName(), resource.getApiVersion(), resource.getKind()))
+      .sorted(Comparator.comparing(Service::getName))
+      .collect(Collectors.toList());
+  }
+
+  public List<ChartRelease> getHelmReleases() {
+    return HelmReleaseSecrets.toReleases(releases.getStore().list());
+  }
+
+  private static Map<String, String> getLabels(HasMetadata resource) {
+    if (resource == null
+      || resource.getMetadata().getLabels() == null) {
+      return Collections.emptyMap();
+    }
+    return resource.getMetadata().getLabels();
+  }
+
+  @Override
+  public synchronized void close() {
+    this.closed = true;
+    deployments.stop();
+    releases.stop();
+    services.forEach(SharedIndexInformer::stop);
+  }
+
+  private class ChangeHandler<T extends HasMetadata> implements ResourceEventHandler<T> {
+
+    private final BiPredicate<T, T> isRelevantUpdate;
+
+    private ChangeHandler(BiPredicate<T, T> isRelevantUpdate) {
+      this.isRelevantUpdate = isRelevantUpdate;
+    }
+
+    @Override
+    public void onAdd(T resource) {
+      fireChanged();
+    }
+
+    @Override
+    public void onUpdate(T oldResource, T newResource) {
+      if (isRelevantUpdate.test(oldResource, newResource)) {
+        fireChanged();
+      }
+    }
+
+    @Override
+    public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+      fireChanged();
+    }
+
+    private void fireChanged() {
+      // initial listing is not a change
+      if (watching) {
+        onChange.accept(namespace);
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.intellij.util.messages.Topic;
+
+/**
+ * Notified when the components, services or helm releases that are watched in a namespace were added, modified or removed.
+ */
+public interface NamespaceResourcesListener {
+
+  Topic<NamespaceResourcesListener> TOPIC = Topic.create("OpenShift namespace resources", NamespaceResourcesListener.class);
+
+  void onChanged(String namespace);
+}
@@ -13,6 +13,7 @@ package org.jboss.tools.intellij.openshift.utils.odo;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.intellij.execution.process.ProcessAdapter;
 import com.intellij.execution.process.ProcessHandler;
+import org.jboss.tools.intellij.openshift.utils.helm.ChartRelease;
 
 import java.io.IOException;
 import java.util.List;
@@ -23,8 +24,28 @@ import static org.jboss.tools.intellij.openshift.Constants.DebugStatus;
 public interface Odo {
     List<String> getNamespaces() throws IOException;
 
+    /**
+     * Returns the names of the namespaces and passes them to the given consumer page by page, as they are listed.
+     *
+     * @param pages the consumer of the pages of names
+     * @return the names of all namespaces
+     * @throws IOException if the namespaces could not be listed
+     */
+    default List<String> getNamespaces(Consumer<List<String>> pages) throws IOException {
+        List<String> namespaces = getNamespaces();
+        pages.accept(namespaces);
+        return namespaces;
+    }
+
     String getCurrentNamespace();
 
+    /**
+     * Switches to the given namespace that the current context of the kubeconfig was changed to.
+     *
+     * @param namespace the namespace of the current context or {@code null} if it has none
+     */
+    void setCurrentNamespace(String namespace);
+
     boolean namespaceExists(String name);
 
     String getNamespaceKind();
@@ -57,15 +78,17 @@ public interface Odo {
 
     List<URL> listURLs(String context) throws IOException;
 
+    OdoCapabilities getCapabilities();
+
     ComponentInfo getComponentInfo(String project, String component, String path, ComponentKind kind) throws IOException;
 
     void deleteComponent(String project, String context, String component, ComponentKind kind) throws IOException;
 
     boolean isLogRunning(String component, boolean deploy);
 
-    void follow(String context, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException;
+    void follow(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException;
 
-    void log(String context, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException;
+    void log(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException;
 
     void follow(String context, String component, boolean deploy, String platform) throws IOException;
 
@@ -85,6 +108,8 @@ public interface Odo {
 
     List<Service> getServices(String project) throws IOException;
 
+    List<ChartRelease> getHelmReleases(String project) throws IOException;
+
     void about() throws IOException;
 
     Binding link(String context, String target) throws IOException;
@@ -117,4 +142,6 @@ public interface Odo {
 
     void migrateComponent(String name);
 
+    void dispose();
+
 }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+/**
+ * The versions that {@code odo version -o json} reports for odo itself, the local podman client and the cluster.
+ * A version is {@code null} if odo could not determine it. All versions are {@code null} if odo itself could not be run,
+ * the capabilities are then {@link #isProbed() unknown}.
+ */
+public interface OdoCapabilities {
+
+  String getOdoVersion();
+
+  String getPodmanVersion();
+
+  String getKubernetesVersion();
+
+  String getOpenShiftVersion();
+
+  /**
+   * Returns {@code false} if {@code odo version} could not be run and the capabilities are thus unknown.
+   */
+  boolean isProbed();
+
+  default boolean isPodmanPresent() {
+    return getPodmanVersion() != null;
+  }
+
+  /**
+   * Returns {@code true} if odo reported that there's no podman client. Returns {@code false} if podman is present
+   * or if it's unknown whether it is.
+   */
+  default boolean isPodmanAbsent() {
+    return isProbed()
+      && getPodmanVersion() == null;
+  }
+
+  default boolean isOpenShift() {
+    return getOpenShiftVersion() != null;
+  }
+
+  class Builder {
+
+    private String odoVersion;
+
+    private String podmanVersion;
+
+    private String kubernetesVersion;
+
+    private String openShiftVersion;
+
+    private boolean probed = true;
+
+    public Builder withOdoVersion(String odoVersion) {
+      this.odoVersion = odoVersion;
+      return this;
+    }
+
+    public Builder withPodmanVersion(String podmanVersion) {
+      this.podmanVersion = podmanVersion;
+      return this;
+    }
+
+    public Builder withKubernetesVersion(String kubernetesVersion) {
+      this.kubernetesVersion = kubernetesVersion;
+      return this;
+    }
+
+    public Builder withOpenShiftVersion(String openShiftVersion) {
+      this.openShiftVersion = openShiftVersion;
+      return this;
+    }
+
+    public Builder withProbed(boolean probed) {
+      this.probed = probed;
+      return this;
+    }
+
+    public OdoCapabilities build() {
+      return new OdoCapabilities() {
+        @Override
+        public String getOdoVersion() {
+          return odoVersion;
+        }
+
+        @Override
+        public String getPodmanVersion() {
+          return podmanVersion;
+        }
+
+        @Override
+        public String getKubernetesVersion() {
+          return kubernetesVersion;
+        }
+
+        @Override
+        public String getOpenShiftVersion() {
+          return openShiftVersion;
+        }
+
+        @Override
+        public boolean isProbed() {
+          return probed;
+        }
+      };
+    }
+  }
+}
@@ -10,18 +10,19 @@
  ******************************************************************************/
 package org.jboss.tools.intellij.openshift.utils.odo;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.deser.std.StdNodeBasedDeserializer;
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.intellij.execution.process.ProcessAdapter;
 import com.intellij.execution.process.ProcessEvent;
 import com.intellij.execution.process.ProcessHandler;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.util.text.Strings;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.messages.MessageBus;
 import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.intellij.common.kubernetes.ClusterHelper;
@@ -30,31 +31,41 @@ import com.redhat.devtools.intellij.common.ssl.IDEATrustManager;
 import com.redhat.devtools.intellij.common.utils.ConfigHelper;
 import com.redhat.devtools.intellij.common.utils.ExecHelper;
 import com.redhat.devtools.intellij.common.utils.NetworkUtils;
+import com.redhat.devtools.intellij.common.utils.UIHelper;
 import com.redhat.devtools.intellij.telemetry.core.configuration.TelemetryConfiguration;
 import com.redhat.devtools.intellij.telemetry.core.service.TelemetryMessageBuilder;
 import io.fabric8.kubernetes.api.Pluralize;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
-import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.VersionInfo;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
 import io.fabric8.kubernetes.model.Scope;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionList;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.fabric8.openshift.client.dsl.OpenShiftOperatorHubAPIGroupDSL;
 import io.fabric8.openshift.client.impl.OpenShiftOperatorHubAPIGroupClient;
 import org.apache.commons.io.FileUtils;
 import org.jboss.tools.intellij.openshift.KubernetesLabels;
+import org.jboss.tools.intellij.openshift.settings.SettingsState;
+import org.jboss.tools.intellij.openshift.ui.log.PodLogPanel;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
 import org.jboss.tools.intellij.openshift.utils.KubernetesClientExceptionUtils;
 import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.jboss.tools.intellij.openshift.utils.helm.ChartRelease;
+import org.jboss.tools.intellij.openshift.utils.helm.HelmReleaseReader;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -63,13 +74,14 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509ExtendedTrustManager;
 import javax.net.ssl.X509TrustManager;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.HttpURLConnection;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
@@ -80,10 +92,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.BinaryOperator;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -111,6 +123,15 @@ public class OdoCli implements Odo {
 
   private static final String DEFAULT_NAMESPACE = "default";
   private static final String WINDOW_TITLE = "OpenShift";
+  private static final String NOTIFICATION_MARKER = "---";
+  private static final String DEVFILE_REGISTRY_INDEX = "devfile-registries.jsonl";
+  private static final String SCHEMAS_FOLDER = "schemas";
+
+  private static final ObjectMapper COMPONENT_METADATAS_MAPPER = Serialization.configure(new ComponentMetadatasDeserializer());
+  private static final ObjectMapper COMPONENTS_MAPPER = Serialization.configure(new ComponentDeserializer());
+  private static final ObjectMapper SERVICES_MAPPER = Serialization.configure(new ServiceDeserializer());
+  private static final ObjectMapper BINDINGS_MAPPER = Serialization.configure(new BindingDeserializer());
+  private static final ObjectMapper DEVFILE_REGISTRIES_MAPPER = Serialization.configure(new DevfileRegistriesDeserializer());
 
   private static final String METADATA_FIELD = "metadata";
   private static final String NAME_FIELD = "name";
@@ -121,9 +142,16 @@ public class OdoCli implements Odo {
   private final KubernetesClient client;
   private final OpenShiftClient openshiftClient;
   private final Map<String, String> envVars;
-  private final AtomicBoolean swaggerLoaded = new AtomicBoolean();
-  private String currentNamespace;
-  private JSonParser swagger;
+  private final MessageBus bus;
+  private final MessageBusConnection connection;
+  private final Map<String, NamespaceResources> namespaceResources = new ConcurrentHashMap<>();
+  private final DescribeComponentCache describeCache = new DescribeComponentCache();
+  private final NamespaceCatalog namespaceCatalog;
+  private final Map<String, Set<ComponentFeature>> liveFeatures = new ConcurrentHashMap<>();
+  private volatile String currentNamespace;
+  private OdoCapabilities capabilities;
+  private DevfileRegistryIndex registryIndex;
+  private CrdSchemaProvider schemaProvider;
 
   public OdoCli(com.intellij.openapi.project.Project project, String command) {
     this(project,
@@ -145,63 +173,69 @@ public class OdoCli implements Odo {
     TelemetryReport telemetryReport) {
     this.command = command;
     this.project = project;
-    MessageBusConnection connection = bus.connect();
+    this.bus = bus;
+    this.connection = bus.connect();
     this.client = kubernetesClientFactory.get();
     this.openshiftClient = openshiftClientFactory.apply(client);
     this.envVars = envVarFactory.apply(String.valueOf(client.getMasterUrl()));
+    this.namespaceCatalog = new NamespaceCatalog(client, openshiftClient);
     telemetryReport.addOdoTelemetryVars(envVars);
     connection.subscribe(TelemetryConfiguration.ConfigurationChangedListener.CONFIGURATION_CHANGED,
       telemetryReport.onTelemetryConfigurationChanged(this.envVars));
+    connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+      @Override
+      public void after(@NotNull List<? extends VFileEvent> events) {
+        onFilesChanged(events);
+      }
+    });
     telemetryReport.report(client);
   }
 
+  /**
+   * Runs odo and returns its stdout without the notification that odo may append.
+   * The output is collected into a String by {@link ExecHelper}, which also provides the environment, the exit code
+   * check and the error message that callers rely on. The largest output ({@code odo registry list}) is only requested
+   * when the {@link DevfileRegistryIndex} expired, the stacks are then served from the index.
+   */
   private static String execute(@NotNull File workingDirectory, String command, Map<String, String> envs, String... args) throws IOException {
-    ExecHelper.ExecResult output = ExecHelper.executeWithResult(command, true, workingDirectory, envs, args);
-    try (BufferedReader reader = new BufferedReader(new StringReader(output.getStdOut()))) {
-      BinaryOperator<String> reducer = new BinaryOperator<>() {
-        private boolean notificationFound = false;
+    ExecHelper.ExecResult output = CallStatistics.getInstance().measureProcess(CallStatistics.ODO, args, () ->
+      ExecHelper.executeWithResult(command, true, workingDirectory, envs, args));
+    return removeNotification(output.getStdOut());
+  }
 
-        @Override
-        public String apply(String s, String s2) {
-          if (s2.startsWith("---")) {
-            notificationFound = true;
-          }
-          return notificationFound ? s : s + s2 + "\n";
-        }
-      };
-      return reader.lines().reduce("", reducer);
+  /**
+   * Removes the notification (ex. a new odo version is available) that odo appends to its output.
+   * The notification starts with a line that starts with {@code ---}.
+   */
+  static String removeNotification(String output) {
+    if (output.startsWith(NOTIFICATION_MARKER)) {
+      return "";
+    }
+    int notification = output.indexOf('\n' + NOTIFICATION_MARKER);
+    if (notification == -1) {
+      return output;
     }
+    return output.substring(0, notification + 1);
   }
 
   private static String execute(String command, Map<String, String> envs, String... args) throws IOException {
     return execute(new File(HOME_FOLDER), command, envs, args);
   }
 
-  private ObjectMapper configureObjectMapper(final StdNodeBasedDeserializer<? extends List<?>> deserializer) {
-    final SimpleModule module = new SimpleModule();
-    module.addDeserializer(List.class, deserializer);
-    return new ObjectMapper(new JsonFactory()).registerModule(module);
+  @Override
+  public List<String> getNamespaces() throws IOException {
+    return getNamespaces(page -> {});
   }
 
   @Override
-  public List<String> getNamespaces() throws IOException {
+  public List<String> getNamespaces(Consumer<List<String>> pages) throws IOException {
     try {
-      return getNamespacesOrProjects().stream()
-        .map(resource -> resource.getMetadata().getName())
-        .collect(Collectors.toList());
+      return namespaceCatalog.list(pages);
     } catch (KubernetesClientException e) {
       throw new IOException(e);
     }
   }
 
-  private List<? extends HasMetadata> getNamespacesOrProjects() {
-    if (isOpenShift()) {
-      return openshiftClient.projects().list().getItems();
-    } else {
-      return client.namespaces().list().getItems();
-    }
-  }
-
   @Override
   public String getCurrentNamespace() {
     if (currentNamespace == null) {
@@ -210,6 +244,13 @@ public class OdoCli implements Odo {
     return currentNamespace;
   }
 
+  @Override
+  public void setCurrentNamespace(String namespace) {
+    this.currentNamespace = getCurrentNamespace(namespace);
+    // odo reports the component state in the namespace it is run in
+    describeCache.clear();
+  }
+
   private String getCurrentNamespace(String name) {
     String namespace = name;
     if (Strings.isEmpty(name)) {
@@ -218,13 +259,22 @@ public class OdoCli implements Odo {
     return namespace;
   }
 
+  /**
+   * Answers from the watched namespaces if they were listed. Namespaces that are not known are looked up in the
+   * cluster, they may have been created before the watch reported them.
+   */
   @Override
   public boolean namespaceExists(String name) {
+    if (namespaceCatalog.isWatching()
+      && namespaceCatalog.contains(name)) {
+      return true;
+    }
+    namespaceCatalog.load();
     try {
       if (isOpenShift()) {
-        return openshiftClient.projects().withName(name).get() != null;
+        return CallStatistics.getInstance().measure("projects.get", () -> openshiftClient.projects().withName(name).get()) != null;
       } else {
-        return client.namespaces().withName(name).get() != null;
+        return CallStatistics.getInstance().measure("namespaces.get", () -> client.namespaces().withName(name).get()) != null;
       }
     } catch (KubernetesClientException e) {
       return false;
@@ -243,6 +293,8 @@ public class OdoCli implements Odo {
   @Override
   public void start(String context, ComponentFeature feature, ProcessHandler handler, ProcessAdapter processAdapter) throws IOException {
     if (handler == null) {
+      ProcessAdapter liveFeatureAdapter = new LiveFeatureAdapter(
+        getLiveFeatures(context), feature, () -> describeCache.invalidate(context), processAdapter);
       List<String> args = new ArrayList<>();
       args.add(command);
       args.addAll(feature.getStartArgs());
@@ -253,7 +305,7 @@ public class OdoCli implements Odo {
         envVars,
         null,
         null,
-        processAdapter,
+        liveFeatureAdapter,
         args.toArray(new String[0]));
     }
   }
@@ -267,6 +319,7 @@ public class OdoCli implements Odo {
   @Override
   public void stop(String context, ComponentFeature feature, ProcessHandler handler) throws IOException {
     if (context != null && handler != null) {
+      getLiveFeatures(context).remove(feature);
       handler.destroyProcess();
       if (!feature.getStopArgs().isEmpty()) {
         execute(createWorkingDirectory(context), command, envVars, feature.getStopArgs().toArray(new String[0]));
@@ -293,7 +346,7 @@ public class OdoCli implements Odo {
 
   @Override
   public List<ComponentMetadata> analyze(String path) throws IOException {
-    return configureObjectMapper(new ComponentMetadatasDeserializer()).readValue(
+    return COMPONENT_METADATAS_MAPPER.readValue(
       execute(new File(path), command, envVars, "analyze", "-o", "json"),
       new TypeReference<>() {
       });
@@ -340,7 +393,9 @@ public class OdoCli implements Odo {
     try {
       ObjectNode payload = serviceCRD.getSample().deepCopy();
       updatePayload(payload, spec, project, service);
-      client.resource(Serialization.json().writeValueAsString(payload)).create();
+      String resource = Serialization.json().writeValueAsString(payload);
+      CallStatistics.getInstance().measure("resource.create", () ->
+        client.resource(resource).inNamespace(project).create());
     } catch (KubernetesClientException e) {
       throw new IOException(e.getLocalizedMessage(), e);
     }
@@ -360,7 +415,8 @@ public class OdoCli implements Odo {
   public void deleteService(String project, org.jboss.tools.intellij.openshift.utils.odo.Service service) throws IOException {
     try {
       CustomResourceDefinitionContext context = toCustomResourceDefinitionContext(service);
-      client.genericKubernetesResources(context).inNamespace(project).withName(service.getName()).delete();
+      CallStatistics.getInstance().measure("genericresources.delete", () ->
+        client.genericKubernetesResources(context).inNamespace(project).withName(service.getName()).delete());
     } catch (KubernetesClientException e) {
       throw new IOException(e.getLocalizedMessage(), e);
     }
@@ -368,36 +424,75 @@ public class OdoCli implements Odo {
 
   @Override
   public List<DevfileComponentType> getComponentTypes() throws IOException {
-    return configureObjectMapper(new ComponentTypesDeserializer()).readValue(
-      execute(command, envVars, "registry", "list", "-o", "json"),
-      new TypeReference<>() {
-      });
+    return getRegistryIndex().getComponentTypes();
+  }
+
+  private synchronized DevfileRegistryIndex getRegistryIndex() {
+    if (registryIndex == null) {
+      this.registryIndex = new DevfileRegistryIndex(
+        Paths.get(HOME_FOLDER, PLUGIN_FOLDER, DEVFILE_REGISTRY_INDEX),
+        TimeUnit.MINUTES.toMillis(SettingsState.getInstance().devfileRegistryIndexTTL),
+        () -> Serialization.json().readTree(execute(command, envVars, "registry", "list", "-o", "json")),
+        AppExecutorUtil.getAppExecutorService());
+    }
+    return registryIndex;
   }
 
-  private void loadSwagger() {
+  private synchronized CrdSchemaProvider getSchemaProvider() {
+    if (schemaProvider == null) {
+      this.schemaProvider = new CrdSchemaProvider(
+        String.valueOf(client.getMasterUrl()),
+        Paths.get(HOME_FOLDER, PLUGIN_FOLDER, SCHEMAS_FOLDER),
+        this::getOpenApi);
+    }
+    return schemaProvider;
+  }
+
+  private InputStream getOpenApi(String path) throws IOException {
+    try {
+      return CallStatistics.getInstance().measure("openapi.get", () -> send(path));
+    } catch (KubernetesClientException e) {
+      if (e.getCode() > 0) {
+        // the cluster doesn't serve the document
+        return null;
+      }
+      if (e.getCause() instanceof InterruptedException) {
+        throw new InterruptedIOException(e.getLocalizedMessage());
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Requests the given path of the OpenAPI endpoint. A response that isn't successful is thrown with its status code
+   * so that it is recorded in the {@link CallStatistics}.
+   */
+  private InputStream send(String path) {
     try {
-      HttpRequest req = client.getHttpClient().newHttpRequestBuilder().url(new java.net.URL(client.getMasterUrl(), "/openapi/v2")).build();
-      CompletableFuture<HttpResponse<byte[]>> completableFuture = client.getHttpClient()
-        .sendAsync(req, byte[].class);
-      HttpResponse<byte[]> response = completableFuture.get();
+      HttpRequest req = client.getHttpClient().newHttpRequestBuilder().url(new java.net.URL(client.getMasterUrl(), path)).build();
+      HttpResponse<InputStream> response = client.getHttpClient()
+        .sendAsync(req, InputStream.class)
+        .get();
       if (response.isSuccessful()) {
-        swagger = new JSonParser(new ObjectMapper().readTree(response.body()));
+        return response.body();
       }
+      if (response.body() != null) {
+        response.body().close();
+      }
+      throw new KubernetesClientException("Could not get " + path + ", status code: " + response.code(), response.code(), null);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
-    } catch (IOException | ExecutionException e) {
-      LOGGER.warn(e.getLocalizedMessage(), e);
+      throw new KubernetesClientException(e.getLocalizedMessage(), e);
+    } catch (ExecutionException e) {
+      throw new KubernetesClientException(e.getLocalizedMessage(), e.getCause());
+    } catch (IOException e) {
+      throw new KubernetesClientException(e.getLocalizedMessage(), e);
     }
   }
 
   private ObjectNode findSchema(String crd) {
     try {
-      if (swaggerLoaded.compareAndSet(false, true)) {
-        loadSwagger();
-      }
-      if (swagger != null) {
-        return swagger.findSchema("/apis/" + crd);
-      }
+      return getSchemaProvider().getSchema(crd);
     } catch (IOException e) {
       LOGGER.warn(e.getLocalizedMessage(), e);
     }
@@ -421,8 +516,8 @@ public class OdoCli implements Odo {
 
   private List<GenericKubernetesResource> getBindableKinds() {
     List<GenericKubernetesResource> bindableKinds = new ArrayList<>();
-    client.genericKubernetesResources("binding.operators.coreos.com/v1alpha1", "BindableKinds")
-      .list()
+    CallStatistics.getInstance().measure("bindablekinds.list", () ->
+        client.genericKubernetesResources("binding.operators.coreos.com/v1alpha1", "BindableKinds").list())
       .getItems()
       .forEach(r -> getTargetCRD(r, bindableKinds));
     return bindableKinds;
@@ -435,34 +530,85 @@ public class OdoCli implements Odo {
       // if cluster (either openshift or Kubernetes) supports  operators
       OpenShiftOperatorHubAPIGroupDSL hubClient = client.adapt(OpenShiftOperatorHubAPIGroupClient.class);
       ServiceTemplatesDeserializer deserializer = new ServiceTemplatesDeserializer(this::findSchema, bindableKinds);
-      return deserializer.fromList(hubClient.clusterServiceVersions().list());
+      String namespace = getCurrentNamespace();
+      return deserializer.fromList(ServiceTemplateCatalog.getInstance().getClusterServiceVersions(
+        client.getMasterUrl() + "#" + namespace,
+        new ServiceTemplateCatalog.Source() {
+          @Override
+          public ClusterServiceVersionList list(ListOptions options) {
+            return CallStatistics.getInstance().measure("clusterserviceversions.list", () ->
+              hubClient.clusterServiceVersions().inNamespace(namespace).list(options));
+          }
+
+          @Override
+          public Watch watch(ListOptions options, Watcher<ClusterServiceVersion> watcher) {
+            return CallStatistics.getInstance().measure("clusterserviceversions.watch", () ->
+              hubClient.clusterServiceVersions().inNamespace(namespace).watch(options, watcher));
+          }
+        }));
     } catch (KubernetesClientException e) {
       // if client can't be adapted to OperatorHub
       return Collections.emptyList();
     }
   }
 
-  private List<URL> parseURLs(String json) throws IOException {
-    JSonParser parser = new JSonParser(Serialization.json().readTree(json));
-    return parser.parseURLS();
+  /**
+   * Returns the output of {@code odo describe component} for the given context.
+   * The output is cached for as long as the devfile and the odo sessions that were started for the context don't change.
+   */
+  private JsonNode describeComponent(String context) throws IOException {
+    return describeCache.get(context, getLiveFeatures(context), () ->
+      Serialization.json().readTree(execute(new File(context), command, envVars, "describe", "component", "-o", "json")));
+  }
+
+  private Set<ComponentFeature> getLiveFeatures(String context) {
+    return liveFeatures.computeIfAbsent(new File(context).getAbsolutePath(), path -> ConcurrentHashMap.newKeySet());
+  }
+
+  private void onFilesChanged(List<? extends VFileEvent> events) {
+    events.stream()
+      .map(VFileEvent::getPath)
+      .map(File::new)
+      .filter(file -> DescribeComponentCache.isDevfile(file.getName()))
+      .forEach(devfile -> describeCache.invalidate(devfile.getParent()));
   }
 
   @Override
   public List<URL> listURLs(String context) throws IOException {
     if (context != null) {
-      return parseURLs(execute(new File(context), command, envVars, "describe", "component", "-o", "json"));
+      return new JSonParser(describeComponent(context)).parseURLS();
     } else {
       return Collections.emptyList();
     }
   }
 
+  /**
+   * Runs {@code odo version} once for this instance. A new instance is created whenever the kubeconfig changes
+   * or the tree is refreshed, which invalidates the capabilities.
+   */
+  @Override
+  public synchronized OdoCapabilities getCapabilities() {
+    if (capabilities == null) {
+      try {
+        String json = execute(command, envVars, "version", "-o", "json");
+        this.capabilities = new JSonParser(Serialization.json().readTree(json)).parseCapabilities();
+      } catch (IOException e) {
+        // dont cache, retry on next request
+        LOGGER.warn("Could not run odo version, the odo capabilities and the presence of podman are unknown.", e);
+        return new OdoCapabilities.Builder().withProbed(false).build();
+      }
+    }
+    return capabilities;
+  }
+
   @Override
   public ComponentInfo getComponentInfo(String project, String component, String path,
                                         ComponentKind kind) throws IOException {
-    boolean isPodmanPresent = !execute(command, envVars, "version").contains("unable to fetch the podman client version");
+    // podman is assumed to be present unless odo reported it absent, odo reports an error if it's not
+    boolean isPodmanPresent = !getCapabilities().isPodmanAbsent();
 
     if (path != null) {
-      return parseComponentInfo(execute(new File(path), command, envVars, "describe", "component", "-o", "json"), kind, isPodmanPresent);
+      return new JSonParser(describeComponent(path)).parseDescribeComponentInfo(kind, isPodmanPresent);
     } else {
       return parseComponentInfo(execute(command, envVars, "describe", "component", "--namespace", project, "--name", component, "-o", "json"), kind, isPodmanPresent);
     }
@@ -484,21 +630,30 @@ public class OdoCli implements Odo {
    */
   private void deleteDeployment(String project, String deployment) throws IOException {
     try {
-      client.apps().deployments().inNamespace(project).withName(deployment)
-        .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
-      client.services().inNamespace(project).withLabel(KubernetesLabels.COMPONENT_LABEL, deployment).list()
-        .getItems().forEach(service -> client.services().withName(service.getMetadata().getName())
-          .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete());
+      CallStatistics statistics = CallStatistics.getInstance();
+      statistics.measure("deployments.delete", () -> client.apps().deployments().inNamespace(project).withName(deployment)
+        .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete());
+      statistics.measure("services.list", () ->
+          client.services().inNamespace(project).withLabel(KubernetesLabels.COMPONENT_LABEL, deployment).list())
+        .getItems().forEach(service -> statistics.measure("services.delete", () ->
+          client.services().inNamespace(project).withName(service.getMetadata().getName())
+            .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete()));
       if (openshiftClient != null) {
-        openshiftClient.routes().inNamespace(project).withLabelIn(KubernetesLabels.COMPONENT_LABEL, deployment).list()
-          .getItems().forEach(route -> openshiftClient.routes().withName(route.getMetadata().getName())
-            .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete());
-        openshiftClient.buildConfigs().inNamespace(project).withLabel(KubernetesLabels.COMPONENT_LABEL, deployment)
-          .list().getItems().forEach(bc -> openshiftClient.buildConfigs().withName(bc.getMetadata().getName())
-            .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete());
-        openshiftClient.imageStreams().inNamespace(project).withLabel(KubernetesLabels.COMPONENT_LABEL, deployment)
-          .list().getItems().forEach(is -> openshiftClient.imageStreams().withName(is.getMetadata().getName())
-            .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete());
+        statistics.measure("routes.list", () ->
+            openshiftClient.routes().inNamespace(project).withLabelIn(KubernetesLabels.COMPONENT_LABEL, deployment).list())
+          .getItems().forEach(route -> statistics.measure("routes.delete", () ->
+            openshiftClient.routes().inNamespace(project).withName(route.getMetadata().getName())
+              .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete()));
+        statistics.measure("buildconfigs.list", () ->
+            openshiftClient.buildConfigs().inNamespace(project).withLabel(KubernetesLabels.COMPONENT_LABEL, deployment).list())
+          .getItems().forEach(bc -> statistics.measure("buildconfigs.delete", () ->
+            openshiftClient.buildConfigs().inNamespace(project).withName(bc.getMetadata().getName())
+              .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete()));
+        statistics.measure("imagestreams.list", () ->
+            openshiftClient.imageStreams().inNamespace(project).withLabel(KubernetesLabels.COMPONENT_LABEL, deployment).list())
+          .getItems().forEach(is -> statistics.measure("imagestreams.delete", () ->
+            openshiftClient.imageStreams().inNamespace(project).withName(is.getMetadata().getName())
+              .withPropagationPolicy(DeletionPropagation.BACKGROUND).delete()));
       }
     } catch (KubernetesClientException e) {
       throw new IOException(e.getLocalizedMessage(), e);
@@ -534,50 +689,87 @@ public class OdoCli implements Odo {
     }
   }
 
-  private void doLog(String context, boolean follow, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
+  private void doLog(String context, String component, boolean follow, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
     int index = deploy ? 1 : 0;
     ProcessHandler handler = handlers.get(index);
     if (handler == null) {
-      List<String> args = new ArrayList<>();
-      args.add(command);
-      args.add("logs");
-      if (deploy) {
-        args.add("--deploy");
+      if (ComponentFeature.Constants.PODMAN.equals(platform)) {
+        doLogInTerminal(context, follow, deploy, platform, handlers, index);
       } else {
-        args.add("--dev");
+        doLogFromCluster(component, follow, deploy, handlers, index);
       }
-      if (follow) {
-        args.add("--follow");
-      }
-      if (!Strings.isEmptyOrSpaces(platform)) {
-        args.add("--platform");
-        args.add(platform);
+    }
+  }
+
+  /**
+   * Streams the logs of the pods of the given component from the cluster into a log console.
+   * The logs are kept in a bounded buffer and can be filtered.
+   */
+  private void doLogFromCluster(String component, boolean follow, boolean deploy, List<ProcessHandler> handlers, int index) {
+    PodLogStreamer streamer = new PodLogStreamer(
+      new PodLogSource(client, getCurrentNamespace(), component, deploy),
+      new LogBuffer(),
+      follow,
+      AppExecutorUtil.getAppExecutorService(),
+      AppExecutorUtil.getAppScheduledExecutorService());
+    PodLogProcessHandler handler = new PodLogProcessHandler(streamer);
+    handler.addProcessListener(new ProcessAdapter() {
+      @Override
+      public void processTerminated(@NotNull ProcessEvent event) {
+        handlers.set(index, null);
       }
-      ExecHelper.executeWithTerminal(
-        this.project, WINDOW_TITLE,
-        new File(context),
-        false,
-        envVars,
-        null,
-        null,
-        new ProcessAdapter() {
-          @Override
-          public void startNotified(@NotNull ProcessEvent event) {
-            handlers.set(index, event.getProcessHandler());
-          }
+    });
+    handlers.set(index, handler);
+    String title = component + (deploy ? " deploy" : " dev") + " log";
+    UIHelper.executeInUI(() -> {
+      PodLogPanel.show(project, title, handler);
+      handler.start();
+    });
+  }
 
-          @Override
-          public void processTerminated(@NotNull ProcessEvent event) {
-            handlers.set(index, null);
-          }
-        },
-        args.toArray(new String[0]));
+  /**
+   * Runs {@code odo logs} in a terminal. Used for components that run on podman rather than in the cluster.
+   */
+  private void doLogInTerminal(String context, boolean follow, boolean deploy, String platform, List<ProcessHandler> handlers, int index) throws IOException {
+    List<String> args = new ArrayList<>();
+    args.add(command);
+    args.add("logs");
+    if (deploy) {
+      args.add("--deploy");
+    } else {
+      args.add("--dev");
     }
+    if (follow) {
+      args.add("--follow");
+    }
+    if (!Strings.isEmptyOrSpaces(platform)) {
+      args.add("--platform");
+      args.add(platform);
+    }
+    ExecHelper.executeWithTerminal(
+      this.project, WINDOW_TITLE,
+      new File(context),
+      false,
+      envVars,
+      null,
+      null,
+      new ProcessAdapter() {
+        @Override
+        public void startNotified(@NotNull ProcessEvent event) {
+          handlers.set(index, event.getProcessHandler());
+        }
+
+        @Override
+        public void processTerminated(@NotNull ProcessEvent event) {
+          handlers.set(index, null);
+        }
+      },
+      args.toArray(new String[0]));
   }
 
   @Override
-  public void follow(String context, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
-    doLog(context, true, deploy, platform, handlers);
+  public void follow(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
+    doLog(context, component, true, deploy, platform, handlers);
   }
 
   @Override
@@ -586,8 +778,8 @@ public class OdoCli implements Odo {
   }
 
   @Override
-  public void log(String context, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
-    doLog(context, false, deploy, platform, handlers);
+  public void log(String context, String component, boolean deploy, String platform, List<ProcessHandler> handlers) throws IOException {
+    doLog(context, component, false, deploy, platform, handlers);
   }
 
   @Override
@@ -638,7 +830,7 @@ public class OdoCli implements Odo {
   @Override
   public boolean isAuthorized() {
     try {
-      client.authorization().v1().getApiGroups();
+      CallStatistics.getInstance().measure("apigroups.get", () -> client.authorization().v1().getApiGroups());
       // retrieving api groups worked, we're authorized
       return true;
     } catch (KubernetesClientException e) {
@@ -654,9 +846,38 @@ public class OdoCli implements Odo {
     }
   }
 
+  private NamespaceResources getNamespaceResources(String namespace) {
+    NamespaceResources resources = namespaceResources.get(namespace);
+    if (resources == null) {
+      // created outside of the map so that creating the watches doesn't block the other namespaces
+      NamespaceResources created = new NamespaceResources(namespace, client, this::getBindableKinds,
+        changed -> bus.syncPublisher(NamespaceResourcesListener.TOPIC).onChanged(changed));
+      resources = namespaceResources.putIfAbsent(namespace, created);
+      if (resources == null) {
+        resources = created;
+      } else {
+        created.close();
+      }
+    }
+    resources.start();
+    if (resources.isSynced()) {
+      return resources;
+    }
+    if (resources.isRetryDue()) {
+      // retry on next request, ex. after permissions were granted
+      namespaceResources.remove(namespace, resources);
+      resources.close();
+    }
+    return null;
+  }
+
   @Override
   public List<Component> getComponents(String project) throws IOException {
-    return configureObjectMapper(new ComponentDeserializer()).readValue(
+    NamespaceResources resources = getNamespaceResources(project);
+    if (resources != null) {
+      return resources.getComponents();
+    }
+    return COMPONENTS_MAPPER.readValue(
       execute(command, envVars, "list", "--namespace", project, "-o", "json"),
       new TypeReference<>() {
       });
@@ -664,8 +885,13 @@ public class OdoCli implements Odo {
 
   @Override
   public List<org.jboss.tools.intellij.openshift.utils.odo.Service> getServices(String project) throws IOException {
+    NamespaceResources resources = getNamespaceResources(project);
+    if (resources != null
+      && resources.isServicesWatched()) {
+      return resources.getServices();
+    }
     try {
-      return configureObjectMapper(new ServiceDeserializer()).readValue(
+      return SERVICES_MAPPER.readValue(
         execute(command, envVars, "list", "service", "--namespace", project, "-o", "json"),
         new TypeReference<>() {
         });
@@ -680,6 +906,15 @@ public class OdoCli implements Odo {
     }
   }
 
+  @Override
+  public List<ChartRelease> getHelmReleases(String project) throws IOException {
+    NamespaceResources resources = getNamespaceResources(project);
+    if (resources != null) {
+      return resources.getHelmReleases();
+    }
+    return new HelmReleaseReader(client).list(project);
+  }
+
   @Override
   public void about() throws IOException {
     ExecHelper.executeWithTerminal(this.project, WINDOW_TITLE, true, envVars, command, "version");
@@ -708,7 +943,7 @@ public class OdoCli implements Odo {
   @Override
   public List<Binding> listBindings(String context) throws IOException {
     if (context != null) {
-      return configureObjectMapper(new BindingDeserializer()).readValue(
+      return BINDINGS_MAPPER.readValue(
         execute(new File(context), command, envVars, "describe", "binding", "-o", "json"),
         new TypeReference<>() {
         });
@@ -760,14 +995,17 @@ public class OdoCli implements Odo {
   public String consoleURL() throws IOException {
     try {
       if (openshiftClient != null) {
-        VersionInfo info = openshiftClient.getOpenShiftV3Version();
+        CallStatistics statistics = CallStatistics.getInstance();
+        VersionInfo info = statistics.measure("version.get", openshiftClient::getOpenShiftV3Version);
         if (info == null) {
-          ConfigMap configMap = openshiftClient.configMaps().inNamespace(OCP4_CONFIG_NAMESPACE).withName(OCP4_CONSOLE_PUBLIC_CONFIG_MAP_NAME).get();
+          ConfigMap configMap = statistics.measure("configmaps.get", () ->
+            openshiftClient.configMaps().inNamespace(OCP4_CONFIG_NAMESPACE).withName(OCP4_CONSOLE_PUBLIC_CONFIG_MAP_NAME).get());
           if (configMap != null) {
             return configMap.getData().get(OCP4_CONSOLE_URL_KEY_NAME);
           }
         } else {
-          ConfigMap configMap = openshiftClient.configMaps().inNamespace(OCP3_CONFIG_NAMESPACE).withName(OCP3_WEBCONSOLE_CONFIG_MAP_NAME).get();
+          ConfigMap configMap = statistics.measure("configmaps.get", () ->
+            openshiftClient.configMaps().inNamespace(OCP3_CONFIG_NAMESPACE).withName(OCP3_WEBCONSOLE_CONFIG_MAP_NAME).get());
           String yaml = configMap.getData().get(OCP3_WEBCONSOLE_YAML_FILE_NAME);
           return Serialization.json().readTree(yaml).path("clusterInfo").path("consolePublicURL").asText();
         }
@@ -786,12 +1024,24 @@ public class OdoCli implements Odo {
 
   @Override
   public void migrateComponent(String name) {
-    client.apps().deployments().withLabel(KubernetesLabels.COMPONENT_NAME_LABEL, name).delete();
+    // the clients keep the namespace they were created with, the current namespace may have changed since
+    String namespace = getCurrentNamespace();
+    CallStatistics.getInstance().measure("deployments.delete", () ->
+      client.apps().deployments().inNamespace(namespace).withLabel(KubernetesLabels.COMPONENT_NAME_LABEL, name).delete());
+  }
+
+  @Override
+  public void dispose() {
+    connection.disconnect();
+    describeCache.clear();
+    namespaceCatalog.close();
+    namespaceResources.values().forEach(NamespaceResources::close);
+    namespaceResources.clear();
   }
 
   @Override
   public List<ComponentDescriptor> discover(String path) throws IOException {
-    return configureObjectMapper(new ComponentDescriptorsDeserializer(new File(path).getAbsolutePath())).readValue(
+    return Serialization.configure(new ComponentDescriptorsDeserializer(new File(path).getAbsolutePath())).readValue(
       execute(new File(path), command, envVars, "list", "-o", "json"),
       new TypeReference<>() {
       });
@@ -799,6 +1049,10 @@ public class OdoCli implements Odo {
 
   @Override
   public ComponentTypeInfo getComponentTypeInfo(String componentType, String registryName) throws IOException {
+    ComponentTypeInfo info = getRegistryIndex().getComponentTypeInfo(componentType, registryName);
+    if (info != null) {
+      return info;
+    }
     String json = execute(command, envVars, "registry", "list", "--devfile-registry", registryName, "--devfile", componentType, "-o", "json");
     JSonParser parser = new JSonParser(Serialization.json().readTree(json));
     return parser.parseComponentTypeInfo();
@@ -806,7 +1060,7 @@ public class OdoCli implements Odo {
 
   @Override
   public List<DevfileRegistry> listDevfileRegistries() throws IOException {
-    return configureObjectMapper(new DevfileRegistriesDeserializer()).readValue(
+    return DEVFILE_REGISTRIES_MAPPER.readValue(
       execute(command, envVars, "preference", "view", "-o", "json"),
       new TypeReference<>() {
       });
@@ -819,11 +1073,13 @@ public class OdoCli implements Odo {
     } else {
       execute(command, envVars, "preference", "add", "registry", name, url);
     }
+    getRegistryIndex().invalidate();
   }
 
   @Override
   public void deleteDevfileRegistry(String name) throws IOException {
     execute(command, envVars, "preference", "remove", "registry", "-f", name);
+    getRegistryIndex().invalidate();
   }
 
   @Override
@@ -0,0 +1,644 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.intellij.execution.process.BaseProcessHandler;
+import com.intellij.execution.process.ProcessAdapter;
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jboss.tools.intellij.openshift.settings.SettingsState;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The processes that run for the components of a project: odo dev, debug and deploy sessions and logs.
+ * Processes are registered and unregistered atomically from any thread, {@link #getSessions()} returns a consistent
+ * snapshot of them and listeners are notified whenever the processes of a component change.
+ * <p>
+ * While there are sessions, the cpu time, resident memory and output rate of each session (the process and the
+ * processes it started) are sampled periodically. A session that exceeds the limits in {@link SettingsState}
+ * is reported to the listeners once per limit and stopped if {@link SettingsState#stopRunawayOdoSessions} is set.
+ * Resident memory is only available on Linux.
+ */
+@Service(Service.Level.PROJECT)
+public final class OdoProcessRegistry implements Disposable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OdoProcessRegistry.class);
+
+  static final long SAMPLE_INTERVAL = 5000;
+
+  /**
+   * value of the statistics that could not be sampled
+   */
+  public static final long UNKNOWN = -1;
+
+  private static final String LOG_DEV = "log dev";
+  private static final String LOG_DEPLOY = "log deploy";
+
+  /**
+   * Listens to the sessions of the registry. Listeners are notified in the thread that changed the session.
+   */
+  public interface Listener {
+    /**
+     * A session of the given component was started or terminated.
+     */
+    void sessionsChanged(String component);
+
+    /**
+     * The given session exceeded a limit.
+     *
+     * @param session the session
+     * @param reason the limit that was exceeded
+     */
+    default void sessionExceeded(Session session, String reason) {
+    }
+  }
+
+  private final Map<SessionKey, Entry> sessions = new ConcurrentHashMap<>();
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+  private final ScheduledExecutorService scheduler;
+  private final Supplier<Limits> limits;
+  private final LongSupplier clock;
+  private ScheduledFuture<?> sampling;
+
+  public static OdoProcessRegistry getInstance(Project project) {
+    return project.getService(OdoProcessRegistry.class);
+  }
+
+  public OdoProcessRegistry() {
+    this(AppExecutorUtil.getAppScheduledExecutorService(), Limits::fromSettings, System::nanoTime);
+  }
+
+  OdoProcessRegistry(ScheduledExecutorService scheduler, Supplier<Limits> limits, LongSupplier clock) {
+    this.scheduler = scheduler;
+    this.limits = limits;
+    this.clock = clock;
+  }
+
+  public void addListener(Listener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(Listener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Returns the process that runs the given feature of the given component, {@code null} if there's none.
+   */
+  public ProcessHandler getProcess(String component, ComponentFeature feature) {
+    return getHandler(new SessionKey(component, feature.getLabel()));
+  }
+
+  public boolean isRunning(String component, ComponentFeature feature) {
+    return getProcess(component, feature) != null;
+  }
+
+  /**
+   * Registers the process that runs the given feature of the given component.
+   * A process that was registered for it before is replaced but not stopped.
+   */
+  public void register(String component, ComponentFeature feature, ProcessHandler handler) {
+    register(new SessionKey(component, feature.getLabel()), feature, handler);
+  }
+
+  /**
+   * Returns the features of the given component that a process is registered for.
+   */
+  public List<ComponentFeature> getFeatures(String component) {
+    List<ComponentFeature> features = new ArrayList<>();
+    sessions.forEach((key, entry) -> {
+      if (key.component.equals(component)
+        && entry.feature != null) {
+        features.add(entry.feature);
+      }
+    });
+    return features;
+  }
+
+  /**
+   * Unregisters the process that runs the given feature of the given component. The process is not stopped.
+   *
+   * @return the process that was unregistered, {@code null} if there was none
+   */
+  public ProcessHandler unregister(String component, ComponentFeature feature) {
+    return unregister(new SessionKey(component, feature.getLabel()), null);
+  }
+
+  /**
+   * Unregisters the given process if it still runs the given feature of the given component.
+   * A process that replaced it meanwhile is kept.
+   *
+   * @return {@code true} if the process was unregistered
+   */
+  public boolean unregister(String component, ComponentFeature feature, ProcessHandler handler) {
+    return unregister(new SessionKey(component, feature.getLabel()), handler) != null;
+  }
+
+  /**
+   * Returns the processes that show the logs of the given component: index 0 is dev, index 1 is deploy.
+   * The list is a live view of this registry, setting an element registers or (if {@code null}) unregisters a process.
+   */
+  public List<ProcessHandler> getLogProcesses(String component) {
+    return new AbstractList<>() {
+      @Override
+      public ProcessHandler get(int index) {
+        return getHandler(getLogKey(component, index));
+      }
+
+      @Override
+      public ProcessHandler set(int index, ProcessHandler handler) {
+        SessionKey key = getLogKey(component, index);
+        if (handler == null) {
+          return unregister(key, null);
+        }
+        return register(key, null, handler);
+      }
+
+      @Override
+      public int size() {
+        return 2;
+      }
+    };
+  }
+
+  public boolean isLogRunning(String component, boolean deploy) {
+    return getLogProcesses(component).get(deploy ? 1 : 0) != null;
+  }
+
+  /**
+   * Unregisters all processes of the given component. The processes are not stopped.
+   *
+   * @return the processes that were unregistered
+   */
+  public List<ProcessHandler> removeComponent(String component) {
+    List<ProcessHandler> removed = new ArrayList<>();
+    sessions.entrySet().removeIf(session -> {
+      if (!session.getKey().component.equals(component)) {
+        return false;
+      }
+      session.getValue().detach();
+      removed.add(session.getValue().handler);
+      return true;
+    });
+    if (!removed.isEmpty()) {
+      fireSessionsChanged(component);
+    }
+    return removed;
+  }
+
+  /**
+   * Returns a snapshot of the sessions, sorted by component and name.
+   */
+  public List<Session> getSessions() {
+    List<Session> snapshot = new ArrayList<>();
+    sessions.forEach((key, entry) -> snapshot.add(entry.snapshot(key, clock.getAsLong())));
+    snapshot.sort(Comparator.comparing(Session::getComponent).thenComparing(Session::getName));
+    return Collections.unmodifiableList(snapshot);
+  }
+
+  /**
+   * Stops the process of the given session if it's still registered. The process is unregistered once it terminated.
+   */
+  public void stop(Session session) {
+    Entry entry = sessions.get(new SessionKey(session.getComponent(), session.getName()));
+    if (entry != null
+      && entry.handler == session.handler) {
+      entry.handler.destroyProcess();
+    }
+  }
+
+  private ProcessHandler getHandler(SessionKey key) {
+    Entry entry = sessions.get(key);
+    return entry == null ? null : entry.handler;
+  }
+
+  private ProcessHandler register(SessionKey key, ComponentFeature feature, ProcessHandler handler) {
+    Entry entry = new Entry(feature, handler, getProcessHandle(handler), clock.getAsLong());
+    Entry previous = sessions.put(key, entry);
+    if (previous != null) {
+      previous.detach();
+    }
+    ensureSampling();
+    fireSessionsChanged(key.component);
+    return previous == null ? null : previous.handler;
+  }
+
+  /**
+   * Unregisters the process of the given session. Only unregisters the given handler if it's not {@code null}.
+   */
+  private ProcessHandler unregister(SessionKey key, ProcessHandler handler) {
+    Entry removed;
+    if (handler == null) {
+      removed = sessions.remove(key);
+    } else {
+      Entry entry = sessions.get(key);
+      removed = entry != null
+        && entry.handler == handler
+        && sessions.remove(key, entry) ? entry : null;
+    }
+    if (removed == null) {
+      return null;
+    }
+    removed.detach();
+    fireSessionsChanged(key.component);
+    return removed.handler;
+  }
+
+  private static SessionKey getLogKey(String component, int index) {
+    Objects.checkIndex(index, 2);
+    return new SessionKey(component, index == 0 ? LOG_DEV : LOG_DEPLOY);
+  }
+
+  private void fireSessionsChanged(String component) {
+    listeners.forEach(listener -> listener.sessionsChanged(component));
+  }
+
+  private synchronized void ensureSampling() {
+    if (sampling == null) {
+      sampling = scheduler.scheduleWithFixedDelay(this::sample, SAMPLE_INTERVAL, SAMPLE_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Samples the statistics of all sessions and reports the sessions that exceed the limits.
+   * Sampling stops once there are no sessions.
+   */
+  void sample() {
+    synchronized (this) {
+      if (sessions.isEmpty()) {
+        if (sampling != null) {
+          sampling.cancel(false);
+          sampling = null;
+        }
+        return;
+      }
+    }
+    Limits current = limits.get();
+    long now = clock.getAsLong();
+    sessions.forEach((key, entry) -> {
+      try {
+        entry.sample(now);
+        checkLimits(key, entry, current, now);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Could not sample odo session " + key.name + " of component " + key.component, e);
+      }
+    });
+  }
+
+  private void checkLimits(SessionKey key, Entry entry, Limits limits, long now) {
+    Session session = entry.snapshot(key, now);
+    boolean reported = false;
+    if (limits.maxMemory > 0
+      && session.getMemory() > limits.maxMemory * 1024 * 1024) {
+      reported |= report(entry, session, "memory",
+        "uses " + session.getMemory() / (1024 * 1024) + " MB of memory (limit " + limits.maxMemory + " MB)");
+    }
+    if (limits.maxCpu > 0
+      && session.getCpuLoad() > limits.maxCpu) {
+      reported |= report(entry, session, "cpu",
+        "uses " + session.getCpuLoad() + "% cpu (limit " + limits.maxCpu + "%)");
+    }
+    if (limits.maxOutputRate > 0
+      && session.getOutputRate() > limits.maxOutputRate) {
+      reported |= report(entry, session, "output",
+        "prints " + session.getOutputRate() + " characters per second (limit " + limits.maxOutputRate + ")");
+    }
+    if (reported
+      && limits.stop) {
+      LOGGER.info("Stopping odo session " + key.name + " of component " + key.component + " that exceeded its limits");
+      entry.handler.destroyProcess();
+    }
+  }
+
+  private boolean report(Entry entry, Session session, String limit, String reason) {
+    if (!entry.report(limit)) {
+      return false;
+    }
+    listeners.forEach(listener -> listener.sessionExceeded(session, reason));
+    return true;
+  }
+
+  @Override
+  public synchronized void dispose() {
+    if (sampling != null) {
+      sampling.cancel(false);
+      sampling = null;
+    }
+  }
+
+  private static ProcessHandle getProcessHandle(ProcessHandler handler) {
+    if (!(handler instanceof BaseProcessHandler)) {
+      return null;
+    }
+    try {
+      Process process = ((BaseProcessHandler<?>) handler).getProcess();
+      return ProcessHandle.of(process.pid()).orElse(null);
+    } catch (UnsupportedOperationException e) {
+      // process implementation (ex. pty) does not expose its pid
+      return null;
+    }
+  }
+
+  /**
+   * Returns the cpu time in nanoseconds that the given process and its descendants used so far,
+   * {@link #UNKNOWN} if the process terminated or the platform does not report it.
+   */
+  static long getCpuTime(ProcessHandle process) {
+    if (!process.isAlive()) {
+      return UNKNOWN;
+    }
+    Optional<Duration> own = process.info().totalCpuDuration();
+    if (own.isEmpty()) {
+      return UNKNOWN;
+    }
+    return own.get().toNanos() + process.descendants()
+      .map(descendant -> descendant.info().totalCpuDuration().orElse(Duration.ZERO).toNanos())
+      .reduce(0L, Long::sum);
+  }
+
+  /**
+   * Returns the resident memory in bytes of the given process and its descendants,
+   * {@link #UNKNOWN} if the process terminated or the platform does not report it (all but Linux).
+   */
+  static long getMemory(ProcessHandle process) {
+    long memory = getResidentMemory(process.pid());
+    if (memory == UNKNOWN) {
+      return UNKNOWN;
+    }
+    return memory + process.descendants()
+      .mapToLong(descendant -> Math.max(0, getResidentMemory(descendant.pid())))
+      .sum();
+  }
+
+  private static long getResidentMemory(long pid) {
+    Path status = Paths.get("/proc", String.valueOf(pid), "status");
+    if (!Files.isReadable(status)) {
+      return UNKNOWN;
+    }
+    try (Stream<String> lines = Files.lines(status)) {
+      return lines
+        .filter(line -> line.startsWith("VmRSS:"))
+        .map(line -> line.substring("VmRSS:".length()).trim().split("\\s+")[0])
+        .mapToLong(kiloBytes -> Long.parseLong(kiloBytes) * 1024)
+        .findFirst()
+        .orElse(UNKNOWN);
+    } catch (IOException | RuntimeException e) {
+      return UNKNOWN;
+    }
+  }
+
+  private static final class SessionKey {
+
+    private final String component;
+    private final String name;
+
+    private SessionKey(String component, String name) {
+      this.component = component;
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SessionKey)) {
+        return false;
+      }
+      SessionKey other = (SessionKey) o;
+      return component.equals(other.component)
+        && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(component, name);
+    }
+  }
+
+  /**
+   * A registered process and the statistics that were sampled for it.
+   */
+  private static final class Entry {
+
+    private final ComponentFeature feature;
+    private final ProcessHandler handler;
+    private final ProcessHandle process;
+    private final long started;
+    private final LongAdder output = new LongAdder();
+    private final ProcessListener outputListener = new ProcessAdapter() {
+      @Override
+      public void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+        String text = event.getText();
+        if (text != null) {
+          output.add(text.length());
+        }
+      }
+    };
+    private final Set<String> reported = new HashSet<>();
+    private long sampled;
+    private long sampledOutput;
+    private long cpuTime = UNKNOWN;
+    private long cpuLoad = UNKNOWN;
+    private long memory = UNKNOWN;
+    private long outputRate = UNKNOWN;
+
+    private Entry(ComponentFeature feature, ProcessHandler handler, ProcessHandle process, long now) {
+      this.feature = feature;
+      this.handler = handler;
+      this.process = process;
+      this.started = now;
+      this.sampled = now;
+      handler.addProcessListener(outputListener);
+    }
+
+    private void detach() {
+      handler.removeProcessListener(outputListener);
+    }
+
+    private synchronized void sample(long now) {
+      long elapsed = now - sampled;
+      long totalOutput = output.sum();
+      if (elapsed > 0) {
+        outputRate = (totalOutput - sampledOutput) * TimeUnit.SECONDS.toNanos(1) / elapsed;
+      }
+      if (process != null) {
+        long previousCpuTime = cpuTime;
+        cpuTime = getCpuTime(process);
+        memory = getMemory(process);
+        cpuLoad = elapsed > 0 && previousCpuTime != UNKNOWN && cpuTime != UNKNOWN ?
+          (cpuTime - previousCpuTime) * 100 / elapsed : UNKNOWN;
+      }
+      sampled = now;
+      sampledOutput = totalOutput;
+    }
+
+    /**
+     * Returns {@code true} if the given limit was not reported for this session yet.
+     */
+    private synchronized boolean report(String limit) {
+      return reported.add(limit);
+    }
+
+    private synchronized Session snapshot(SessionKey key, long now) {
+      return new Session(key.component, key.name, handler, process == null ? UNKNOWN : process.pid(),
+        now - started, cpuTime, cpuLoad, memory, output.sum(), outputRate);
+    }
+  }
+
+  /**
+   * A session at a given time. Statistics that could not be sampled (yet) are {@link #UNKNOWN}.
+   */
+  public static final class Session {
+
+    private final String component;
+    private final String name;
+    private final ProcessHandler handler;
+    private final long pid;
+    private final long uptime;
+    private final long cpuTime;
+    private final long cpuLoad;
+    private final long memory;
+    private final long output;
+    private final long outputRate;
+
+    private Session(String component, String name, ProcessHandler handler, long pid, long uptime, long cpuTime,
+                    long cpuLoad, long memory, long output, long outputRate) {
+      this.component = component;
+      this.name = name;
+      this.handler = handler;
+      this.pid = pid;
+      this.uptime = uptime;
+      this.cpuTime = cpuTime;
+      this.cpuLoad = cpuLoad;
+      this.memory = memory;
+      this.output = output;
+      this.outputRate = outputRate;
+    }
+
+    public String getComponent() {
+      return component;
+    }
+
+    /**
+     * Returns the name of the session: the label of the feature (ex. {@code dev on Cluster}) or {@code log dev}, {@code log deploy}.
+     */
+    public String getName() {
+      return name;
+    }
+
+    public long getPid() {
+      return pid;
+    }
+
+    public long getUptimeMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(uptime);
+    }
+
+    public long getCpuTimeMillis() {
+      return cpuTime == UNKNOWN ? UNKNOWN : TimeUnit.NANOSECONDS.toMillis(cpuTime);
+    }
+
+    /**
+     * Returns the cpu that the session used during the last sampling interval, in percent of a core.
+     */
+    public long getCpuLoad() {
+      return cpuLoad;
+    }
+
+    /**
+     * Returns the resident memory of the session in bytes.
+     */
+    public long getMemory() {
+      return memory;
+    }
+
+    /**
+     * Returns the number of characters that the session printed.
+     */
+    public long getOutput() {
+      return output;
+    }
+
+    /**
+     * Returns the characters per second that the session printed during the last sampling interval.
+     */
+    public long getOutputRate() {
+      return outputRate;
+    }
+  }
+
+  /**
+   * The limits above which a session is reported. A limit of 0 disables the check.
+   */
+  public static final class Limits {
+
+    private final long maxMemory;
+    private final long maxCpu;
+    private final long maxOutputRate;
+    private final boolean stop;
+
+    /**
+     * @param maxMemory the resident memory in megabytes
+     * @param maxCpu the cpu in percent of a core
+     * @param maxOutputRate the characters printed per second
+     * @param stop whether sessions that exceed a limit are stopped
+     */
+    public Limits(long maxMemory, long maxCpu, long maxOutputRate, boolean stop) {
+      this.maxMemory = maxMemory;
+      this.maxCpu = maxCpu;
+      this.maxOutputRate = maxOutputRate;
+      this.stop = stop;
+    }
+
+    static Limits fromSettings() {
+      SettingsState settings = SettingsState.getInstance();
+      return new Limits(
+        settings.odoSessionMaxMemory,
+        settings.odoSessionMaxCpu,
+        settings.odoSessionMaxOutputRate,
+        settings.stopRunawayOdoSessions);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.intellij.execution.process.ProcessHandler;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.OutputStream;
+
+/**
+ * A {@link ProcessHandler} for logs that are streamed by a {@link PodLogStreamer}. There's no process,
+ * destroying the handler stops the streaming. This allows log streams to be tracked and stopped like the
+ * processes that odo is run in (see {@link OdoProcessRegistry#getLogProcesses(String)}).
+ */
+public class PodLogProcessHandler extends ProcessHandler {
+
+  private final PodLogStreamer streamer;
+
+  public PodLogProcessHandler(PodLogStreamer streamer) {
+    this.streamer = streamer;
+    streamer.setOnFinished(() -> notifyProcessTerminated(0));
+  }
+
+  public LogBuffer getBuffer() {
+    return streamer.getBuffer();
+  }
+
+  public void start() {
+    startNotify();
+    streamer.start();
+  }
+
+  @Override
+  protected void destroyProcessImpl() {
+    streamer.stop();
+    notifyProcessTerminated(0);
+  }
+
+  @Override
+  protected void detachProcessImpl() {
+    streamer.stop();
+    notifyProcessDetached();
+  }
+
+  @Override
+  public boolean detachIsDefault() {
+    return false;
+  }
+
+  @Override
+  public @Nullable OutputStream getProcessInput() {
+    return null;
+  }
+}
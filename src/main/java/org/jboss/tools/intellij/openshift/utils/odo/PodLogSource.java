@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.Loggable;
+import org.jboss.tools.intellij.openshift.KubernetesLabels;
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The logs of the pods that odo runs a component in, either in dev or in deploy mode.
+ */
+public class PodLogSource implements PodLogStreamer.LogSource {
+
+  private static final String PENDING = "Pending";
+
+  private final KubernetesClient client;
+  private final String namespace;
+  private final String component;
+  private final ComponentFeature.Mode mode;
+
+  public PodLogSource(KubernetesClient client, String namespace, String component, boolean deploy) {
+    this.client = client;
+    this.namespace = namespace;
+    this.component = component;
+    this.mode = deploy ? ComponentFeature.Mode.DEPLOY_MODE : ComponentFeature.Mode.DEV_MODE;
+  }
+
+  @Override
+  public Map<String, List<String>> getContainers() {
+    List<Pod> pods = CallStatistics.getInstance().measure("pods.list", () ->
+      client.pods().inNamespace(namespace).withLabel(KubernetesLabels.COMPONENT_NAME_LABEL, component).list().getItems());
+    Map<String, List<String>> containers = new LinkedHashMap<>();
+    for (Pod pod : pods) {
+      if (isMode(pod)
+        && isStarted(pod)) {
+        containers.put(pod.getMetadata().getName(), pod.getSpec().getContainers().stream()
+          .map(Container::getName)
+          .collect(Collectors.toList()));
+      }
+    }
+    return containers;
+  }
+
+  private boolean isMode(Pod pod) {
+    Map<String, String> labels = pod.getMetadata().getLabels();
+    return labels != null
+      && mode.getLabel().equalsIgnoreCase(labels.get(KubernetesLabels.ODO_MODE_LABEL));
+  }
+
+  private static boolean isStarted(Pod pod) {
+    return pod.getStatus() != null
+      && !PENDING.equals(pod.getStatus().getPhase());
+  }
+
+  @Override
+  public Reader open(String pod, String container, String sinceTime, int tailLines, boolean follow) throws IOException {
+    try {
+      var logs = client.pods().inNamespace(namespace).withName(pod).inContainer(container).usingTimestamps();
+      Loggable loggable = sinceTime != null ? logs.sinceTime(sinceTime) : logs.tailingLines(tailLines);
+      if (!follow) {
+        return loggable.getLogReader();
+      }
+      LogWatch watch = loggable.watchLog();
+      return new FilterReader(new InputStreamReader(watch.getOutput(), StandardCharsets.UTF_8)) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            watch.close();
+          }
+        }
+      };
+    } catch (KubernetesClientException e) {
+      throw new IOException(e);
+    }
+  }
+}
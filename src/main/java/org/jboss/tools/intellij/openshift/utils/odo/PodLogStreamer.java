@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams the logs of the containers of the pods of a component into a {@link LogBuffer}.
+ * <ul>
+ *   <li>The logs of all containers of all pods are streamed at the same time. Each line is prefixed with its pod and container.</li>
+ *   <li>When following, the pods are listed periodically so that the logs of new pods (ex. after a redeploy) are streamed, too.</li>
+ *   <li>When following and a stream ends while its pod still exists, the stream is reopened after a delay.
+ *   It resumes at the time of the last line that was received. The lines that are replayed up to and at that time
+ *   and that were received already are skipped, lines that share a timestamp are otherwise all kept.</li>
+ * </ul>
+ */
+public class PodLogStreamer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PodLogStreamer.class);
+
+  static final int TAIL_LINES = 1000;
+  static final long RECONNECT_DELAY = 2000;
+  static final long POD_POLL_DELAY = 5000;
+  /**
+   * marks that streams are still being started. Keys of streams are {@code <pod>/<container>}.
+   */
+  private static final String STARTING = "";
+
+  /**
+   * The pods of a component and the logs of their containers.
+   */
+  public interface LogSource {
+    /**
+     * Returns the containers of the pods that logs can be read from, by pod name.
+     */
+    Map<String, List<String>> getContainers();
+
+    /**
+     * Opens the log of the given container. Each line has to start with its timestamp (RFC3339) followed by a space.
+     *
+     * @param pod the name of the pod
+     * @param container the name of the container
+     * @param sinceTime the timestamp to start at or {@code null} to start at the given number of last lines
+     * @param tailLines the number of last lines to start at if there's no timestamp
+     * @param follow whether to keep the log open and read new lines
+     * @return the reader of the log
+     * @throws IOException if the log could not be opened
+     */
+    Reader open(String pod, String container, String sinceTime, int tailLines, boolean follow) throws IOException;
+  }
+
+  private final LogSource source;
+  private final LogBuffer buffer;
+  private final boolean follow;
+  private final Executor executor;
+  private final ScheduledExecutorService scheduler;
+  private final Map<String, Position> positions = new ConcurrentHashMap<>();
+  private final Set<String> streaming = ConcurrentHashMap.newKeySet();
+  private final Set<Reader> readers = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean finished = new AtomicBoolean();
+  private volatile boolean stopped;
+  private volatile Runnable onFinished = () -> {};
+  private ScheduledFuture<?> poll;
+
+  public PodLogStreamer(LogSource source, LogBuffer buffer, boolean follow, Executor executor, ScheduledExecutorService scheduler) {
+    this.source = source;
+    this.buffer = buffer;
+    this.follow = follow;
+    this.executor = executor;
+    this.scheduler = scheduler;
+  }
+
+  public LogBuffer getBuffer() {
+    return buffer;
+  }
+
+  /**
+   * Sets the callback that is notified once all logs were read. This only happens if the logs are not followed.
+   */
+  public void setOnFinished(Runnable onFinished) {
+    this.onFinished = onFinished;
+  }
+
+  public synchronized void start() {
+    if (follow) {
+      this.poll = scheduler.scheduleWithFixedDelay(this::startStreams, 0, POD_POLL_DELAY, TimeUnit.MILLISECONDS);
+    } else {
+      streaming.add(STARTING);
+      executor.execute(() -> {
+        startStreams();
+        streaming.remove(STARTING);
+        finishIfDone();
+      });
+    }
+  }
+
+  public void stop() {
+    synchronized (this) {
+      this.stopped = true;
+      if (poll != null) {
+        poll.cancel(false);
+      }
+    }
+    readers.forEach(this::close);
+    readers.clear();
+  }
+
+  public boolean isStopped() {
+    return stopped;
+  }
+
+  private void startStreams() {
+    if (stopped) {
+      return;
+    }
+    Map<String, List<String>> containers = getContainers();
+    containers.forEach((pod, names) -> names.forEach(container -> {
+      String key = pod + '/' + container;
+      if (streaming.add(key)) {
+        executor.execute(() -> stream(pod, container, key));
+      }
+    }));
+  }
+
+  private Map<String, List<String>> getContainers() {
+    try {
+      return source.getContainers();
+    } catch (RuntimeException e) {
+      LOGGER.warn("Could not list the pods to stream logs from.", e);
+      return Collections.emptyMap();
+    }
+  }
+
+  private void stream(String pod, String container, String key) {
+    String prefix = '[' + key + "] ";
+    try {
+      while (!stopped) {
+        read(pod, container, key, prefix);
+        if (!follow
+          || stopped
+          || !isRunning(pod, container)) {
+          break;
+        }
+        Thread.sleep(RECONNECT_DELAY);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      streaming.remove(key);
+      finishIfDone();
+    }
+  }
+
+  private void read(String pod, String container, String key, String prefix) {
+    Reader reader = null;
+    try {
+      Position position = positions.get(key);
+      reader = source.open(pod, container, position == null ? null : position.timestamp, TAIL_LINES, follow);
+      readers.add(reader);
+      if (stopped) {
+        return;
+      }
+      // a reopened log replays the lines at and before the time it was reopened at
+      Replay replay = position == null ? null : new Replay(position);
+      BufferedReader lines = new BufferedReader(reader);
+      String line;
+      while ((line = lines.readLine()) != null
+        && !stopped) {
+        if (replay != null
+          && replay.skip(line)) {
+          continue;
+        }
+        replay = null;
+        append(key, prefix, line);
+      }
+    } catch (IOException | RuntimeException e) {
+      if (!stopped) {
+        LOGGER.debug("Log of container {} ended.", key, e);
+      }
+    } finally {
+      if (reader != null) {
+        readers.remove(reader);
+        close(reader);
+      }
+    }
+  }
+
+  private void append(String key, String prefix, String line) {
+    int separator = line.indexOf(' ');
+    if (separator <= 0) {
+      buffer.append(prefix + line);
+      return;
+    }
+    String timestamp = line.substring(0, separator);
+    Instant time = parse(timestamp);
+    if (time == null) {
+      buffer.append(prefix + line);
+      return;
+    }
+    positions.compute(key, (k, position) -> {
+      Position current = position;
+      if (current == null
+        || time.isAfter(current.time)) {
+        current = new Position(timestamp, time);
+      }
+      if (time.equals(current.time)) {
+        current.lines.add(line);
+      }
+      return current;
+    });
+    buffer.append(prefix + line.substring(separator + 1));
+  }
+
+  private boolean isRunning(String pod, String container) {
+    List<String> containers = getContainers().get(pod);
+    return containers != null
+      && containers.contains(container);
+  }
+
+  private void finishIfDone() {
+    if (!follow
+      && streaming.isEmpty()
+      && finished.compareAndSet(false, true)) {
+      onFinished.run();
+    }
+  }
+
+  private void close(Reader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      LOGGER.debug("Could not close log.", e);
+    }
+  }
+
+  private static Instant getTime(String line) {
+    int separator = line.indexOf(' ');
+    if (separator <= 0) {
+      return null;
+    }
+    return parse(line.substring(0, separator));
+  }
+
+  private static Instant parse(String timestamp) {
+    try {
+      return Instant.parse(timestamp);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * The time of the last line that was received from a log and the lines that were received at that time.
+   */
+  private static class Position {
+    private final String timestamp;
+    private final Instant time;
+    private final List<String> lines = new ArrayList<>();
+
+    private Position(String timestamp, Instant time) {
+      this.timestamp = timestamp;
+      this.time = time;
+    }
+  }
+
+  /**
+   * The lines that a reopened log replays and that were received already.
+   */
+  private static class Replay {
+    private final Instant time;
+    private final List<String> seen;
+
+    private Replay(Position position) {
+      this.time = position.time;
+      this.seen = new ArrayList<>(position.lines);
+    }
+
+    /**
+     * Returns {@code true} if the given line was received before the log was reopened.
+     * Lines before the time of the last received line were all received, lines at that time only if they were seen.
+     */
+    private boolean skip(String line) {
+      Instant lineTime = getTime(line);
+      if (lineTime == null) {
+        return false;
+      }
+      if (lineTime.isBefore(time)) {
+        return true;
+      }
+      return lineTime.equals(time)
+        && seen.remove(line);
+    }
+  }
+}
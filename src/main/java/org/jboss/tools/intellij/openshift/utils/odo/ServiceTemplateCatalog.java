@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The cluster service versions that service templates are created from, cached per cluster and namespace.
+ * <ul>
+ *   <li>The cluster service versions are listed in pages of {@link #PAGE_SIZE}.</li>
+ *   <li>The cached cluster service versions are watched starting at the resource version of the listing.
+ *   They are listed again once a cluster service version was added, modified or deleted, or the watch was closed.</li>
+ * </ul>
+ */
+public class ServiceTemplateCatalog {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ServiceTemplateCatalog.class);
+
+  static final long PAGE_SIZE = 100;
+  private static final int MAX_ENTRIES = 8;
+
+  private static final ServiceTemplateCatalog INSTANCE = new ServiceTemplateCatalog();
+
+  /**
+   * Lists and watches the cluster service versions of a namespace.
+   */
+  public interface Source {
+    ClusterServiceVersionList list(ListOptions options);
+
+    Watch watch(ListOptions options, Watcher<ClusterServiceVersion> watcher);
+  }
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+      if (size() > MAX_ENTRIES) {
+        eldest.getValue().close();
+        return true;
+      }
+      return false;
+    }
+  };
+
+  public static ServiceTemplateCatalog getInstance() {
+    return INSTANCE;
+  }
+
+  ServiceTemplateCatalog() {
+    // use getInstance()
+  }
+
+  /**
+   * Returns the cluster service versions in the given source.
+   * The cached ones are returned if none was changed since they were listed.
+   *
+   * @param key the cluster and namespace of the source
+   * @param source the source to list and watch the cluster service versions in
+   * @return the cluster service versions
+   * @throws KubernetesClientException if the cluster service versions could not be listed
+   */
+  public List<ClusterServiceVersion> getClusterServiceVersions(String key, Source source) {
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+    }
+    if (entry != null
+      && entry.isValid()) {
+      return entry.csvs;
+    }
+    Entry listed = list(source);
+    synchronized (entries) {
+      Entry previous = entries.put(key, listed);
+      if (previous != null) {
+        previous.close();
+      }
+    }
+    return listed.csvs;
+  }
+
+  public void invalidate(String key) {
+    synchronized (entries) {
+      Entry entry = entries.remove(key);
+      if (entry != null) {
+        entry.close();
+      }
+    }
+  }
+
+  private Entry list(Source source) {
+    List<ClusterServiceVersion> csvs = new ArrayList<>();
+    String resourceVersion = null;
+    String continueToken = null;
+    do {
+      ClusterServiceVersionList page = source.list(new ListOptionsBuilder()
+        .withLimit(PAGE_SIZE)
+        .withContinue(continueToken)
+        .build());
+      if (page.getMetadata() != null) {
+        if (resourceVersion == null) {
+          // all pages are served from the snapshot of the first one
+          resourceVersion = page.getMetadata().getResourceVersion();
+        }
+        continueToken = page.getMetadata().getContinue();
+      } else {
+        continueToken = null;
+      }
+      if (page.getItems() != null) {
+        csvs.addAll(page.getItems());
+      }
+    } while (continueToken != null
+      && !continueToken.isEmpty());
+    Entry entry = new Entry(Collections.unmodifiableList(csvs));
+    entry.watch(source, resourceVersion);
+    return entry;
+  }
+
+  private static class Entry implements Watcher<ClusterServiceVersion> {
+
+    private final List<ClusterServiceVersion> csvs;
+    private volatile boolean valid;
+    private volatile Watch watch;
+
+    private Entry(List<ClusterServiceVersion> csvs) {
+      this.csvs = csvs;
+    }
+
+    private void watch(Source source, String resourceVersion) {
+      if (resourceVersion == null) {
+        return;
+      }
+      try {
+        this.valid = true;
+        this.watch = source.watch(new ListOptionsBuilder()
+          .withResourceVersion(resourceVersion)
+          .withAllowWatchBookmarks(false)
+          .build(), this);
+        if (!valid) {
+          // changed while the watch was started
+          close();
+        }
+      } catch (KubernetesClientException e) {
+        // not allowed to watch: list each time
+        this.valid = false;
+        LOGGER.debug("Could not watch cluster service versions, they will not be cached.", e);
+      }
+    }
+
+    private boolean isValid() {
+      return valid;
+    }
+
+    @Override
+    public void eventReceived(Action action, ClusterServiceVersion csv) {
+      if (action != Action.BOOKMARK) {
+        close();
+      }
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+      close();
+    }
+
+    @Override
+    public void onClose() {
+      this.valid = false;
+    }
+
+    private void close() {
+      this.valid = false;
+      Watch current = watch;
+      this.watch = null;
+      if (current != null) {
+        try {
+          current.close();
+        } catch (KubernetesClientException e) {
+          LOGGER.debug("Could not close watch of cluster service versions.", e);
+        }
+      }
+    }
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class ServiceTemplatesDeserializer  {
@@ -79,7 +80,7 @@ public class ServiceTemplatesDeserializer  {
         return descriptors;
     }
 
-    private OperatorCRD getOperatorCRD(CRDDescription crd, ArrayNode samples, List<OperatorCRDSpecDescriptor> descriptors) {
+    private OperatorCRD getOperatorCRD(CRDDescription crd, Supplier<ArrayNode> samples, List<OperatorCRDSpecDescriptor> descriptors) {
         return new OperatorCRD() {
             private ObjectNode sample;
             private ObjectNode schema;
@@ -111,8 +112,8 @@ public class ServiceTemplatesDeserializer  {
 
             @Override
             public ObjectNode getSample() {
-                if (sample == null && samples != null) {
-                    sample = selectSample(samples, this);
+                if (sample == null && samples.get() != null) {
+                    sample = selectSample(samples.get(), this);
                 }
                 return sample;
             }
@@ -141,45 +142,39 @@ public class ServiceTemplatesDeserializer  {
     }
 
     public ServiceTemplate fromPOJO(ClusterServiceVersion csv) {
-        try {
-            String name = csv.getMetadata().getName();
-            String displayName = csv.getSpec().getDisplayName()!=null?csv.getSpec().getDisplayName():name;
-            ArrayNode samples = null;
-            if (csv.getMetadata().getAnnotations() != null && csv.getMetadata().getAnnotations()
-                    .containsKey(ALM_EXAMPLES_FIELD)) {
-                samples = (ArrayNode) MAPPER.readTree(csv.getMetadata().getAnnotations().get(ALM_EXAMPLES_FIELD));
-            }
-            List<OperatorCRD> crds = new ArrayList<>();
-            if (csv.getSpec().getCustomresourcedefinitions() != null &&
-                    csv.getSpec().getCustomresourcedefinitions().getOwned() != null) {
-                for(CRDDescription crd : csv.getSpec().getCustomresourcedefinitions().getOwned()) {
-                    if (isBindable(crd)) {
-                        List<OperatorCRDSpecDescriptor> descriptors = getSpecDescriptors(crd);
-                        crds.add(getOperatorCRD(crd, samples, descriptors));
-                    }
+        String name = csv.getMetadata().getName();
+        String displayName = csv.getSpec().getDisplayName()!=null?csv.getSpec().getDisplayName():name;
+        String almExamples = csv.getMetadata().getAnnotations() != null ?
+                csv.getMetadata().getAnnotations().get(ALM_EXAMPLES_FIELD) : null;
+        Supplier<ArrayNode> samples = new Samples(almExamples);
+        List<OperatorCRD> crds = new ArrayList<>();
+        if (csv.getSpec().getCustomresourcedefinitions() != null &&
+                csv.getSpec().getCustomresourcedefinitions().getOwned() != null) {
+            for(CRDDescription crd : csv.getSpec().getCustomresourcedefinitions().getOwned()) {
+                if (isBindable(crd)) {
+                    List<OperatorCRDSpecDescriptor> descriptors = getSpecDescriptors(crd);
+                    crds.add(getOperatorCRD(crd, samples, descriptors));
                 }
             }
-            if (!crds.isEmpty()) {
-                return new ServiceTemplate() {
-                    @Override
-                    public String getName() {
-                        return name;
-                    }
+        }
+        if (!crds.isEmpty()) {
+            return new ServiceTemplate() {
+                @Override
+                public String getName() {
+                    return name;
+                }
 
-                    @Override
-                    public String getDisplayName() {
-                        return displayName;
-                    }
+                @Override
+                public String getDisplayName() {
+                    return displayName;
+                }
 
-                    @Override
-                    public List<OperatorCRD> getCRDs() {
-                        return crds;
-                    }
-                };
-            } else {
-                return null;
-            }
-        } catch (JsonProcessingException e) {
+                @Override
+                public List<OperatorCRD> getCRDs() {
+                    return crds;
+                }
+            };
+        } else {
             return null;
         }
     }
@@ -212,10 +207,51 @@ public class ServiceTemplatesDeserializer  {
     }
 
     public List<ServiceTemplate> fromList(ClusterServiceVersionList list) {
-        return list.getItems().stream().filter(csv -> csv.getStatus() != null &&
+        return fromList(list.getItems());
+    }
+
+    public List<ServiceTemplate> fromList(List<ClusterServiceVersion> csvs) {
+        return csvs.stream().filter(csv -> csv.getStatus() != null &&
                 "Succeeded".equals(csv.getStatus().getPhase()))
                 .map(this::fromPOJO)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * The samples in the {@code alm-examples} annotation of a cluster service version.
+     * They are parsed when the sample of one of the custom resource definitions is first requested,
+     * given that a sample is only needed for the definition that a service is created for.
+     */
+    private static class Samples implements Supplier<ArrayNode> {
+
+        private final String almExamples;
+        private boolean parsed;
+        private ArrayNode samples;
+
+        private Samples(String almExamples) {
+            this.almExamples = almExamples;
+        }
+
+        @Override
+        public synchronized ArrayNode get() {
+            if (!parsed) {
+                this.samples = parse(almExamples);
+                this.parsed = true;
+            }
+            return samples;
+        }
+
+        private static ArrayNode parse(String almExamples) {
+            if (almExamples == null) {
+                return null;
+            }
+            try {
+                JsonNode node = MAPPER.readTree(almExamples);
+                return node.isArray() ? (ArrayNode) node : null;
+            } catch (JsonProcessingException e) {
+                return null;
+            }
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.actions;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkOperationTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+  private final ProgressIndicator progress = mock(ProgressIndicator.class);
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void run_should_return_succeeded_and_failed_items() {
+    // given
+    BulkOperation<String> operation = new BulkOperation<>("Delete Smurfs", name -> name, name -> {
+      if (name.startsWith("gargamel")) {
+        throw new IOException("not a smurf");
+      }
+    }, 2, executor);
+    // when
+    BulkOperation.Result<String> result = operation.run(List.of("papa-smurf", "gargamel", "smurfette", "gargamel-cat"), progress);
+    // then
+    assertThat(result.isSuccess()).isFalse();
+    assertThat(result.getSucceeded()).containsExactly("papa-smurf", "smurfette");
+    assertThat(new ArrayList<>(result.getFailed().keySet())).containsExactly("gargamel", "gargamel-cat");
+    assertThat(result.getSkipped()).isEmpty();
+    assertThat(result.getErrorMessage()).isEqualTo("Error:\ngargamel: not a smurf\ngargamel-cat: not a smurf");
+    verify(progress).setFraction(1d);
+    verify(progress).setText("Delete Smurfs (4/4)");
+  }
+
+  @Test
+  public void run_should_not_process_more_items_than_parallelism_at_the_same_time() {
+    // given
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    BulkOperation<Integer> operation = new BulkOperation<>("Delete", String::valueOf, item -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.sleep(20);
+      running.decrementAndGet();
+    }, 3, executor);
+    // when
+    BulkOperation.Result<Integer> result = operation.run(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), progress);
+    // then
+    assertThat(result.getSucceeded()).hasSize(10);
+    assertThat(maxRunning.get()).isGreaterThan(1);
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  public void run_should_skip_items_if_cancelled() {
+    // given
+    when(progress.isCanceled()).thenReturn(true);
+    AtomicInteger processed = new AtomicInteger();
+    BulkOperation<String> operation = new BulkOperation<>("Delete Smurfs", name -> name,
+      name -> processed.incrementAndGet(), 2, executor);
+    // when
+    BulkOperation.Result<String> result = operation.run(List.of("papa-smurf", "smurfette"), progress);
+    // then
+    assertThat(processed.get()).isEqualTo(0);
+    assertThat(result.getSkipped()).containsExactly("papa-smurf", "smurfette");
+    assertThat(result.isSuccess()).isTrue();
+  }
+
+  @Test
+  public void run_should_return_empty_result_if_there_are_no_items() {
+    // given
+    BulkOperation<String> operation = new BulkOperation<>("Delete Smurfs", name -> name, name -> {}, 2, executor);
+    // when
+    BulkOperation.Result<String> result = operation.run(List.of(), progress);
+    // then
+    assertThat(result.getSucceeded()).isEmpty();
+    assertThat(result.isSuccess()).isTrue();
+  }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.oauth;
+
+import org.jboss.tools.intellij.openshift.oauth.model.Account;
+import org.jboss.tools.intellij.openshift.oauth.model.AuthorizationServer;
+import org.jboss.tools.intellij.openshift.oauth.model.IAccount;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class TokenManagerTest {
+
+  private static final long NOW = 1_000_000;
+  private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+  private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+  private final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+  private final List<IAccount> refreshed = new ArrayList<>();
+  private TokenManager manager;
+
+  @Before
+  public void before() {
+    doReturn(future).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    this.manager = new TokenManager(scheduler, refreshed::add, () -> NOW);
+  }
+
+  @Test
+  public void getRefreshTime_should_return_half_of_access_token_validity() {
+    // given
+    IAccount account = createAccount(NOW, NOW + 10 * MINUTE, NOW + 60 * MINUTE);
+    // when
+    long refreshTime = TokenManager.getRefreshTime(account);
+    // then
+    assertThat(refreshTime).isEqualTo(NOW + 5 * MINUTE + 1);
+  }
+
+  @Test
+  public void getRefreshTime_should_return_24_hours_after_last_refresh_if_access_token_is_valid_longer() {
+    // given
+    IAccount account = createAccount(NOW, Long.MAX_VALUE, Long.MAX_VALUE);
+    // when
+    long refreshTime = TokenManager.getRefreshTime(account);
+    // then
+    assertThat(refreshTime).isEqualTo(NOW + OAuthCoreConstants.DURATION_24_HOURS + 1);
+  }
+
+  @Test
+  public void getRefreshTime_should_return_never_if_refresh_token_expires_before() {
+    // given
+    IAccount account = createAccount(NOW, NOW + 10 * MINUTE, NOW + MINUTE);
+    // when
+    long refreshTime = TokenManager.getRefreshTime(account);
+    // then
+    assertThat(refreshTime).isEqualTo(TokenManager.NEVER);
+  }
+
+  @Test
+  public void getRefreshTime_should_return_never_if_there_is_no_token() {
+    // given
+    IAccount account = new Account("smurfette", new AuthorizationServer("smurf-village"));
+    // when
+    long refreshTime = TokenManager.getRefreshTime(account);
+    // then
+    assertThat(refreshTime).isEqualTo(TokenManager.NEVER);
+  }
+
+  @Test
+  public void schedule_should_refresh_account_at_refresh_time() {
+    // given
+    IAccount account = createAccount(NOW - 5 * MINUTE, NOW + 15 * MINUTE, NOW + 60 * MINUTE);
+    ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+    // when
+    manager.schedule(account);
+    // then
+    verify(scheduler).schedule(refresh.capture(), eq(5 * MINUTE + 1), eq(TimeUnit.MILLISECONDS));
+    refresh.getValue().run();
+    assertThat(refreshed).containsOnly(account);
+  }
+
+  @Test
+  public void schedule_should_cancel_previous_refresh_of_account() {
+    // given
+    IAccount account = createAccount(NOW, NOW + 10 * MINUTE, NOW + 60 * MINUTE);
+    manager.schedule(account);
+    // when
+    manager.schedule(account);
+    // then
+    verify(future).cancel(false);
+  }
+
+  @Test
+  public void schedule_should_not_refresh_account_that_needs_login() {
+    // given
+    IAccount account = createAccount(NOW - 60 * MINUTE, NOW - 30 * MINUTE, NOW - MINUTE);
+    // when
+    manager.schedule(account);
+    // then
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  public void refresh_should_not_propagate_failure() {
+    // given
+    IAccount account = createAccount(NOW, NOW + 10 * MINUTE, NOW + 60 * MINUTE);
+    TokenManager failing = new TokenManager(scheduler, a -> {
+      throw new IllegalStateException("Gargamel was here");
+    }, () -> NOW);
+    ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+    failing.schedule(account);
+    verify(scheduler).schedule(refresh.capture(), anyLong(), any(TimeUnit.class));
+    // when
+    refresh.getValue().run();
+    // then no exception
+  }
+
+  private static IAccount createAccount(long lastRefreshed, long accessTokenExpiry, long refreshTokenExpiry) {
+    IAccount account = new Account("smurfette", new AuthorizationServer("smurf-village"));
+    account.setAccessToken("access");
+    account.setRefreshToken("refresh");
+    account.setLastRefreshedTime(lastRefreshed);
+    account.setAccessTokenExpiryTime(accessTokenExpiry);
+    account.setRefreshTokenExpiryTime(refreshTokenExpiry);
+    return account;
+  }
+}
@@ -16,7 +16,7 @@ import org.jboss.tools.intellij.openshift.utils.odo.ComponentDescriptor;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeatures;
 import org.jboss.tools.intellij.openshift.utils.odo.ComponentKind;
 import org.jboss.tools.intellij.openshift.utils.odo.Odo;
-import org.jboss.tools.intellij.openshift.utils.odo.OdoProcessHelper;
+import org.jboss.tools.intellij.openshift.utils.odo.OdoProcessRegistry;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -30,6 +30,7 @@ import java.util.Map;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -60,8 +61,8 @@ public class ApplicationRootNodeOdoTest {
         this.odo = mock(Odo.class);
         this.rootNode = mock(ApplicationsRootNode.class);
         this.fileOperations = mockFileOperations(tempDir, destinationDir);
-        OdoProcessHelper processHelper = mock(OdoProcessHelper.class);
-        this.rootNodeOdo = new ApplicationRootNodeOdo(odo, false, processHelper, rootNode, fileOperations);
+        OdoProcessRegistry processes = mock(OdoProcessRegistry.class);
+        this.rootNodeOdo = new ApplicationRootNodeOdo(odo, false, processes, rootNode, fileOperations);
     }
 
     @Test
@@ -177,6 +178,31 @@ public class ApplicationRootNodeOdoTest {
             updatedComponent2);
     }
 
+    @Test
+    public void getComponents_should_list_components_whose_describe_failed() throws IOException {
+        // given
+        String project = "project";
+
+        doReturn(new ArrayList<>(List.of(COMPONENT1)))
+            .when(odo).getComponents(project);
+        doThrow(new IOException("invalid devfile"))
+            .when(odo).getComponentInfo(project, COMPONENT2.getName(), COMPONENT2.getPath(), ComponentKind.DEVFILE);
+        doReturn(Map.of(
+            COMPONENT1.getPath(), toDescriptor(COMPONENT1),
+            COMPONENT2.getPath(), toDescriptor(COMPONENT2)))
+            .when(rootNode).getComponents();
+        // when
+        List<Component> components = rootNodeOdo.getComponents(project);
+        // then
+        assertThat(components).hasSize(2);
+        Component component2 = components.stream()
+            .filter(component -> COMPONENT2.getName().equals(component.getName()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(component2.getPath()).isEqualTo(COMPONENT2.getPath());
+        assertThat(component2.getInfo().getComponentKind()).isEqualTo(ComponentKind.DEVFILE);
+    }
+
     private ComponentDescriptor toDescriptor(Component component) {
         return new ComponentDescriptor(
             component.getName(),
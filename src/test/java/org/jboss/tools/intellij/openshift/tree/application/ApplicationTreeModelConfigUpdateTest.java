@@ -115,6 +115,20 @@ public class ApplicationTreeModelConfigUpdateTest extends BasePlatformTestCase {
         verify(model).refresh();
     }
 
+    public void testShouldChangeNamespaceInsteadOfRefreshIfContextNamespaceChanges() {
+        // given
+        Context context = createContext("papa-smurf", "localhost");
+        doReturn("smurf-village", "gargamel-castle")
+          .when(context).getNamespace();
+        Config config = createConfig(context);
+        ApplicationsRootNode model = createApplicationsRootNode(getProject(), config);
+        // when
+        model.onUpdate(null, config);
+        // then
+        verify(model, never()).refresh();
+        verify(model).changeNamespace("gargamel-castle");
+    }
+
     protected ApplicationsRootNode createApplicationsRootNode(Project project, Config config) {
         return spy(new ApplicationsRootNode(project, null) {
             @Override
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.tree.application;
+
+import org.jboss.tools.intellij.openshift.utils.odo.Component;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeature;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentFeatures;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentInfo;
+import org.jboss.tools.intellij.openshift.utils.odo.Odo;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class ComponentActionStateTest {
+
+    private static final ComponentInfo INFO = new ComponentInfo.Builder()
+        .withSupportedFeatures(Arrays.asList(ComponentFeature.Mode.DEV_MODE, ComponentFeature.Mode.DEPLOY_MODE))
+        .withLocalPodmanPresence(true)
+        .build();
+
+    @Test
+    public void of_should_copy_supported_and_running_features() {
+        // given
+        Component component = Component.of("papa-smurf", null, new ComponentFeatures(ComponentFeature.DEV_ON_PODMAN), "village", INFO);
+        // when
+        ComponentActionState state = ComponentActionState.of(component, null);
+        // then
+        assertThat(state.hasContext()).isTrue();
+        assertThat(state.isSupported(ComponentFeature.Mode.DEV_MODE)).isTrue();
+        assertThat(state.isSupported(ComponentFeature.Mode.DEBUG_MODE)).isFalse();
+        assertThat(state.is(ComponentFeature.DEV_ON_PODMAN)).isTrue();
+        assertThat(state.is(ComponentFeature.DEV)).isFalse();
+        assertThat(state.isDev()).isTrue();
+        assertThat(state.getPlatform()).isEqualTo(ComponentFeature.Constants.PODMAN);
+        assertThat(state.isLocalPodmanPresent()).isTrue();
+    }
+
+    @Test
+    public void of_should_not_change_if_component_changes() {
+        // given
+        Component component = Component.of("papa-smurf", null, new ComponentFeatures(), "village", INFO);
+        ComponentActionState state = ComponentActionState.of(component, null);
+        // when
+        component.getLiveFeatures().addFeature(ComponentFeature.DEPLOY);
+        // then
+        assertThat(state.isDeploy()).isFalse();
+        assertThat(ComponentActionState.of(component, null).isDeploy()).isTrue();
+    }
+
+    @Test
+    public void of_should_query_running_logs() {
+        // given
+        Component component = Component.of("papa-smurf", null, new ComponentFeatures(ComponentFeature.DEPLOY), "village", INFO);
+        Odo odo = mock(Odo.class);
+        doReturn(true).when(odo).isLogRunning("papa-smurf", true);
+        // when
+        ComponentActionState state = ComponentActionState.of(component, odo);
+        // then
+        assertThat(state.isLogRunning(true)).isTrue();
+        assertThat(state.isLogRunning(false)).isFalse();
+    }
+
+    @Test
+    public void of_should_support_nothing_if_there_is_no_info() {
+        // given
+        Component component = Component.of("papa-smurf", null, new ComponentFeatures(), null, null);
+        // when
+        ComponentActionState state = ComponentActionState.of(component, null);
+        // then
+        assertThat(state.hasContext()).isFalse();
+        assertThat(state.isSupported(ComponentFeature.Mode.DEV_MODE)).isFalse();
+        assertThat(state.getPlatform()).isNull();
+    }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.tree.application;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jboss.tools.intellij.openshift.utils.odo.ComponentDescriptor;
+import org.jboss.tools.intellij.openshift.utils.odo.Odo;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ComponentDiscoveryTest {
+
+    private final Odo odo = mock(Odo.class);
+    private final AtomicInteger changes = new AtomicInteger();
+    private ComponentDiscovery discovery;
+
+    @Before
+    public void before() {
+        this.discovery = new ComponentDiscovery(Runnable::run);
+        discovery.addListener(changes::incrementAndGet);
+    }
+
+    @Test
+    public void discover_should_not_run_odo_for_roots_without_devfile() throws IOException {
+        // given
+        VirtualFile root = mockRoot("/smurf-village", null);
+        // when
+        List<ComponentDescriptor> discovered = discovery.discover(odo, List.of(root)).join();
+        // then
+        assertThat(discovered).isEmpty();
+        verify(odo, never()).discover(anyString());
+    }
+
+    @Test
+    public void discover_should_discover_roots_with_devfile() throws IOException {
+        // given
+        VirtualFile root = mockRoot("/smurf-village", mockDevfile(42));
+        ComponentDescriptor descriptor = new ComponentDescriptor("papa-smurf", "/smurf-village", "odo", "v3.15.0");
+        doReturn(List.of(descriptor)).when(odo).discover("/smurf-village");
+        // when
+        List<ComponentDescriptor> discovered = discovery.discover(odo, List.of(root)).join();
+        // then
+        assertThat(discovered).containsOnly(descriptor);
+        assertThat(discovery.getComponents()).hasSize(1);
+        assertThat(discovery.getComponents().get("/smurf-village").getName()).isEqualTo("papa-smurf");
+        assertThat(changes.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void discover_should_not_run_odo_again_if_devfile_did_not_change() throws IOException {
+        // given
+        VirtualFile root = mockRoot("/smurf-village", mockDevfile(42));
+        doReturn(Collections.emptyList()).when(odo).discover("/smurf-village");
+        discovery.discover(odo, List.of(root)).join();
+        // when
+        discovery.discover(odo, List.of(root)).join();
+        // then
+        verify(odo, times(1)).discover("/smurf-village");
+        assertThat(discovery.getComponents()).isEmpty();
+    }
+
+    @Test
+    public void discover_should_run_odo_again_if_devfile_changed() throws IOException {
+        // given
+        doReturn(Collections.emptyList()).when(odo).discover("/smurf-village");
+        discovery.discover(odo, List.of(mockRoot("/smurf-village", mockDevfile(42)))).join();
+        // when
+        discovery.discover(odo, List.of(mockRoot("/smurf-village", mockDevfile(84)))).join();
+        // then
+        verify(odo, times(2)).discover("/smurf-village");
+    }
+
+    @Test
+    public void discover_should_remove_components_of_root_whose_devfile_was_deleted() throws IOException {
+        // given
+        ComponentDescriptor descriptor = new ComponentDescriptor("papa-smurf", "/smurf-village", "odo", "v3.15.0");
+        doReturn(List.of(descriptor)).when(odo).discover("/smurf-village");
+        discovery.discover(odo, List.of(mockRoot("/smurf-village", mockDevfile(42)))).join();
+        // when
+        discovery.discover(odo, List.of(mockRoot("/smurf-village", null))).join();
+        // then
+        assertThat(discovery.getComponents()).isEmpty();
+        assertThat(changes.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void discover_should_try_again_root_whose_discovery_failed() throws IOException {
+        // given
+        VirtualFile root = mockRoot("/smurf-village", mockDevfile(42));
+        doThrow(new IOException("Unauthorized")).when(odo).discover("/smurf-village");
+        discovery.discover(odo, List.of(root)).join();
+        // when
+        discovery.discover(odo, List.of(root)).join();
+        // then
+        verify(odo, times(2)).discover("/smurf-village");
+    }
+
+    @Test
+    public void retain_should_remove_components_of_other_roots() throws IOException {
+        // given
+        VirtualFile village = mockRoot("/smurf-village", mockDevfile(42));
+        VirtualFile castle = mockRoot("/gargamel-castle", mockDevfile(42));
+        doReturn(List.of(new ComponentDescriptor("papa-smurf", "/smurf-village", "odo", "v3.15.0")))
+            .when(odo).discover("/smurf-village");
+        doReturn(List.of(new ComponentDescriptor("azrael", "/gargamel-castle", "odo", "v3.15.0")))
+            .when(odo).discover("/gargamel-castle");
+        discovery.discover(odo, List.of(village, castle)).join();
+        // when
+        discovery.retain(List.of(village));
+        // then
+        assertThat(discovery.getComponents().keySet()).containsOnly("/smurf-village");
+    }
+
+    @Test
+    public void loadState_should_restore_components_without_running_odo() throws IOException {
+        // given
+        ComponentDescriptor descriptor = new ComponentDescriptor("papa-smurf", "/smurf-village", "odo", "v3.15.0");
+        doReturn(List.of(descriptor)).when(odo).discover("/smurf-village");
+        discovery.discover(odo, List.of(mockRoot("/smurf-village", mockDevfile(42)))).join();
+        ComponentDiscovery restored = new ComponentDiscovery(Runnable::run);
+        // when
+        restored.loadState(discovery.getState());
+        restored.discover(odo, List.of(mockRoot("/smurf-village", mockDevfile(42)))).join();
+        // then
+        verify(odo, times(1)).discover("/smurf-village");
+        ComponentDescriptor component = restored.getComponents().get("/smurf-village");
+        assertThat(component.getName()).isEqualTo("papa-smurf");
+        assertThat(component.getManagedByVersion()).isEqualTo("v3.15.0");
+    }
+
+    private static VirtualFile mockRoot(String path, VirtualFile devfile) {
+        VirtualFile root = mock(VirtualFile.class);
+        doReturn(true).when(root).isValid();
+        doReturn(Path.of(path)).when(root).toNioPath();
+        doReturn(devfile).when(root).findChild("devfile.yaml");
+        return root;
+    }
+
+    private static VirtualFile mockDevfile(long timeStamp) {
+        VirtualFile devfile = mock(VirtualFile.class);
+        doReturn(timeStamp).when(devfile).getTimeStamp();
+        return devfile;
+    }
+}
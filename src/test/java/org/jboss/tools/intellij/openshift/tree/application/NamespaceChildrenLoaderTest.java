@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.tree.application;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class NamespaceChildrenLoaderTest {
+
+    private static final long TIMEOUT = 10_000;
+
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+    private NamespaceNode namespace;
+    private CountDownLatch loaded;
+
+    @Before
+    public void before() {
+        this.executor = Executors.newCachedThreadPool();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.namespace = new NamespaceNode(mock(ApplicationsRootNode.class), "smurf-village");
+    }
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void getChildren_should_return_children_of_all_sources_in_order() {
+        // given
+        NamespaceChildrenLoader loader = createLoader(1, TIMEOUT, TIMEOUT);
+        // when
+        Object[] children = loader.getChildren(namespace, Arrays.asList(
+            source("components", "papa smurf", "smurfette"),
+            source("services", "mushroom")));
+        // then
+        assertThat(children).containsOnly("papa smurf", "smurfette", "mushroom");
+        assertThat(children[2]).isEqualTo("mushroom");
+    }
+
+    @Test
+    public void getChildren_should_return_placeholder_for_slow_source() throws InterruptedException {
+        // given
+        NamespaceChildrenLoader loader = createLoader(2, 10, TIMEOUT);
+        CountDownLatch slow = new CountDownLatch(1);
+        List<NamespaceChildrenLoader.Source> sources = Arrays.asList(
+            source("components", "papa smurf"),
+            new NamespaceChildrenLoader.Source("services", () -> {
+                slow.await();
+                return Collections.singletonList("mushroom");
+            }, "Could not get services"));
+        // when
+        Object[] children = loader.getChildren(namespace, sources);
+        // then
+        assertThat(children).hasSize(2);
+        assertThat(children[0]).isEqualTo("papa smurf");
+        assertThat(children[1]).isInstanceOf(LoadingNode.class);
+        // when
+        slow.countDown();
+        assertThat(loaded.await(TIMEOUT, TimeUnit.MILLISECONDS)).isTrue();
+        // then
+        assertThat(loader.getChildren(namespace, sources)).containsOnly("papa smurf", "mushroom");
+    }
+
+    @Test
+    public void getChildren_should_return_error_if_source_times_out() throws InterruptedException {
+        // given
+        NamespaceChildrenLoader loader = createLoader(2, 10, 100);
+        CountDownLatch never = new CountDownLatch(1);
+        List<NamespaceChildrenLoader.Source> sources = Arrays.asList(
+            source("components", "papa smurf"),
+            new NamespaceChildrenLoader.Source("chart releases", () -> {
+                never.await();
+                return Collections.emptyList();
+            }, "Could not get chart releases"));
+        // when
+        loader.getChildren(namespace, sources);
+        assertThat(loaded.await(TIMEOUT, TimeUnit.MILLISECONDS)).isTrue();
+        Object[] children = loader.getChildren(namespace, sources);
+        // then
+        assertThat(children).hasSize(2);
+        assertThat(children[1]).isInstanceOf(MessageNode.class);
+        assertThat(((MessageNode<?>) children[1]).getName()).isEqualTo("Could not get chart releases: timed out");
+        never.countDown();
+    }
+
+    @Test
+    public void getChildren_should_interrupt_source_that_times_out() throws InterruptedException {
+        // given
+        NamespaceChildrenLoader loader = createLoader(1, 10, 100);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<NamespaceChildrenLoader.Source> sources = Collections.singletonList(
+            new NamespaceChildrenLoader.Source("chart releases", () -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return Collections.emptyList();
+            }, "Could not get chart releases"));
+        // when
+        loader.getChildren(namespace, sources);
+        // then
+        assertThat(interrupted.await(TIMEOUT, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(loaded.await(TIMEOUT, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    public void getChildren_should_return_error_if_source_fails() {
+        // given
+        NamespaceChildrenLoader loader = createLoader(1, TIMEOUT, TIMEOUT);
+        // when
+        Object[] children = loader.getChildren(namespace, Collections.singletonList(
+            new NamespaceChildrenLoader.Source("services", () -> {
+                throw new IllegalStateException("Gargamel was here");
+            }, "Could not get services")));
+        // then
+        assertThat(children).hasSize(1);
+        assertThat(((MessageNode<?>) children[0]).getName()).isEqualTo("Could not get services");
+    }
+
+    @Test
+    public void invalidate_should_load_children_again() {
+        // given
+        NamespaceChildrenLoader loader = createLoader(2, TIMEOUT, TIMEOUT);
+        AtomicInteger calls = new AtomicInteger();
+        List<NamespaceChildrenLoader.Source> sources = Collections.singletonList(
+            new NamespaceChildrenLoader.Source("components", () -> {
+                calls.incrementAndGet();
+                return Collections.singletonList("papa smurf");
+            }, "Could not get components"));
+        loader.getChildren(namespace, sources);
+        loader.getChildren(namespace, sources);
+        // when
+        loader.invalidate(namespace);
+        loader.getChildren(namespace, sources);
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private NamespaceChildrenLoader createLoader(int notifications, long initialWait, long timeout) {
+        this.loaded = new CountDownLatch(notifications);
+        return new NamespaceChildrenLoader(executor, scheduler, node -> loaded.countDown(), initialWait, timeout);
+    }
+
+    private static NamespaceChildrenLoader.Source source(String label, String... children) {
+        return new NamespaceChildrenLoader.Source(label, () -> Arrays.asList(children), "Could not get " + label);
+    }
+}
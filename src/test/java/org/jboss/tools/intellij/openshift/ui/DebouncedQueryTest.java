@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class DebouncedQueryTest {
+
+  private final FakeScheduler scheduler = new FakeScheduler();
+  private final List<String> queried = new ArrayList<>();
+  private final List<String> published = new ArrayList<>();
+
+  @Test
+  public void request_should_run_last_query_only_once_typing_settled() {
+    // given
+    DebouncedQuery<String> query = createQuery((text, cancelled) -> text.toUpperCase());
+    query.request("s");
+    query.request("sm");
+    query.request("smurf");
+    // when
+    scheduler.runPending();
+    // then
+    assertThat(queried).containsExactly("smurf");
+    assertThat(published).containsExactly("SMURF");
+  }
+
+  @Test
+  public void request_should_tell_running_query_to_stop() {
+    // given
+    List<Boolean> stopped = new ArrayList<>();
+    DebouncedQuery<String>[] query = new DebouncedQuery[1];
+    query[0] = createQuery((text, cancelled) -> {
+      if (text.equals("smurf")) {
+        // user types while the query is running
+        query[0].request("smurfette");
+      }
+      stopped.add(cancelled.getAsBoolean());
+      return text;
+    });
+    query[0].request("smurf");
+    // when
+    scheduler.runPending();
+    // then
+    assertThat(stopped).containsExactly(true);
+  }
+
+  @Test
+  public void request_should_drop_result_of_superseded_query() {
+    // given
+    DebouncedQuery<String>[] query = new DebouncedQuery[1];
+    query[0] = createQuery((text, cancelled) -> {
+      if (text.equals("smurf")) {
+        query[0].request("smurfette");
+      }
+      return text;
+    });
+    query[0].request("smurf");
+    scheduler.runPending();
+    // when
+    scheduler.runPending();
+    // then
+    assertThat(queried).containsExactly("smurf", "smurfette");
+    assertThat(published).containsExactly("smurfette");
+  }
+
+  @Test
+  public void cancel_should_drop_pending_query() {
+    // given
+    DebouncedQuery<String> query = createQuery((text, cancelled) -> text);
+    query.request("gargamel");
+    // when
+    query.cancel();
+    scheduler.runPending();
+    // then
+    assertThat(queried).isEmpty();
+    assertThat(published).isEmpty();
+  }
+
+  @Test
+  public void cancel_should_drop_result_that_is_not_published_yet() {
+    // given
+    scheduler.deferPublishing = true;
+    DebouncedQuery<String> query = createQuery((text, cancelled) -> text);
+    query.request("gargamel");
+    scheduler.runPending();
+    // when
+    query.cancel();
+    scheduler.publish();
+    // then
+    assertThat(queried).containsExactly("gargamel");
+    assertThat(published).isEmpty();
+  }
+
+  private DebouncedQuery<String> createQuery(DebouncedQuery.Query<String> query) {
+    return new DebouncedQuery<>(
+      (String text, BooleanSupplier cancelled) -> {
+        queried.add(text);
+        return query.run(text, cancelled);
+      },
+      published::add,
+      DebouncedQuery.DEFAULT_DELAY,
+      scheduler);
+  }
+
+  private static class FakeScheduler implements DebouncedQuery.Scheduler {
+
+    private final List<Runnable> results = new ArrayList<>();
+    private Runnable pending;
+    private boolean deferPublishing = false;
+
+    @Override
+    public void schedule(Runnable query, int delay) {
+      this.pending = query;
+    }
+
+    @Override
+    public void cancel() {
+      this.pending = null;
+    }
+
+    @Override
+    public Executor getPublisher() {
+      return runnable -> {
+        if (deferPublishing) {
+          results.add(runnable);
+        } else {
+          runnable.run();
+        }
+      };
+    }
+
+    private void runPending() {
+      Runnable query = pending;
+      this.pending = null;
+      if (query != null) {
+        query.run();
+      }
+    }
+
+    private void publish() {
+      results.forEach(Runnable::run);
+      results.clear();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.ui.helm;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class ChartIconMatcherTest {
+
+  @Test
+  public void match_should_ignore_case() {
+    // given
+    ChartIconMatcher matcher = new ChartIconMatcher(Arrays.asList("wildFly", "Jenkins"));
+    // when
+    int match = matcher.match("openshift-helm-charts/redhat-jenkins", "Jenkins is an automation server");
+    // then
+    assertThat(match).isEqualTo(1);
+  }
+
+  @Test
+  public void match_should_return_key_with_lowest_index() {
+    // given
+    ChartIconMatcher matcher = new ChartIconMatcher(Arrays.asList("developer-hub", "backstage"));
+    // when
+    int match = matcher.match("backstage", "Red Hat Developer Hub based on developer-hub");
+    // then
+    assertThat(match).isEqualTo(0);
+  }
+
+  @Test
+  public void match_should_find_key_that_is_suffix_of_other_key() {
+    // given
+    ChartIconMatcher matcher = new ChartIconMatcher(Arrays.asList("hers", "she", "he"));
+    // when
+    int match = matcher.match("ushers");
+    // then
+    assertThat(match).isEqualTo(0);
+  }
+
+  @Test
+  public void match_should_find_key_after_failed_partial_match() {
+    // given
+    ChartIconMatcher matcher = new ChartIconMatcher(Collections.singletonList("-eap"));
+    // when
+    int match = matcher.match("redhat--eap74");
+    // then
+    assertThat(match).isEqualTo(0);
+  }
+
+  @Test
+  public void match_should_match_texts_as_if_they_were_concatenated() {
+    // given
+    ChartIconMatcher matcher = new ChartIconMatcher(Collections.singletonList("data-grid-"));
+    // when
+    int match = matcher.match("data-", null, "grid-chart");
+    // then
+    assertThat(match).isEqualTo(0);
+  }
+
+  @Test
+  public void match_should_return_no_match_if_no_key_is_contained() {
+    // given
+    ChartIconMatcher matcher = new ChartIconMatcher(Arrays.asList("wildfly", "", "jenkins"));
+    // when
+    int match = matcher.match("bitnami/redis", "In-memory data store");
+    // then
+    assertThat(match).isEqualTo(ChartIconMatcher.NO_MATCH);
+  }
+}
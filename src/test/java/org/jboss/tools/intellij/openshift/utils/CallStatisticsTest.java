@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.apache.commons.exec.ExecuteException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class CallStatisticsTest {
+
+  private final CallStatistics statistics = new CallStatistics();
+
+  @Test
+  public void getCommand_should_include_sub_command() {
+    // given
+    // when
+    String command = CallStatistics.getCommand(new String[]{"describe", "component", "-o", "json"});
+    // then
+    assertThat(command).isEqualTo("describe component");
+  }
+
+  @Test
+  public void getCommand_should_omit_names_and_flags() {
+    // given
+    // when
+    String install = CallStatistics.getCommand(new String[]{"install", "my-release", "bitnami/redis"});
+    String list = CallStatistics.getCommand(new String[]{"list", "-o", "json"});
+    // then
+    assertThat(install).isEqualTo("install");
+    assertThat(list).isEqualTo("list");
+  }
+
+  @Test
+  public void measureProcess_should_record_exit_code_of_failed_process() {
+    // given
+    try {
+      // when
+      statistics.measureProcess(CallStatistics.ODO, new String[]{"describe", "component"}, () -> {
+        throw new ExecuteException("Process exited with an error: 2 (Exit value: 2)", 2);
+      });
+      fail("expected IOException");
+    } catch (IOException e) {
+      // then
+      CallStatistics.Entry entry = statistics.getEntries().get(0);
+      assertThat(entry.getFailures()).isEqualTo(1);
+      assertThat(entry.getResults().get(2)).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void measureProcess_should_record_failure_without_exit_code() {
+    // given
+    try {
+      // when
+      statistics.measureProcess(CallStatistics.HELM, new String[]{"list"}, () -> {
+        throw new IOException("Cannot run program \"helm\"");
+      });
+      fail("expected IOException");
+    } catch (IOException e) {
+      // then
+      assertThat(statistics.getEntries().get(0).getResults().get(CallStatistics.FAILED)).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void record_should_aggregate_calls_per_name() {
+    // given
+    statistics.record("odo list", millis(5), 0, 100, false);
+    statistics.record("odo list", millis(200), 0, 50, true);
+    statistics.record("odo list", millis(40000), 1, 0, false);
+    // when
+    List<CallStatistics.Entry> entries = statistics.getEntries();
+    // then
+    assertThat(entries).hasSize(1);
+    CallStatistics.Entry entry = entries.get(0);
+    assertThat(entry.getCount()).isEqualTo(3);
+    assertThat(entry.getFailures()).isEqualTo(1);
+    assertThat(entry.getDispatchThreadCount()).isEqualTo(1);
+    assertThat(entry.getOutputSize()).isEqualTo(150);
+    assertThat(entry.getMaxMillis()).isEqualTo(40000);
+    assertThat(entry.getResults()).hasSize(2);
+  }
+
+  @Test
+  public void getPercentileMillis_should_return_upper_bound_of_bucket() {
+    // given
+    for (int i = 0; i < 9; i++) {
+      statistics.record("helm list", millis(20), 0, 0, false);
+    }
+    statistics.record("helm list", millis(700), 0, 0, false);
+    // when
+    CallStatistics.Entry entry = statistics.getEntries().get(0);
+    // then
+    assertThat(entry.getPercentileMillis(50)).isEqualTo(25);
+    assertThat(entry.getPercentileMillis(90)).isEqualTo(25);
+    assertThat(entry.getPercentileMillis(99)).isEqualTo(700);
+  }
+
+  @Test
+  public void measure_should_record_status_code_of_failed_call() {
+    // given
+    // when
+    try {
+      statistics.measure("namespaces.list", () -> {
+        throw new KubernetesClientException("Forbidden", 403, null);
+      });
+      fail("exception expected");
+    } catch (KubernetesClientException e) {
+      // expected
+    }
+    // then
+    CallStatistics.Entry entry = statistics.getEntries().get(0);
+    assertThat(entry.getName()).isEqualTo("kubernetes namespaces.list");
+    assertThat(entry.getFailures()).isEqualTo(1);
+    assertThat(entry.getResults().get(403)).isEqualTo(1L);
+  }
+
+  @Test
+  public void measureCoalesced_should_record_how_calls_are_served() throws IOException {
+    // given
+    statistics.measureCoalesced("getComponents", CallStatistics.Reuse.NONE, () -> "smurfette");
+    statistics.measureCoalesced("getComponents", CallStatistics.Reuse.RESULT, () -> "smurfette");
+    // when
+    statistics.measureCoalesced("getComponents", CallStatistics.Reuse.CALL, () -> "smurfette");
+    // then
+    CallStatistics.Entry entry = statistics.getEntries().get(0);
+    assertThat(entry.getName()).isEqualTo("coalescing getComponents");
+    assertThat(entry.getCount()).isEqualTo(3);
+    assertThat(entry.getReused()).isEqualTo(1);
+    assertThat(entry.getCoalesced()).isEqualTo(1);
+  }
+
+  @Test
+  public void toJson_should_export_all_calls() throws IOException {
+    // given
+    statistics.record("odo list", millis(5), 0, 100, false);
+    statistics.record("helm repo list", millis(5), 0, 100, false);
+    // when
+    JsonNode json = Serialization.json().readTree(statistics.toJson());
+    // then
+    assertThat(json.get("calls").size()).isEqualTo(2);
+    assertThat(json.get("calls").get(0).get("name").asText()).isEqualTo("helm repo list");
+    assertThat(json.get("calls").get(0).get("histogram").get("le10").asLong()).isEqualTo(1);
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+}
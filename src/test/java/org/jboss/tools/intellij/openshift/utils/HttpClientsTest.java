@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class HttpClientsTest {
+
+  private static final String PATH = "/.well-known/oauth-authorization-server";
+
+  private final AtomicLong clock = new AtomicLong();
+  private MockServerClient mockServer;
+  private HttpClients clients;
+
+  @Before
+  public void before() {
+    this.mockServer = ClientAndServer.startClientAndServer(0);
+    this.clients = new HttpClients(clock::get);
+  }
+
+  @After
+  public void after() {
+    mockServer.stop();
+  }
+
+  @Test
+  public void getClient_should_return_same_client_for_same_trust() {
+    // given
+    // when
+    // then
+    assertThat(clients.getClient(HttpClients.Trust.DEFAULT)).isSameAs(clients.getClient(HttpClients.Trust.DEFAULT));
+    assertThat(clients.getClient(HttpClients.Trust.INSECURE)).isNotSameAs(clients.getClient(HttpClients.Trust.DEFAULT));
+    assertThat(clients.getClient(HttpClients.Trust.INSECURE).connectionPool())
+      .isNotSameAs(clients.getClient(HttpClients.Trust.DEFAULT).connectionPool());
+  }
+
+  @Test
+  public void getDocument_should_reuse_document_within_ttl() throws IOException {
+    // given
+    mockServer.when(HttpRequest.request().withPath(PATH))
+      .respond(HttpResponse.response("{\"token_endpoint\": \"https://smurf-village/oauth/token\"}"));
+    clients.getDocument(url(), HttpClients.Trust.INSECURE);
+    clock.set(HttpClients.DOCUMENT_TTL - 1);
+    // when
+    String document = clients.getDocument(url(), HttpClients.Trust.INSECURE);
+    // then
+    assertThat(document).contains("token_endpoint");
+    mockServer.verify(HttpRequest.request().withPath(PATH), VerificationTimes.once());
+  }
+
+  @Test
+  public void getDocument_should_get_document_again_after_ttl() throws IOException {
+    // given
+    mockServer.when(HttpRequest.request().withPath(PATH))
+      .respond(HttpResponse.response("{}"));
+    clients.getDocument(url(), HttpClients.Trust.INSECURE);
+    clock.set(HttpClients.DOCUMENT_TTL);
+    // when
+    clients.getDocument(url(), HttpClients.Trust.INSECURE);
+    // then
+    mockServer.verify(HttpRequest.request().withPath(PATH), VerificationTimes.exactly(2));
+  }
+
+  @Test
+  public void getDocument_should_not_reuse_failure() throws IOException {
+    // given
+    mockServer.when(HttpRequest.request().withPath(PATH))
+      .respond(HttpResponse.notFoundResponse());
+    try {
+      clients.getDocument(url(), HttpClients.Trust.INSECURE);
+      fail("should have thrown");
+    } catch (IOException e) {
+      // expected
+    }
+    mockServer.reset();
+    mockServer.when(HttpRequest.request().withPath(PATH))
+      .respond(HttpResponse.response("{}"));
+    // when
+    String document = clients.getDocument(url(), HttpClients.Trust.INSECURE);
+    // then
+    assertThat(document).isEqualTo("{}");
+  }
+
+  private String url() {
+    return "http://localhost:" + mockServer.getPort() + PATH;
+  }
+}
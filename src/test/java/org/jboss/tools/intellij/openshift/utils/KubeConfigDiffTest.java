@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils;
+
+import io.fabric8.kubernetes.api.model.Config;
+import io.fabric8.kubernetes.api.model.ConfigBuilder;
+import io.fabric8.kubernetes.api.model.NamedAuthInfoBuilder;
+import io.fabric8.kubernetes.api.model.NamedClusterBuilder;
+import io.fabric8.kubernetes.api.model.NamedContextBuilder;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class KubeConfigDiffTest {
+
+  @Test
+  public void between_should_return_no_change_for_equal_configs() {
+    // given
+    Config oldConfig = createConfig("token1", "smurf-village", "https://localhost:6443");
+    Config newConfig = createConfig("token1", "smurf-village", "https://localhost:6443");
+    // when
+    Set<KubeConfigDiff.Change> changes = KubeConfigDiff.between(oldConfig, newConfig);
+    // then
+    assertThat(changes).isEmpty();
+  }
+
+  @Test
+  public void between_should_ignore_contexts_that_are_not_current() {
+    // given
+    Config oldConfig = createConfig("token1", "smurf-village", "https://localhost:6443");
+    Config newConfig = new ConfigBuilder(oldConfig)
+      .addToContexts(new NamedContextBuilder()
+        .withName("gargamel")
+        .withNewContext()
+        .withCluster("castle")
+        .withUser("gargamel")
+        .endContext()
+        .build())
+      .build();
+    // when
+    Set<KubeConfigDiff.Change> changes = KubeConfigDiff.between(oldConfig, newConfig);
+    // then
+    assertThat(changes).isEmpty();
+  }
+
+  @Test
+  public void between_should_return_namespace_change() {
+    // given
+    Config oldConfig = createConfig("token1", "smurf-village", "https://localhost:6443");
+    Config newConfig = createConfig("token1", "gargamel-castle", "https://localhost:6443");
+    // when
+    Set<KubeConfigDiff.Change> changes = KubeConfigDiff.between(oldConfig, newConfig);
+    // then
+    assertThat(changes).containsOnly(KubeConfigDiff.Change.NAMESPACE);
+    assertThat(KubeConfigDiff.isNamespaceOnly(changes)).isTrue();
+    assertThat(KubeConfigDiff.getCurrentNamespace(newConfig)).isEqualTo("gargamel-castle");
+  }
+
+  @Test
+  public void between_should_return_credentials_change_if_token_changed() {
+    // given
+    Config oldConfig = createConfig("token1", "smurf-village", "https://localhost:6443");
+    Config newConfig = createConfig("token2", "smurf-village", "https://localhost:6443");
+    // when
+    Set<KubeConfigDiff.Change> changes = KubeConfigDiff.between(oldConfig, newConfig);
+    // then
+    assertThat(changes).containsOnly(KubeConfigDiff.Change.CREDENTIALS);
+    assertThat(KubeConfigDiff.isNamespaceOnly(changes)).isFalse();
+  }
+
+  @Test
+  public void between_should_return_cluster_change_if_server_changed() {
+    // given
+    Config oldConfig = createConfig("token1", "smurf-village", "https://localhost:6443");
+    Config newConfig = createConfig("token1", "smurf-village", "https://api.crc.testing:6443");
+    // when
+    Set<KubeConfigDiff.Change> changes = KubeConfigDiff.between(oldConfig, newConfig);
+    // then
+    assertThat(changes).containsOnly(KubeConfigDiff.Change.CLUSTER);
+  }
+
+  @Test
+  public void between_should_return_all_changes_if_there_was_no_config() {
+    // given
+    Config newConfig = createConfig("token1", "smurf-village", "https://localhost:6443");
+    // when
+    Set<KubeConfigDiff.Change> changes = KubeConfigDiff.between(null, newConfig);
+    // then
+    assertThat(changes).containsOnly(
+      KubeConfigDiff.Change.CONTEXT,
+      KubeConfigDiff.Change.CLUSTER,
+      KubeConfigDiff.Change.CREDENTIALS,
+      KubeConfigDiff.Change.NAMESPACE);
+  }
+
+  private Config createConfig(String token, String namespace, String server) {
+    return new ConfigBuilder()
+      .withCurrentContext("papa-smurf")
+      .addToContexts(new NamedContextBuilder()
+        .withName("papa-smurf")
+        .withNewContext()
+        .withCluster("localhost")
+        .withUser("papa-smurf")
+        .withNamespace(namespace)
+        .endContext()
+        .build())
+      .addToClusters(new NamedClusterBuilder()
+        .withName("localhost")
+        .withNewCluster()
+        .withServer(server)
+        .endCluster()
+        .build())
+      .addToUsers(new NamedAuthInfoBuilder()
+        .withName("papa-smurf")
+        .withNewUser()
+        .withToken(token)
+        .endUser()
+        .build())
+      .build();
+  }
+}
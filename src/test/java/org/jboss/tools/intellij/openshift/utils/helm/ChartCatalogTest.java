@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.helm;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class ChartCatalogTest {
+
+  private static ChartCatalog catalog;
+
+  @BeforeClass
+  public static void setup() throws IOException, URISyntaxException {
+    Path repositoryCache = Paths.get(ChartCatalogTest.class.getResource("/helm/openshift-index.yaml").toURI()).getParent();
+    catalog = ChartCatalog.load(repositoryCache);
+  }
+
+  @Test
+  public void load_should_read_charts_prefixed_with_repository() {
+    // given
+    // when
+    List<String> names = getNames(catalog.getEntries());
+    // then
+    assertThat(names).containsExactly(
+      "openshift/hub",
+      "openshift/redhat-developer-hub",
+      "openshift/redis");
+  }
+
+  @Test
+  public void load_should_use_description_and_keywords_of_latest_version() {
+    // given
+    // when
+    ChartCatalog.Entry hub = catalog.search("redhat-developer-hub").get(0);
+    // then
+    assertThat(hub.getDescription()).isEqualTo("A Helm chart for deploying Red Hat Developer Hub");
+    assertThat(hub.getKeywords()).containsExactly("backstage", "idp");
+  }
+
+  @Test
+  public void load_should_read_all_versions_verbatim() {
+    // given
+    // when
+    ChartCatalog.Entry hub = catalog.search("redhat-developer-hub").get(0);
+    // then
+    assertThat(hub.getVersions()).containsOnly("1.1.0", "1.10");
+  }
+
+  @Test
+  public void load_should_skip_prerelease_versions() {
+    // given
+    // when
+    ChartCatalog.Entry redis = catalog.search("redis").get(0);
+    // then
+    assertThat(redis.getVersions()).containsOnly("18.1.0", "18.0.0");
+    assertThat(redis.getDescription()).isEqualTo("In-memory data store");
+  }
+
+  @Test
+  public void isPrerelease_should_ignore_hyphens_in_build_metadata() {
+    // given
+    // when
+    // then
+    assertThat(ChartCatalog.isPrerelease("1.0.0-rc.1")).isTrue();
+    assertThat(ChartCatalog.isPrerelease("1.0.0-rc.1+build-42")).isTrue();
+    assertThat(ChartCatalog.isPrerelease("1.0.0+build-42")).isFalse();
+    assertThat(ChartCatalog.isPrerelease("1.10")).isFalse();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void getVersions_should_not_allow_modifications() {
+    // given
+    ChartCatalog.Entry redis = catalog.search("redis").get(0);
+    // when
+    redis.getVersions().add("20.0.0");
+    // then
+  }
+
+  @Test
+  public void search_should_return_all_charts_for_blank_query() {
+    // given
+    // when
+    List<ChartCatalog.Entry> found = catalog.search("  ");
+    // then
+    assertThat(found).hasSize(3);
+  }
+
+  @Test
+  public void search_should_rank_exact_name_before_other_matches() {
+    // given
+    // when
+    List<String> names = getNames(catalog.search("hub"));
+    // then
+    assertThat(names).containsExactly(
+      "openshift/hub",
+      "openshift/redhat-developer-hub");
+  }
+
+  @Test
+  public void search_should_match_keywords() {
+    // given
+    // when
+    List<String> names = getNames(catalog.search("backstage"));
+    // then
+    assertThat(names).containsExactly("openshift/redhat-developer-hub");
+  }
+
+  @Test
+  public void search_should_match_all_terms_ignoring_case() {
+    // given
+    // when
+    List<String> names = getNames(catalog.search("In-Memory CACHE"));
+    // then
+    assertThat(names).containsExactly("openshift/redis");
+  }
+
+  @Test
+  public void search_should_match_substrings_shorter_than_trigrams() {
+    // given
+    // when
+    List<String> names = getNames(catalog.search("di"));
+    // then
+    assertThat(names).containsOnly("openshift/redis");
+  }
+
+  @Test
+  public void search_should_match_regex_metacharacters_literally() {
+    // given
+    // when
+    List<ChartCatalog.Entry> found = catalog.search("redis(");
+    // then
+    assertThat(found).isEmpty();
+  }
+
+  @Test
+  public void of_should_group_versions_by_name() {
+    // given
+    ChartCatalog catalog = ChartCatalog.of(List.of(
+      new Chart("bitnami/redis", "18.1.0", "In-memory data store"),
+      new Chart("bitnami/redis", "18.0.0", "In-memory data store"),
+      new Chart("bitnami/nginx", "15.0.0", "Web server")));
+    // when
+    List<ChartCatalog.Entry> entries = catalog.getEntries();
+    // then
+    assertThat(getNames(entries)).containsExactly("bitnami/nginx", "bitnami/redis");
+    assertThat(entries.get(1).getVersions()).containsOnly("18.1.0", "18.0.0");
+  }
+
+  private static List<String> getNames(List<ChartCatalog.Entry> entries) {
+    return entries.stream()
+      .map(ChartCatalog.Entry::getName)
+      .collect(Collectors.toList());
+  }
+}
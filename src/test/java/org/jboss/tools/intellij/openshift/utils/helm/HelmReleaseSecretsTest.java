@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.helm;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class HelmReleaseSecretsTest {
+
+  @Test
+  public void toReleases_should_return_latest_revision_of_each_release() throws IOException {
+    // given
+    List<Secret> secrets = List.of(
+      createSecret("kafka", 1, "superseded", "kafka", "1.0.0"),
+      createSecret("kafka", 2, "deployed", "kafka", "1.1.0"),
+      createSecret("redis", 1, "deployed", "redis", "7.0.0"));
+    // when
+    List<ChartRelease> releases = HelmReleaseSecrets.toReleases(secrets);
+    // then
+    assertThat(releases).hasSize(2);
+    assertThat(releases.get(0).getName()).isEqualTo("kafka");
+    assertThat(releases.get(0).getRevision()).isEqualTo("2");
+    assertThat(releases.get(0).getChart()).isEqualTo("kafka-1.1.0");
+    assertThat(releases.get(0).getApp_version()).isEqualTo("1.1.0");
+    assertThat(releases.get(0).getNamespace()).isEqualTo("smurfs");
+    assertThat(releases.get(1).getName()).isEqualTo("redis");
+  }
+
+  @Test
+  public void toReleases_should_NOT_return_release_if_latest_revision_is_uninstalled() throws IOException {
+    // given
+    List<Secret> secrets = List.of(
+      createSecret("kafka", 1, "superseded", "kafka", "1.0.0"),
+      createSecret("kafka", 2, "uninstalled", "kafka", "1.0.0"));
+    // when
+    List<ChartRelease> releases = HelmReleaseSecrets.toReleases(secrets);
+    // then
+    assertThat(releases).isEmpty();
+  }
+
+  @Test
+  public void toReleases_should_skip_secret_that_cannot_be_decoded() throws IOException {
+    // given
+    Secret invalid = new SecretBuilder()
+      .withNewMetadata()
+        .withName("sh.helm.release.v1.broken.v1")
+        .addToLabels("name", "broken")
+        .addToLabels("version", "1")
+      .endMetadata()
+      .addToData("release", Base64.getEncoder().encodeToString("not base64 !".getBytes(StandardCharsets.UTF_8)))
+      .build();
+    List<Secret> secrets = List.of(
+      invalid,
+      createSecret("redis", 1, "failed", "redis", "7.0.0"));
+    // when
+    List<ChartRelease> releases = HelmReleaseSecrets.toReleases(secrets);
+    // then
+    assertThat(releases).hasSize(1);
+    assertThat(releases.get(0).getStatus()).isEqualTo("failed");
+  }
+
+  @Test
+  public void toReleases_should_read_listed_fields_only() throws IOException {
+    // given
+    String release = "{"
+      + "\"name\":\"kafka\","
+      + "\"config\":{\"replicas\":3,\"name\":\"values\"},"
+      + "\"chart\":{"
+      + "\"templates\":[{\"name\":\"templates/deployment.yaml\",\"data\":\"a2luZDogRGVwbG95bWVudA==\"}],"
+      + "\"metadata\":{\"name\":\"kafka\",\"version\":\"1.1.0\",\"keywords\":[\"streaming\"],\"appVersion\":\"3.7.0\"}"
+      + "},"
+      + "\"info\":{\"status\":\"deployed\",\"notes\":\"Thank you\",\"last_deployed\":\"2024-06-01T10:00:00Z\"},"
+      + "\"version\":4,"
+      + "\"namespace\":\"smurfs\""
+      + "}";
+    List<Secret> secrets = List.of(createSecret("kafka", 4, "deployed", encode(release)));
+    // when
+    List<ChartRelease> releases = HelmReleaseSecrets.toReleases(secrets);
+    // then
+    assertThat(releases).hasSize(1);
+    assertThat(releases.get(0).getName()).isEqualTo("kafka");
+    assertThat(releases.get(0).getRevision()).isEqualTo("4");
+    assertThat(releases.get(0).getChart()).isEqualTo("kafka-1.1.0");
+    assertThat(releases.get(0).getApp_version()).isEqualTo("3.7.0");
+    assertThat(releases.get(0).getStatus()).isEqualTo("deployed");
+    assertThat(releases.get(0).getUpdated()).isEqualTo("2024-06-01T10:00:00Z");
+  }
+
+  @Test
+  public void toReleases_should_read_release_that_is_not_gzipped() {
+    // given
+    String release = "{\"name\":\"redis\",\"version\":1,\"info\":{\"status\":\"deployed\"}}";
+    Base64.Encoder encoder = Base64.getEncoder();
+    List<Secret> secrets = List.of(createSecret("redis", 1, "deployed",
+      encoder.encodeToString(encoder.encode(release.getBytes(StandardCharsets.UTF_8)))));
+    // when
+    List<ChartRelease> releases = HelmReleaseSecrets.toReleases(secrets);
+    // then
+    assertThat(releases).hasSize(1);
+    assertThat(releases.get(0).getName()).isEqualTo("redis");
+    assertThat(releases.get(0).getNamespace()).isEqualTo("smurfs");
+  }
+
+  @Test
+  public void toReleases_should_NOT_decode_release_whose_status_label_is_not_listed() {
+    // given
+    List<Secret> secrets = List.of(createSecret("kafka", 2, "pending-upgrade", "not decodable"));
+    // when
+    List<ChartRelease> releases = HelmReleaseSecrets.toReleases(secrets);
+    // then
+    assertThat(releases).isEmpty();
+  }
+
+  private static Secret createSecret(String name, int revision, String status, String chart, String chartVersion) throws IOException {
+    String release = "{"
+      + "\"name\":\"" + name + "\","
+      + "\"namespace\":\"smurfs\","
+      + "\"version\":" + revision + ","
+      + "\"info\":{\"status\":\"" + status + "\",\"last_deployed\":\"2024-06-01T10:00:00Z\"},"
+      + "\"chart\":{\"metadata\":{\"name\":\"" + chart + "\",\"version\":\"" + chartVersion + "\",\"appVersion\":\"" + chartVersion + "\"}},"
+      + "\"manifest\":\"---\\nkind: Deployment\""
+      + "}";
+    return createSecret(name, revision, status, encode(release));
+  }
+
+  private static Secret createSecret(String name, int revision, String status, String data) {
+    return new SecretBuilder()
+      .withNewMetadata()
+        .withName("sh.helm.release.v1." + name + ".v" + revision)
+        .withNamespace("smurfs")
+        .addToLabels("owner", "helm")
+        .addToLabels("name", name)
+        .addToLabels("status", status)
+        .addToLabels("version", String.valueOf(revision))
+      .endMetadata()
+      .withType("helm.sh/release.v1")
+      .addToData("release", data)
+      .build();
+  }
+
+  /**
+   * gzip, then base64 (helm), then base64 again (kubernetes secret data).
+   */
+  private static String encode(String release) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(release.getBytes(StandardCharsets.UTF_8));
+    }
+    Base64.Encoder encoder = Base64.getEncoder();
+    return encoder.encodeToString(encoder.encode(out.toByteArray()));
+  }
+}
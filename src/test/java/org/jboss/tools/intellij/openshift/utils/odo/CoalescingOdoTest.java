@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import org.jboss.tools.intellij.openshift.utils.CallStatistics;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CoalescingOdoTest {
+
+  private static final long WINDOW = 2000;
+
+  private final Component component = Component.of("papa-smurf", null, new ComponentFeatures(), "village", null);
+  private final AtomicLong clock = new AtomicLong();
+  private Odo delegate;
+  private CoalescingOdo odo;
+
+  @Before
+  public void before() {
+    this.delegate = mock(Odo.class);
+    this.odo = new CoalescingOdo(delegate, () -> WINDOW, clock::get);
+    CallStatistics.getInstance().reset();
+  }
+
+  @Test
+  public void getComponents_should_join_identical_call_in_flight() throws Exception {
+    // given
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      entered.countDown();
+      release.await();
+      return Collections.singletonList(component);
+    }).when(delegate).getComponents("smurf-village");
+    CompletableFuture<List<Component>> first = CompletableFuture.supplyAsync(() -> getComponents("smurf-village"));
+    assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<List<Component>> second = CompletableFuture.supplyAsync(() -> getComponents("smurf-village"));
+    waitForCoalescedCall();
+    // when
+    release.countDown();
+    // then
+    assertThat(first.get(10, TimeUnit.SECONDS)).containsExactly(component);
+    assertThat(second.get(10, TimeUnit.SECONDS)).containsExactly(component);
+    verify(delegate, times(1)).getComponents("smurf-village");
+    assertThat(getStatistics("getComponents").getCoalesced()).isEqualTo(1);
+  }
+
+  @Test
+  public void getComponents_should_reuse_result_within_window() throws IOException {
+    // given
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    odo.getComponents("smurf-village");
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW));
+    // when
+    List<Component> components = odo.getComponents("smurf-village");
+    // then
+    assertThat(components).containsExactly(component);
+    verify(delegate, times(1)).getComponents("smurf-village");
+    CallStatistics.Entry statistics = getStatistics("getComponents");
+    assertThat(statistics.getCount()).isEqualTo(2);
+    assertThat(statistics.getReused()).isEqualTo(1);
+  }
+
+  @Test
+  public void getComponents_should_call_again_after_window() throws IOException {
+    // given
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    odo.getComponents("smurf-village");
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW + 1));
+    // when
+    odo.getComponents("smurf-village");
+    // then
+    verify(delegate, times(2)).getComponents("smurf-village");
+  }
+
+  @Test
+  public void getComponents_should_call_once_per_namespace() throws IOException {
+    // given
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    doReturn(Collections.emptyList()).when(delegate).getComponents("gargamel-castle");
+    // when
+    List<Component> village = odo.getComponents("smurf-village");
+    List<Component> castle = odo.getComponents("gargamel-castle");
+    // then
+    assertThat(village).containsExactly(component);
+    assertThat(castle).isEmpty();
+  }
+
+  @Test
+  public void getComponents_should_return_copy_of_list() throws IOException {
+    // given
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    odo.getComponents("smurf-village").clear();
+    // when
+    List<Component> components = odo.getComponents("smurf-village");
+    // then
+    assertThat(components).containsExactly(component);
+  }
+
+  @Test
+  public void getComponents_should_return_copies_of_components() throws IOException {
+    // given
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    Component modified = odo.getComponents("smurf-village").get(0);
+    modified.setPath("gargamel-castle");
+    modified.getLiveFeatures().addFeature(ComponentFeature.DEV);
+    // when
+    Component reused = odo.getComponents("smurf-village").get(0);
+    // then
+    assertThat(reused.getPath()).isEqualTo("village");
+    assertThat(reused.getLiveFeatures().isDev()).isFalse();
+    verify(delegate, times(1)).getComponents("smurf-village");
+  }
+
+  @Test
+  public void discover_should_not_reuse_result() throws IOException {
+    // given
+    doReturn(Collections.emptyList()).when(delegate).discover("village");
+    odo.discover("village");
+    // when
+    odo.discover("village");
+    // then
+    verify(delegate, times(2)).discover("village");
+  }
+
+  @Test
+  public void getComponents_should_not_reuse_failure() throws IOException {
+    // given
+    doThrow(new IOException("Gargamel was here")).when(delegate).getComponents("smurf-village");
+    try {
+      odo.getComponents("smurf-village");
+      fail("exception expected");
+    } catch (IOException e) {
+      // expected
+    }
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    // when
+    List<Component> components = odo.getComponents("smurf-village");
+    // then
+    assertThat(components).containsExactly(component);
+  }
+
+  @Test
+  public void createComponent_should_discard_results() throws IOException {
+    // given
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    odo.getComponents("smurf-village");
+    // when
+    odo.createComponent("nodejs", "DefaultDevfileRegistry", "smurfette", "village", null, null);
+    odo.getComponents("smurf-village");
+    // then
+    verify(delegate, times(2)).getComponents("smurf-village");
+  }
+
+  @Test
+  public void invalidate_should_discard_results_of_namespace() throws IOException {
+    // given
+    doReturn(Collections.singletonList(component)).when(delegate).getComponents("smurf-village");
+    doReturn(Collections.emptyList()).when(delegate).getComponents("gargamel-castle");
+    odo.getComponents("smurf-village");
+    odo.getComponents("gargamel-castle");
+    // when
+    odo.invalidate("smurf-village");
+    odo.getComponents("smurf-village");
+    odo.getComponents("gargamel-castle");
+    // then
+    verify(delegate, times(2)).getComponents("smurf-village");
+    verify(delegate, times(1)).getComponents("gargamel-castle");
+  }
+
+  private List<Component> getComponents(String namespace) {
+    try {
+      return odo.getComponents(namespace);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static CallStatistics.Entry getStatistics(String method) {
+    return CallStatistics.getInstance().getEntries().stream()
+      .filter(entry -> entry.getName().equals(CallStatistics.COALESCING + ' ' + method))
+      .findFirst()
+      .orElse(null);
+  }
+
+  private void waitForCoalescedCall() throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 10_000;
+    // calls that wait are counted before they're done
+    while (getStatistics("getComponents") == null
+      || getStatistics("getComponents").getCoalesced() < 1) {
+      if (System.currentTimeMillis() > timeout) {
+        fail("calls expected");
+      }
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ComponentTypesDeserializerTest {
+  private static final URL url = ComponentTypesDeserializerTest.class.getResource("/devfile-registry.json");
+
+  private static ObjectMapper MAPPER;
+
+  @BeforeClass
+  public static void setup() {
+    MAPPER = Serialization.configure(new ComponentTypesDeserializer());
+  }
+
+  @Test
+  public void verifyThatComponentTypesCanLoad() throws IOException {
+    List<DevfileComponentType> types = MAPPER.readValue(url, new TypeReference<>() {});
+    assertNotNull(types);
+    assertEquals(1, types.size());
+  }
+
+  @Test
+  public void verifyThatComponentTypesDeserializerReturnsProperties() throws IOException {
+    List<DevfileComponentType> types = MAPPER.readValue(url, new TypeReference<>() {});
+    DevfileComponentType type = types.get(0);
+    assertEquals("dotnet50", type.getName());
+    assertEquals(".NET 5.0", type.getDisplayName());
+    assertEquals(".NET 5.0 application", type.getDescription());
+    assertNotNull(type.getDevfileRegistry());
+    assertEquals("Staging", type.getDevfileRegistry().getName());
+    assertEquals("https://registry.stage.devfile.io/", type.getDevfileRegistry().getURL());
+  }
+
+  @Test
+  public void verifyThatComponentTypesDeserializerReturnsEmptyListForEmptyArray() throws IOException {
+    List<DevfileComponentType> types = MAPPER.readValue("[]", new TypeReference<>() {});
+    assertNotNull(types);
+    assertTrue(types.isEmpty());
+  }
+}
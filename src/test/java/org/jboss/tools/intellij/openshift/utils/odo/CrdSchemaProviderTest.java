@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class CrdSchemaProviderTest {
+
+  private static final String CLUSTER = "https://api.crc.testing:6443";
+  private static final String KAFKAS = "kafka.strimzi.io/v1beta2/namespaces/{namespace}/kafkas";
+  private static final String KAFKA_TOPICS = "kafka.strimzi.io/v1beta2/namespaces/{namespace}/kafkatopics";
+  private static final String KAFKA_DOCUMENT = "/openapi/v3/apis/kafka.strimzi.io/v1beta2?hash=9F3E21";
+
+  private Path folder;
+  private Map<String, String> resources;
+  private List<String> fetched;
+
+  @Before
+  public void before() throws IOException {
+    this.folder = Files.createTempDirectory("crd-schemas");
+    this.resources = new HashMap<>();
+    resources.put(CrdSchemaProvider.V2_PATH, "/openapi/v2.json");
+    resources.put(CrdSchemaProvider.V3_PATH, "/openapi/v3.json");
+    resources.put(KAFKA_DOCUMENT, "/openapi/v3-kafka.json");
+    this.fetched = new ArrayList<>();
+  }
+
+  @After
+  public void after() throws IOException {
+    FileUtils.deleteDirectory(folder.toFile());
+  }
+
+  @Test
+  public void getSchema_should_resolve_schema_from_group_version_document() throws IOException {
+    // given
+    CrdSchemaProvider provider = createProvider();
+    // when
+    ObjectNode schema = provider.getSchema(KAFKAS);
+    // then
+    assertThat(fetched).containsExactly(CrdSchemaProvider.V3_PATH, KAFKA_DOCUMENT);
+    assertThat(schema.at("/properties/spec/properties/kafka/properties/replicas/type").asText()).isEqualTo("integer");
+    assertThat(schema.at("/properties/metadata/properties/name/type").asText()).isEqualTo("string");
+    assertThat(schema.at("/properties/metadata/properties/ownerReferences/items/properties/uid/type").asText()).isEqualTo("string");
+    assertThat(schema.at("/properties/metadata").has("allOf")).isFalse();
+  }
+
+  @Test
+  public void getSchema_should_fetch_group_version_document_once() throws IOException {
+    // given
+    CrdSchemaProvider provider = createProvider();
+    // when
+    provider.getSchema(KAFKAS);
+    provider.getSchema(KAFKAS);
+    ObjectNode schema = provider.getSchema(KAFKA_TOPICS);
+    // then
+    assertThat(fetched).containsExactly(CrdSchemaProvider.V3_PATH, KAFKA_DOCUMENT);
+    assertThat(schema.at("/properties/spec/properties/partitions/type").asText()).isEqualTo("integer");
+  }
+
+  @Test
+  public void getSchema_should_return_copies() throws IOException {
+    // given
+    CrdSchemaProvider provider = createProvider();
+    provider.getSchema(KAFKAS).remove("properties");
+    // when
+    ObjectNode schema = provider.getSchema(KAFKAS);
+    // then
+    assertThat(schema.has("properties")).isTrue();
+  }
+
+  @Test
+  public void getSchema_should_serve_persisted_schema_if_hash_is_unchanged() throws IOException {
+    // given
+    createProvider().getSchema(KAFKAS);
+    fetched.clear();
+    // when
+    ObjectNode schema = createProvider().getSchema(KAFKAS);
+    // then
+    assertThat(fetched).containsExactly(CrdSchemaProvider.V3_PATH);
+    assertThat(schema.at("/properties/spec/properties/kafka/properties/replicas/type").asText()).isEqualTo("integer");
+  }
+
+  @Test
+  public void getSchema_should_not_serve_persisted_schema_of_other_cluster() throws IOException {
+    // given
+    createProvider().getSchema(KAFKAS);
+    fetched.clear();
+    // when
+    new CrdSchemaProvider("https://api.sandbox.openshiftapps.com:6443", folder, this::fetch).getSchema(KAFKAS);
+    // then
+    assertThat(fetched).containsExactly(CrdSchemaProvider.V3_PATH, KAFKA_DOCUMENT);
+  }
+
+  @Test
+  public void getSchema_should_return_null_for_unknown_group_version() throws IOException {
+    // given
+    CrdSchemaProvider provider = createProvider();
+    // when
+    ObjectNode schema = provider.getSchema("postgres-operator.crunchydata.com/v1beta1/namespaces/{namespace}/postgresclusters");
+    // then
+    assertThat(schema).isNull();
+    assertThat(fetched).containsExactly(CrdSchemaProvider.V3_PATH);
+  }
+
+  @Test
+  public void getSchema_should_scan_v2_document_if_v3_is_not_served() throws IOException {
+    // given
+    resources.remove(CrdSchemaProvider.V3_PATH);
+    CrdSchemaProvider provider = createProvider();
+    // when
+    ObjectNode schema = provider.getSchema(KAFKAS);
+    // then
+    assertThat(fetched).containsExactly(CrdSchemaProvider.V3_PATH, CrdSchemaProvider.V2_PATH);
+    assertThat(schema.at("/properties/spec/properties/kafka/properties/replicas/type").asText()).isEqualTo("integer");
+    assertThat(schema.at("/properties/metadata/properties/name/type").asText()).isEqualTo("string");
+  }
+
+  @Test
+  public void getSchema_should_read_v2_document_once() throws IOException {
+    // given
+    resources.remove(CrdSchemaProvider.V3_PATH);
+    CrdSchemaProvider provider = createProvider();
+    provider.getSchema(KAFKA_TOPICS);
+    // when
+    ObjectNode schema = provider.getSchema(KAFKAS);
+    // then
+    assertThat(fetched).containsExactly(CrdSchemaProvider.V3_PATH, CrdSchemaProvider.V2_PATH);
+    assertThat(schema.at("/properties/metadata/properties/name/type").asText()).isEqualTo("string");
+  }
+
+  @Test
+  public void getSchema_should_return_null_if_v2_document_has_no_such_path() throws IOException {
+    // given
+    resources.remove(CrdSchemaProvider.V3_PATH);
+    CrdSchemaProvider provider = createProvider();
+    // when
+    ObjectNode schema = provider.getSchema(KAFKA_TOPICS);
+    // then
+    assertThat(schema).isNull();
+  }
+
+  private CrdSchemaProvider createProvider() {
+    return new CrdSchemaProvider(CLUSTER, folder, this::fetch);
+  }
+
+  private InputStream fetch(String path) {
+    fetched.add(path);
+    String resource = resources.get(path);
+    return resource == null ? null : CrdSchemaProviderTest.class.getResourceAsStream(resource);
+  }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class DescribeComponentCacheTest {
+
+  private File context;
+  private DescribeComponentCache cache;
+  private AtomicInteger loads;
+
+  @Before
+  public void before() throws IOException {
+    this.context = Files.createTempDirectory("describe-component").toFile();
+    writeDevfile("schemaVersion: 2.2.0");
+    this.cache = new DescribeComponentCache();
+    this.loads = new AtomicInteger();
+  }
+
+  @After
+  public void after() throws IOException {
+    FileUtils.deleteDirectory(context);
+  }
+
+  @Test
+  public void get_should_load_once_if_devfile_and_features_are_unchanged() throws IOException {
+    // given
+    JsonNode first = cache.get(context.getAbsolutePath(), Collections.emptySet(), this::load);
+    // when
+    JsonNode second = cache.get(context.getAbsolutePath(), Collections.emptySet(), this::load);
+    // then
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void get_should_reload_if_devfile_changed() throws IOException {
+    // given
+    cache.get(context.getAbsolutePath(), Collections.emptySet(), this::load);
+    writeDevfile("schemaVersion: 2.1.0");
+    // when
+    cache.get(context.getAbsolutePath(), Collections.emptySet(), this::load);
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_should_reload_if_live_features_changed() throws IOException {
+    // given
+    cache.get(context.getAbsolutePath(), Collections.emptySet(), this::load);
+    // when
+    cache.get(context.getAbsolutePath(), List.of(ComponentFeature.DEV), this::load);
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_should_reload_if_invalidated() throws IOException {
+    // given
+    cache.get(context.getAbsolutePath(), Collections.emptySet(), this::load);
+    cache.invalidate(context.getAbsolutePath());
+    // when
+    cache.get(context.getAbsolutePath(), Collections.emptySet(), this::load);
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  private JsonNode load() {
+    return JsonNodeFactory.instance.numberNode(loads.incrementAndGet());
+  }
+
+  private void writeDevfile(String content) throws IOException {
+    Files.writeString(new File(context, "devfile.yaml").toPath(), content, StandardCharsets.UTF_8);
+  }
+}
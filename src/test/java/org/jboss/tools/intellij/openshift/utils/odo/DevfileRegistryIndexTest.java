@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.io.FileUtils;
+import org.jboss.tools.intellij.openshift.utils.Serialization;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class DevfileRegistryIndexTest {
+
+  private static final long TTL = TimeUnit.HOURS.toMillis(1);
+
+  private Path folder;
+  private Path file;
+  private AtomicInteger loads;
+  private AtomicBoolean offline;
+
+  @Before
+  public void before() throws IOException {
+    this.folder = Files.createTempDirectory("devfile-registry-index");
+    this.file = folder.resolve("devfile-registries.jsonl");
+    this.loads = new AtomicInteger();
+    this.offline = new AtomicBoolean();
+  }
+
+  @After
+  public void after() throws IOException {
+    FileUtils.deleteDirectory(folder.toFile());
+  }
+
+  @Test
+  public void getComponentTypes_should_load_stacks_once() throws IOException {
+    // given
+    DevfileRegistryIndex index = createIndex(TTL);
+    // when
+    List<DevfileComponentType> types = index.getComponentTypes();
+    index.getComponentTypes();
+    // then
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(types).hasSize(1);
+    assertThat(types.get(0).getName()).isEqualTo("dotnet50");
+    assertThat(types.get(0).getDevfileRegistry().getName()).isEqualTo("Staging");
+  }
+
+  @Test
+  public void getComponentTypes_should_serve_persisted_index_without_loading() throws IOException {
+    // given
+    createIndex(TTL).getComponentTypes();
+    // when
+    List<DevfileComponentType> types = createIndex(TTL).getComponentTypes();
+    // then
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(types).hasSize(1);
+  }
+
+  @Test
+  public void getComponentTypes_should_revalidate_expired_index() throws IOException {
+    // given
+    createIndex(TTL).getComponentTypes();
+    // when
+    createIndex(-1).getComponentTypes();
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void getComponentTypes_should_serve_persisted_index_if_offline() throws IOException {
+    // given
+    createIndex(TTL).getComponentTypes();
+    DevfileRegistryIndex index = createIndex(TTL);
+    index.invalidate();
+    offline.set(true);
+    // when
+    List<DevfileComponentType> types = index.getComponentTypes();
+    // then
+    assertThat(types).hasSize(1);
+  }
+
+  @Test(expected = IOException.class)
+  public void getComponentTypes_should_throw_if_offline_and_no_index() throws IOException {
+    // given
+    offline.set(true);
+    // when
+    createIndex(TTL).getComponentTypes();
+  }
+
+  @Test
+  public void getComponentTypeInfo_should_return_starters_of_stack() throws IOException {
+    // given
+    DevfileRegistryIndex index = createIndex(TTL);
+    // when
+    ComponentTypeInfo info = index.getComponentTypeInfo("dotnet50", "Staging");
+    // then
+    assertThat(info).isNotNull();
+    assertThat(info.getStarters()).hasSize(1);
+    assertThat(info.getStarters().get(0).getName()).isEqualTo("dotnet50-example");
+  }
+
+  @Test
+  public void getComponentTypeInfo_should_return_null_for_unknown_stack() throws IOException {
+    // given
+    DevfileRegistryIndex index = createIndex(TTL);
+    // when
+    ComponentTypeInfo info = index.getComponentTypeInfo("dotnet50", "DefaultDevfileRegistry");
+    // then
+    assertThat(info).isNull();
+  }
+
+  private DevfileRegistryIndex createIndex(long ttl) {
+    return new DevfileRegistryIndex(file, ttl, this::load, Runnable::run);
+  }
+
+  private JsonNode load() throws IOException {
+    if (offline.get()) {
+      throw new IOException("offline");
+    }
+    loads.incrementAndGet();
+    return Serialization.json().readTree(DevfileRegistryIndexTest.class.getResource("/devfile-registry.json"));
+  }
+}
@@ -10,7 +10,6 @@
  ******************************************************************************/
 package org.jboss.tools.intellij.openshift.utils.odo;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -20,6 +19,7 @@ import java.net.URL;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -32,14 +32,6 @@ public class JsonParserTest {
     MAPPER = new ObjectMapper();
   }
 
-  @Test
-  public void verifyThatCRDCanBeLoaded() throws IOException {
-    URL url = JsonParserTest.class.getResource("/swagger.json");
-    JSonParser parser = new JSonParser(MAPPER.readTree(url));
-    JsonNode schema = parser.findSchema("/apis/kafka.strimzi.io/v1beta2/namespaces/{namespace}/kafkas");
-    assertNotNull(schema);
-  }
-
   @Test
   public void verifyThatURLSCanBeLoadedFromDevMode() throws IOException {
     URL url = JsonParserTest.class.getResource("/describe-component-dev.json");
@@ -109,4 +101,42 @@ public class JsonParserTest {
     assertEquals("Go", componentInfo.getLanguage());
   }
 
+  @Test
+  public void verifyThatCapabilitiesCanBeLoadedFromVersion() throws IOException {
+    URL url = JsonParserTest.class.getResource("/version.json");
+    JSonParser parser = new JSonParser(MAPPER.readTree(url));
+    OdoCapabilities capabilities = parser.parseCapabilities();
+    assertNotNull(capabilities);
+    assertEquals("v3.15.0", capabilities.getOdoVersion());
+    assertEquals("4.7.2", capabilities.getPodmanVersion());
+    assertEquals("v1.27.6+f67aeb3", capabilities.getKubernetesVersion());
+    assertEquals("4.14.1", capabilities.getOpenShiftVersion());
+    assertTrue(capabilities.isProbed());
+    assertTrue(capabilities.isPodmanPresent());
+    assertFalse(capabilities.isPodmanAbsent());
+    assertTrue(capabilities.isOpenShift());
+  }
+
+  @Test
+  public void verifyThatCapabilitiesReportMissingPodman() throws IOException {
+    URL url = JsonParserTest.class.getResource("/version-no-podman.json");
+    JSonParser parser = new JSonParser(MAPPER.readTree(url));
+    OdoCapabilities capabilities = parser.parseCapabilities();
+    assertNotNull(capabilities);
+    assertNull(capabilities.getPodmanVersion());
+    assertNull(capabilities.getOpenShiftVersion());
+    assertEquals("v1.29.2", capabilities.getKubernetesVersion());
+    assertFalse(capabilities.isPodmanPresent());
+    assertTrue(capabilities.isPodmanAbsent());
+    assertFalse(capabilities.isOpenShift());
+  }
+
+  @Test
+  public void verifyThatUnprobedCapabilitiesDontReportPodmanAbsent() {
+    OdoCapabilities capabilities = new OdoCapabilities.Builder().withProbed(false).build();
+    assertFalse(capabilities.isProbed());
+    assertFalse(capabilities.isPodmanPresent());
+    assertFalse(capabilities.isPodmanAbsent());
+  }
+
 }
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.intellij.execution.process.NopProcessHandler;
+import com.intellij.execution.process.ProcessAdapter;
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessOutputTypes;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class LiveFeatureAdapterTest {
+
+  private File context;
+  private DescribeComponentCache cache;
+  private Set<ComponentFeature> liveFeatures;
+  private LiveFeatureAdapter adapter;
+  private ProcessHandler handler;
+  private AtomicInteger loads;
+
+  @Before
+  public void before() throws IOException {
+    this.context = Files.createTempDirectory("live-feature").toFile();
+    this.cache = new DescribeComponentCache();
+    this.liveFeatures = ConcurrentHashMap.newKeySet();
+    this.adapter = new LiveFeatureAdapter(liveFeatures, ComponentFeature.DEV,
+      () -> cache.invalidate(context.getAbsolutePath()), new ProcessAdapter() {});
+    this.handler = new NopProcessHandler();
+    this.loads = new AtomicInteger();
+  }
+
+  @After
+  public void after() throws IOException {
+    FileUtils.deleteDirectory(context);
+  }
+
+  @Test
+  public void startNotified_should_not_make_feature_live() {
+    // given
+    // when
+    adapter.startNotified(new ProcessEvent(handler));
+    // then
+    assertThat(liveFeatures).isEmpty();
+  }
+
+  @Test
+  public void onTextAvailable_should_make_feature_live_once_ready() {
+    // given
+    adapter.startNotified(new ProcessEvent(handler));
+    // when
+    adapter.onTextAvailable(new ProcessEvent(handler, "Waiting for Kubernetes resources..."), ProcessOutputTypes.STDOUT);
+    boolean liveWhileStarting = liveFeatures.contains(ComponentFeature.DEV);
+    adapter.onTextAvailable(new ProcessEvent(handler, ComponentFeature.DEV.getOutput().toString()), ProcessOutputTypes.STDOUT);
+    // then
+    assertThat(liveWhileStarting).isFalse();
+    assertThat(liveFeatures).containsOnly(ComponentFeature.DEV);
+  }
+
+  @Test
+  public void onTextAvailable_should_not_reuse_describe_made_before_ready() throws IOException {
+    // given
+    adapter.startNotified(new ProcessEvent(handler));
+    JsonNode starting = describe();
+    // when
+    adapter.onTextAvailable(new ProcessEvent(handler, ComponentFeature.DEV.getOutput().toString()), ProcessOutputTypes.STDOUT);
+    JsonNode ready = describe();
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(ready).isNotEqualTo(starting);
+  }
+
+  @Test
+  public void startNotified_should_discard_describe_made_before_start() throws IOException {
+    // given
+    describe();
+    // when
+    adapter.startNotified(new ProcessEvent(handler));
+    describe();
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void processTerminated_should_remove_live_feature() {
+    // given
+    adapter.startNotified(new ProcessEvent(handler));
+    adapter.onTextAvailable(new ProcessEvent(handler, ComponentFeature.DEV.getOutput().toString()), ProcessOutputTypes.STDOUT);
+    // when
+    adapter.processTerminated(new ProcessEvent(handler));
+    // then
+    assertThat(liveFeatures).isEmpty();
+  }
+
+  private JsonNode describe() throws IOException {
+    return cache.get(context.getAbsolutePath(), liveFeatures,
+      () -> JsonNodeFactory.instance.numberNode(loads.incrementAndGet()));
+  }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class LogBufferTest {
+
+  @Test
+  public void getLines_should_return_lines_from_given_sequence() {
+    // given
+    LogBuffer buffer = new LogBuffer();
+    buffer.append("smurf");
+    buffer.append("papa smurf");
+    buffer.append("smurfette");
+    // when
+    List<String> lines = buffer.getLines(1);
+    // then
+    assertThat(lines).containsExactly("papa smurf", "smurfette");
+    assertThat(buffer.getNext()).isEqualTo(3);
+  }
+
+  @Test
+  public void append_should_drop_oldest_chunk_if_buffer_is_full() {
+    // given
+    LogBuffer buffer = new LogBuffer(LogBuffer.CHUNK_SIZE);
+    // when
+    for (int i = 0; i < LogBuffer.CHUNK_SIZE * 2 + 1; i++) {
+      buffer.append("a");
+    }
+    // then
+    assertThat(buffer.getFirst()).isEqualTo(LogBuffer.CHUNK_SIZE * 2);
+    assertThat(buffer.getNext()).isEqualTo(LogBuffer.CHUNK_SIZE * 2 + 1);
+    assertThat(buffer.getLines(0)).hasSize(1);
+  }
+
+  @Test
+  public void append_should_truncate_long_lines() {
+    // given
+    LogBuffer buffer = new LogBuffer();
+    // when
+    buffer.append("a".repeat(LogBuffer.MAX_LINE_LENGTH + 10));
+    // then
+    assertThat(buffer.getLines(0).get(0).length()).isEqualTo(LogBuffer.MAX_LINE_LENGTH);
+  }
+
+  @Test
+  public void getLines_should_return_matching_lines_and_next_sequence() {
+    // given
+    LogBuffer buffer = new LogBuffer();
+    buffer.append("[village/smurf] Started");
+    buffer.append("[castle/gargamel] ERROR: no smurfs");
+    buffer.append("[village/smurf] error: gargamel");
+    List<String> lines = new ArrayList<>();
+    // when
+    long next = buffer.getLines(0, LogBuffer.containing("Error"), lines);
+    // then
+    assertThat(lines).containsExactly("[castle/gargamel] ERROR: no smurfs", "[village/smurf] error: gargamel");
+    assertThat(next).isEqualTo(3);
+  }
+
+  @Test
+  public void append_should_notify_listeners() {
+    // given
+    LogBuffer buffer = new LogBuffer();
+    List<Long> notified = new ArrayList<>();
+    buffer.addListener(source -> notified.add(source.getNext()));
+    // when
+    buffer.append("smurf");
+    buffer.append("smurfette");
+    // then
+    assertThat(notified).containsExactly(1L, 2L);
+  }
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class NamespaceCatalogTest {
+
+  private FakeSource source;
+  private NamespaceCatalog catalog;
+
+  @Before
+  public void before() {
+    this.source = new FakeSource();
+    this.catalog = new NamespaceCatalog(source, Runnable::run);
+  }
+
+  @Test
+  public void list_should_pass_names_page_by_page() throws IOException {
+    // given
+    List<List<String>> pages = new ArrayList<>();
+    // when
+    List<String> names = catalog.list(pages::add);
+    // then
+    assertThat(pages).hasSize(2);
+    assertThat(pages.get(0)).containsOnly("papa-smurf", "smurfette");
+    assertThat(pages.get(1)).containsOnly("azrael", "gargamel");
+    assertThat(names).containsExactly("azrael", "gargamel", "papa-smurf", "smurfette");
+  }
+
+  @Test
+  public void list_should_watch_from_resource_version_of_first_page() throws IOException {
+    // given
+    // when
+    catalog.list(page -> {});
+    // then
+    assertThat(catalog.isWatching()).isTrue();
+    assertThat(source.watchedResourceVersion).isEqualTo("42");
+  }
+
+  @Test
+  public void list_should_not_list_again_while_watching() throws IOException {
+    // given
+    catalog.list(page -> {});
+    List<List<String>> pages = new ArrayList<>();
+    // when
+    List<String> names = catalog.list(pages::add);
+    // then
+    assertThat(source.listed).isEqualTo(2);
+    assertThat(pages).hasSize(1);
+    assertThat(names).containsExactly("azrael", "gargamel", "papa-smurf", "smurfette");
+  }
+
+  @Test
+  public void list_should_list_again_if_watch_was_closed() throws IOException {
+    // given
+    catalog.list(page -> {});
+    // when
+    source.listener.closed(new IllegalStateException("Gargamel was here"));
+    catalog.list(page -> {});
+    // then
+    assertThat(source.listed).isEqualTo(4);
+  }
+
+  @Test
+  public void contains_should_reflect_watched_changes() throws IOException {
+    // given
+    catalog.list(page -> {});
+    // when
+    source.listener.added("brainy-smurf");
+    source.listener.deleted("gargamel");
+    // then
+    assertThat(catalog.contains("brainy-smurf")).isTrue();
+    assertThat(catalog.contains("gargamel")).isFalse();
+  }
+
+  @Test
+  public void load_should_list_only_once() {
+    // given
+    // when
+    catalog.load();
+    catalog.load();
+    // then
+    assertThat(source.listed).isEqualTo(2);
+    assertThat(catalog.contains("smurfette")).isTrue();
+  }
+
+  @Test
+  public void close_should_stop_watching() throws IOException {
+    // given
+    catalog.list(page -> {});
+    // when
+    catalog.close();
+    // then
+    assertThat(catalog.isWatching()).isFalse();
+    assertThat(source.watchClosed).isTrue();
+    assertThat(catalog.contains("smurfette")).isFalse();
+  }
+
+  private static class FakeSource implements NamespaceCatalog.Source {
+
+    private int listed = 0;
+    private String watchedResourceVersion;
+    private NamespaceCatalog.NamesListener listener;
+    private boolean watchClosed = false;
+
+    @Override
+    public NamespaceCatalog.Page list(String continueToken, int limit) {
+      listed++;
+      if (continueToken == null) {
+        return new NamespaceCatalog.Page(List.of("papa-smurf", "smurfette"), "page-2", "42");
+      } else {
+        return new NamespaceCatalog.Page(List.of("azrael", "gargamel"), null, "43");
+      }
+    }
+
+    @Override
+    public AutoCloseable watch(String resourceVersion, NamespaceCatalog.NamesListener listener) {
+      this.watchedResourceVersion = resourceVersion;
+      this.listener = listener;
+      return () -> this.watchClosed = true;
+    }
+  }
+}
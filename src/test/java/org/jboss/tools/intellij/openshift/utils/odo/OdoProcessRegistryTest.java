@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import com.intellij.execution.process.NopProcessHandler;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessOutputTypes;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class OdoProcessRegistryTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<String> changed = new ArrayList<>();
+  private final List<String> exceeded = new ArrayList<>();
+  private OdoProcessRegistry.Limits limits = new OdoProcessRegistry.Limits(0, 0, 0, false);
+  private OdoProcessRegistry registry;
+
+  @Before
+  public void before() {
+    this.registry = new OdoProcessRegistry(mock(ScheduledExecutorService.class), () -> limits, clock::get);
+    registry.addListener(new OdoProcessRegistry.Listener() {
+      @Override
+      public void sessionsChanged(String component) {
+        changed.add(component);
+      }
+
+      @Override
+      public void sessionExceeded(OdoProcessRegistry.Session session, String reason) {
+        exceeded.add(session.getComponent() + ": " + reason);
+      }
+    });
+  }
+
+  @Test
+  public void register_should_register_process_and_notify_listeners() {
+    // given
+    ProcessHandler handler = new NopProcessHandler();
+    // when
+    registry.register("smurf", ComponentFeature.DEV, handler);
+    // then
+    assertThat(registry.getProcess("smurf", ComponentFeature.DEV)).isSameAs(handler);
+    assertThat(registry.isRunning("smurf", ComponentFeature.DEV)).isTrue();
+    assertThat(registry.isRunning("smurf", ComponentFeature.DEPLOY)).isFalse();
+    assertThat(registry.getFeatures("smurf")).containsOnly(ComponentFeature.DEV);
+    assertThat(changed).containsOnly("smurf");
+  }
+
+  @Test
+  public void unregister_should_keep_process_that_replaced_the_given_one() {
+    // given
+    ProcessHandler terminated = new NopProcessHandler();
+    ProcessHandler running = new NopProcessHandler();
+    registry.register("smurf", ComponentFeature.DEV, terminated);
+    registry.register("smurf", ComponentFeature.DEV, running);
+    // when
+    boolean unregistered = registry.unregister("smurf", ComponentFeature.DEV, terminated);
+    // then
+    assertThat(unregistered).isFalse();
+    assertThat(registry.getProcess("smurf", ComponentFeature.DEV)).isSameAs(running);
+  }
+
+  @Test
+  public void getLogProcesses_should_register_and_unregister_logs() {
+    // given
+    ProcessHandler handler = new NopProcessHandler();
+    List<ProcessHandler> logs = registry.getLogProcesses("smurf");
+    // when
+    logs.set(1, handler);
+    // then
+    assertThat(registry.isLogRunning("smurf", true)).isTrue();
+    assertThat(registry.isLogRunning("smurf", false)).isFalse();
+    assertThat(registry.getFeatures("smurf")).isEmpty();
+    // when
+    logs.set(1, null);
+    // then
+    assertThat(registry.isLogRunning("smurf", true)).isFalse();
+    assertThat(changed).hasSize(2);
+  }
+
+  @Test
+  public void removeComponent_should_return_processes_of_component_only() {
+    // given
+    ProcessHandler dev = new NopProcessHandler();
+    ProcessHandler log = new NopProcessHandler();
+    ProcessHandler other = new NopProcessHandler();
+    registry.register("smurf", ComponentFeature.DEV, dev);
+    registry.getLogProcesses("smurf").set(0, log);
+    registry.register("gargamel", ComponentFeature.DEV, other);
+    // when
+    List<ProcessHandler> removed = registry.removeComponent("smurf");
+    // then
+    assertThat(removed).containsOnly(dev, log);
+    assertThat(registry.getSessions()).hasSize(1);
+    assertThat(registry.getSessions().get(0).getComponent()).isEqualTo("gargamel");
+  }
+
+  @Test
+  public void sample_should_compute_output_rate() {
+    // given
+    ProcessHandler handler = new NopProcessHandler();
+    registry.register("smurf", ComponentFeature.DEV, handler);
+    handler.notifyTextAvailable("0123456789", ProcessOutputTypes.STDOUT);
+    clock.set(TimeUnit.SECONDS.toNanos(2));
+    // when
+    registry.sample();
+    // then
+    OdoProcessRegistry.Session session = registry.getSessions().get(0);
+    assertThat(session.getName()).isEqualTo(ComponentFeature.DEV.getLabel());
+    assertThat(session.getOutput()).isEqualTo(10);
+    assertThat(session.getOutputRate()).isEqualTo(5);
+    assertThat(session.getUptimeMillis()).isEqualTo(2000);
+    assertThat(session.getPid()).isEqualTo(OdoProcessRegistry.UNKNOWN);
+  }
+
+  @Test
+  public void sample_should_report_exceeded_limit_once() {
+    // given
+    limits = new OdoProcessRegistry.Limits(0, 0, 1, false);
+    ProcessHandler handler = spy(new NopProcessHandler());
+    registry.register("smurf", ComponentFeature.DEV, handler);
+    handler.notifyTextAvailable("0123456789", ProcessOutputTypes.STDOUT);
+    clock.set(TimeUnit.SECONDS.toNanos(1));
+    registry.sample();
+    handler.notifyTextAvailable("0123456789", ProcessOutputTypes.STDOUT);
+    clock.set(TimeUnit.SECONDS.toNanos(2));
+    // when
+    registry.sample();
+    // then
+    assertThat(exceeded).hasSize(1);
+    assertThat(exceeded.get(0)).startsWith("smurf: prints 10 characters per second");
+    verify(handler, never()).destroyProcess();
+  }
+
+  @Test
+  public void sample_should_stop_session_that_exceeded_limit_if_configured() {
+    // given
+    limits = new OdoProcessRegistry.Limits(0, 0, 1, true);
+    ProcessHandler handler = spy(new NopProcessHandler());
+    registry.register("smurf", ComponentFeature.DEV, handler);
+    handler.notifyTextAvailable("0123456789", ProcessOutputTypes.STDOUT);
+    clock.set(TimeUnit.SECONDS.toNanos(1));
+    // when
+    registry.sample();
+    // then
+    verify(handler).destroyProcess();
+  }
+
+  @Test
+  public void unregistered_process_should_not_be_sampled_any_more() {
+    // given
+    ProcessHandler handler = new NopProcessHandler();
+    registry.register("smurf", ComponentFeature.DEV, handler);
+    registry.unregister("smurf", ComponentFeature.DEV);
+    // when
+    handler.notifyTextAvailable("0123456789", ProcessOutputTypes.STDOUT);
+    registry.register("smurf", ComponentFeature.DEV, handler);
+    // then
+    assertThat(registry.getSessions().get(0).getOutput()).isEqualTo(0);
+  }
+
+  @Test
+  public void getCpuTime_should_return_cpu_time_of_process() {
+    // given
+    Assume.assumeTrue("platform does not report cpu time of processes",
+      ProcessHandle.current().info().totalCpuDuration().isPresent());
+    // when
+    long cpuTime = OdoProcessRegistry.getCpuTime(ProcessHandle.current());
+    // then
+    assertThat(cpuTime).isGreaterThan(0);
+  }
+}
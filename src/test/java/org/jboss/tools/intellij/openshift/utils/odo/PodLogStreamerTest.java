@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class PodLogStreamerTest {
+
+  @Test
+  public void start_should_prefix_lines_with_pod_and_container() {
+    // given
+    FakeSource source = new FakeSource()
+      .withLog("village", "smurf", "2024-01-01T10:00:00.000000001Z Started\n2024-01-01T10:00:01Z Listening")
+      .withLog("village", "sidecar", "2024-01-01T10:00:00Z Proxy up");
+    PodLogStreamer streamer = createStreamer(source);
+    // when
+    streamer.start();
+    // then
+    assertThat(streamer.getBuffer().getLines(0)).containsOnly(
+      "[village/smurf] Started",
+      "[village/smurf] Listening",
+      "[village/sidecar] Proxy up");
+  }
+
+  @Test
+  public void start_should_keep_lines_with_same_timestamp() {
+    // given
+    FakeSource source = new FakeSource()
+      .withLog("village", "smurf", "2024-01-01T10:00:00Z Exception\n2024-01-01T10:00:00Z   at Gargamel.catch\n2024-01-01T10:00:00Z   at Gargamel.catch");
+    PodLogStreamer streamer = createStreamer(source);
+    // when
+    streamer.start();
+    // then
+    assertThat(streamer.getBuffer().getLines(0)).containsExactly(
+      "[village/smurf] Exception",
+      "[village/smurf]   at Gargamel.catch",
+      "[village/smurf]   at Gargamel.catch");
+  }
+
+  @Test
+  public void start_should_skip_lines_that_reopened_log_replays() throws InterruptedException {
+    // given
+    FakeSource source = new FakeSource()
+      .withLog("village", "smurf",
+        "2024-01-01T10:00:00Z Started\n2024-01-01T10:00:01Z Exception\n2024-01-01T10:00:01Z   at Gargamel.catch")
+      .withReopenedLog("village", "smurf",
+        "2024-01-01T10:00:00Z Started\n2024-01-01T10:00:01Z Exception\n2024-01-01T10:00:01Z   at Gargamel.catch\n"
+          + "2024-01-01T10:00:01Z   at Azrael.chase\n2024-01-01T10:00:02Z Stopped");
+    ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    PodLogStreamer streamer = new PodLogStreamer(source, new LogBuffer(), true, Runnable::run, scheduler);
+    ArgumentCaptor<Runnable> poll = ArgumentCaptor.forClass(Runnable.class);
+    streamer.start();
+    verify(scheduler).scheduleWithFixedDelay(poll.capture(), anyLong(), anyLong(), any(TimeUnit.class));
+    // when
+    poll.getValue().run();
+    // then
+    assertThat(source.opened).containsExactly(
+      "village/smurf since=null tail=" + PodLogStreamer.TAIL_LINES,
+      "village/smurf since=2024-01-01T10:00:01Z tail=" + PodLogStreamer.TAIL_LINES);
+    assertThat(streamer.getBuffer().getLines(0)).containsExactly(
+      "[village/smurf] Started",
+      "[village/smurf] Exception",
+      "[village/smurf]   at Gargamel.catch",
+      "[village/smurf]   at Azrael.chase",
+      "[village/smurf] Stopped");
+  }
+
+  @Test
+  public void start_should_tail_lines_without_timestamp() {
+    // given
+    FakeSource source = new FakeSource()
+      .withLog("village", "smurf", "2024-01-01T10:00:00Z Started");
+    PodLogStreamer streamer = createStreamer(source);
+    // when
+    streamer.start();
+    // then
+    assertThat(source.opened).containsExactly("village/smurf since=null tail=" + PodLogStreamer.TAIL_LINES);
+  }
+
+  @Test
+  public void start_should_keep_lines_without_timestamp() {
+    // given
+    FakeSource source = new FakeSource()
+      .withLog("village", "smurf", "no-timestamp here\nplain");
+    PodLogStreamer streamer = createStreamer(source);
+    // when
+    streamer.start();
+    // then
+    assertThat(streamer.getBuffer().getLines(0)).containsExactly(
+      "[village/smurf] no-timestamp here",
+      "[village/smurf] plain");
+  }
+
+  @Test
+  public void start_should_notify_when_all_logs_were_read() {
+    // given
+    FakeSource source = new FakeSource()
+      .withLog("village", "smurf", "2024-01-01T10:00:00Z Started")
+      .withLog("castle", "gargamel", "2024-01-01T10:00:00Z Started");
+    PodLogStreamer streamer = createStreamer(source);
+    AtomicBoolean finished = new AtomicBoolean();
+    streamer.setOnFinished(() -> finished.set(true));
+    // when
+    streamer.start();
+    // then
+    assertThat(finished.get()).isTrue();
+  }
+
+  @Test
+  public void start_should_notify_if_there_are_no_pods() {
+    // given
+    PodLogStreamer streamer = createStreamer(new FakeSource());
+    AtomicBoolean finished = new AtomicBoolean();
+    streamer.setOnFinished(() -> finished.set(true));
+    // when
+    streamer.start();
+    // then
+    assertThat(finished.get()).isTrue();
+    assertThat(streamer.getBuffer().getNext()).isEqualTo(0);
+  }
+
+  private static PodLogStreamer createStreamer(FakeSource source) {
+    return new PodLogStreamer(source, new LogBuffer(), false, Runnable::run, mock(ScheduledExecutorService.class));
+  }
+
+  private static class FakeSource implements PodLogStreamer.LogSource {
+
+    private final Map<String, List<String>> containers = new LinkedHashMap<>();
+    private final Map<String, String> logs = new LinkedHashMap<>();
+    private final Map<String, String> reopenedLogs = new LinkedHashMap<>();
+    private final List<String> opened = new ArrayList<>();
+
+    private FakeSource withLog(String pod, String container, String log) {
+      containers.computeIfAbsent(pod, key -> new ArrayList<>()).add(container);
+      logs.put(pod + '/' + container, log);
+      return this;
+    }
+
+    /**
+     * The log is reopened once, the container is gone once it was read.
+     */
+    private FakeSource withReopenedLog(String pod, String container, String log) {
+      reopenedLogs.put(pod + '/' + container, log);
+      return this;
+    }
+
+    @Override
+    public Map<String, List<String>> getContainers() {
+      if (!reopenedLogs.isEmpty()
+        && opened.size() > 1) {
+        return Collections.emptyMap();
+      }
+      return containers;
+    }
+
+    @Override
+    public Reader open(String pod, String container, String sinceTime, int tailLines, boolean follow) {
+      String key = pod + '/' + container;
+      opened.add(key + " since=" + sinceTime + " tail=" + tailLines);
+      if (sinceTime != null
+        && reopenedLogs.containsKey(key)) {
+        return new StringReader(reopenedLogs.get(key));
+      }
+      return new StringReader(logs.get(key));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.intellij.openshift.utils.odo;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionBuilder;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionList;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersionListBuilder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ServiceTemplateCatalogTest {
+
+  private static final String KEY = "https://api.crc.testing:6443#smurf-village";
+
+  private final ServiceTemplateCatalog catalog = new ServiceTemplateCatalog();
+
+  @Test
+  public void getClusterServiceVersions_should_list_all_pages() {
+    // given
+    FakeSource source = new FakeSource(
+      createList("42", "page2", createCsv("strimzi", "0.32.0")),
+      createList("42", null, createCsv("postgres", "5.3.0")));
+    // when
+    List<ClusterServiceVersion> csvs = catalog.getClusterServiceVersions(KEY, source);
+    // then
+    assertThat(csvs).hasSize(2);
+    assertThat(source.listed).hasSize(2);
+    assertThat(source.listed.get(0).getLimit()).isEqualTo(ServiceTemplateCatalog.PAGE_SIZE);
+    assertThat(source.listed.get(0).getContinue()).isNull();
+    assertThat(source.listed.get(1).getContinue()).isEqualTo("page2");
+    assertThat(source.watched.getResourceVersion()).isEqualTo("42");
+  }
+
+  @Test
+  public void getClusterServiceVersions_should_return_cached_until_watch_reports_change() {
+    // given
+    FakeSource source = new FakeSource(
+      createList("42", null, createCsv("strimzi", "0.32.0")),
+      createList("43", null, createCsv("strimzi", "0.33.0")));
+    List<ClusterServiceVersion> listed = catalog.getClusterServiceVersions(KEY, source);
+    // when
+    List<ClusterServiceVersion> cached = catalog.getClusterServiceVersions(KEY, source);
+    source.watcher.eventReceived(Watcher.Action.MODIFIED, listed.get(0));
+    List<ClusterServiceVersion> relisted = catalog.getClusterServiceVersions(KEY, source);
+    // then
+    assertThat(cached).isSameAs(listed);
+    assertThat(source.listed).hasSize(2);
+    assertThat(relisted.get(0).getSpec().getVersion()).isEqualTo("0.33.0");
+  }
+
+  @Test
+  public void getClusterServiceVersions_should_list_each_time_if_watch_is_not_allowed() {
+    // given
+    FakeSource source = new FakeSource(
+      createList("42", null, createCsv("strimzi", "0.32.0")),
+      createList("42", null, createCsv("strimzi", "0.32.0")));
+    source.watchFailure = new KubernetesClientException("Forbidden", 403, null);
+    // when
+    catalog.getClusterServiceVersions(KEY, source);
+    catalog.getClusterServiceVersions(KEY, source);
+    // then
+    assertThat(source.listed).hasSize(2);
+  }
+
+  private static ClusterServiceVersionList createList(String resourceVersion, String continueToken, ClusterServiceVersion... csvs) {
+    return new ClusterServiceVersionListBuilder()
+      .withNewMetadata()
+      .withResourceVersion(resourceVersion)
+      .withContinue(continueToken)
+      .endMetadata()
+      .withItems(csvs)
+      .build();
+  }
+
+  private static ClusterServiceVersion createCsv(String name, String version) {
+    return new ClusterServiceVersionBuilder()
+      .withNewMetadata()
+      .withName(name + ".v" + version)
+      .endMetadata()
+      .withNewSpec()
+      .withVersion(version)
+      .endSpec()
+      .build();
+  }
+
+  private static class FakeSource implements ServiceTemplateCatalog.Source {
+
+    private final List<ClusterServiceVersionList> pages;
+    private final List<ListOptions> listed = new ArrayList<>();
+    private ListOptions watched;
+    private Watcher<ClusterServiceVersion> watcher;
+    private KubernetesClientException watchFailure;
+
+    private FakeSource(ClusterServiceVersionList... pages) {
+      this.pages = new ArrayList<>(Arrays.asList(pages));
+    }
+
+    @Override
+    public ClusterServiceVersionList list(ListOptions options) {
+      listed.add(options);
+      return pages.remove(0);
+    }
+
+    @Override
+    public Watch watch(ListOptions options, Watcher<ClusterServiceVersion> watcher) {
+      if (watchFailure != null) {
+        throw watchFailure;
+      }
+      this.watched = options;
+      this.watcher = watcher;
+      return mock(Watch.class);
+    }
+  }
+}